@@ -0,0 +1,171 @@
+package io.nuvalence.user.management.api.service.audit;
+
+import io.nuvalence.user.management.api.service.audit.util.AuditMapManagementUtility;
+import io.nuvalence.user.management.api.service.entity.profile.Address;
+import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit diff of an employer profile update changing the city of one of its locations: the before
+ * and after snapshots of the whole profile the data changed handlers used to compare, against the
+ * {@link ProfileChangeRecording} fed with the one address Hibernate found dirty. Hibernate dirty
+ * checks the profile as it flushes whether or not the update is audited, so that cost isn't part
+ * of either.
+ *
+ * <p>Run with {@code ./gradlew :service:jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProfileAuditDiffBenchmark {
+    private static final String[] ADDRESS_PROPERTY_NAMES = {
+        "address1",
+        "address2",
+        "city",
+        "state",
+        "postalCode",
+        "country",
+        "county",
+        "employerForLocations",
+        "employerForMailing",
+        "individualForAddress",
+        "individualForMailing"
+    };
+    private static final int[] DIRTY_CITY = {2};
+
+    @Param({"10", "100", "1000"})
+    public int locations;
+
+    private EmployerProfile before;
+    private EmployerProfile after;
+    private int changedLocation;
+    private Object[] oldState;
+    private Object[] state;
+
+    /**
+     * Builds the profile before and after the update, and the state of the changed location.
+     */
+    @Setup
+    public void setup() {
+        before = employer();
+        after = employer();
+        after.setId(before.getId());
+
+        changedLocation = locations / 2;
+        final Address changed = after.getLocations().get(changedLocation);
+        changed.setCity("New City");
+
+        oldState = addressState(before.getLocations().get(changedLocation));
+        state = addressState(changed);
+    }
+
+    @Benchmark
+    public Map<String, String> snapshotDiff() {
+        final Map<String, String> beforeMap = convertToMap(before);
+        final Map<String, String> afterMap = convertToMap(after);
+        AuditMapManagementUtility.removeCommonItems(beforeMap, afterMap);
+        return afterMap;
+    }
+
+    @Benchmark
+    public Map<String, String> dirtyStateDiff() {
+        final ProfileChangeRecording recording =
+                ProfileChangeRecording.start(EmployerProfile.class, after.getId());
+        recording.recordDirtyProperties(
+                "locations[" + changedLocation + "].",
+                ADDRESS_PROPERTY_NAMES,
+                DIRTY_CITY,
+                oldState,
+                state,
+                ProfileDirtyStateListener.ADDRESS_PROPERTIES);
+        recording.stop();
+        return recording.getAfter();
+    }
+
+    private EmployerProfile employer() {
+        final EmployerProfile employer =
+                EmployerProfile.builder()
+                        .id(UUID.randomUUID())
+                        .fein("12-3456789")
+                        .legalName("Legal Name")
+                        .otherNames(new ArrayList<>(List.of("Other Name")))
+                        .type("LLC")
+                        .industry("Industry")
+                        .summaryOfBusiness("Summary of business")
+                        .businessPhone("555-0100")
+                        .mailingAddress(address("Mailing City"))
+                        .locations(new ArrayList<>())
+                        .build();
+        for (int i = 0; i < locations; i++) {
+            employer.getLocations().add(address("City " + i));
+        }
+        return employer;
+    }
+
+    private static Address address(String city) {
+        return Address.builder()
+                .id(UUID.randomUUID())
+                .address1("1 Main Street")
+                .address2("Suite 100")
+                .city(city)
+                .state("NY")
+                .postalCode("10001")
+                .country("US")
+                .county("New York")
+                .build();
+    }
+
+    private static Object[] addressState(Address address) {
+        return new Object[] {
+            address.getAddress1(),
+            address.getAddress2(),
+            address.getCity(),
+            address.getState(),
+            address.getPostalCode(),
+            address.getCountry(),
+            address.getCounty(),
+            address.getEmployerForLocations(),
+            address.getEmployerForMailing(),
+            address.getIndividualForAddress(),
+            address.getIndividualForMailing()
+        };
+    }
+
+    // how the employer data changed handler flattened the profile before comparing snapshots
+    private static Map<String, String> convertToMap(EmployerProfile employer) {
+        final Map<String, String> map = new HashMap<>();
+        map.put("id", employer.getId().toString());
+        map.put("fein", employer.getFein());
+        map.put("legalName", employer.getLegalName());
+        for (int i = 0; i < employer.getOtherNames().size(); i++) {
+            map.put("otherNames[" + i + "]", employer.getOtherNames().get(i));
+        }
+        map.put("type", employer.getType());
+        map.put("industry", employer.getIndustry());
+        map.put("summaryOfBusiness", employer.getSummaryOfBusiness());
+        map.put("businessPhone", employer.getBusinessPhone());
+        map.putAll(
+                AuditMapManagementUtility.convertAddressToMap(
+                        "mailingAddress.", employer.getMailingAddress()));
+        for (int i = 0; i < employer.getLocations().size(); i++) {
+            map.putAll(
+                    AuditMapManagementUtility.convertAddressToMap(
+                            "locations[" + i + "].", employer.getLocations().get(i)));
+        }
+        return map;
+    }
+}
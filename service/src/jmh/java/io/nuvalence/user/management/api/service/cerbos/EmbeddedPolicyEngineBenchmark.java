@@ -0,0 +1,91 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.user.management.api.service.cerbos.models.Principal;
+import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.ProfileType;
+import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decisions per second of the embedded policy engine on the bundled policies, for the checks the
+ * service makes most: a user acting on itself, and a public user acting on one of its profiles.
+ *
+ * <p>Run with {@code ./gradlew :service:jmh}. Compare with the sidecar by timing the same checks
+ * against a running Cerbos instance.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmbeddedPolicyEngineBenchmark {
+    private static final List<String> PROFILE_ACTIONS = List.of("view", "update", "invite");
+
+    private EmbeddedPolicyEngine engine;
+    private Principal basicUser;
+    private Map<String, Object> self;
+    private Principal profileUser;
+    private Map<String, Object> profile;
+
+    /**
+     * Compiles the bundled policies, and builds a basic user and a public user linked to ten
+     * profiles.
+     */
+    @Setup
+    public void setup() {
+        engine = new EmbeddedPolicyEngine();
+
+        final String userId = UUID.randomUUID().toString();
+        basicUser =
+                Principal.builder()
+                        .id(userId)
+                        .roles(new String[] {"um:basic", "basic"})
+                        .attr(Map.of())
+                        .build();
+        self = Map.of("id", userId);
+
+        final List<AccessProfileDto> accessProfiles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            accessProfiles.add(
+                    AccessProfileDto.builder()
+                            .id(UUID.randomUUID())
+                            .type(ProfileType.INDIVIDUAL)
+                            .level(ProfileAccessLevel.WRITER)
+                            .build());
+        }
+        profileUser =
+                Principal.builder()
+                        .id(UUID.randomUUID().toString())
+                        .roles(new String[] {"um:public-profile-user", "public-profile-user"})
+                        .attr(Map.of("accessProfiles", accessProfiles))
+                        .build();
+        profile = Map.of("id", accessProfiles.get(9).getId().toString());
+    }
+
+    @Benchmark
+    public boolean updateSelf() {
+        return engine.isAllowed(basicUser, "user", self, "update");
+    }
+
+    @Benchmark
+    public boolean updateLinkedProfile() {
+        return engine.isAllowed(profileUser, "individual_profile", profile, "update");
+    }
+
+    @Benchmark
+    public Set<String> profileActions() {
+        return engine.getAllowedActions(
+                profileUser, "individual_profile", profile, PROFILE_ACTIONS);
+    }
+}
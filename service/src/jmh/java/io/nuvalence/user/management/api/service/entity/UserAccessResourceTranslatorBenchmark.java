@@ -0,0 +1,89 @@
+package io.nuvalence.user.management.api.service.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.user.management.api.service.cerbos.CerbosPolicyAttributes;
+import io.nuvalence.user.management.api.service.cerbos.ResourceProjection;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
+import io.nuvalence.user.management.api.service.mapper.UserEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the Cerbos attributes of a user for one authorization check: mapping the full
+ * user model, as the translator used to, against the policy derived projection.
+ *
+ * <p>Run with {@code ./gradlew :service:jmh}. Add {@code -prof gc} to the JMH arguments to also
+ * compare allocations per check.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserAccessResourceTranslatorBenchmark {
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    private UserEntityMapper userEntityMapper;
+    private ResourceProjection<UserEntity> projection;
+    private PublicUser user;
+
+    /**
+     * Builds a public user with a profile and a handful of roles.
+     */
+    @Setup
+    public void setup() {
+        userEntityMapper = Mappers.getMapper(UserEntityMapper.class);
+        projection =
+                new CerbosPolicyAttributes()
+                        .getProjection(
+                                UserAccessResourceTranslator.KIND,
+                                UserAccessResourceTranslator.ATTRIBUTES);
+
+        final List<RoleEntity> roles = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final RoleEntity role = new RoleEntity();
+            role.setId(UUID.randomUUID());
+            role.setName("role-" + i);
+            roles.add(role);
+        }
+
+        user = new PublicUser();
+        user.setId(UUID.randomUUID());
+        user.setExternalId("external-id");
+        user.setIdentityProvider("https://securetoken.google.com/dsgov");
+        user.setCreatedAt(OffsetDateTime.now());
+        user.setDeleted(false);
+        user.setRoles(roles);
+        user.setIndividualProfile(
+                IndividualProfile.builder()
+                        .id(UUID.randomUUID())
+                        .firstName("Jane")
+                        .lastName("Doe")
+                        .email("jane.doe@example.com")
+                        .build());
+    }
+
+    @Benchmark
+    public Map<String, Object> fullUserModel() {
+        return MAPPER.convertValue(userEntityMapper.entityToModel(user), MAP_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, Object> policyProjection() {
+        return projection.project(user);
+    }
+}
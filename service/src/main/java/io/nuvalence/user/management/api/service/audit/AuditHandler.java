@@ -13,4 +13,10 @@ public interface AuditHandler<S extends UpdateTrackedEntity> {
     void handlePostUpdateState(S subject);
 
     void publishAuditEvent(String originatorId);
+
+    /**
+     * Releases what the handler holds on to for the update once it is over, whether or not the
+     * action succeeded.
+     */
+    default void release() {}
 }
@@ -46,14 +46,18 @@ public final class AuditableAction<S extends UpdateTrackedEntity> {
         final String originatorId = SecurityContextUtility.getAuthenticatedUserId();
         final var updateTime = requestContextTimestamp.getCurrentTimestamp();
 
-        auditHandlers.forEach(handler -> handler.handlePreUpdateState(subject));
-        final var result = action.execute(subject);
-        result.setLastUpdatedTimestamp(updateTime);
-        result.setLastUpdatedBy(UserUtility.getCurrentApplicationUserId().orElse(null));
-        auditHandlers.forEach(handler -> handler.handlePostUpdateState(result));
-        auditHandlers.forEach(handler -> handler.publishAuditEvent(originatorId));
-
-        return result;
+        try {
+            auditHandlers.forEach(handler -> handler.handlePreUpdateState(subject));
+            final var result = action.execute(subject);
+            result.setLastUpdatedTimestamp(updateTime);
+            result.setLastUpdatedBy(UserUtility.getCurrentApplicationUserId().orElse(null));
+            auditHandlers.forEach(handler -> handler.handlePostUpdateState(result));
+            auditHandlers.forEach(handler -> handler.publishAuditEvent(originatorId));
+
+            return result;
+        } finally {
+            auditHandlers.forEach(AuditHandler::release);
+        }
     }
 
     /**
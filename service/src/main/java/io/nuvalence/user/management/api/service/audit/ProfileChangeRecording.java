@@ -0,0 +1,153 @@
+package io.nuvalence.user.management.api.service.audit;
+
+import io.nuvalence.user.management.api.service.entity.profile.Profile;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Changes to a profile recorded from the state Hibernate dirty-checks as it flushes, see {@link
+ * ProfileDirtyStateListener}. Only the properties that changed are recorded, so a profile update
+ * doesn't need before and after snapshots of the whole profile, its addresses and their locations.
+ *
+ * <p>A recording is bound to the thread that started it until it is stopped; starting another
+ * recording on the same thread replaces it.</p>
+ */
+public final class ProfileChangeRecording {
+    private static final ThreadLocal<ProfileChangeRecording> CURRENT = new ThreadLocal<>();
+
+    private final Class<? extends Profile> profileType;
+    private final UUID profileId;
+    private final Set<String> properties = new LinkedHashSet<>();
+    private final Map<String, String> oldValues = new HashMap<>();
+    private final Map<String, String> newValues = new HashMap<>();
+
+    private ProfileChangeRecording(Class<? extends Profile> profileType, UUID profileId) {
+        this.profileType = profileType;
+        this.profileId = profileId;
+    }
+
+    /**
+     * Starts recording the changes flushed for a profile on the current thread.
+     *
+     * @param profileType type of profile
+     * @param profileId id of the profile
+     * @return the recording
+     */
+    public static ProfileChangeRecording start(
+            Class<? extends Profile> profileType, UUID profileId) {
+        final ProfileChangeRecording recording = new ProfileChangeRecording(profileType, profileId);
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static ProfileChangeRecording current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops recording changes, keeping those already recorded.
+     */
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    boolean isOf(Profile profile) {
+        return profile != null
+                && profileType.isInstance(profile)
+                && profileId.equals(profile.getId());
+    }
+
+    /**
+     * Values of the changed properties before the changes.
+     *
+     * @return map of property paths to their previous values
+     */
+    public Map<String, String> getBefore() {
+        return changedValues(oldValues);
+    }
+
+    /**
+     * Values of the changed properties after the changes.
+     *
+     * @return map of property paths to their new values
+     */
+    public Map<String, String> getAfter() {
+        return changedValues(newValues);
+    }
+
+    void recordDirtyProperties(
+            String prefix,
+            String[] propertyNames,
+            int[] dirtyProperties,
+            Object[] oldState,
+            Object[] state,
+            Set<String> auditedProperties) {
+        if (dirtyProperties == null) {
+            recordState(prefix, propertyNames, oldState, auditedProperties, true);
+            recordState(prefix, propertyNames, state, auditedProperties, false);
+            return;
+        }
+
+        for (int index : dirtyProperties) {
+            if (auditedProperties.contains(propertyNames[index])) {
+                final String property = prefix + propertyNames[index];
+                recordOldValue(property, oldState == null ? null : oldState[index]);
+                recordNewValue(property, state[index]);
+            }
+        }
+    }
+
+    void recordState(
+            String prefix,
+            String[] propertyNames,
+            Object[] state,
+            Set<String> auditedProperties,
+            boolean old) {
+        if (state == null) {
+            return;
+        }
+
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (auditedProperties.contains(propertyNames[i])) {
+                if (old) {
+                    recordOldValue(prefix + propertyNames[i], state[i]);
+                } else {
+                    recordNewValue(prefix + propertyNames[i], state[i]);
+                }
+            }
+        }
+    }
+
+    void recordOldValue(String property, Object value) {
+        // a property flushed more than once keeps the value it had before the first flush
+        properties.add(property);
+        if (!oldValues.containsKey(property)) {
+            oldValues.put(property, Objects.toString(value, null));
+        }
+    }
+
+    void recordNewValue(String property, Object value) {
+        properties.add(property);
+        newValues.put(property, Objects.toString(value, null));
+    }
+
+    private Map<String, String> changedValues(Map<String, String> values) {
+        final Map<String, String> changed = new HashMap<>();
+        for (String property : properties) {
+            final String value = values.get(property);
+            if (value != null
+                    && !value.isBlank()
+                    && !Objects.equals(oldValues.get(property), newValues.get(property))) {
+                changed.put(property, value);
+            }
+        }
+        return changed;
+    }
+}
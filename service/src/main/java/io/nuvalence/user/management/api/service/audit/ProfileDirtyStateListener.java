@@ -0,0 +1,206 @@
+package io.nuvalence.user.management.api.service.audit;
+
+import io.nuvalence.user.management.api.service.entity.profile.Address;
+import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
+import io.nuvalence.user.management.api.service.entity.profile.Profile;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.PostConstruct;
+
+/**
+ * Records the changes Hibernate flushes for the profile of the current {@link
+ * ProfileChangeRecording}, from the old and new state of the properties it found dirty. Changes
+ * to the addresses of the profile are recorded under the path of the address in the profile, e.g.
+ * {@code locations[2].city}, and changes to its other names per name, e.g. {@code otherNames[0]}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileDirtyStateListener
+        implements PostUpdateEventListener,
+                PostInsertEventListener,
+                PostDeleteEventListener,
+                PostCollectionUpdateEventListener {
+    private static final long serialVersionUID = 1L;
+
+    static final Set<String> EMPLOYER_PROPERTIES =
+            Set.of(
+                    "fein",
+                    "legalName",
+                    "type",
+                    "industry",
+                    "summaryOfBusiness",
+                    "businessPhone");
+    static final Set<String> INDIVIDUAL_PROPERTIES = Set.of("ssn");
+    static final Set<String> ADDRESS_PROPERTIES =
+            Set.of("address1", "address2", "city", "state", "postalCode", "country", "county");
+
+    private static final String OTHER_NAMES = "otherNames";
+
+    private final transient EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    private void register() {
+        final EventListenerRegistry registry =
+                entityManagerFactory
+                        .unwrap(SessionFactoryImplementor.class)
+                        .getServiceRegistry()
+                        .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        final ProfileChangeRecording recording = ProfileChangeRecording.current();
+        if (recording == null) {
+            return;
+        }
+
+        final String[] propertyNames = event.getPersister().getPropertyNames();
+        final Object entity = event.getEntity();
+        if (entity instanceof Profile profile && recording.isOf(profile)) {
+            recording.recordDirtyProperties(
+                    "",
+                    propertyNames,
+                    event.getDirtyProperties(),
+                    event.getOldState(),
+                    event.getState(),
+                    profileProperties(profile));
+        } else if (entity instanceof Address address) {
+            final String prefix = addressPath(recording, address);
+            if (prefix != null) {
+                recording.recordDirtyProperties(
+                        prefix,
+                        propertyNames,
+                        event.getDirtyProperties(),
+                        event.getOldState(),
+                        event.getState(),
+                        ADDRESS_PROPERTIES);
+            }
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        final ProfileChangeRecording recording = ProfileChangeRecording.current();
+        if (recording != null && event.getEntity() instanceof Address address) {
+            final String prefix = addressPath(recording, address);
+            if (prefix != null) {
+                recording.recordState(
+                        prefix,
+                        event.getPersister().getPropertyNames(),
+                        event.getState(),
+                        ADDRESS_PROPERTIES,
+                        false);
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        final ProfileChangeRecording recording = ProfileChangeRecording.current();
+        if (recording != null && event.getEntity() instanceof Address address) {
+            final String prefix = addressPath(recording, address);
+            if (prefix != null) {
+                recording.recordState(
+                        prefix,
+                        event.getPersister().getPropertyNames(),
+                        event.getDeletedState(),
+                        ADDRESS_PROPERTIES,
+                        true);
+            }
+        }
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        final ProfileChangeRecording recording = ProfileChangeRecording.current();
+        if (recording == null
+                || !(event.getAffectedOwnerOrNull() instanceof EmployerProfile employer)
+                || !recording.isOf(employer)) {
+            return;
+        }
+
+        final PersistentCollection<?> collection = event.getCollection();
+        if (!collection.getRole().endsWith("." + OTHER_NAMES)) {
+            return;
+        }
+
+        final List<?> oldNames = elements(collection.getStoredSnapshot());
+        final List<?> newNames = elements(employer.getOtherNames());
+        for (int i = 0; i < Math.max(oldNames.size(), newNames.size()); i++) {
+            final String property = OTHER_NAMES + "[" + i + "]";
+            recording.recordOldValue(property, i < oldNames.size() ? oldNames.get(i) : null);
+            recording.recordNewValue(property, i < newNames.size() ? newNames.get(i) : null);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static Set<String> profileProperties(Profile profile) {
+        return profile instanceof EmployerProfile ? EMPLOYER_PROPERTIES : INDIVIDUAL_PROPERTIES;
+    }
+
+    private static String addressPath(ProfileChangeRecording recording, Address address) {
+        if (recording.isOf(address.getEmployerForMailing())
+                || recording.isOf(address.getIndividualForMailing())) {
+            return "mailingAddress.";
+        }
+        if (recording.isOf(address.getIndividualForAddress())) {
+            return "primaryAddress.";
+        }
+
+        final EmployerProfile employer = address.getEmployerForLocations();
+        if (!recording.isOf(employer)) {
+            return null;
+        }
+
+        // a location removed from the profile is only found in the locations it had when loaded
+        int index = indexOf(elements(employer.getLocations()), address);
+        if (index < 0 && employer.getLocations() instanceof PersistentCollection<?> locations) {
+            index = indexOf(elements(locations.getStoredSnapshot()), address);
+        }
+        return index < 0 ? "locations[" + address.getId() + "]." : "locations[" + index + "].";
+    }
+
+    private static int indexOf(List<?> elements, Object element) {
+        // addresses are equal when their values are, they need to be found by identity
+        for (int i = 0; i < elements.size(); i++) {
+            if (elements.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<?> elements(Object collection) {
+        if (collection instanceof List<?> elements) {
+            return elements;
+        }
+        return collection instanceof Collection<?> elements ? new ArrayList<>(elements) : List.of();
+    }
+}
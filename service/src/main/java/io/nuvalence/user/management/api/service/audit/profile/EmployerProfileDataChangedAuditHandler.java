@@ -1,7 +1,7 @@
 package io.nuvalence.user.management.api.service.audit.profile;
 
 import io.nuvalence.user.management.api.service.audit.AuditHandler;
-import io.nuvalence.user.management.api.service.audit.util.AuditMapManagementUtility;
+import io.nuvalence.user.management.api.service.audit.ProfileChangeRecording;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
@@ -10,7 +10,6 @@ import io.nuvalence.user.management.api.service.service.AuditEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -18,8 +17,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EmployerProfileDataChangedAuditHandler implements AuditHandler<EmployerProfile> {
 
-    private final Map<String, String> before = new HashMap<>();
-    private final Map<String, String> after = new HashMap<>();
+    private ProfileChangeRecording changes;
 
     private UUID profileId;
 
@@ -28,17 +26,26 @@ public class EmployerProfileDataChangedAuditHandler implements AuditHandler<Empl
     @Override
     public void handlePreUpdateState(EmployerProfile subject) {
         profileId = subject.getId();
-        before.putAll(convertToMap(subject));
+        changes = ProfileChangeRecording.start(EmployerProfile.class, profileId);
     }
 
     @Override
     public void handlePostUpdateState(EmployerProfile subject) {
-        after.putAll(convertToMap(subject));
+        changes.stop();
+    }
+
+    @Override
+    public void release() {
+        // the action may have thrown before handlePostUpdateState stopped the recording
+        if (changes != null) {
+            changes.stop();
+        }
     }
 
     @Override
     public void publishAuditEvent(String originatorId) {
-        AuditMapManagementUtility.removeCommonItems(before, after);
+        final Map<String, String> before = changes.getBefore();
+        final Map<String, String> after = changes.getAfter();
 
         try {
             String eventSummary;
@@ -71,34 +78,4 @@ public class EmployerProfileDataChangedAuditHandler implements AuditHandler<Empl
             log.error(errorMessage, e);
         }
     }
-
-    private Map<String, String> convertToMap(EmployerProfile employer) {
-        Map<String, String> map = new HashMap<>();
-
-        if (employer == null) {
-            return map;
-        }
-
-        map.put("id", employer.getId() != null ? employer.getId().toString() : null);
-        map.put("fein", employer.getFein());
-        map.put("legalName", employer.getLegalName());
-        for (int i = 0; i < employer.getOtherNames().size(); i++) {
-            map.put("otherNames[" + i + "]", employer.getOtherNames().get(i));
-        }
-        map.put("type", employer.getType());
-        map.put("industry", employer.getIndustry());
-        map.put("summaryOfBusiness", employer.getSummaryOfBusiness());
-        map.put("businessPhone", employer.getBusinessPhone());
-        map.putAll(
-                AuditMapManagementUtility.convertAddressToMap(
-                        "mailingAddress.", employer.getMailingAddress()));
-
-        for (int i = 0; i < employer.getLocations().size(); i++) {
-            map.putAll(
-                    AuditMapManagementUtility.convertAddressToMap(
-                            "locations[" + i + "].", employer.getLocations().get(i)));
-        }
-
-        return map;
-    }
 }
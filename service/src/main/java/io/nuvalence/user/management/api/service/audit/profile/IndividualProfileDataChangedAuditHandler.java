@@ -1,7 +1,7 @@
 package io.nuvalence.user.management.api.service.audit.profile;
 
 import io.nuvalence.user.management.api.service.audit.AuditHandler;
-import io.nuvalence.user.management.api.service.audit.util.AuditMapManagementUtility;
+import io.nuvalence.user.management.api.service.audit.ProfileChangeRecording;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
@@ -10,7 +10,6 @@ import io.nuvalence.user.management.api.service.service.AuditEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -18,8 +17,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class IndividualProfileDataChangedAuditHandler implements AuditHandler<IndividualProfile> {
 
-    private final Map<String, String> before = new HashMap<>();
-    private final Map<String, String> after = new HashMap<>();
+    private ProfileChangeRecording changes;
 
     private UUID profileId;
 
@@ -28,17 +26,26 @@ public class IndividualProfileDataChangedAuditHandler implements AuditHandler<In
     @Override
     public void handlePreUpdateState(IndividualProfile subject) {
         profileId = subject.getId();
-        before.putAll(convertToMap(subject));
+        changes = ProfileChangeRecording.start(IndividualProfile.class, profileId);
     }
 
     @Override
     public void handlePostUpdateState(IndividualProfile subject) {
-        after.putAll(convertToMap(subject));
+        changes.stop();
+    }
+
+    @Override
+    public void release() {
+        // the action may have thrown before handlePostUpdateState stopped the recording
+        if (changes != null) {
+            changes.stop();
+        }
     }
 
     @Override
     public void publishAuditEvent(String originatorId) {
-        AuditMapManagementUtility.removeCommonItems(before, after);
+        final Map<String, String> before = changes.getBefore();
+        final Map<String, String> after = changes.getAfter();
 
         try {
             String eventSummary;
@@ -72,23 +79,4 @@ public class IndividualProfileDataChangedAuditHandler implements AuditHandler<In
             log.error(errorMessage, e);
         }
     }
-
-    private Map<String, String> convertToMap(IndividualProfile individual) {
-        Map<String, String> map = new HashMap<>();
-
-        if (individual == null) {
-            return map;
-        }
-
-        map.put("ssn", individual.getSsn());
-
-        map.putAll(
-                AuditMapManagementUtility.convertAddressToMap(
-                        "mailingAddress.", individual.getMailingAddress()));
-        map.putAll(
-                AuditMapManagementUtility.convertAddressToMap(
-                        "primaryAddress.", individual.getPrimaryAddress()));
-
-        return map;
-    }
 }
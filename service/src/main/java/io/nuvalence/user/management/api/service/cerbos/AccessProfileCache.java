@@ -0,0 +1,170 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.ProfileType;
+import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import io.nuvalence.user.management.api.service.repository.ProfileLinkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per user cache of the profiles a user is linked to, as used for the Cerbos principal attributes.
+ *
+ * <p>Entries are stamped with the user's version at load time. {@link #evict(UUID)} bumps the
+ * version, so an entry loaded concurrently with a link change is never served once the change is
+ * visible.</p>
+ */
+@Component
+@Slf4j
+public class AccessProfileCache {
+    static final String CACHE_NAME = "accessProfiles";
+
+    private final ProfileLinkRepository repository;
+    private final Cache<UUID, AccessProfiles> profiles;
+    private final Cache<UUID, Long> versions;
+
+    /**
+     * Creates the cache and binds its statistics to the meter registry.
+     *
+     * @param repository repository the access profiles are loaded from
+     * @param ttl how long access profiles may be served from the cache
+     * @param maxSize maximum number of users whose access profiles are cached
+     * @param meterRegistry registry the cache statistics are published to
+     */
+    public AccessProfileCache(
+            ProfileLinkRepository repository,
+            @Value("${authorization.access-profiles.ttl:5m}") Duration ttl,
+            @Value("${authorization.access-profiles.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.profiles =
+                Caffeine.newBuilder()
+                        .expireAfterWrite(ttl)
+                        .maximumSize(maxSize)
+                        .recordStats()
+                        .build();
+        // a version only has to outlive the entries that were loaded with the previous one
+        this.versions = Caffeine.newBuilder().expireAfterWrite(ttl.multipliedBy(2)).build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+    }
+
+    /**
+     * Returns the profiles a user is linked to, loading them on a miss.
+     *
+     * @param userId id of the user
+     * @return access profiles of the user
+     */
+    public List<AccessProfileDto> getAccessProfiles(UUID userId) {
+        final long version = getVersion(userId);
+        final AccessProfiles cached = profiles.getIfPresent(userId);
+        if (cached != null && cached.getVersion() == version) {
+            return cached.toDtos();
+        }
+
+        final AccessProfiles loaded =
+                AccessProfiles.of(version, repository.findAccessProfilesByUserId(userId));
+        profiles.put(userId, loaded);
+        return loaded.toDtos();
+    }
+
+    /**
+     * Discards the cached access profiles of a user, e.g. after one of its profile links changed.
+     * Inside a transaction the entry is discarded again on completion, so a load that read the
+     * links before the commit is not served afterwards.
+     *
+     * @param userId id of the user
+     */
+    public void evict(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+
+        invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            invalidate(userId);
+                        }
+                    });
+        }
+    }
+
+    long getVersion(UUID userId) {
+        final Long version = versions.getIfPresent(userId);
+        return version == null ? 0L : version;
+    }
+
+    private void invalidate(UUID userId) {
+        versions.asMap().merge(userId, 1L, Long::sum);
+        profiles.invalidate(userId);
+        log.debug("Evicted cached access profiles for user {}", userId);
+    }
+
+    /**
+     * Compact, immutable form of a user's access profiles.
+     */
+    static final class AccessProfiles {
+        private static final ProfileType[] TYPES = ProfileType.values();
+        private static final ProfileAccessLevel[] LEVELS = ProfileAccessLevel.values();
+
+        private final long version;
+        private final UUID[] ids;
+        private final byte[] types;
+        private final byte[] levels;
+
+        private AccessProfiles(long version, UUID[] ids, byte[] types, byte[] levels) {
+            this.version = version;
+            this.ids = ids;
+            this.types = types;
+            this.levels = levels;
+        }
+
+        static AccessProfiles of(long version, List<ProfileLinkRepository.AccessProfileRow> rows) {
+            final int size = rows.size();
+            final UUID[] ids = new UUID[size];
+            final byte[] types = new byte[size];
+            final byte[] levels = new byte[size];
+            for (int i = 0; i < size; i++) {
+                final ProfileLinkRepository.AccessProfileRow row = rows.get(i);
+                ids[i] = row.getId();
+                types[i] = (byte) ProfileType.fromValue(row.getType()).ordinal();
+                levels[i] = (byte) ProfileAccessLevel.valueOf(row.getLevel()).ordinal();
+            }
+
+            return new AccessProfiles(version, ids, types, levels);
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        List<AccessProfileDto> toDtos() {
+            final List<AccessProfileDto> dtos = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                dtos.add(
+                        AccessProfileDto.builder()
+                                .id(ids[i])
+                                .type(TYPES[types[i]])
+                                .level(LEVELS[levels[i]])
+                                .build());
+            }
+
+            return dtos;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AccessResource;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.annotation.AnnotationUtils;
+
+/**
+ * Helpers for reading the Cerbos identity of {@link AccessResource} annotated resources.
+ */
+public final class AccessResources {
+
+    private AccessResources() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns the Cerbos resource kind of a resource class.
+     *
+     * @param resourceClass resource class
+     * @return kind declared by {@link AccessResource}, or the class name if not annotated
+     */
+    public static String getKind(Class<?> resourceClass) {
+        final AccessResource accessResource =
+                AnnotationUtils.findAnnotation(resourceClass, AccessResource.class);
+        return accessResource == null ? resourceClass.getName() : accessResource.value();
+    }
+
+    /**
+     * Returns the id of a resource instance.
+     *
+     * @param resource resource instance
+     * @return value of the resource's id property, or null if it has none
+     */
+    public static Object getId(Object resource) {
+        final BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(resource);
+        return wrapper.isReadableProperty("id") ? wrapper.getPropertyValue("id") : null;
+    }
+}
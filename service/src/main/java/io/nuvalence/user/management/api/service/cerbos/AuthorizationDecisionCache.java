@@ -0,0 +1,190 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded, time limited cache of Cerbos authorization decisions.
+ *
+ * <p>Entries are keyed by principal, principal attribute version, action, resource kind and
+ * resource attributes. Whenever something that feeds the principal attributes changes (profile
+ * links, role assignments), the principal version is bumped so decisions made with the old
+ * attributes are never served again.</p>
+ *
+ * <p>The cache is local to each instance of the service. Invalidation only reaches the instance
+ * that made the change, so other instances may keep serving a revoked decision for up to the TTL
+ * ({@code authorization.cache.ttl}).</p>
+ */
+@Component
+@Slf4j
+public class AuthorizationDecisionCache {
+    static final String CACHE_NAME = "authorizationDecisions";
+
+    private final Cache<DecisionKey, Boolean> decisions;
+    private final Cache<String, Long> principalVersions;
+
+    /**
+     * Creates the cache and binds its statistics to the meter registry.
+     *
+     * @param ttl how long a decision may be served from the cache
+     * @param maxSize maximum number of cached decisions
+     * @param meterRegistry registry the cache statistics are published to
+     */
+    public AuthorizationDecisionCache(
+            @Value("${authorization.cache.ttl:30s}") Duration ttl,
+            @Value("${authorization.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.decisions =
+                Caffeine.newBuilder()
+                        .expireAfterWrite(ttl)
+                        .maximumSize(maxSize)
+                        .recordStats()
+                        .build();
+        // a version only has to outlive the decisions that were cached with the previous one
+        this.principalVersions =
+                Caffeine.newBuilder().expireAfterWrite(ttl.multipliedBy(2)).build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, decisions, CACHE_NAME);
+    }
+
+    /**
+     * Builds the cache key for an authorization question asked by a principal.
+     *
+     * @param principalId id of the principal asking
+     * @param principalRoles hash of the roles the principal currently holds
+     * @param action action being checked
+     * @param resourceKind Cerbos resource kind
+     * @param resourceId id of the resource instance, null for type level checks
+     * @param resourceHash hash of the resource attributes, 0 for type level checks
+     * @return cache key
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    DecisionKey key(
+            String principalId,
+            int principalRoles,
+            String action,
+            String resourceKind,
+            Object resourceId,
+            int resourceHash) {
+        return new DecisionKey(
+                principalId,
+                principalRoles,
+                getPrincipalVersion(principalId),
+                action,
+                resourceKind,
+                resourceId,
+                resourceHash);
+    }
+
+    /**
+     * Returns the cached decision for the given question, evaluating and caching it on a miss.
+     *
+     * @param key question being asked
+     * @param decision evaluates the decision on a cache miss
+     * @return authorization decision
+     */
+    boolean get(DecisionKey key, BooleanSupplier decision) {
+        return decisions.get(key, k -> decision.getAsBoolean());
+    }
+
+    /**
+     * Returns the cached decision for the given question, if there is one.
+     *
+     * @param key question being asked
+     * @return cached decision or null
+     */
+    Boolean getIfPresent(DecisionKey key) {
+        return decisions.getIfPresent(key);
+    }
+
+    /**
+     * Caches a decision evaluated outside of {@link #get(DecisionKey, BooleanSupplier)}.
+     *
+     * @param key question that was asked
+     * @param allowed authorization decision
+     */
+    void put(DecisionKey key, boolean allowed) {
+        decisions.put(key, allowed);
+    }
+
+    /**
+     * Discards every decision made for a principal, e.g. after its profile links or roles changed.
+     * Inside a transaction the decisions are discarded again on completion, so a decision made
+     * with the links or roles read before the commit is not served afterwards.
+     *
+     * @param principalId id of the principal
+     */
+    public void invalidatePrincipal(UUID principalId) {
+        if (principalId == null) {
+            return;
+        }
+
+        final String id = principalId.toString();
+        invalidate(id);
+        afterCompletion(() -> invalidate(id));
+    }
+
+    /**
+     * Discards every cached decision, e.g. after a role definition changed. Inside a transaction
+     * they are discarded again on completion.
+     */
+    public void invalidateAll() {
+        decisions.invalidateAll();
+        afterCompletion(decisions::invalidateAll);
+    }
+
+    long getPrincipalVersion(String principalId) {
+        final Long version = principalVersions.getIfPresent(principalId);
+        return version == null ? 0L : version;
+    }
+
+    long size() {
+        decisions.cleanUp();
+        return decisions.estimatedSize();
+    }
+
+    private void invalidate(String principalId) {
+        principalVersions.asMap().merge(principalId, 1L, Long::sum);
+        decisions.asMap().keySet().removeIf(key -> key.getPrincipalId().equals(principalId));
+        log.debug("Invalidated cached authorization decisions for principal {}", principalId);
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            action.run();
+                        }
+                    });
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    static final class DecisionKey {
+        private final String principalId;
+        private final int principalRoles;
+        private final long principalVersion;
+        private final String action;
+        private final String resourceKind;
+        private final Object resourceId;
+        private final int resourceHash;
+    }
+}
@@ -0,0 +1,68 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Turns Cerbos query plans into JPA specifications, so listings can be authorized by the database
+ * query. Paging then counts only the resources the principal may see.
+ *
+ * <p>Returns nothing when the configured {@link AuthorizationHandler} can't plan queries (e.g.
+ * when decisions come from the embedded policy engine), when query planning is disabled, or when
+ * the plan can't be expressed as a JPA predicate. Callers then can't widen a listing beyond what
+ * the principal may list outright.</p>
+ */
+@Component
+@Slf4j
+public class AuthorizationSpecifications {
+    private final AuthorizationHandler authorizationHandler;
+    private final boolean enabled;
+
+    /**
+     * Creates the specification factory.
+     *
+     * @param authorizationHandler configured authorization handler
+     * @param enabled whether listings should be authorized with query plans
+     */
+    public AuthorizationSpecifications(
+            AuthorizationHandler authorizationHandler,
+            @Value("${authorization.query-plan.enabled:true}") boolean enabled) {
+        this.authorizationHandler = authorizationHandler;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns a specification matching the resources the current principal may perform an action
+     * on.
+     *
+     * @param action action being checked
+     * @param resourceClass entity class
+     * @param <T> entity type
+     * @return specification, if the query can be authorized by the database
+     */
+    public <T> Optional<QueryPlanSpecification<T>> getSpecification(
+            String action, Class<T> resourceClass) {
+        if (!enabled
+                || !(authorizationHandler instanceof QueryPlanAuthorizationHandler planner)
+                || !planner.canPlanResources()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(
+                    QueryPlanSpecification.of(
+                            planner.planResources(action, resourceClass), resourceClass));
+        } catch (IllegalArgumentException e) {
+            log.debug(
+                    "Query plan for {} on {} can't be applied to the query: {}",
+                    action,
+                    resourceClass.getSimpleName(),
+                    e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
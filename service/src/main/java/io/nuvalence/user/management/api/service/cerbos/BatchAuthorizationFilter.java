@@ -0,0 +1,36 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Filters lists of resources down to the ones the current principal may act on, using a single
+ * batched authorization call when the configured {@link AuthorizationHandler} supports it.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchAuthorizationFilter {
+    private final AuthorizationHandler authorizationHandler;
+
+    /**
+     * Returns the resources the current principal may perform an action on.
+     *
+     * @param action action being checked
+     * @param resourceClass class of the resources
+     * @param resources resources to check
+     * @param <T> resource type
+     * @return allowed resources, in their original order
+     */
+    public <T> List<T> filterAllowed(String action, Class<T> resourceClass, List<T> resources) {
+        if (authorizationHandler instanceof BatchAuthorizationHandler batchAuthorizationHandler) {
+            return batchAuthorizationHandler.filterAllowed(action, resourceClass, resources);
+        }
+
+        return resources.stream()
+                .filter(authorizationHandler.getAuthFilter(action, resourceClass))
+                .toList();
+    }
+}
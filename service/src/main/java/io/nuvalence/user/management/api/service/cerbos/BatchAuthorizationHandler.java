@@ -0,0 +1,22 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+
+import java.util.List;
+
+/**
+ * Authorization handler that can decide on a whole list of resources in a single call.
+ */
+public interface BatchAuthorizationHandler extends AuthorizationHandler {
+
+    /**
+     * Returns the resources the current principal may perform an action on.
+     *
+     * @param action action being checked
+     * @param resourceClass class of the resources
+     * @param resources resources to check
+     * @param <T> resource type
+     * @return allowed resources, in their original order
+     */
+    <T> List<T> filterAllowed(String action, Class<T> resourceClass, List<T> resources);
+}
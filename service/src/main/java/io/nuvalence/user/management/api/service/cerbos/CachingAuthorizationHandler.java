@@ -0,0 +1,264 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Authorization handler that answers repeated questions from the {@link AuthorizationDecisionCache}
+ * and only asks its delegate on a cache miss.
+ *
+ * <p>Instance decisions are keyed by the resource id and the hash of the attributes Cerbos receives
+ * for the resource, so a decision is reused for as long as those attributes don't change. Checks
+ * are passed straight through when there is no authenticated principal, or when an instance check
+ * targets a resource without an id.</p>
+ */
+@RequiredArgsConstructor
+public class CachingAuthorizationHandler
+        implements BatchAuthorizationHandler,
+                MultiActionAuthorizationHandler,
+                QueryPlanAuthorizationHandler {
+    private final AuthorizationHandler delegate;
+    private final AuthorizationDecisionCache cache;
+    private final CerbosResourceAttributes resourceAttributes;
+
+    @Override
+    public boolean isAllowed(String action, Class<?> resourceClass) {
+        return cached(
+                action,
+                AccessResources.getKind(resourceClass),
+                null,
+                0,
+                () -> delegate.isAllowed(action, resourceClass));
+    }
+
+    @Override
+    public boolean isAllowed(String action, String resourceType) {
+        return cached(
+                action, resourceType, null, 0, () -> delegate.isAllowed(action, resourceType));
+    }
+
+    @Override
+    public boolean isAllowedForInstance(String action, Object resource) {
+        return cachedForInstance(
+                action, resource, () -> delegate.isAllowedForInstance(action, resource));
+    }
+
+    @Override
+    public <T> Predicate<T> getAuthFilter(String action, Class<T> resourceClass) {
+        final Predicate<T> filter = delegate.getAuthFilter(action, resourceClass);
+        return element -> cachedForInstance(action, element, () -> filter.test(element));
+    }
+
+    /**
+     * Answers cached resources from the cache and asks the delegate about the rest in one batch.
+     */
+    @Override
+    public <T> List<T> filterAllowed(String action, Class<T> resourceClass, List<T> resources) {
+        final String principalId = SecurityContextUtility.getAuthenticatedUserId();
+        if (principalId == null) {
+            return filterWithDelegate(action, resourceClass, resources);
+        }
+
+        final int principalRoles = getPrincipalRoles();
+        final String kind = AccessResources.getKind(resourceClass);
+        final Map<T, AuthorizationDecisionCache.DecisionKey> keys = new IdentityHashMap<>();
+        final Map<T, Boolean> decisions = new IdentityHashMap<>();
+        final List<T> misses = new ArrayList<>();
+
+        for (T resource : resources) {
+            final Object resourceId = AccessResources.getId(resource);
+            final AuthorizationDecisionCache.DecisionKey key =
+                    resourceId == null
+                            ? null
+                            : cache.key(
+                                    principalId,
+                                    principalRoles,
+                                    action,
+                                    kind,
+                                    resourceId,
+                                    getResourceHash(resource));
+            final Boolean cached = key == null ? null : cache.getIfPresent(key);
+            if (cached == null) {
+                keys.put(resource, key);
+                misses.add(resource);
+            } else {
+                decisions.put(resource, cached);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            final Set<T> allowed = Collections.newSetFromMap(new IdentityHashMap<>());
+            allowed.addAll(filterWithDelegate(action, resourceClass, misses));
+            for (T resource : misses) {
+                final boolean isAllowed = allowed.contains(resource);
+                decisions.put(resource, isAllowed);
+                final AuthorizationDecisionCache.DecisionKey key = keys.get(resource);
+                if (key != null) {
+                    cache.put(key, isAllowed);
+                }
+            }
+        }
+
+        return resources.stream().filter(decisions::get).toList();
+    }
+
+    /**
+     * Answers cached actions from the cache and asks the delegate about the rest in one call.
+     */
+    @Override
+    public Set<String> getAllowedActions(Object resource, Set<String> actions) {
+        final String principalId = SecurityContextUtility.getAuthenticatedUserId();
+        final Object resourceId = resource == null ? null : AccessResources.getId(resource);
+        if (principalId == null || resourceId == null) {
+            return getAllowedActionsFromDelegate(resource, actions);
+        }
+
+        final int principalRoles = getPrincipalRoles();
+        final String kind = AccessResources.getKind(resource.getClass());
+        final Map<String, AuthorizationDecisionCache.DecisionKey> misses = new HashMap<>();
+        final Set<String> allowed = new HashSet<>();
+        for (String action : actions) {
+            final AuthorizationDecisionCache.DecisionKey key =
+                    cache.key(
+                            principalId,
+                            principalRoles,
+                            action,
+                            kind,
+                            resourceId,
+                            getResourceHash(resource));
+            final Boolean cached = cache.getIfPresent(key);
+            if (cached == null) {
+                misses.put(action, key);
+            } else if (cached) {
+                allowed.add(action);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            final Set<String> allowedMisses =
+                    getAllowedActionsFromDelegate(resource, misses.keySet());
+            misses.forEach(
+                    (action, key) -> {
+                        final boolean isAllowed = allowedMisses.contains(action);
+                        cache.put(key, isAllowed);
+                        if (isAllowed) {
+                            allowed.add(action);
+                        }
+                    });
+        }
+
+        return allowed;
+    }
+
+    @Override
+    public boolean canPlanResources() {
+        return delegate instanceof QueryPlanAuthorizationHandler planningDelegate
+                && planningDelegate.canPlanResources();
+    }
+
+    /**
+     * Query plans are not cached, they already replace a check per resource with a single call.
+     */
+    @Override
+    public PlanResourcesFilter planResources(String action, Class<?> resourceClass) {
+        if (!canPlanResources()) {
+            throw new IllegalStateException("Delegate does not support query plans");
+        }
+
+        return ((QueryPlanAuthorizationHandler) delegate).planResources(action, resourceClass);
+    }
+
+    private <T> List<T> filterWithDelegate(
+            String action, Class<T> resourceClass, List<T> resources) {
+        if (delegate instanceof BatchAuthorizationHandler batchDelegate) {
+            return batchDelegate.filterAllowed(action, resourceClass, resources);
+        }
+
+        return resources.stream().filter(delegate.getAuthFilter(action, resourceClass)).toList();
+    }
+
+    private Set<String> getAllowedActionsFromDelegate(Object resource, Set<String> actions) {
+        if (delegate instanceof MultiActionAuthorizationHandler multiActionDelegate) {
+            return multiActionDelegate.getAllowedActions(resource, actions);
+        }
+
+        return actions.stream()
+                .filter(action -> delegate.isAllowedForInstance(action, resource))
+                .collect(Collectors.toSet());
+    }
+
+    private boolean cachedForInstance(String action, Object resource, BooleanSupplier decision) {
+        if (resource == null) {
+            return decision.getAsBoolean();
+        }
+
+        final Object resourceId = AccessResources.getId(resource);
+        if (resourceId == null) {
+            return decision.getAsBoolean();
+        }
+
+        return cached(
+                action,
+                AccessResources.getKind(resource.getClass()),
+                resourceId,
+                getResourceHash(resource),
+                decision);
+    }
+
+    private boolean cached(
+            String action,
+            String resourceKind,
+            Object resourceId,
+            int resourceHash,
+            BooleanSupplier decision) {
+        final String principalId = SecurityContextUtility.getAuthenticatedUserId();
+        if (principalId == null) {
+            return decision.getAsBoolean();
+        }
+
+        return cache.get(
+                cache.key(
+                        principalId,
+                        getPrincipalRoles(),
+                        action,
+                        resourceKind,
+                        resourceId,
+                        resourceHash),
+                decision);
+    }
+
+    private int getResourceHash(Object resource) {
+        return resourceAttributes.getAttributes(resource).hashCode();
+    }
+
+    private static int getPrincipalRoles() {
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return 0;
+        }
+
+        final Set<String> roles =
+                authentication.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toSet());
+        return roles.hashCode();
+    }
+}
@@ -0,0 +1,142 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import dev.cerbos.sdk.CerbosBlockingClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Long-lived pool of Cerbos gRPC clients shared by every request. Each client owns its own
+ * channel, and requests are spread across the channels round-robin.
+ *
+ * <p>The pool measures whole checks: the handlers it serves look up the principal attributes and
+ * make the gRPC call inside one SDK call, so the two can't be timed apart. The SDK clients don't
+ * expose their channels either, so the pool reports whether the last check on each channel
+ * succeeded rather than the channel connectivity state, and can't shut the channels down; they
+ * live as long as the application.</p>
+ */
+@Slf4j
+public class CerbosClientPool {
+    static final String LAST_CHECK_METRIC = "cerbos.client.channel.last.check.succeeded";
+    static final String IN_FLIGHT_METRIC = "cerbos.client.check.inflight";
+    static final String CHECK_METRIC = "cerbos.client.check";
+
+    private final List<CerbosBlockingClient> clients;
+    private final List<AtomicBoolean> lastCheckSucceeded;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer successTimer;
+    private final Timer errorTimer;
+
+    /**
+     * Creates a pool over the given clients and registers its metrics.
+     *
+     * @param clients pre-built Cerbos clients, one per channel
+     * @param meterRegistry registry the pool metrics are published to
+     * @throws IllegalArgumentException if no clients are provided
+     */
+    public CerbosClientPool(List<CerbosBlockingClient> clients, MeterRegistry meterRegistry) {
+        if (clients == null || clients.isEmpty()) {
+            throw new IllegalArgumentException("Cerbos client pool requires at least one client.");
+        }
+
+        this.clients = List.copyOf(clients);
+        this.lastCheckSucceeded =
+                this.clients.stream().map(client -> new AtomicBoolean(true)).toList();
+
+        for (int slot = 0; slot < lastCheckSucceeded.size(); slot++) {
+            Gauge.builder(
+                            LAST_CHECK_METRIC,
+                            lastCheckSucceeded.get(slot),
+                            succeeded -> succeeded.get() ? 1 : 0)
+                    .description("1 if the last check on the channel succeeded, 0 otherwise")
+                    .tag("channel", String.valueOf(slot))
+                    .register(meterRegistry);
+        }
+
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get)
+                .description("Cerbos checks currently in flight")
+                .register(meterRegistry);
+
+        this.successTimer =
+                Timer.builder(CHECK_METRIC)
+                        .description("Cerbos authorization check latency")
+                        .tag("outcome", "success")
+                        .register(meterRegistry);
+        this.errorTimer =
+                Timer.builder(CHECK_METRIC)
+                        .description("Cerbos authorization check latency")
+                        .tag("outcome", "error")
+                        .register(meterRegistry);
+    }
+
+    /**
+     * Hands out the next pooled client in round-robin order.
+     *
+     * @return pooled client
+     */
+    public PooledClient acquire() {
+        int slot = Math.floorMod(cursor.getAndIncrement(), clients.size());
+        return new PooledClient(slot, clients.get(slot));
+    }
+
+    /**
+     * Number of channels in the pool.
+     *
+     * @return pool size
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    private <T> T execute(int slot, Supplier<T> call) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            lastCheckSucceeded.get(slot).set(true);
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            if (lastCheckSucceeded.get(slot).getAndSet(false)) {
+                log.warn("Cerbos channel {} failed a check: {}", slot, e.getMessage());
+            }
+            errorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * A client leased from the pool. Calls made through {@link #execute(Supplier)} are
+     * accounted against the channel the client is bound to.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public final class PooledClient {
+        private final int slot;
+        private final CerbosBlockingClient client;
+
+        /**
+         * Runs a Cerbos check, recording latency, in-flight count and whether it succeeded.
+         *
+         * @param call call to run
+         * @param <T> call result type
+         * @return call result
+         */
+        public <T> T execute(Supplier<T> call) {
+            return CerbosClientPool.this.execute(slot, call);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records latency, outcome and in-flight count of the requests made to the Cerbos HTTP API, which
+ * batched checks and query plans go through. They don't use the pooled gRPC channels, so they are
+ * kept out of the {@link CerbosClientPool} metrics.
+ */
+public class CerbosHttpMetricsInterceptor implements ClientHttpRequestInterceptor {
+    static final String HTTP_METRIC = "cerbos.client.http";
+    static final String IN_FLIGHT_METRIC = "cerbos.client.http.inflight";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Creates the interceptor and registers its in-flight gauge.
+     *
+     * @param meterRegistry registry the metrics are published to
+     */
+    public CerbosHttpMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get)
+                .description("Cerbos HTTP API requests currently in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        inFlight.incrementAndGet();
+        final long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            final ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().is2xxSuccessful()) {
+                outcome = "success";
+            }
+            return response;
+        } finally {
+            inFlight.decrementAndGet();
+            Timer.builder(HTTP_METRIC)
+                    .description("Cerbos HTTP API request latency")
+                    .tag("path", request.getURI().getPath())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
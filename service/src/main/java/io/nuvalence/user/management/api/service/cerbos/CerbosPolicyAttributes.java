@@ -0,0 +1,132 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resource attributes read by the Cerbos policies bundled with the service, by resource kind.
+ *
+ * <p>Attributes are collected from every {@code request.resource.attr.*} and {@code R.attr.*}
+ * reference in a resource policy and in the derived roles it imports, so translators can send
+ * Cerbos only what the policies use, and stay in sync with them.</p>
+ */
+@Component
+public class CerbosPolicyAttributes {
+    private static final Pattern RESOURCE_ATTRIBUTE =
+            Pattern.compile("\\b(?:request\\.resource|R)\\.attr\\.([A-Za-z_][A-Za-z0-9_]*)");
+
+    private final Map<String, Set<String>> attributesByKind;
+    private final Map<String, ResourceProjection<?>> projections = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the policies bundled on the classpath.
+     *
+     * @throws UncheckedIOException if the policies can't be read
+     */
+    public CerbosPolicyAttributes() {
+        this(CerbosPolicyFiles.findPolicies());
+    }
+
+    /**
+     * Reads the given policies.
+     *
+     * @param policies Cerbos policy files
+     * @throws UncheckedIOException if a policy can't be read
+     */
+    public CerbosPolicyAttributes(Resource... policies) {
+        this.attributesByKind = parse(policies);
+    }
+
+    /**
+     * Returns the attributes the policies read from resources of a kind.
+     *
+     * @param kind Cerbos resource kind
+     * @return attribute names, empty if no policy reads any
+     */
+    public Set<String> getAttributes(String kind) {
+        return attributesByKind.getOrDefault(kind, Collections.emptySet());
+    }
+
+    /**
+     * Returns the projection of resources of a kind onto the attributes the policies read.
+     *
+     * @param kind Cerbos resource kind
+     * @param extractors how to read each attribute the resource type supports
+     * @param <T> resource type
+     * @return projection, built once per kind
+     * @throws IllegalStateException if a policy reads an attribute without an extractor
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResourceProjection<T> getProjection(
+            String kind, Map<String, Function<T, Object>> extractors) {
+        return (ResourceProjection<T>)
+                projections.computeIfAbsent(
+                        kind, k -> new ResourceProjection<>(k, getAttributes(k), extractors));
+    }
+
+    private static Map<String, Set<String>> parse(Resource... policies) {
+        final Map<String, Set<String>> attributesByKind = new HashMap<>();
+        final Map<String, List<String>> importsByKind = new HashMap<>();
+        final Map<String, Set<String>> attributesByDerivedRoles = new HashMap<>();
+
+        for (Map<String, Object> root : CerbosPolicyFiles.read(policies)) {
+            if (root.get("resourcePolicy") instanceof Map<?, ?> resourcePolicy) {
+                final String kind = String.valueOf(resourcePolicy.get("resource"));
+                collectAttributes(
+                        resourcePolicy,
+                        attributesByKind.computeIfAbsent(kind, k -> new TreeSet<>()));
+                if (resourcePolicy.get("importDerivedRoles") instanceof List<?> imports) {
+                    final List<String> names =
+                            importsByKind.computeIfAbsent(kind, k -> new ArrayList<>());
+                    imports.forEach(name -> names.add(String.valueOf(name)));
+                }
+            } else if (root.get("derivedRoles") instanceof Map<?, ?> derivedRoles) {
+                collectAttributes(
+                        derivedRoles,
+                        attributesByDerivedRoles.computeIfAbsent(
+                                String.valueOf(derivedRoles.get("name")), k -> new TreeSet<>()));
+            }
+        }
+
+        importsByKind.forEach(
+                (kind, names) ->
+                        names.forEach(
+                                name ->
+                                        attributesByKind
+                                                .get(kind)
+                                                .addAll(
+                                                        attributesByDerivedRoles.getOrDefault(
+                                                                name, Collections.emptySet()))));
+
+        final Map<String, Set<String>> result = new HashMap<>();
+        attributesByKind.forEach(
+                (kind, attributes) -> result.put(kind, Collections.unmodifiableSet(attributes)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static void collectAttributes(Object node, Set<String> attributes) {
+        if (node instanceof String expression) {
+            final Matcher matcher = RESOURCE_ATTRIBUTE.matcher(expression);
+            while (matcher.find()) {
+                attributes.add(matcher.group(1));
+            }
+        } else if (node instanceof Map<?, ?> map) {
+            map.values().forEach(value -> collectAttributes(value, attributes));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectAttributes(value, attributes));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the Cerbos policy files bundled with the service.
+ */
+final class CerbosPolicyFiles {
+    static final String POLICY_LOCATION = "classpath*:cerbos-policies/*.yaml";
+
+    private CerbosPolicyFiles() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Finds the policies bundled on the classpath.
+     *
+     * @return policy files
+     * @throws UncheckedIOException if the classpath can't be searched
+     */
+    static Resource[] findPolicies() {
+        try {
+            return new PathMatchingResourcePatternResolver().getResources(POLICY_LOCATION);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to find Cerbos policies", e);
+        }
+    }
+
+    /**
+     * Reads every YAML document of the given policy files. Cerbos accepts both camel and snake
+     * case field names (e.g. {@code derived_roles}), so keys are returned in camel case.
+     *
+     * @param policies policy files
+     * @return policy documents, in file order
+     * @throws UncheckedIOException if a policy can't be read
+     */
+    static List<Map<String, Object>> read(Resource... policies) {
+        final Yaml yaml = new Yaml(new SafeConstructor());
+        final List<Map<String, Object>> documents = new ArrayList<>();
+        for (Resource policy : policies) {
+            try (InputStream inputStream = policy.getInputStream()) {
+                for (Object document : yaml.loadAll(inputStream)) {
+                    if (document instanceof Map<?, ?> root) {
+                        documents.add(toCamelCaseKeys(root));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read Cerbos policy " + policy, e);
+            }
+        }
+
+        return documents;
+    }
+
+    private static Map<String, Object> toCamelCaseKeys(Map<?, ?> map) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        map.forEach(
+                (key, value) ->
+                        result.put(toCamelCase(String.valueOf(key)), withCamelCaseKeys(value)));
+        return result;
+    }
+
+    private static Object withCamelCaseKeys(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return toCamelCaseKeys(map);
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(CerbosPolicyFiles::withCamelCaseKeys).toList();
+        }
+
+        return value;
+    }
+
+    private static String toCamelCase(String key) {
+        if (key.indexOf('_') < 0) {
+            return key;
+        }
+
+        final StringBuilder builder = new StringBuilder(key.length());
+        boolean upper = false;
+        for (char c : key.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                builder.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.cerbos.CerbosPrincipalAttributesProvider;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.cerbos.models.Principal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Builds the Cerbos principal for requests sent to the Cerbos HTTP API.
+ */
+final class CerbosPrincipals {
+    static final String POLICY_VERSION = "default";
+
+    private CerbosPrincipals() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Builds the Cerbos principal for an authenticated user.
+     *
+     * @param authentication current authentication
+     * @param attributesProvider provider of the principal attributes
+     * @return Cerbos principal
+     */
+    static Principal of(
+            Authentication authentication, CerbosPrincipalAttributesProvider attributesProvider) {
+        final String id =
+                Objects.requireNonNullElse(
+                        SecurityContextUtility.getAuthenticatedUserId(), authentication.getName());
+
+        return Principal.builder()
+                .id(id)
+                .policyVersion(POLICY_VERSION)
+                .roles(getRoles(authentication))
+                .attr(attributesProvider.getAttributes(authentication))
+                .build();
+    }
+
+    /**
+     * Application roles such as {@code um:admin} are sent both as they are and without their
+     * application prefix, which is how the policies name them.
+     */
+    private static String[] getRoles(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .flatMap(
+                        role ->
+                                role.contains(":")
+                                        ? Stream.of(role, role.substring(role.indexOf(':') + 1))
+                                        : Stream.of(role))
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,89 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.auth.access.AccessResource;
+import io.nuvalence.auth.access.cerbos.AccessResourceTranslator;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the attribute map Cerbos receives for a resource instance.
+ *
+ * <p>Resources with an {@link AccessResourceTranslator} are sent as their translated form. Other
+ * resources are sent as their id plus the attributes the bundled policies read for their kind
+ * (see {@link CerbosPolicyAttributes}), which avoids serializing entity graphs.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CerbosResourceAttributes {
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    private final ApplicationContext applicationContext;
+    private final CerbosPolicyAttributes policyAttributes;
+
+    /**
+     * Returns the Cerbos attributes of a resource.
+     *
+     * @param resource resource instance
+     * @return resource attributes
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getAttributes(Object resource) {
+        final AccessResource accessResource =
+                AnnotationUtils.findAnnotation(resource.getClass(), AccessResource.class);
+        if (accessResource != null) {
+            final AccessResourceTranslator translator =
+                    applicationContext.getBeanProvider(accessResource.translator()).getIfUnique();
+            if (translator != null) {
+                final Object translated = translator.translate(resource);
+                if (translated instanceof Map<?, ?> translatedAttributes) {
+                    return (Map<String, Object>) translatedAttributes;
+                }
+                if (translated != resource) {
+                    return MAPPER.convertValue(translated, MAP_TYPE);
+                }
+            }
+        }
+
+        final Map<String, Object> attributes = new HashMap<>();
+        final Object id = AccessResources.getId(resource);
+        if (id != null) {
+            attributes.put("id", id.toString());
+        }
+
+        final Set<String> policyAttributeNames =
+                policyAttributes.getAttributes(AccessResources.getKind(resource.getClass()));
+        if (!policyAttributeNames.isEmpty()) {
+            final BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(resource);
+            for (String name : policyAttributeNames) {
+                if (!attributes.containsKey(name) && wrapper.isReadableProperty(name)) {
+                    final Object value = wrapper.getPropertyValue(name);
+                    if (value != null) {
+                        attributes.put(name, toAttributeValue(value));
+                    }
+                }
+            }
+        }
+
+        return attributes;
+    }
+
+    private static Object toAttributeValue(Object value) {
+        if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+
+        return MAPPER.convertValue(value, Object.class);
+    }
+}
@@ -0,0 +1,187 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.access.cerbos.CerbosPrincipalAttributesProvider;
+import io.nuvalence.user.management.api.service.cerbos.models.AttributesMap;
+import io.nuvalence.user.management.api.service.cerbos.models.CheckResourceSetRequest;
+import io.nuvalence.user.management.api.service.cerbos.models.CheckResourceSetResponse;
+import io.nuvalence.user.management.api.service.cerbos.models.CheckResourceSetResponseActionEffectMap;
+import io.nuvalence.user.management.api.service.cerbos.models.Effect;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesRequest;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesResource;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesResponse;
+import io.nuvalence.user.management.api.service.cerbos.models.ResourceSet;
+import io.nuvalence.user.management.api.service.config.exception.UnexpectedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Authorization handler that checks whole lists of resources, or several actions on one resource,
+ * with a single Cerbos CheckResourceSet request, and plans resource queries with Cerbos
+ * PlanResources. Single resource checks are left to the delegate.
+ */
+@RequiredArgsConstructor
+public class CerbosResourceSetAuthorizationHandler
+        implements BatchAuthorizationHandler,
+                MultiActionAuthorizationHandler,
+                QueryPlanAuthorizationHandler {
+    static final String CHECK_RESOURCE_SET_PATH = "/api/check";
+    static final String PLAN_RESOURCES_PATH = "/api/plan/resources";
+
+    private final AuthorizationHandler delegate;
+    private final RestTemplate restTemplate;
+    private final CerbosPrincipalAttributesProvider principalAttributesProvider;
+    private final CerbosResourceAttributes resourceAttributes;
+
+    @Override
+    public boolean isAllowed(String action, Class<?> resourceClass) {
+        return delegate.isAllowed(action, resourceClass);
+    }
+
+    @Override
+    public boolean isAllowed(String action, String resourceType) {
+        return delegate.isAllowed(action, resourceType);
+    }
+
+    @Override
+    public boolean isAllowedForInstance(String action, Object resource) {
+        return delegate.isAllowedForInstance(action, resource);
+    }
+
+    @Override
+    public <T> Predicate<T> getAuthFilter(String action, Class<T> resourceClass) {
+        return delegate.getAuthFilter(action, resourceClass);
+    }
+
+    @Override
+    public <T> List<T> filterAllowed(String action, Class<T> resourceClass, List<T> resources) {
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (resources.isEmpty() || authentication == null) {
+            return Collections.emptyList();
+        }
+
+        final CheckResourceSetResponse response =
+                checkResourceSet(
+                        authentication,
+                        new String[] {action},
+                        AccessResources.getKind(resourceClass),
+                        resources);
+
+        final List<T> allowed = new ArrayList<>();
+        for (int i = 0; i < resources.size(); i++) {
+            final CheckResourceSetResponseActionEffectMap effects =
+                    response.getResourceInstances().get(String.valueOf(i));
+            if (effects != null
+                    && effects.getActions() != null
+                    && effects.getActions().get(action) == Effect.EFFECT_ALLOW) {
+                allowed.add(resources.get(i));
+            }
+        }
+
+        return allowed;
+    }
+
+    @Override
+    public Set<String> getAllowedActions(Object resource, Set<String> actions) {
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (resource == null || actions.isEmpty() || authentication == null) {
+            return Collections.emptySet();
+        }
+
+        final CheckResourceSetResponse response =
+                checkResourceSet(
+                        authentication,
+                        actions.toArray(String[]::new),
+                        AccessResources.getKind(resource.getClass()),
+                        List.of(resource));
+
+        final CheckResourceSetResponseActionEffectMap effects =
+                response.getResourceInstances().get("0");
+        if (effects == null || effects.getActions() == null) {
+            return Collections.emptySet();
+        }
+
+        return actions.stream()
+                .filter(action -> effects.getActions().get(action) == Effect.EFFECT_ALLOW)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public PlanResourcesFilter planResources(String action, Class<?> resourceClass) {
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new UnexpectedException("Cannot plan resources without an authenticated user");
+        }
+
+        final PlanResourcesRequest request =
+                PlanResourcesRequest.builder()
+                        .requestId(UUID.randomUUID().toString())
+                        .action(action)
+                        .principal(CerbosPrincipals.of(authentication, principalAttributesProvider))
+                        .resource(
+                                PlanResourcesResource.builder()
+                                        .kind(AccessResources.getKind(resourceClass))
+                                        .policyVersion(CerbosPrincipals.POLICY_VERSION)
+                                        .build())
+                        .build();
+
+        final PlanResourcesResponse response =
+                restTemplate.postForObject(
+                        PLAN_RESOURCES_PATH, request, PlanResourcesResponse.class);
+        if (response == null || response.getFilter() == null) {
+            throw new UnexpectedException("Cerbos returned no query plan for " + action);
+        }
+
+        return response.getFilter();
+    }
+
+    private CheckResourceSetResponse checkResourceSet(
+            Authentication authentication, String[] actions, String kind, List<?> resources) {
+        // instances are keyed by their position so the response can be read back in order
+        final Map<String, AttributesMap> instances = new LinkedHashMap<>();
+        for (int i = 0; i < resources.size(); i++) {
+            final AttributesMap attributes = new AttributesMap();
+            attributes.setAttr(resourceAttributes.getAttributes(resources.get(i)));
+            instances.put(String.valueOf(i), attributes);
+        }
+
+        final CheckResourceSetRequest request =
+                CheckResourceSetRequest.builder()
+                        .requestId(UUID.randomUUID().toString())
+                        .actions(actions)
+                        .principal(CerbosPrincipals.of(authentication, principalAttributesProvider))
+                        .resource(
+                                ResourceSet.builder()
+                                        .kind(kind)
+                                        .policyVersion(CerbosPrincipals.POLICY_VERSION)
+                                        .instances(instances)
+                                        .build())
+                        .build();
+
+        final CheckResourceSetResponse response =
+                restTemplate.postForObject(
+                        CHECK_RESOURCE_SET_PATH, request, CheckResourceSetResponse.class);
+        if (response == null || response.getResourceInstances() == null) {
+            throw new UnexpectedException(
+                    "Cerbos returned no decisions for " + String.join(", ", actions));
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,91 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.cerbos.CerbosPrincipalAttributesProvider;
+import io.nuvalence.user.management.api.service.cerbos.models.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Authorization handler that decides with the {@link EmbeddedPolicyEngine} instead of the Cerbos
+ * sidecar. The principal and resource attributes are built exactly as they are for the sidecar.
+ */
+@RequiredArgsConstructor
+public class EmbeddedAuthorizationHandler
+        implements BatchAuthorizationHandler, MultiActionAuthorizationHandler {
+    private final EmbeddedPolicyEngine engine;
+    private final CerbosPrincipalAttributesProvider principalAttributesProvider;
+    private final CerbosResourceAttributes resourceAttributes;
+
+    @Override
+    public boolean isAllowed(String action, Class<?> resourceClass) {
+        return isAllowed(action, AccessResources.getKind(resourceClass));
+    }
+
+    @Override
+    public boolean isAllowed(String action, String resourceType) {
+        final Principal principal = getPrincipal();
+        return principal != null
+                && engine.isAllowed(principal, resourceType, Collections.emptyMap(), action);
+    }
+
+    @Override
+    public boolean isAllowedForInstance(String action, Object resource) {
+        return getAllowedActions(resource, Set.of(action)).contains(action);
+    }
+
+    @Override
+    public <T> Predicate<T> getAuthFilter(String action, Class<T> resourceClass) {
+        return resource -> isAllowedForInstance(action, resource);
+    }
+
+    @Override
+    public <T> List<T> filterAllowed(String action, Class<T> resourceClass, List<T> resources) {
+        final Principal principal = getPrincipal();
+        if (resources.isEmpty() || principal == null) {
+            return Collections.emptyList();
+        }
+
+        final String kind = AccessResources.getKind(resourceClass);
+        final List<T> allowed = new ArrayList<>();
+        for (T resource : resources) {
+            final Map<String, Object> attributes = resourceAttributes.getAttributes(resource);
+            if (engine.isAllowed(principal, kind, attributes, action)) {
+                allowed.add(resource);
+            }
+        }
+
+        return allowed;
+    }
+
+    @Override
+    public Set<String> getAllowedActions(Object resource, Set<String> actions) {
+        if (resource == null || actions.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Principal principal = getPrincipal();
+        if (principal == null) {
+            return Collections.emptySet();
+        }
+
+        final Map<String, Object> attributes = resourceAttributes.getAttributes(resource);
+        return engine.getAllowedActions(
+                principal, AccessResources.getKind(resource.getClass()), attributes, actions);
+    }
+
+    private Principal getPrincipal() {
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null
+                ? null
+                : CerbosPrincipals.of(authentication, principalAttributesProvider);
+    }
+}
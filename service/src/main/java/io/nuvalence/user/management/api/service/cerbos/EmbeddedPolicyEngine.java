@@ -0,0 +1,375 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.user.management.api.service.cerbos.models.Condition;
+import io.nuvalence.user.management.api.service.cerbos.models.DerivedRoles;
+import io.nuvalence.user.management.api.service.cerbos.models.Effect;
+import io.nuvalence.user.management.api.service.cerbos.models.Match;
+import io.nuvalence.user.management.api.service.cerbos.models.MatchExprList;
+import io.nuvalence.user.management.api.service.cerbos.models.Policy;
+import io.nuvalence.user.management.api.service.cerbos.models.Principal;
+import io.nuvalence.user.management.api.service.cerbos.models.ResourcePolicy;
+import io.nuvalence.user.management.api.service.cerbos.models.ResourceRule;
+import io.nuvalence.user.management.api.service.cerbos.models.RoleDef;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates the Cerbos resource policies and derived roles bundled with the service in process,
+ * as an alternative to asking the Cerbos sidecar.
+ *
+ * <p>Policies are compiled once: rules become action, role and derived role sets, and conditions
+ * become {@link PolicyExpression} predicates. Decisions follow Cerbos: a rule applies when it lists
+ * the action (or {@code *}) and one of the principal's roles (or {@code *}) or an activated derived
+ * role, and its condition holds. Any applicable deny wins, and actions no rule allows are denied,
+ * as are resources of a kind without a policy.</p>
+ *
+ * <p>Only {@code default} version, unscoped resource policies and derived roles are supported.
+ * Policies using anything else are rejected on load rather than evaluated differently from the
+ * sidecar.</p>
+ */
+@Slf4j
+public class EmbeddedPolicyEngine {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+    private static final Predicate<Map<String, Object>> ALWAYS = request -> true;
+
+    private final Map<String, CompiledResourcePolicy> policies;
+
+    /**
+     * Compiles the policies bundled on the classpath.
+     *
+     * @throws UncheckedIOException if the policies can't be read
+     * @throws IllegalArgumentException if a policy uses features the engine doesn't support
+     */
+    public EmbeddedPolicyEngine() {
+        this(CerbosPolicyFiles.findPolicies());
+    }
+
+    /**
+     * Compiles the given policies.
+     *
+     * @param policyFiles Cerbos policy files
+     * @throws UncheckedIOException if a policy can't be read
+     * @throws IllegalArgumentException if a policy uses features the engine doesn't support
+     */
+    public EmbeddedPolicyEngine(Resource... policyFiles) {
+        final List<ResourcePolicy> resourcePolicies = new ArrayList<>();
+        final Map<String, Map<String, CompiledDerivedRole>> derivedRoleSets = new HashMap<>();
+
+        for (Map<String, Object> document : CerbosPolicyFiles.read(policyFiles)) {
+            final Policy policy = MAPPER.convertValue(document, Policy.class);
+            if (Boolean.TRUE.equals(policy.getDisabled())) {
+                continue;
+            }
+            if (policy.getPrincipalPolicy() != null) {
+                throw new IllegalArgumentException("Principal policies are not supported");
+            }
+
+            if (policy.getResourcePolicy() != null) {
+                resourcePolicies.add(policy.getResourcePolicy());
+            } else if (policy.getDerivedRoles() != null) {
+                final DerivedRoles derivedRoles = policy.getDerivedRoles();
+                derivedRoleSets.put(derivedRoles.getName(), compileDerivedRoles(derivedRoles));
+            }
+        }
+
+        final Map<String, CompiledResourcePolicy> compiled = new HashMap<>();
+        for (ResourcePolicy resourcePolicy : resourcePolicies) {
+            final String scope = resourcePolicy.getScope();
+            if (!CerbosPrincipals.POLICY_VERSION.equals(resourcePolicy.getVersion())
+                    || (scope != null && !scope.isEmpty())) {
+                throw new IllegalArgumentException(
+                        "Only default, unscoped policies are supported, not the one for "
+                                + resourcePolicy.getResource());
+            }
+            compiled.put(
+                    resourcePolicy.getResource(),
+                    new CompiledResourcePolicy(resourcePolicy, derivedRoleSets));
+        }
+
+        this.policies = Collections.unmodifiableMap(compiled);
+        log.info("Compiled embedded Cerbos policies for {}", policies.keySet());
+    }
+
+    /**
+     * Returns the actions a principal may perform on a resource.
+     *
+     * @param principal Cerbos principal
+     * @param kind Cerbos resource kind
+     * @param resourceAttributes attributes of the resource, empty for a check on the kind
+     * @param actions actions being checked
+     * @return allowed actions, a subset of {@code actions}
+     */
+    public Set<String> getAllowedActions(
+            Principal principal,
+            String kind,
+            Map<String, Object> resourceAttributes,
+            Collection<String> actions) {
+        final CompiledResourcePolicy policy = policies.get(kind);
+        if (policy == null || actions.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Evaluation evaluation =
+                new Evaluation(principal, toRequest(principal, kind, resourceAttributes));
+        final Set<String> allowed = new LinkedHashSet<>();
+        for (String action : actions) {
+            if (policy.isAllowed(action, evaluation)) {
+                allowed.add(action);
+            }
+        }
+
+        return allowed;
+    }
+
+    /**
+     * Checks whether a principal may perform an action on a resource.
+     *
+     * @param principal Cerbos principal
+     * @param kind Cerbos resource kind
+     * @param resourceAttributes attributes of the resource, empty for a check on the kind
+     * @param action action being checked
+     * @return true if the action is allowed
+     */
+    public boolean isAllowed(
+            Principal principal,
+            String kind,
+            Map<String, Object> resourceAttributes,
+            String action) {
+        return !getAllowedActions(principal, kind, resourceAttributes, List.of(action)).isEmpty();
+    }
+
+    /**
+     * Builds the {@code request} variable conditions are evaluated against. Values are converted
+     * to their JSON form, which is what the sidecar compares.
+     */
+    private static Map<String, Object> toRequest(
+            Principal principal, String kind, Map<String, Object> resourceAttributes) {
+        final Map<String, Object> principalVariable = new HashMap<>();
+        principalVariable.put("id", principal.getId());
+        principalVariable.put(
+                "roles",
+                principal.getRoles() == null ? List.of() : Arrays.asList(principal.getRoles()));
+        principalVariable.put(
+                "attr", principal.getAttr() == null ? Map.of() : toJsonValue(principal.getAttr()));
+
+        final Object id = resourceAttributes.get("id");
+        final Map<String, Object> resourceVariable = new HashMap<>();
+        resourceVariable.put("kind", kind);
+        resourceVariable.put("id", id == null ? "" : String.valueOf(id));
+        resourceVariable.put("attr", toJsonValue(resourceAttributes));
+
+        return Map.of("principal", principalVariable, "resource", resourceVariable);
+    }
+
+    private static Object toJsonValue(Object value) {
+        if (value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Number) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            final Map<String, Object> result = new LinkedHashMap<>();
+            map.forEach((key, entry) -> result.put(String.valueOf(key), toJsonValue(entry)));
+            return result;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(EmbeddedPolicyEngine::toJsonValue).toList();
+        }
+
+        return toJsonValue(MAPPER.convertValue(value, Object.class));
+    }
+
+    private static Map<String, CompiledDerivedRole> compileDerivedRoles(DerivedRoles derivedRoles) {
+        final Map<String, CompiledDerivedRole> compiled = new HashMap<>();
+        if (derivedRoles.getDefinitions() != null) {
+            for (RoleDef definition : derivedRoles.getDefinitions()) {
+                compiled.put(definition.getName(), new CompiledDerivedRole(definition));
+            }
+        }
+
+        return compiled;
+    }
+
+    private static Predicate<Map<String, Object>> compileCondition(Condition condition) {
+        if (condition == null) {
+            return ALWAYS;
+        }
+        if (condition.getMatch() != null) {
+            return compileMatch(condition.getMatch());
+        }
+        if (condition.getScript() != null) {
+            return PolicyExpression.compile(condition.getScript())::test;
+        }
+
+        return ALWAYS;
+    }
+
+    private static Predicate<Map<String, Object>> compileMatch(Match match) {
+        if (match.getExpr() != null) {
+            return PolicyExpression.compile(match.getExpr())::test;
+        }
+        if (match.getAll() != null) {
+            final List<Predicate<Map<String, Object>>> all = compileMatches(match.getAll());
+            return request -> all.stream().allMatch(predicate -> predicate.test(request));
+        }
+        if (match.getAny() != null) {
+            final List<Predicate<Map<String, Object>>> any = compileMatches(match.getAny());
+            return request -> any.stream().anyMatch(predicate -> predicate.test(request));
+        }
+        if (match.getNone() != null) {
+            final List<Predicate<Map<String, Object>>> none = compileMatches(match.getNone());
+            return request -> none.stream().noneMatch(predicate -> predicate.test(request));
+        }
+
+        throw new IllegalArgumentException("Empty match in condition");
+    }
+
+    private static List<Predicate<Map<String, Object>>> compileMatches(MatchExprList matches) {
+        if (matches.getOf() == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(matches.getOf()).map(EmbeddedPolicyEngine::compileMatch).toList();
+    }
+
+    private static Set<String> toSet(String[] values) {
+        return values == null ? Collections.emptySet() : Set.copyOf(Arrays.asList(values));
+    }
+
+    /**
+     * State of a single check: the request, and the derived roles evaluated so far, as they are
+     * shared by every action checked.
+     */
+    private static final class Evaluation {
+        private final Set<String> roles;
+        private final Map<String, Object> request;
+        private final Map<String, Boolean> derivedRoles = new HashMap<>();
+
+        private Evaluation(Principal principal, Map<String, Object> request) {
+            this.roles = toSet(principal.getRoles());
+            this.request = request;
+        }
+
+        private boolean hasAnyRole(Set<String> candidates) {
+            return candidates.contains("*") || !Collections.disjoint(candidates, roles);
+        }
+    }
+
+    /**
+     * Derived role with its compiled condition.
+     */
+    private static final class CompiledDerivedRole {
+        private final Set<String> parentRoles;
+        private final Predicate<Map<String, Object>> condition;
+
+        private CompiledDerivedRole(RoleDef definition) {
+            this.parentRoles = toSet(definition.getParentRoles());
+            this.condition = compileCondition(definition.getCondition());
+        }
+
+        private boolean isActivated(Evaluation evaluation) {
+            return evaluation.hasAnyRole(parentRoles) && condition.test(evaluation.request);
+        }
+    }
+
+    /**
+     * Resource rule with its compiled condition and the derived roles it may be granted through.
+     */
+    private static final class CompiledRule {
+        private final Set<String> actions;
+        private final Set<String> roles;
+        private final Map<String, CompiledDerivedRole> derivedRoles;
+        private final Predicate<Map<String, Object>> condition;
+        private final boolean deny;
+
+        private CompiledRule(ResourceRule rule, Map<String, CompiledDerivedRole> imported) {
+            this.actions = toSet(rule.getActions());
+            this.roles = toSet(rule.getRoles());
+            this.derivedRoles = new LinkedHashMap<>();
+            for (String name : toSet(rule.getDerivedRoles())) {
+                final CompiledDerivedRole derivedRole = imported.get(name);
+                if (derivedRole == null) {
+                    throw new IllegalArgumentException("Derived role " + name + " is not imported");
+                }
+                derivedRoles.put(name, derivedRole);
+            }
+            this.condition = compileCondition(rule.getCondition());
+            this.deny = rule.getEffect() == Effect.EFFECT_DENY;
+        }
+
+        private boolean appliesTo(String action, Evaluation evaluation) {
+            return (actions.contains(action) || actions.contains("*"))
+                    && (evaluation.hasAnyRole(roles) || hasDerivedRole(evaluation))
+                    && condition.test(evaluation.request);
+        }
+
+        private boolean hasDerivedRole(Evaluation evaluation) {
+            for (Map.Entry<String, CompiledDerivedRole> entry : derivedRoles.entrySet()) {
+                final CompiledDerivedRole derivedRole = entry.getValue();
+                if (evaluation.derivedRoles.computeIfAbsent(
+                        entry.getKey(), name -> derivedRole.isActivated(evaluation))) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Resource policy compiled to its rules.
+     */
+    private static final class CompiledResourcePolicy {
+        private final List<CompiledRule> rules = new ArrayList<>();
+
+        private CompiledResourcePolicy(
+                ResourcePolicy policy,
+                Map<String, Map<String, CompiledDerivedRole>> derivedRoleSets) {
+            final Map<String, CompiledDerivedRole> imported = new HashMap<>();
+            for (String name : toSet(policy.getImportDerivedRoles())) {
+                final Map<String, CompiledDerivedRole> derivedRoles = derivedRoleSets.get(name);
+                if (derivedRoles == null) {
+                    throw new IllegalArgumentException(
+                            "Policy for " + policy.getResource() + " imports unknown " + name);
+                }
+                imported.putAll(derivedRoles);
+            }
+
+            if (policy.getRules() != null) {
+                for (ResourceRule rule : policy.getRules()) {
+                    rules.add(new CompiledRule(rule, imported));
+                }
+            }
+        }
+
+        private boolean isAllowed(String action, Evaluation evaluation) {
+            boolean allowed = false;
+            for (CompiledRule rule : rules) {
+                if (rule.appliesTo(action, evaluation)) {
+                    if (rule.deny) {
+                        return false;
+                    }
+                    allowed = true;
+                }
+            }
+
+            return allowed;
+        }
+    }
+}
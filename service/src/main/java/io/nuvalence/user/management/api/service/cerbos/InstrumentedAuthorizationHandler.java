@@ -0,0 +1,40 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Predicate;
+
+/**
+ * Authorization handler that routes every gRPC check of its delegate through a pooled Cerbos
+ * client, so the checks are reflected in the pool metrics. A check is timed as a whole, principal
+ * attribute lookup included, since the delegate makes the gRPC call inside the same SDK call.
+ * Checks made over the Cerbos HTTP API are measured by {@link CerbosHttpMetricsInterceptor}
+ * instead.
+ */
+@RequiredArgsConstructor
+public class InstrumentedAuthorizationHandler implements AuthorizationHandler {
+    private final AuthorizationHandler delegate;
+    private final CerbosClientPool.PooledClient client;
+
+    @Override
+    public boolean isAllowed(String action, Class<?> resourceClass) {
+        return client.execute(() -> delegate.isAllowed(action, resourceClass));
+    }
+
+    @Override
+    public boolean isAllowed(String action, String resourceType) {
+        return client.execute(() -> delegate.isAllowed(action, resourceType));
+    }
+
+    @Override
+    public boolean isAllowedForInstance(String action, Object resource) {
+        return client.execute(() -> delegate.isAllowedForInstance(action, resource));
+    }
+
+    @Override
+    public <T> Predicate<T> getAuthFilter(String action, Class<T> resourceClass) {
+        final Predicate<T> filter = delegate.getAuthFilter(action, resourceClass);
+        return element -> client.execute(() -> filter.test(element));
+    }
+}
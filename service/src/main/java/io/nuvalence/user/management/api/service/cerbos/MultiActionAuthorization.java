@@ -0,0 +1,38 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks several actions on the same resource, using a single authorization call when the
+ * configured {@link AuthorizationHandler} supports it.
+ */
+@Component
+@RequiredArgsConstructor
+public class MultiActionAuthorization {
+    private final AuthorizationHandler authorizationHandler;
+
+    /**
+     * Returns the actions the current principal may perform on a resource.
+     *
+     * @param resource resource to check
+     * @param actions actions being checked, duplicates are checked once
+     * @return allowed actions
+     */
+    public Set<String> getAllowedActions(Object resource, String... actions) {
+        final Set<String> requested = new LinkedHashSet<>(Arrays.asList(actions));
+        if (authorizationHandler instanceof MultiActionAuthorizationHandler multiActionHandler) {
+            return multiActionHandler.getAllowedActions(resource, requested);
+        }
+
+        return requested.stream()
+                .filter(action -> authorizationHandler.isAllowedForInstance(action, resource))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,20 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+
+import java.util.Set;
+
+/**
+ * Authorization handler that can decide on several actions for the same resource in a single call.
+ */
+public interface MultiActionAuthorizationHandler extends AuthorizationHandler {
+
+    /**
+     * Returns the actions the current principal may perform on a resource.
+     *
+     * @param resource resource to check
+     * @param actions actions being checked
+     * @return allowed actions, a subset of {@code actions}
+     */
+    Set<String> getAllowedActions(Object resource, Set<String> actions);
+}
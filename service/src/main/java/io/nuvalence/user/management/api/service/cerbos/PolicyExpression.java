@@ -0,0 +1,568 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cerbos condition expression compiled to an in-memory predicate.
+ *
+ * <p>Supports the subset of CEL the bundled policies are written in: the {@code request},
+ * {@code R} and {@code P} variables, field selection, string, number, boolean, null and list
+ * literals, {@code == != < <= > >= in ! && ||}, the {@code exists}, {@code all} and
+ * {@code exists_one} macros, and the {@code size}, {@code contains}, {@code startsWith} and
+ * {@code endsWith} functions. Anything else is rejected when the expression is compiled, so an
+ * unsupported policy fails at startup rather than being evaluated wrongly.</p>
+ *
+ * <p>As in Cerbos, an expression that can't be evaluated, e.g. because it reads a missing
+ * attribute, doesn't match. {@code &&} and {@code ||} absorb such errors the way CEL does.</p>
+ */
+final class PolicyExpression {
+    private static final Set<String> MACROS = Set.of("exists", "all", "exists_one");
+
+    private final String source;
+    private final Node root;
+
+    private PolicyExpression(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @param source CEL expression
+     * @return compiled expression
+     * @throws IllegalArgumentException if the expression is malformed or uses unsupported CEL
+     */
+    static PolicyExpression compile(String source) {
+        final Parser parser = new Parser(source);
+        final Node root = parser.parseExpression(Set.of());
+        parser.expectEnd();
+        return new PolicyExpression(source, root);
+    }
+
+    /**
+     * Evaluates the expression against a check request.
+     *
+     * @param request request with {@code principal} and {@code resource} entries, in the shape
+     *     Cerbos exposes to conditions
+     * @return true if the expression evaluates to true
+     */
+    boolean test(Map<String, Object> request) {
+        try {
+            return Boolean.TRUE.equals(root.evaluate(new Scope("request", request, null)));
+        } catch (EvaluationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Compiled expression node.
+     */
+    private interface Node {
+        Object evaluate(Scope scope);
+    }
+
+    /**
+     * Variables bound while evaluating: the request, and the iteration variables of enclosing
+     * macros.
+     */
+    private static final class Scope {
+        private final String name;
+        private final Object value;
+        private final Scope parent;
+
+        private Scope(String name, Object value, Scope parent) {
+            this.name = name;
+            this.value = value;
+            this.parent = parent;
+        }
+
+        private Object get(String variable) {
+            for (Scope scope = this; scope != null; scope = scope.parent) {
+                if (scope.name.equals(variable)) {
+                    return scope.value;
+                }
+            }
+
+            throw new EvaluationException("Undeclared variable " + variable);
+        }
+    }
+
+    /**
+     * Raised when an expression can't be evaluated for a request.
+     */
+    private static final class EvaluationException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private EvaluationException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static Object select(Object target, String field) {
+        if (target instanceof Map<?, ?> map && map.containsKey(field)) {
+            return map.get(field);
+        }
+
+        throw new EvaluationException("No such field " + field);
+    }
+
+    private static boolean isTrue(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+
+        throw new EvaluationException("Expected a boolean but got " + value);
+    }
+
+    private static boolean valuesEqual(Object left, Object right) {
+        if (left instanceof Number l && right instanceof Number r) {
+            return Double.compare(l.doubleValue(), r.doubleValue()) == 0;
+        }
+
+        return Objects.equals(left, right);
+    }
+
+    private static int compare(Object left, Object right) {
+        if (left instanceof Number l && right instanceof Number r) {
+            return Double.compare(l.doubleValue(), r.doubleValue());
+        }
+        if (left instanceof String l && right instanceof String r) {
+            return l.compareTo(r);
+        }
+
+        throw new EvaluationException("Can't compare " + left + " with " + right);
+    }
+
+    private static boolean contains(Object container, Object element) {
+        if (container instanceof Collection<?> collection) {
+            return collection.stream().anyMatch(item -> valuesEqual(item, element));
+        }
+        if (container instanceof Map<?, ?> map) {
+            return map.containsKey(element);
+        }
+
+        throw new EvaluationException("Can't look for " + element + " in " + container);
+    }
+
+    private static long size(Object value) {
+        if (value instanceof String string) {
+            return string.codePointCount(0, string.length());
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+
+        throw new EvaluationException("No size for " + value);
+    }
+
+    private static String string(Object value) {
+        if (value instanceof String string) {
+            return string;
+        }
+
+        throw new EvaluationException("Expected a string but got " + value);
+    }
+
+    private static Collection<?> range(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.keySet();
+        }
+
+        throw new EvaluationException("Can't iterate over " + value);
+    }
+
+    /**
+     * Recursive descent parser producing the compiled nodes.
+     */
+    private static final class Parser {
+        private final String source;
+        private int position;
+
+        private Parser(String source) {
+            this.source = source;
+        }
+
+        private Node parseExpression(Set<String> variables) {
+            return parseOr(variables);
+        }
+
+        private void expectEnd() {
+            skipWhitespace();
+            if (position < source.length()) {
+                throw error("Unexpected " + source.charAt(position));
+            }
+        }
+
+        private Node parseOr(Set<String> variables) {
+            Node node = parseAnd(variables);
+            while (accept("||")) {
+                final Node left = node;
+                final Node right = parseAnd(variables);
+                node = scope -> logical(left, right, scope, true);
+            }
+
+            return node;
+        }
+
+        private Node parseAnd(Set<String> variables) {
+            Node node = parseRelation(variables);
+            while (accept("&&")) {
+                final Node left = node;
+                final Node right = parseRelation(variables);
+                node = scope -> logical(left, right, scope, false);
+            }
+
+            return node;
+        }
+
+        /**
+         * CEL logical operators: the short-circuiting value wins over an error on either side.
+         */
+        private static Object logical(Node left, Node right, Scope scope, boolean or) {
+            EvaluationException error = null;
+            try {
+                if (isTrue(left.evaluate(scope)) == or) {
+                    return or;
+                }
+            } catch (EvaluationException e) {
+                error = e;
+            }
+
+            if (isTrue(right.evaluate(scope)) == or) {
+                return or;
+            }
+            if (error != null) {
+                throw error;
+            }
+
+            return !or;
+        }
+
+        private Node parseRelation(Set<String> variables) {
+            final Node left = parseUnary(variables);
+            if (accept("==")) {
+                final Node right = parseUnary(variables);
+                return scope -> valuesEqual(left.evaluate(scope), right.evaluate(scope));
+            }
+            if (accept("!=")) {
+                final Node right = parseUnary(variables);
+                return scope -> !valuesEqual(left.evaluate(scope), right.evaluate(scope));
+            }
+            if (accept("<=")) {
+                final Node right = parseUnary(variables);
+                return scope -> compare(left.evaluate(scope), right.evaluate(scope)) <= 0;
+            }
+            if (accept(">=")) {
+                final Node right = parseUnary(variables);
+                return scope -> compare(left.evaluate(scope), right.evaluate(scope)) >= 0;
+            }
+            if (accept("<")) {
+                final Node right = parseUnary(variables);
+                return scope -> compare(left.evaluate(scope), right.evaluate(scope)) < 0;
+            }
+            if (accept(">")) {
+                final Node right = parseUnary(variables);
+                return scope -> compare(left.evaluate(scope), right.evaluate(scope)) > 0;
+            }
+            if (acceptKeyword("in")) {
+                final Node right = parseUnary(variables);
+                return scope -> contains(right.evaluate(scope), left.evaluate(scope));
+            }
+
+            return left;
+        }
+
+        private Node parseUnary(Set<String> variables) {
+            if (accept("!")) {
+                final Node operand = parseUnary(variables);
+                return scope -> !isTrue(operand.evaluate(scope));
+            }
+            if (accept("-")) {
+                final Object number = parseNumber();
+                final Object negated =
+                        number instanceof Long l ? (Object) (-l) : (Object) (-(Double) number);
+                return scope -> negated;
+            }
+
+            return parsePostfix(variables);
+        }
+
+        private Node parsePostfix(Set<String> variables) {
+            Node node = parsePrimary(variables);
+            while (accept(".")) {
+                final String name = parseIdentifier();
+                final Node target = node;
+                if (accept("(")) {
+                    node =
+                            MACROS.contains(name)
+                                    ? parseMacro(name, target, variables)
+                                    : parseMethod(name, target, variables);
+                } else {
+                    node = scope -> select(target.evaluate(scope), name);
+                }
+            }
+
+            return node;
+        }
+
+        private Node parseMacro(String name, Node target, Set<String> variables) {
+            final String variable = parseIdentifier();
+            expect(",");
+            final Set<String> inner = new HashSet<>(variables);
+            inner.add(variable);
+            final Node predicate = parseExpression(inner);
+            expect(")");
+
+            return switch (name) {
+                case "exists" -> scope -> {
+                    EvaluationException error = null;
+                    for (Object element : range(target.evaluate(scope))) {
+                        try {
+                            if (isTrue(predicate.evaluate(new Scope(variable, element, scope)))) {
+                                return true;
+                            }
+                        } catch (EvaluationException e) {
+                            error = e;
+                        }
+                    }
+                    if (error != null) {
+                        throw error;
+                    }
+                    return false;
+                };
+                case "all" -> scope -> {
+                    for (Object element : range(target.evaluate(scope))) {
+                        if (!isTrue(predicate.evaluate(new Scope(variable, element, scope)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+                default -> scope -> {
+                    int matches = 0;
+                    for (Object element : range(target.evaluate(scope))) {
+                        if (isTrue(predicate.evaluate(new Scope(variable, element, scope)))) {
+                            matches++;
+                        }
+                    }
+                    return matches == 1;
+                };
+            };
+        }
+
+        private Node parseMethod(String name, Node target, Set<String> variables) {
+            final List<Node> arguments = parseArguments(variables);
+            if ("size".equals(name) && arguments.isEmpty()) {
+                return scope -> size(target.evaluate(scope));
+            }
+            if (arguments.size() != 1) {
+                throw error("Unsupported function " + name);
+            }
+
+            final Node argument = arguments.get(0);
+            return switch (name) {
+                case "contains" -> scope ->
+                        string(target.evaluate(scope)).contains(string(argument.evaluate(scope)));
+                case "startsWith" -> scope ->
+                        string(target.evaluate(scope))
+                                .startsWith(string(argument.evaluate(scope)));
+                case "endsWith" -> scope ->
+                        string(target.evaluate(scope)).endsWith(string(argument.evaluate(scope)));
+                default -> throw error("Unsupported function " + name);
+            };
+        }
+
+        private List<Node> parseArguments(Set<String> variables) {
+            final List<Node> arguments = new ArrayList<>();
+            if (accept(")")) {
+                return arguments;
+            }
+            do {
+                arguments.add(parseExpression(variables));
+            } while (accept(","));
+            expect(")");
+
+            return arguments;
+        }
+
+        private Node parsePrimary(Set<String> variables) {
+            skipWhitespace();
+            if (position >= source.length()) {
+                throw error("Unexpected end of expression");
+            }
+
+            final char c = source.charAt(position);
+            if (accept("(")) {
+                final Node node = parseExpression(variables);
+                expect(")");
+                return node;
+            }
+            if (accept("[")) {
+                final List<Node> elements = new ArrayList<>();
+                if (!accept("]")) {
+                    do {
+                        elements.add(parseExpression(variables));
+                    } while (accept(","));
+                    expect("]");
+                }
+                return scope -> elements.stream().map(element -> element.evaluate(scope)).toList();
+            }
+            if (c == '"' || c == '\'') {
+                final String value = parseString();
+                return scope -> value;
+            }
+            if (Character.isDigit(c)) {
+                final Object value = parseNumber();
+                return scope -> value;
+            }
+
+            final String name = parseIdentifier();
+            switch (name) {
+                case "true":
+                    return scope -> Boolean.TRUE;
+                case "false":
+                    return scope -> Boolean.FALSE;
+                case "null":
+                    return scope -> null;
+                case "request":
+                    return scope -> scope.get("request");
+                case "R":
+                    return scope -> select(scope.get("request"), "resource");
+                case "P":
+                    return scope -> select(scope.get("request"), "principal");
+                case "size":
+                    expect("(");
+                    final Node argument = parseExpression(variables);
+                    expect(")");
+                    return scope -> size(argument.evaluate(scope));
+                default:
+                    if (!variables.contains(name)) {
+                        throw error("Unsupported identifier " + name);
+                    }
+                    return scope -> scope.get(name);
+            }
+        }
+
+        private String parseIdentifier() {
+            skipWhitespace();
+            final int start = position;
+            while (position < source.length()
+                    && (Character.isLetterOrDigit(source.charAt(position))
+                            || source.charAt(position) == '_')) {
+                position++;
+            }
+            if (start == position || Character.isDigit(source.charAt(start))) {
+                throw error("Expected an identifier");
+            }
+
+            return source.substring(start, position);
+        }
+
+        private String parseString() {
+            final char quote = source.charAt(position++);
+            final StringBuilder value = new StringBuilder();
+            while (position < source.length() && source.charAt(position) != quote) {
+                char c = source.charAt(position++);
+                if (c == '\\' && position < source.length()) {
+                    c = source.charAt(position++);
+                    c =
+                            switch (c) {
+                                case 'n' -> '\n';
+                                case 't' -> '\t';
+                                case 'r' -> '\r';
+                                default -> c;
+                            };
+                }
+                value.append(c);
+            }
+            if (position >= source.length()) {
+                throw error("Unterminated string");
+            }
+            position++;
+
+            return value.toString();
+        }
+
+        private Object parseNumber() {
+            skipWhitespace();
+            final int start = position;
+            while (position < source.length()
+                    && (Character.isDigit(source.charAt(position))
+                            || source.charAt(position) == '.')) {
+                position++;
+            }
+
+            final String number = source.substring(start, position);
+            try {
+                return number.contains(".") ? Double.valueOf(number) : Long.valueOf(number);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number " + number);
+            }
+        }
+
+        private boolean accept(String token) {
+            skipWhitespace();
+            if (!source.startsWith(token, position)) {
+                return false;
+            }
+            // don't read the start of a longer operator, e.g. < of <= or ! of !=
+            final int end = position + token.length();
+            if ((token.equals("<") || token.equals(">") || token.equals("!"))
+                    && end < source.length()
+                    && source.charAt(end) == '=') {
+                return false;
+            }
+
+            position = end;
+            return true;
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            skipWhitespace();
+            final int end = position + keyword.length();
+            if (source.startsWith(keyword, position)
+                    && (end == source.length()
+                            || !Character.isLetterOrDigit(source.charAt(end)))) {
+                position = end;
+                return true;
+            }
+
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw error("Expected " + token);
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                    message + " at position " + position + " of expression: " + source);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+
+/**
+ * Authorization handler that can describe, as a Cerbos query plan, which resources of a kind the
+ * current principal may act on.
+ */
+public interface QueryPlanAuthorizationHandler extends AuthorizationHandler {
+
+    /**
+     * Whether {@link #planResources(String, Class)} can be called. Handlers that only forward
+     * query plans to their delegate answer for it.
+     *
+     * @return true if query plans can be requested
+     */
+    default boolean canPlanResources() {
+        return true;
+    }
+
+    /**
+     * Asks Cerbos for the filter resources must match for the current principal to perform an
+     * action on them.
+     *
+     * @param action action being checked
+     * @param resourceClass class of the resources
+     * @return query plan filter
+     * @throws IllegalStateException if the handler can't plan resources
+     */
+    PlanResourcesFilter planResources(String action, Class<?> resourceClass);
+}
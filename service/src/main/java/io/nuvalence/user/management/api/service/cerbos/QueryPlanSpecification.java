@@ -0,0 +1,489 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesExpression;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilterKind;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesOperand;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA specification built from a Cerbos query plan, so authorization is applied by the database
+ * query instead of by filtering the loaded page.
+ *
+ * <p>Supports the operators {@code and}, {@code or}, {@code not}, {@code eq}, {@code ne},
+ * {@code lt}, {@code le}, {@code gt}, {@code ge} and {@code in}, comparing resource attributes with
+ * constant values. Resource attributes are mapped to entity attributes of the same name.</p>
+ *
+ * <p>{@code exists} and {@code all} are supported over constant lists, such as the principal
+ * attributes the plan was made with: they are unrolled into one branch per element, and the
+ * comparisons between constants this leaves are folded. Over resource attributes they are
+ * rejected.</p>
+ */
+@SuppressFBWarnings(
+        value = "SE_BAD_FIELD",
+        justification = "Specifications are built per request and never serialized.")
+public final class QueryPlanSpecification<T> implements Specification<T> {
+    private static final long serialVersionUID = 4207368207136591472L;
+    private static final List<String> ATTRIBUTE_PREFIXES =
+            List.of("request.resource.attr.", "R.attr.");
+    private static final Set<String> COMPARISONS = Set.of("eq", "ne", "lt", "le", "gt", "ge");
+
+    private final PlanResourcesFilterKind kind;
+    private final PlanResourcesOperand condition;
+
+    private QueryPlanSpecification(PlanResourcesFilterKind kind, PlanResourcesOperand condition) {
+        this.kind = kind;
+        this.condition = condition;
+    }
+
+    /**
+     * Translates a Cerbos query plan filter.
+     *
+     * @param filter query plan filter
+     * @param resourceClass entity class the plan applies to
+     * @param <T> entity type
+     * @return specification matching the resources the plan allows
+     * @throws IllegalArgumentException if the plan uses an operator or attribute that can't be
+     *     expressed as a JPA predicate
+     */
+    public static <T> QueryPlanSpecification<T> of(
+            PlanResourcesFilter filter, Class<T> resourceClass) {
+        PlanResourcesFilterKind kind = filter.getKind();
+        PlanResourcesOperand condition = filter.getCondition();
+        if (kind == PlanResourcesFilterKind.KIND_CONDITIONAL) {
+            condition = expand(condition, Map.of());
+            validate(condition, resourceClass);
+            if (condition.getValue() instanceof Boolean allowed) {
+                kind =
+                        allowed
+                                ? PlanResourcesFilterKind.KIND_ALWAYS_ALLOWED
+                                : PlanResourcesFilterKind.KIND_ALWAYS_DENIED;
+            }
+        } else if (kind != PlanResourcesFilterKind.KIND_ALWAYS_ALLOWED
+                && kind != PlanResourcesFilterKind.KIND_ALWAYS_DENIED) {
+            throw new IllegalArgumentException("Unsupported query plan kind: " + kind);
+        }
+
+        return new QueryPlanSpecification<>(kind, condition);
+    }
+
+    /**
+     * Whether the plan denies every resource, regardless of its attributes.
+     *
+     * @return true if no resource can match
+     */
+    public boolean isAlwaysDenied() {
+        return kind == PlanResourcesFilterKind.KIND_ALWAYS_DENIED;
+    }
+
+    @Override
+    public Predicate toPredicate(
+            Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return switch (kind) {
+            case KIND_ALWAYS_ALLOWED -> criteriaBuilder.conjunction();
+            case KIND_ALWAYS_DENIED -> criteriaBuilder.disjunction();
+            default -> toPredicate(condition, root, criteriaBuilder);
+        };
+    }
+
+    private Predicate toPredicate(
+            PlanResourcesOperand operand, Root<T> root, CriteriaBuilder criteriaBuilder) {
+        if (operand.getVariable() != null) {
+            return criteriaBuilder.isTrue(getPath(root, operand.getVariable()).as(Boolean.class));
+        }
+
+        if (operand.getExpression() == null) {
+            return Boolean.TRUE.equals(operand.getValue())
+                    ? criteriaBuilder.conjunction()
+                    : criteriaBuilder.disjunction();
+        }
+
+        final PlanResourcesExpression expression = operand.getExpression();
+        final List<PlanResourcesOperand> operands = expression.getOperands();
+        return switch (expression.getOperator()) {
+            case "and" -> criteriaBuilder.and(toPredicates(operands, root, criteriaBuilder));
+            case "or" -> criteriaBuilder.or(toPredicates(operands, root, criteriaBuilder));
+            case "not" -> criteriaBuilder.not(toPredicate(operands.get(0), root, criteriaBuilder));
+            case "in" -> toInPredicate(operands, root, criteriaBuilder);
+            default -> toComparison(expression.getOperator(), operands, root, criteriaBuilder);
+        };
+    }
+
+    private Predicate[] toPredicates(
+            List<PlanResourcesOperand> operands, Root<T> root, CriteriaBuilder criteriaBuilder) {
+        return operands.stream()
+                .map(operand -> toPredicate(operand, root, criteriaBuilder))
+                .toArray(Predicate[]::new);
+    }
+
+    private Predicate toInPredicate(
+            List<PlanResourcesOperand> operands, Root<T> root, CriteriaBuilder criteriaBuilder) {
+        final Path<Object> path = getPath(root, operands.get(0).getVariable());
+        final Collection<?> values = (Collection<?>) operands.get(1).getValue();
+        if (values.isEmpty()) {
+            return criteriaBuilder.disjunction();
+        }
+
+        return path.in(
+                values.stream().map(value -> convert(value, path.getJavaType())).toList());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate toComparison(
+            String operator,
+            List<PlanResourcesOperand> operands,
+            Root<T> root,
+            CriteriaBuilder criteriaBuilder) {
+        final boolean variableFirst = operands.get(0).getVariable() != null;
+        final PlanResourcesOperand variable = operands.get(variableFirst ? 0 : 1);
+        final Object rawValue = operands.get(variableFirst ? 1 : 0).getValue();
+        final Path path = getPath(root, variable.getVariable());
+        final Object value = convert(rawValue, path.getJavaType());
+
+        if (value == null) {
+            return "ne".equals(operator)
+                    ? criteriaBuilder.isNotNull(path)
+                    : criteriaBuilder.isNull(path);
+        }
+
+        // "value < attribute" is "attribute > value"
+        final String normalized = variableFirst ? operator : mirror(operator);
+        return switch (normalized) {
+            case "eq" -> criteriaBuilder.equal(path, value);
+            case "ne" -> criteriaBuilder.notEqual(path, value);
+            case "lt" -> criteriaBuilder.lessThan(path, (Comparable) value);
+            case "le" -> criteriaBuilder.lessThanOrEqualTo(path, (Comparable) value);
+            case "gt" -> criteriaBuilder.greaterThan(path, (Comparable) value);
+            default -> criteriaBuilder.greaterThanOrEqualTo(path, (Comparable) value);
+        };
+    }
+
+    private static String mirror(String operator) {
+        return switch (operator) {
+            case "lt" -> "gt";
+            case "le" -> "ge";
+            case "gt" -> "lt";
+            case "ge" -> "le";
+            default -> operator;
+        };
+    }
+
+    private static <X> Path<Object> getPath(Root<X> root, String variable) {
+        Path<Object> path = null;
+        for (String attribute : getAttribute(variable).split("\\.")) {
+            path = path == null ? root.get(attribute) : path.get(attribute);
+        }
+
+        return path;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+
+        if (type == UUID.class) {
+            return UUID.fromString(value.toString());
+        }
+
+        if (type.isEnum()) {
+            return Arrays.stream(type.getEnumConstants())
+                    .filter(
+                            constant ->
+                                    ((Enum) constant).name().equalsIgnoreCase(value.toString())
+                                            || constant.toString().equals(value.toString()))
+                    .findFirst()
+                    .orElseThrow(
+                            () ->
+                                    new IllegalArgumentException(
+                                            "Unknown " + type.getSimpleName() + ": " + value));
+        }
+
+        if (value instanceof Number number) {
+            if (type == Long.class || type == long.class) {
+                return number.longValue();
+            }
+            if (type == Integer.class || type == int.class) {
+                return number.intValue();
+            }
+        }
+
+        return value;
+    }
+
+    private static PlanResourcesOperand expand(
+            PlanResourcesOperand operand, Map<String, Object> bindings) {
+        if (operand == null) {
+            return null;
+        }
+
+        if (operand.getVariable() != null) {
+            return resolve(operand, bindings);
+        }
+
+        final PlanResourcesExpression expression = operand.getExpression();
+        if (expression == null || expression.getOperands() == null) {
+            return operand;
+        }
+
+        final String operator = expression.getOperator();
+        if ("exists".equals(operator) || "all".equals(operator)) {
+            return expandQuantifier(operator, expression.getOperands(), bindings);
+        }
+
+        return fold(
+                operator,
+                expression.getOperands().stream().map(child -> expand(child, bindings)).toList());
+    }
+
+    private static PlanResourcesOperand expandQuantifier(
+            String operator, List<PlanResourcesOperand> operands, Map<String, Object> bindings) {
+        requireOperandCount(operator, operands, 2);
+        final PlanResourcesOperand collection = expand(operands.get(0), bindings);
+        if (!(collection.getValue() instanceof Collection<?> elements)) {
+            throw new IllegalArgumentException(
+                    "Operator " + operator + " is only supported over a list of values");
+        }
+
+        final PlanResourcesExpression lambda = operands.get(1).getExpression();
+        if (lambda == null
+                || !"lambda".equals(lambda.getOperator())
+                || lambda.getOperands() == null
+                || lambda.getOperands().size() != 2
+                || lambda.getOperands().get(1).getVariable() == null) {
+            throw new IllegalArgumentException("Operator " + operator + " expects a lambda");
+        }
+
+        final String name = lambda.getOperands().get(1).getVariable();
+        final List<PlanResourcesOperand> branches = new ArrayList<>();
+        for (Object element : elements) {
+            final Map<String, Object> elementBindings = new HashMap<>(bindings);
+            elementBindings.put(name, element);
+            branches.add(expand(lambda.getOperands().get(0), elementBindings));
+        }
+
+        return fold("exists".equals(operator) ? "or" : "and", branches);
+    }
+
+    private static PlanResourcesOperand resolve(
+            PlanResourcesOperand operand, Map<String, Object> bindings) {
+        final String[] path = operand.getVariable().split("\\.");
+        if (!bindings.containsKey(path[0])) {
+            return operand;
+        }
+
+        Object value = bindings.get(path[0]);
+        for (int i = 1; i < path.length; i++) {
+            if (!(value instanceof Map<?, ?> attributes)) {
+                throw new IllegalArgumentException(
+                        "Unsupported variable: " + operand.getVariable());
+            }
+            value = attributes.get(path[i]);
+        }
+
+        return constant(value);
+    }
+
+    private static PlanResourcesOperand fold(
+            String operator, List<PlanResourcesOperand> operands) {
+        if ("and".equals(operator) || "or".equals(operator)) {
+            // true decides an "or", false decides an "and"
+            final boolean deciding = "or".equals(operator);
+            final List<PlanResourcesOperand> remaining = new ArrayList<>();
+            for (PlanResourcesOperand operand : operands) {
+                if (!isConstant(operand) || !(operand.getValue() instanceof Boolean value)) {
+                    remaining.add(operand);
+                } else if (value == deciding) {
+                    return constant(deciding);
+                }
+            }
+
+            if (remaining.isEmpty()) {
+                return constant(!deciding);
+            }
+            return remaining.size() == 1 ? remaining.get(0) : operation(operator, remaining);
+        }
+
+        if (!operands.stream().allMatch(QueryPlanSpecification::isConstant)) {
+            return operation(operator, operands);
+        }
+
+        if ("not".equals(operator)
+                && operands.size() == 1
+                && operands.get(0).getValue() instanceof Boolean value) {
+            return constant(!value);
+        }
+
+        if ("in".equals(operator)
+                && operands.size() == 2
+                && operands.get(1).getValue() instanceof Collection<?> values) {
+            final Object value = operands.get(0).getValue();
+            return constant(values.stream().anyMatch(element -> isEqual(value, element)));
+        }
+
+        if (COMPARISONS.contains(operator) && operands.size() == 2) {
+            return constant(
+                    compare(operator, operands.get(0).getValue(), operands.get(1).getValue()));
+        }
+
+        return operation(operator, operands);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean compare(String operator, Object left, Object right) {
+        if ("eq".equals(operator) || "ne".equals(operator)) {
+            return "eq".equals(operator) == isEqual(left, right);
+        }
+
+        final int comparison;
+        if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            comparison = Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+        } else if (left instanceof Comparable
+                && right != null
+                && left.getClass() == right.getClass()) {
+            comparison = ((Comparable) left).compareTo(right);
+        } else {
+            throw new IllegalArgumentException("Can't compare " + left + " with " + right);
+        }
+
+        return switch (operator) {
+            case "lt" -> comparison < 0;
+            case "le" -> comparison <= 0;
+            case "gt" -> comparison > 0;
+            default -> comparison >= 0;
+        };
+    }
+
+    private static boolean isEqual(Object left, Object right) {
+        if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue()) == 0;
+        }
+        return Objects.equals(left, right);
+    }
+
+    private static boolean isConstant(PlanResourcesOperand operand) {
+        return operand.getVariable() == null && operand.getExpression() == null;
+    }
+
+    private static PlanResourcesOperand constant(Object value) {
+        return PlanResourcesOperand.builder().value(value).build();
+    }
+
+    private static PlanResourcesOperand operation(
+            String operator, List<PlanResourcesOperand> operands) {
+        return PlanResourcesOperand.builder()
+                .expression(
+                        PlanResourcesExpression.builder()
+                                .operator(operator)
+                                .operands(operands)
+                                .build())
+                .build();
+    }
+
+    private static void validate(PlanResourcesOperand operand, Class<?> resourceClass) {
+        if (operand == null) {
+            throw new IllegalArgumentException("Conditional query plan has no condition");
+        }
+
+        if (operand.getVariable() != null) {
+            validateAttribute(operand.getVariable(), resourceClass);
+            return;
+        }
+
+        if (operand.getExpression() == null) {
+            if (!(operand.getValue() instanceof Boolean)) {
+                throw new IllegalArgumentException("Unsupported condition: " + operand.getValue());
+            }
+            return;
+        }
+
+        final String operator = operand.getExpression().getOperator();
+        final List<PlanResourcesOperand> operands = operand.getExpression().getOperands();
+        if (operands == null || operands.isEmpty()) {
+            throw new IllegalArgumentException("Operator without operands: " + operator);
+        }
+
+        switch (operator == null ? "" : operator) {
+            case "and", "or" -> operands.forEach(child -> validate(child, resourceClass));
+            case "not" -> {
+                requireOperandCount(operator, operands, 1);
+                validate(operands.get(0), resourceClass);
+            }
+            case "in" -> {
+                requireOperandCount(operator, operands, 2);
+                requireVariable(operands.get(0), resourceClass);
+                if (!(operands.get(1).getValue() instanceof Collection)) {
+                    throw new IllegalArgumentException("Operator in requires a list of values");
+                }
+            }
+            default -> {
+                if (!COMPARISONS.contains(operator)) {
+                    throw new IllegalArgumentException("Unsupported operator: " + operator);
+                }
+                requireOperandCount(operator, operands, 2);
+                final boolean variableFirst = operands.get(0).getVariable() != null;
+                requireVariable(operands.get(variableFirst ? 0 : 1), resourceClass);
+                final PlanResourcesOperand value = operands.get(variableFirst ? 1 : 0);
+                if (value.getVariable() != null || value.getExpression() != null) {
+                    throw new IllegalArgumentException(
+                            "Operator " + operator + " must compare an attribute with a value");
+                }
+            }
+        }
+    }
+
+    private static void requireOperandCount(
+            String operator, List<PlanResourcesOperand> operands, int count) {
+        if (operands.size() != count) {
+            throw new IllegalArgumentException(
+                    "Operator " + operator + " expects " + count + " operands");
+        }
+    }
+
+    private static void requireVariable(PlanResourcesOperand operand, Class<?> resourceClass) {
+        if (operand.getVariable() == null) {
+            throw new IllegalArgumentException("Expected a resource attribute operand");
+        }
+        validateAttribute(operand.getVariable(), resourceClass);
+    }
+
+    private static void validateAttribute(String variable, Class<?> resourceClass) {
+        Class<?> type = resourceClass;
+        for (String attribute : getAttribute(variable).split("\\.")) {
+            final Field field = ReflectionUtils.findField(type, attribute);
+            if (field == null) {
+                throw new IllegalArgumentException(
+                        "Unknown attribute " + attribute + " on " + type.getSimpleName());
+            }
+            type = field.getType();
+        }
+    }
+
+    private static String getAttribute(String variable) {
+        return ATTRIBUTE_PREFIXES.stream()
+                .filter(variable::startsWith)
+                .map(prefix -> variable.substring(prefix.length()))
+                .findFirst()
+                .orElseThrow(
+                        () -> new IllegalArgumentException("Unsupported variable: " + variable));
+    }
+}
@@ -0,0 +1,64 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads the attributes Cerbos policies use from a resource, and nothing else.
+ *
+ * @param <T> resource type
+ */
+public final class ResourceProjection<T> {
+    private final String[] names;
+    private final List<Function<T, Object>> extractors;
+
+    /**
+     * Creates a projection onto the given attributes.
+     *
+     * @param kind Cerbos resource kind, for error reporting
+     * @param attributes attributes the policies read
+     * @param extractors how to read each attribute the resource type supports
+     * @throws IllegalStateException if an attribute has no extractor
+     */
+    ResourceProjection(
+            String kind, Set<String> attributes, Map<String, Function<T, Object>> extractors) {
+        this.names = attributes.toArray(String[]::new);
+        this.extractors =
+                attributes.stream()
+                        .map(
+                                attribute -> {
+                                    final Function<T, Object> extractor = extractors.get(attribute);
+                                    if (extractor == null) {
+                                        throw new IllegalStateException(
+                                                "Cerbos policies read "
+                                                        + kind
+                                                        + " attribute "
+                                                        + attribute
+                                                        + ", which its translator doesn't provide");
+                                    }
+                                    return extractor;
+                                })
+                        .toList();
+    }
+
+    /**
+     * Reads the attributes of a resource. Attributes without a value are left out.
+     *
+     * @param resource resource instance
+     * @return attributes by name
+     */
+    public Map<String, Object> project(T resource) {
+        final Map<String, Object> attributes = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            final Object value = extractors.get(i).apply(resource);
+            if (value != null) {
+                attributes.put(names[i], value);
+            }
+        }
+
+        return attributes;
+    }
+}
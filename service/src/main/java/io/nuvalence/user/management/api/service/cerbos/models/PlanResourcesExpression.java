@@ -0,0 +1,25 @@
+package io.nuvalence.user.management.api.service.cerbos.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Generated;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * An operator applied to a list of operands.
+ */
+@Generated
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@Builder
+@Jacksonized
+public class PlanResourcesExpression {
+    private String operator;
+
+    private List<PlanResourcesOperand> operands;
+}
@@ -0,0 +1,23 @@
+package io.nuvalence.user.management.api.service.cerbos.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Generated;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Filter the resources must match, with the known parts of the policy conditions evaluated.
+ */
+@Generated
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@Builder
+@Jacksonized
+public class PlanResourcesFilter {
+    private PlanResourcesFilterKind kind;
+
+    private PlanResourcesOperand condition;
+}
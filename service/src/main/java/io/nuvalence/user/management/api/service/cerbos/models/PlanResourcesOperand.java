@@ -0,0 +1,25 @@
+package io.nuvalence.user.management.api.service.cerbos.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Generated;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * A query plan operand. Exactly one of value, variable or expression is set.
+ */
+@Generated
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@Builder
+@Jacksonized
+public class PlanResourcesOperand {
+    private Object value;
+
+    private String variable;
+
+    private PlanResourcesExpression expression;
+}
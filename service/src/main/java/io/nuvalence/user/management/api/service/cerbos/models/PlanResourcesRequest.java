@@ -0,0 +1,31 @@
+package io.nuvalence.user.management.api.service.cerbos.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Generated;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Request to produce a query plan for the resources a principal may act on.
+ */
+@Generated
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@Builder
+@Jacksonized
+public class PlanResourcesRequest {
+    private String requestId;
+
+    private String action;
+
+    private Principal principal;
+
+    private PlanResourcesResource resource;
+
+    private Boolean includeMeta;
+
+    private RequestAuxData auxData;
+}
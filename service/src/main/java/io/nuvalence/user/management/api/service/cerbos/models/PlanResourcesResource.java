@@ -0,0 +1,29 @@
+package io.nuvalence.user.management.api.service.cerbos.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Generated;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Map;
+
+/**
+ * Kind and known attributes of the resources to plan for.
+ */
+@Generated
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@Builder
+@Jacksonized
+public class PlanResourcesResource {
+    private String kind;
+
+    private String policyVersion;
+
+    private Map<String, Object> attr;
+
+    private String scope;
+}
@@ -0,0 +1,29 @@
+package io.nuvalence.user.management.api.service.cerbos.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Generated;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Query plan for the resources a principal may act on.
+ */
+@Generated
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Setter
+@Builder
+@Jacksonized
+public class PlanResourcesResponse {
+    private String requestId;
+
+    private String action;
+
+    private String resourceKind;
+
+    private String policyVersion;
+
+    private PlanResourcesFilter filter;
+}
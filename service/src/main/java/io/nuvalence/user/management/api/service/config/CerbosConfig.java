@@ -2,17 +2,32 @@ package io.nuvalence.user.management.api.service.config;
 
 import dev.cerbos.sdk.CerbosBlockingClient;
 import dev.cerbos.sdk.CerbosClientBuilder;
-import io.nuvalence.auth.access.AuthorizationHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.nuvalence.auth.access.cerbos.CerbosAuthorizationHandler;
-import io.nuvalence.user.management.api.service.service.EmployerProfileLinkService;
-import io.nuvalence.user.management.api.service.service.IndividualProfileLinkService;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
+import io.nuvalence.user.management.api.service.cerbos.CachingAuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.CerbosClientPool;
+import io.nuvalence.user.management.api.service.cerbos.CerbosHttpMetricsInterceptor;
+import io.nuvalence.user.management.api.service.cerbos.CerbosResourceAttributes;
+import io.nuvalence.user.management.api.service.cerbos.CerbosResourceSetAuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.EmbeddedAuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.EmbeddedPolicyEngine;
+import io.nuvalence.user.management.api.service.cerbos.InstrumentedAuthorizationHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Configures CerbosAuthorizationHandler.
@@ -21,28 +36,116 @@ import org.springframework.context.annotation.ScopedProxyMode;
 @RequiredArgsConstructor
 @Profile("!test")
 public class CerbosConfig {
-    private final IndividualProfileLinkService individualProfileLinkService;
-    private final EmployerProfileLinkService employerProfileLinkService;
+    private final CerbosPrincipalAttributeProviderImpl principalAttributeProvider;
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+    private final CerbosResourceAttributes cerbosResourceAttributes;
 
     @Value("${cerbos.uri}")
     private String cerbosUri;
 
+    @Value("${cerbos.http-uri}")
+    private String cerbosHttpUri;
+
+    @Value("${cerbos.client.pool-size:4}")
+    private int poolSize;
+
+    @Value("${cerbos.client.deadline:2s}")
+    private Duration deadline;
+
     /**
-     * Initializes a CerbosAuthorizationHandler as a singleton bean.
+     * Builds the application wide pool of Cerbos clients. Channels are created once and reused by
+     * every request. The pool has no destroy method: the SDK builds each client's channel
+     * internally and exposes neither the channel nor a way to shut it down.
      *
-     * @return AuthorizationHandler
+     * @param meterRegistry registry for the pool metrics
+     * @return CerbosClientPool
      * @throws CerbosClientBuilder.InvalidClientConfigurationException if cerbos URI is invalid
      */
     @Bean
-    @Scope(value = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
-    public AuthorizationHandler getAuthorizationHandler()
+    public CerbosClientPool cerbosClientPool(MeterRegistry meterRegistry)
             throws CerbosClientBuilder.InvalidClientConfigurationException {
-        final CerbosBlockingClient cerbosClient =
-                new CerbosClientBuilder(cerbosUri).withPlaintext().buildBlockingClient();
+        final List<CerbosBlockingClient> clients = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            clients.add(
+                    new CerbosClientBuilder(cerbosUri)
+                            .withPlaintext()
+                            .withTimeout(deadline)
+                            .buildBlockingClient());
+        }
+
+        return new CerbosClientPool(clients, meterRegistry);
+    }
+
+    /**
+     * Builds the HTTP client used for batched Cerbos checks and query plans.
+     *
+     * @param restTemplateBuilder Spring Boot configured builder
+     * @param meterRegistry registry for the HTTP API metrics
+     * @return RestTemplate rooted at the Cerbos HTTP API
+     */
+    @Bean
+    public RestTemplate cerbosRestTemplate(
+            RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry) {
+        return restTemplateBuilder
+                .rootUri(cerbosHttpUri)
+                .additionalInterceptors(new CerbosHttpMetricsInterceptor(meterRegistry))
+                .setConnectTimeout(deadline)
+                .setReadTimeout(deadline)
+                .build();
+    }
+
+    /**
+     * Compiles the bundled policies for in process evaluation, when enabled in place of the Cerbos
+     * sidecar. It isn't offered as a deployment setting: the decisions it is tested against are
+     * written by hand until they are recorded from a sidecar with
+     * {@code src/test/resources/cerbos/record-expected-decisions.sh}, so only tests and benchmarks
+     * set {@code cerbos.embedded.enabled}.
+     *
+     * @return EmbeddedPolicyEngine
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cerbos.embedded.enabled", havingValue = "true")
+    public EmbeddedPolicyEngine embeddedPolicyEngine() {
+        return new EmbeddedPolicyEngine();
+    }
+
+    /**
+     * Initializes a request scoped CerbosAuthorizationHandler backed by a pooled client, or by the
+     * embedded policy engine when enabled, with decisions served from the shared decision cache
+     * where possible.
+     *
+     * @param cerbosClientPool shared Cerbos client pool
+     * @param cerbosRestTemplate HTTP client for batched checks
+     * @param embeddedPolicyEngine in process policy engine, if enabled
+     * @return AuthorizationHandler
+     */
+    @Bean
+    @Scope(value = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
+    public CachingAuthorizationHandler getAuthorizationHandler(
+            CerbosClientPool cerbosClientPool,
+            RestTemplate cerbosRestTemplate,
+            ObjectProvider<EmbeddedPolicyEngine> embeddedPolicyEngine) {
+        final EmbeddedPolicyEngine engine = embeddedPolicyEngine.getIfAvailable();
+        if (engine != null) {
+            return new CachingAuthorizationHandler(
+                    new EmbeddedAuthorizationHandler(
+                            engine, principalAttributeProvider, cerbosResourceAttributes),
+                    authorizationDecisionCache,
+                    cerbosResourceAttributes);
+        }
+
+        final CerbosClientPool.PooledClient client = cerbosClientPool.acquire();
 
-        return new CerbosAuthorizationHandler(
-                cerbosClient,
-                new CerbosPrincipalAttributeProviderImpl(
-                        individualProfileLinkService, employerProfileLinkService));
+        return new CachingAuthorizationHandler(
+                new CerbosResourceSetAuthorizationHandler(
+                        new InstrumentedAuthorizationHandler(
+                                new CerbosAuthorizationHandler(
+                                        client.getClient(), principalAttributeProvider),
+                                client),
+                        cerbosRestTemplate,
+                        principalAttributeProvider,
+                        cerbosResourceAttributes),
+                authorizationDecisionCache,
+                cerbosResourceAttributes);
     }
 }
@@ -2,19 +2,12 @@ package io.nuvalence.user.management.api.service.config;
 
 import io.nuvalence.auth.access.cerbos.CerbosPrincipalAttributesProvider;
 import io.nuvalence.auth.util.SecurityContextUtility;
-import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
-import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
-import io.nuvalence.user.management.api.service.enums.ProfileType;
-import io.nuvalence.user.management.api.service.models.AccessProfileDto;
-import io.nuvalence.user.management.api.service.service.EmployerProfileLinkService;
-import io.nuvalence.user.management.api.service.service.IndividualProfileLinkService;
+import io.nuvalence.user.management.api.service.cerbos.AccessProfileCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,8 +15,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CerbosPrincipalAttributeProviderImpl implements CerbosPrincipalAttributesProvider {
 
-    private final IndividualProfileLinkService individualUserLinkService;
-    private final EmployerProfileLinkService employerUserLinkService;
+    private final AccessProfileCache accessProfileCache;
 
     @Override
     public Map<String, Object> getAttributes(Authentication principal) {
@@ -31,44 +23,10 @@ public class CerbosPrincipalAttributeProviderImpl implements CerbosPrincipalAttr
 
         Map<String, Object> attributes = new HashMap<>();
         if (id != null) {
-            List<AccessProfileDto> accessProfiles = new ArrayList<>();
-            accessProfiles.addAll(
-                    createAccessProfilesFromIndividualLinks(
-                            individualUserLinkService.getIndividualLinksByUserId(
-                                    UUID.fromString(id))));
-            accessProfiles.addAll(
-                    createAccessProfilesFromEmployerLinks(
-                            employerUserLinkService.getEmployerLinksByUserId(UUID.fromString(id))));
-
-            attributes.put("accessProfiles", accessProfiles);
+            attributes.put(
+                    "accessProfiles", accessProfileCache.getAccessProfiles(UUID.fromString(id)));
         }
 
         return attributes;
     }
-
-    private List<AccessProfileDto> createAccessProfilesFromIndividualLinks(
-            List<IndividualProfileLink> links) {
-        return links.stream()
-                .map(
-                        link ->
-                                AccessProfileDto.builder()
-                                        .id(link.getProfile().getId())
-                                        .type(ProfileType.INDIVIDUAL)
-                                        .level(link.getProfileAccessLevel())
-                                        .build())
-                .toList();
-    }
-
-    private List<AccessProfileDto> createAccessProfilesFromEmployerLinks(
-            List<EmployerProfileLink> links) {
-        return links.stream()
-                .map(
-                        link ->
-                                AccessProfileDto.builder()
-                                        .id(link.getProfile().getId())
-                                        .type(ProfileType.EMPLOYER)
-                                        .level(link.getProfileAccessLevel())
-                                        .build())
-                .toList();
-    }
 }
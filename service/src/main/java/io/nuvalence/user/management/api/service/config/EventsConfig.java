@@ -7,13 +7,15 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.IntegrationComponentScan;
 import org.springframework.integration.config.EnableIntegration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * Allows recognition of beans in dsgov-events lib.
+ * Allows recognition of beans in dsgov-events lib, and schedules the outbox dispatcher.
  */
 @Configuration
 @EnableIntegration
 @ComponentScan(basePackages = "io.nuvalence.events")
 @IntegrationComponentScan(basePackages = "io.nuvalence.events.event.service")
 @EnableConfigurationProperties({SubscriberProperties.class, PublisherProperties.class})
+@EnableScheduling
 public class EventsConfig {}
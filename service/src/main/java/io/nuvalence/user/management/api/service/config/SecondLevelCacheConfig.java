@@ -0,0 +1,115 @@
+package io.nuvalence.user.management.api.service.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Configures the Hibernate second-level cache of the profiles, their addresses and their
+ * collections, in Caffeine backed JCache regions.
+ *
+ * <p>Every region has to be configured with its maximum size, Hibernate fails to start on a cached
+ * entity or collection whose region isn't. The statistics of each region are published to the
+ * meter registry.</p>
+ *
+ * <p>The regions are kept per instance, so a replica may serve a profile another replica has
+ * changed until the entry expires. Updates read the profile from the database instead, and the
+ * profile's version keeps an update made from a stale copy from overwriting a newer one.</p>
+ *
+ * <p>Each application context gets a cache manager of its own, closed with the context, so that
+ * contexts living side by side, as they do in tests, neither share nor close each other's
+ * regions.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+    static final String CACHE_MANAGER_URI = "user-management-second-level-cache";
+
+    /**
+     * Creates the cache manager holding the configured regions.
+     *
+     * @param properties second-level cache settings
+     * @param meterRegistry registry the cache statistics are published to
+     * @return CacheManager
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(
+            value = "persistence.second-level-cache.enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public CacheManager secondLevelCacheManager(
+            SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+        return createCacheManager(properties, meterRegistry);
+    }
+
+    /**
+     * Enables the second-level cache with the configured regions, or disables it.
+     *
+     * @param properties second-level cache settings
+     * @param secondLevelCacheManager cache manager of the regions, absent when disabled
+     * @return HibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            SecondLevelCacheProperties properties,
+            ObjectProvider<CacheManager> secondLevelCacheManager) {
+        if (!properties.isEnabled()) {
+            // hibernate-jcache on the classpath would otherwise be picked up as the region factory
+            return hibernateProperties ->
+                    hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+        }
+
+        final CacheManager cacheManager = secondLevelCacheManager.getObject();
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            // locations added or moved through the address side of the association
+            hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    static CacheManager createCacheManager(
+            SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+        // the provider hands out the same manager for the same URI, and with it its regions
+        final CacheManager cacheManager =
+                Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                        .getCacheManager(
+                                URI.create(CACHE_MANAGER_URI + "/" + UUID.randomUUID()),
+                                SecondLevelCacheConfig.class.getClassLoader());
+
+        properties
+                .getRegions()
+                .forEach(
+                        (region, maxSize) -> {
+                            final CaffeineConfiguration<Object, Object> configuration =
+                                    new CaffeineConfiguration<>();
+                            // Hibernate caches its own disassembled copy of the state
+                            configuration.setStoreByValue(false);
+                            configuration.setStatisticsEnabled(true);
+                            configuration.setMaximumSize(OptionalLong.of(maxSize));
+                            configuration.setExpireAfterWrite(
+                                    OptionalLong.of(properties.getTtl().toNanos()));
+
+                            JCacheMetrics.monitor(
+                                    meterRegistry, cacheManager.createCache(region, configuration));
+                        });
+        return cacheManager;
+    }
+}
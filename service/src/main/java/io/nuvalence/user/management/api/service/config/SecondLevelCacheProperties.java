@@ -0,0 +1,30 @@
+package io.nuvalence.user.management.api.service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the Hibernate second-level cache.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "persistence.second-level-cache")
+public class SecondLevelCacheProperties {
+    private boolean enabled = true;
+
+    /**
+     * How long an entry may be served after it was cached. Every instance of the service has its
+     * own cache, so this bounds how long a change made through another instance can go unseen.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of entries of each cache region, by region name.
+     */
+    private Map<String, Long> regions = new HashMap<>();
+}
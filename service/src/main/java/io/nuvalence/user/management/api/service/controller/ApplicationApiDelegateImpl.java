@@ -2,19 +2,27 @@ package io.nuvalence.user.management.api.service.controller;
 
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.events.event.dto.ApplicationRole;
+import io.nuvalence.user.management.api.service.cerbos.BatchAuthorizationFilter;
 import io.nuvalence.user.management.api.service.entity.PermissionEntity;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.generated.controllers.ApplicationApiDelegate;
 import io.nuvalence.user.management.api.service.generated.models.ApplicationRolesDTO;
 import io.nuvalence.user.management.api.service.generated.models.PermissionDTO;
+import io.nuvalence.user.management.api.service.generated.models.UserPageDTO;
+import io.nuvalence.user.management.api.service.mapper.PagingMetadataMapper;
 import io.nuvalence.user.management.api.service.mapper.PermissionEntityMapper;
+import io.nuvalence.user.management.api.service.mapper.UserEntityMapper;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.service.ApplicationService;
 import io.nuvalence.user.management.api.service.service.PermissionService;
+import io.nuvalence.user.management.api.service.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -28,6 +36,10 @@ public class ApplicationApiDelegateImpl implements ApplicationApiDelegate {
     private final PermissionService permissionService;
     private final ApplicationService applicationService;
     private final AuthorizationHandler authorizationHandler;
+    private final UserService userService;
+    private final BatchAuthorizationFilter batchAuthorizationFilter;
+    private final PagingMetadataMapper pagingMetadataMapper;
+    private final UserEntityMapper userMapper;
 
     @Override
     public ResponseEntity<List<PermissionDTO>> getActiveApplicationRoles() {
@@ -47,6 +59,25 @@ public class ApplicationApiDelegateImpl implements ApplicationApiDelegate {
                                 .toList());
     }
 
+    @Override
+    @Transactional
+    public ResponseEntity<UserPageDTO> getApplicationRoleUsers(
+            String applicationRole, String pageToken, Integer pageSize) {
+        KeysetSlice<UserEntity> users =
+                userService.getUsersByApplicationRole(applicationRole, pageToken, pageSize);
+
+        UserPageDTO userPageDTO = new UserPageDTO();
+        userPageDTO.setUsers(
+                batchAuthorizationFilter
+                        .filterAllowed("view", UserEntity.class, users.getContent())
+                        .stream()
+                        .map(userMapper::entityToModel)
+                        .toList());
+        userPageDTO.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(users));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(userPageDTO);
+    }
+
     @Override
     public ResponseEntity<Void> updateApplicationRoles(ApplicationRolesDTO applicationRoles) {
         if (!authorizationHandler.isAllowed("register", RoleEntity.class)) {
@@ -1,6 +1,7 @@
 package io.nuvalence.user.management.api.service.controller;
 
 import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.BatchAuthorizationFilter;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.ApplicationEntity;
 import io.nuvalence.user.management.api.service.generated.controllers.ApplicationsApiDelegate;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,12 +26,15 @@ public class ApplicationsApiDelegateImpl implements ApplicationsApiDelegate {
     private static final ApplicationEntityMapper mapper = ApplicationEntityMapper.INSTANCE;
     private final ApplicationService applicationService;
     private final AuthorizationHandler authorizationHandler;
+    private final BatchAuthorizationFilter batchAuthorizationFilter;
 
     @Override
     public ResponseEntity<List<ApplicationDTO>> getApplications() {
         List<ApplicationDTO> applications =
-                applicationService.getApplications().stream()
-                        .filter(authorizationHandler.getAuthFilter("view", ApplicationEntity.class))
+                batchAuthorizationFilter
+                        .filterAllowed(
+                                "view", ApplicationEntity.class, applicationService.getApplications())
+                        .stream()
                         .map(mapper::applicationEntityToApplicationDto)
                         .toList();
 
@@ -37,6 +42,7 @@ public class ApplicationsApiDelegateImpl implements ApplicationsApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<ApplicationDTO> getApplicationById(UUID id) {
         ApplicationEntity application =
                 applicationService
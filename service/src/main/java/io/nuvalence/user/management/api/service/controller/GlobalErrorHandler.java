@@ -9,6 +9,7 @@ import jakarta.ws.rs.NotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -124,6 +125,21 @@ public class GlobalErrorHandler {
         return ResponseEntity.status(409).body(new ErrorResponse(e.getMessage()));
     }
 
+    /**
+     * Return a conflict if a resource was changed by another request since it was read.
+     * @param e Optimistic locking failure.
+     * @return Conflict.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleException(OptimisticLockingFailureException e) {
+        log.warn("Concurrent update: ", e);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(
+                        new ErrorResponse(
+                                "The resource was changed by another request, read it again and"
+                                        + " retry."));
+    }
+
     /**
      * Handles business logic.
      *
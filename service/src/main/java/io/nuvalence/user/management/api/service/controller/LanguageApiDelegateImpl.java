@@ -1,6 +1,6 @@
 package io.nuvalence.user.management.api.service.controller;
 
-import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.BatchAuthorizationFilter;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.LanguageEntity;
 import io.nuvalence.user.management.api.service.generated.controllers.LanguagesApiDelegate;
@@ -23,7 +23,7 @@ public class LanguageApiDelegateImpl implements LanguagesApiDelegate {
 
     private final LanguageService languageService;
 
-    private final AuthorizationHandler authorizationHandler;
+    private final BatchAuthorizationFilter batchAuthorizationFilter;
 
     @Override
     public ResponseEntity<List<LanguageDTO>> getSupportedLanguages() {
@@ -34,8 +34,9 @@ public class LanguageApiDelegateImpl implements LanguagesApiDelegate {
         }
 
         List<LanguageDTO> mappedLanguages =
-                supportedLanguages.stream()
-                        .filter(authorizationHandler.getAuthFilter("view", LanguageEntity.class))
+                batchAuthorizationFilter
+                        .filterAllowed("view", LanguageEntity.class, supportedLanguages)
+                        .stream()
                         .map(LanguageEntityMapper.INSTANCE::languageEntityToLanguageDto)
                         .toList();
 
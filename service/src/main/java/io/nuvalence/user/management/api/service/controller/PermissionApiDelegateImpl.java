@@ -1,6 +1,7 @@
 package io.nuvalence.user.management.api.service.controller;
 
 import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.BatchAuthorizationFilter;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.PermissionEntity;
 import io.nuvalence.user.management.api.service.generated.controllers.PermissionApiDelegate;
@@ -14,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
@@ -32,6 +34,7 @@ public class PermissionApiDelegateImpl implements PermissionApiDelegate {
             "You do not have permission to modify this resource";
     private final PermissionService permissionService;
     private final AuthorizationHandler authorizationHandler;
+    private final BatchAuthorizationFilter batchAuthorizationFilter;
 
     @Override
     public Optional<NativeWebRequest> getRequest() {
@@ -63,9 +66,8 @@ public class PermissionApiDelegateImpl implements PermissionApiDelegate {
     @Override
     public ResponseEntity<List<PermissionDTO>> getAllPermissions() {
         List<PermissionEntity> permissions =
-                permissionService.getAllPermissions().stream()
-                        .filter(authorizationHandler.getAuthFilter("view", PermissionEntity.class))
-                        .toList();
+                batchAuthorizationFilter.filterAllowed(
+                        "view", PermissionEntity.class, permissionService.getAllPermissions());
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
@@ -84,6 +86,7 @@ public class PermissionApiDelegateImpl implements PermissionApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<PermissionDTO> getPermissionById(UUID id) {
         PermissionEntity permission =
                 permissionService
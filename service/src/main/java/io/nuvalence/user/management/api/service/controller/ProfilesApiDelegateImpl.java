@@ -7,6 +7,9 @@ import io.nuvalence.user.management.api.service.audit.profile.EmployerProfileDat
 import io.nuvalence.user.management.api.service.audit.profile.EmployerProfileUserAccessLevelChangedAuditHandler;
 import io.nuvalence.user.management.api.service.audit.profile.IndividualProfileDataChangedAuditHandler;
 import io.nuvalence.user.management.api.service.audit.profile.IndividualProfileUserAccessLevelChangedAuditHandler;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationSpecifications;
+import io.nuvalence.user.management.api.service.cerbos.MultiActionAuthorization;
+import io.nuvalence.user.management.api.service.cerbos.QueryPlanSpecification;
 import io.nuvalence.user.management.api.service.config.exception.ConflictException;
 import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
 import io.nuvalence.user.management.api.service.config.exception.UnexpectedException;
@@ -18,6 +21,7 @@ import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile
 import io.nuvalence.user.management.api.service.entity.profile.Profile;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.enums.UserType;
 import io.nuvalence.user.management.api.service.generated.controllers.ProfilesApiDelegate;
@@ -48,6 +52,7 @@ import io.nuvalence.user.management.api.service.models.EmployerFilters;
 import io.nuvalence.user.management.api.service.models.EmployerProfileLinkFilters;
 import io.nuvalence.user.management.api.service.models.IndividualFilters;
 import io.nuvalence.user.management.api.service.models.IndividualProfileLinksFilters;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.models.ProfileInvitationFilters;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.service.AuditEventService;
@@ -65,15 +70,18 @@ import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -81,6 +89,8 @@ import java.util.UUID;
 @Slf4j
 public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     private final AuthorizationHandler authorizationHandler;
+    private final AuthorizationSpecifications authorizationSpecifications;
+    private final MultiActionAuthorization multiActionAuthorization;
     private final IndividualProfileMapper individualMapper;
     private final PagingMetadataMapper pagingMetadataMapper;
     private final RequestContextTimestamp requestContextTimestamp;
@@ -122,7 +132,10 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
 
     private static final String DELETE_LINK_ACTION = "delete-link";
 
+    private static final String KEYSET_PAGINATION = "keyset";
+
     @Override
+    @Transactional
     public ResponseEntity<EmployerProfileResponseModel> postEmployerProfile(
             EmployerProfileCreateModel employerProfileCreateModel) {
         if (!authorizationHandler.isAllowed(CREATE_ACTION, EmployerProfile.class)) {
@@ -150,28 +163,35 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
-        if (!authorizationHandler.isAllowed(LIST_ACTION, EmployerProfile.class)) {
-            throw new ForbiddenException();
+            Integer pageSize,
+            String pagination,
+            String pageToken,
+            String countMode) {
+        final CountMode mode = CountMode.fromText(countMode);
+        final EmployerFilters filters =
+                new EmployerFilters(
+                        sortBy, sortOrder, pageNumber, pageSize, fein, name, type, industry);
+
+        final Specification<EmployerProfile> authorizationSpecification =
+                getListingSpecification(EmployerProfile.class);
+
+        if (KEYSET_PAGINATION.equals(pagination)) {
+            final KeysetSlice<EmployerProfile> results =
+                    employerService.getEmployersByFilters(
+                            filters, authorizationSpecification, pageToken);
+
+            PageEmployerProfileResponseModel response = new PageEmployerProfileResponseModel();
+            response.items(toEmployerModels(results.getContent()));
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+            return ResponseEntity.status(200).body(response);
         }
 
-        Page<EmployerProfileResponseModel> results =
-                employerService
-                        .getEmployersByFilters(
-                                new EmployerFilters(
-                                        sortBy,
-                                        sortOrder,
-                                        pageNumber,
-                                        pageSize,
-                                        fein,
-                                        name,
-                                        type,
-                                        industry))
-                        .map(employerMapper::employerToResponseModel);
+        final Slice<EmployerProfile> results =
+                employerService.getEmployersByFilters(filters, authorizationSpecification, mode);
 
         PageEmployerProfileResponseModel response = new PageEmployerProfileResponseModel();
-        response.items(results.toList());
-        response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        response.items(toEmployerModels(results.getContent()));
+        response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results, mode));
 
         return ResponseEntity.status(200).body(response);
     }
@@ -192,19 +212,14 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<EmployerProfileResponseModel> updateEmployerProfile(
             UUID profileId, EmployerProfileUpdateModel employerProfileUpdateModel) {
-        Optional<EmployerProfile> optionalEmployer = employerService.getEmployerById(profileId);
-        if (optionalEmployer.isEmpty()
-                || !authorizationHandler.isAllowedForInstance(
-                        VIEW_ACTION, optionalEmployer.get())) {
-            throw new NotFoundException(EMPLOYER_PROFILE_NOT_FOUND_MSG);
-        }
-        EmployerProfile existingEmployer = optionalEmployer.get();
-
-        if (!authorizationHandler.isAllowedForInstance(UPDATE_ACTION, existingEmployer)) {
-            throw new ForbiddenException();
-        }
+        EmployerProfile existingEmployer =
+                employerService
+                        .getEmployerForUpdate(profileId)
+                        .orElseThrow(() -> new NotFoundException(EMPLOYER_PROFILE_NOT_FOUND_MSG));
+        validateAccess(existingEmployer, UPDATE_ACTION, EMPLOYER_PROFILE_NOT_FOUND_MSG);
 
         try {
             final EmployerProfile savedEmployer =
@@ -222,6 +237,8 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
                                                 existingEmployer.getCreatedBy());
                                         employerToBeSaved.setCreatedTimestamp(
                                                 existingEmployer.getCreatedTimestamp());
+                                        employerToBeSaved.setVersion(
+                                                existingEmployer.getVersion());
 
                                         employerService.saveEmployer(employerToBeSaved);
 
@@ -238,12 +255,52 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
 
             return ResponseEntity.status(200)
                     .body(employerMapper.employerToResponseModel(savedEmployer));
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new UnexpectedException(e);
         }
     }
 
     @Override
+    @Transactional
+    public ResponseEntity<EmployerProfileResponseModel> patchEmployerProfile(
+            UUID profileId, Map<String, Object> requestBody) {
+        EmployerProfile existingEmployer =
+                employerService
+                        .getEmployerForUpdate(profileId)
+                        .orElseThrow(() -> new NotFoundException(EMPLOYER_PROFILE_NOT_FOUND_MSG));
+        validateAccess(existingEmployer, UPDATE_ACTION, EMPLOYER_PROFILE_NOT_FOUND_MSG);
+
+        try {
+            // the patched profile is the one the update was flushed from, it isn't read again
+            final EmployerProfile patchedEmployer =
+                    AuditableAction.builder(EmployerProfile.class)
+                            .auditHandler(
+                                    new EmployerProfileDataChangedAuditHandler(auditEventService))
+                            .requestContextTimestamp(requestContextTimestamp)
+                            .action(
+                                    employer ->
+                                            employerService
+                                                    .patchEmployer(profileId, requestBody)
+                                                    .orElseThrow(
+                                                            () ->
+                                                                    new NotFoundException(
+                                                                            EMPLOYER_PROFILE_NOT_FOUND_MSG)))
+                            .build()
+                            .execute(existingEmployer);
+
+            return ResponseEntity.status(200)
+                    .body(employerMapper.employerToResponseModel(patchedEmployer));
+        } catch (ProvidedDataException | NotFoundException | OptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UnexpectedException(e);
+        }
+    }
+
+    @Override
+    @Transactional
     public ResponseEntity<IndividualProfileResponseModel> postIndividualProfile(
             IndividualProfileCreateModel individualProfileCreateModel) {
         if (!authorizationHandler.isAllowed(CREATE_ACTION, IndividualProfile.class)) {
@@ -278,20 +335,15 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<IndividualProfileResponseModel> updateIndividualProfile(
             UUID profileId, IndividualProfileUpdateModel individualProfileUpdateModel) {
 
-        Optional<IndividualProfile> optionalIndividual =
-                individualService.getIndividualById(profileId);
-        if (optionalIndividual.isEmpty()
-                || !authorizationHandler.isAllowedForInstance(
-                        VIEW_ACTION, optionalIndividual.get())) {
-            throw new NotFoundException(INDIVIDUAL_PROFILE_NOT_FOUND_MSG);
-        }
-        IndividualProfile existingIndividual = optionalIndividual.get();
-        if (!authorizationHandler.isAllowedForInstance(UPDATE_ACTION, existingIndividual)) {
-            throw new ForbiddenException();
-        }
+        IndividualProfile existingIndividual =
+                individualService
+                        .getIndividualForUpdate(profileId)
+                        .orElseThrow(() -> new NotFoundException(INDIVIDUAL_PROFILE_NOT_FOUND_MSG));
+        validateAccess(existingIndividual, UPDATE_ACTION, INDIVIDUAL_PROFILE_NOT_FOUND_MSG);
 
         try {
             final IndividualProfile savedIndividual =
@@ -310,6 +362,8 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
                                                 existingIndividual.getCreatedBy());
                                         individualToBeSaved.setCreatedTimestamp(
                                                 existingIndividual.getCreatedTimestamp());
+                                        individualToBeSaved.setVersion(
+                                                existingIndividual.getVersion());
 
                                         individualService.saveIndividual(individualToBeSaved);
 
@@ -326,6 +380,46 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
 
             return ResponseEntity.status(200)
                     .body(individualMapper.individualToResponseModel(savedIndividual));
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UnexpectedException(e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<IndividualProfileResponseModel> patchIndividualProfile(
+            UUID profileId, Map<String, Object> requestBody) {
+        IndividualProfile existingIndividual =
+                individualService
+                        .getIndividualForUpdate(profileId)
+                        .orElseThrow(() -> new NotFoundException(INDIVIDUAL_PROFILE_NOT_FOUND_MSG));
+        validateAccess(existingIndividual, UPDATE_ACTION, INDIVIDUAL_PROFILE_NOT_FOUND_MSG);
+
+        try {
+            // the patched profile is the one the update was flushed from, it isn't read again
+            final IndividualProfile patchedIndividual =
+                    AuditableAction.builder(IndividualProfile.class)
+                            .auditHandler(
+                                    new IndividualProfileDataChangedAuditHandler(
+                                            individualAuditEventService))
+                            .requestContextTimestamp(requestContextTimestamp)
+                            .action(
+                                    individual ->
+                                            individualService
+                                                    .patchIndividual(profileId, requestBody)
+                                                    .orElseThrow(
+                                                            () ->
+                                                                    new NotFoundException(
+                                                                            INDIVIDUAL_PROFILE_NOT_FOUND_MSG)))
+                            .build()
+                            .execute(existingIndividual);
+
+            return ResponseEntity.status(200)
+                    .body(individualMapper.individualToResponseModel(patchedIndividual));
+        } catch (ProvidedDataException | NotFoundException | OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new UnexpectedException(e);
         }
@@ -339,32 +433,41 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
-        if (!authorizationHandler.isAllowed(LIST_ACTION, IndividualProfile.class)) {
-            throw new ForbiddenException();
+            Integer pageSize,
+            String pagination,
+            String pageToken,
+            String countMode) {
+        final CountMode mode = CountMode.fromText(countMode);
+        final IndividualFilters filters =
+                new IndividualFilters(
+                        sortBy, sortOrder, pageNumber, pageSize, ssn, email, name, userService);
+
+        final Specification<IndividualProfile> authorizationSpecification =
+                getListingSpecification(IndividualProfile.class);
+
+        if (KEYSET_PAGINATION.equals(pagination)) {
+            final KeysetSlice<IndividualProfile> results =
+                    individualService.getIndividualsByFilters(
+                            filters, authorizationSpecification, pageToken);
+
+            PageIndividualProfileResponseModel response = new PageIndividualProfileResponseModel();
+            response.items(toIndividualModels(results.getContent()));
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+            return ResponseEntity.status(200).body(response);
         }
 
-        Page<IndividualProfileResponseModel> results =
-                individualService
-                        .getIndividualsByFilters(
-                                new IndividualFilters(
-                                        sortBy,
-                                        sortOrder,
-                                        pageNumber,
-                                        pageSize,
-                                        ssn,
-                                        email,
-                                        name,
-                                        userService))
-                        .map(individualMapper::individualToResponseModel);
+        final Slice<IndividualProfile> results =
+                individualService.getIndividualsByFilters(
+                        filters, authorizationSpecification, mode);
 
         PageIndividualProfileResponseModel response = new PageIndividualProfileResponseModel();
-        response.items(results.toList());
-        response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        response.items(toIndividualModels(results.getContent()));
+        response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results, mode));
         return ResponseEntity.status(200).body(response);
     }
 
     @Override
+    @Transactional
     public ResponseEntity<EmployerProfileLinkResponse> updateEmployerProfileLink(
             UUID profileId,
             UUID userId,
@@ -393,6 +496,7 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> deleteEmployerProfileLink(UUID profileId, UUID userId) {
 
         if (!isAllowedOnProfile(DELETE_LINK_ACTION, profileId)) {
@@ -405,7 +509,7 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
                         .orElseThrow(() -> new NotFoundException("Employer user link not found"));
 
         try {
-            employerProfileLinkService.deleteEmployerUserLink(employerUserLink.getId());
+            employerProfileLinkService.deleteEmployerUserLink(employerUserLink);
             String currentUserId = SecurityContextUtility.getAuthenticatedUserId();
             employerUserLink.setLastUpdatedBy(currentUserId);
             postAuditEventForEmployerProfileUserRemoved(employerUserLink);
@@ -425,37 +529,36 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String pagination,
+            String pageToken,
+            String countMode) {
+        final CountMode mode = CountMode.fromText(countMode);
 
         if (!isAllowedOnProfile(VIEW_ACTION, profileId)) {
             throw new ForbiddenException();
         }
 
-        List<UUID> userIds = null;
-        if ((!StringUtils.isBlank(name) || !StringUtils.isBlank(email)) && userId == null) {
-            List<UserEntity> users =
-                    userService.findByEmailContainingIgnoreCaseAndDeletedFalse(email);
-            users.addAll(userService.findByNameContainingIgnoreCaseAndDeletedFalse(name));
-            userIds = users.stream().map(UserEntity::getId).toList();
-        } else if (userId != null) {
-            userIds = new ArrayList<>(List.of(userId));
-        }
-
-        Page<EmployerProfileLinkResponse> results =
-                employerProfileLinkService
-                        .getEmployerUserLinks(
-                                new EmployerProfileLinkFilters(
-                                        profileId,
-                                        userIds,
-                                        sortBy,
-                                        sortOrder,
-                                        pageNumber,
-                                        pageSize))
-                        .map(employerProfileLinkMapper::employerProfileLinkToResponseModel);
+        final EmployerProfileLinkFilters filters =
+                new EmployerProfileLinkFilters(
+                        profileId, userId, name, email, sortBy, sortOrder, pageNumber, pageSize);
 
         PageEmployerProfileLink response = new PageEmployerProfileLink();
-        response.items(results.toList());
-        response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        if (KEYSET_PAGINATION.equals(pagination)) {
+            KeysetSlice<EmployerProfileLinkResponse> results =
+                    employerProfileLinkService
+                            .getEmployerUserLinks(filters, pageToken)
+                            .map(employerProfileLinkMapper::employerProfileLinkToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        } else {
+            Slice<EmployerProfileLinkResponse> results =
+                    employerProfileLinkService
+                            .getEmployerUserLinks(filters, mode)
+                            .map(employerProfileLinkMapper::employerProfileLinkToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results, mode));
+        }
 
         return ResponseEntity.status(200).body(response);
     }
@@ -469,7 +572,11 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String pagination,
+            String pageToken,
+            String countMode) {
+        final CountMode mode = CountMode.fromText(countMode);
         if (!isAllowedOnProfile(VIEW_ACTION, profileId)) {
             throw new ForbiddenException();
         }
@@ -480,28 +587,38 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             throw new NotFoundException(INDIVIDUAL_PROFILE_NOT_FOUND_MSG);
         }
 
-        Page<IndividualProfileLinkResponseModel> results =
-                individualUserLinkService
-                        .getIndividualLinksByFilters(
-                                new IndividualProfileLinksFilters(
-                                        sortBy,
-                                        sortOrder,
-                                        pageNumber,
-                                        pageSize,
-                                        userId,
-                                        email,
-                                        name,
-                                        profileId,
-                                        userService))
-                        .map(individualUserLinkMapper::individualProfileLinkToResponseModel);
+        final IndividualProfileLinksFilters filters =
+                new IndividualProfileLinksFilters(
+                        sortBy,
+                        sortOrder,
+                        pageNumber,
+                        pageSize,
+                        userId,
+                        email,
+                        name,
+                        profileId);
 
         PageIndividualLinksResponseModel response = new PageIndividualLinksResponseModel();
-        response.items(results.toList());
-        response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        if (KEYSET_PAGINATION.equals(pagination)) {
+            KeysetSlice<IndividualProfileLinkResponseModel> results =
+                    individualUserLinkService
+                            .getIndividualLinksByFilters(filters, pageToken)
+                            .map(individualUserLinkMapper::individualProfileLinkToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        } else {
+            Slice<IndividualProfileLinkResponseModel> results =
+                    individualUserLinkService
+                            .getIndividualLinksByFilters(filters, mode)
+                            .map(individualUserLinkMapper::individualProfileLinkToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results, mode));
+        }
         return ResponseEntity.status(200).body(response);
     }
 
     @Override
+    @Transactional
     public ResponseEntity<IndividualProfileLinkResponseModel> updateIndividualProfileLink(
             UUID profileId,
             UUID userId,
@@ -532,6 +649,7 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> deleteIndividualProfileLink(UUID profileId, UUID userId) {
         if (!isAllowedOnProfile(DELETE_LINK_ACTION, profileId)) {
             throw new ForbiddenException();
@@ -557,6 +675,7 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<ProfileInvitationResponse> postIndividualProfileInvitation(
             UUID profileId, ProfileInvitationRequestModel profileInvitationRequestModel) {
         return createProfileInvitation(
@@ -564,6 +683,7 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<ProfileInvitationResponse> postEmployerProfileInvitation(
             UUID profileId, ProfileInvitationRequestModel profileInvitationRequestModel) {
         return createProfileInvitation(
@@ -603,7 +723,10 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String pagination,
+            String pageToken,
+            String countMode) {
         return getProfileInvitations(
                 profileId,
                 accessLevel,
@@ -613,6 +736,9 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
                 sortOrder,
                 pageNumber,
                 pageSize,
+                pagination,
+                pageToken,
+                countMode,
                 ProfileType.INDIVIDUAL);
     }
 
@@ -625,7 +751,10 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             String sortBy,
             String sortOrder,
             Integer pageNumber,
-            Integer pageSize) {
+            Integer pageSize,
+            String pagination,
+            String pageToken,
+            String countMode) {
         return getProfileInvitations(
                 profileId,
                 accessLevel,
@@ -635,6 +764,9 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
                 sortOrder,
                 pageNumber,
                 pageSize,
+                pagination,
+                pageToken,
+                countMode,
                 ProfileType.EMPLOYER);
     }
 
@@ -648,28 +780,42 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
             String sortOrder,
             Integer pageNumber,
             Integer pageSize,
+            String pagination,
+            String pageToken,
+            String countMode,
             ProfileType profileType) {
+        final CountMode mode = CountMode.fromText(countMode);
 
         Profile profile = validateAccessAndGetProfile(VIEW_ACTION, profileId, profileType);
 
-        Page<ProfileInvitationResponse> results =
-                invitationService
-                        .getProfileInvitationsByFilters(
-                                new ProfileInvitationFilters(
-                                        sortBy,
-                                        sortOrder,
-                                        pageNumber,
-                                        pageSize,
-                                        accessLevel,
-                                        email,
-                                        exactEmailMatch,
-                                        profileId,
-                                        profile.getProfileType().getValue()))
-                        .map(invitationMapper::profileInvitationToResponseModel);
+        final ProfileInvitationFilters filters =
+                new ProfileInvitationFilters(
+                        sortBy,
+                        sortOrder,
+                        pageNumber,
+                        pageSize,
+                        accessLevel,
+                        email,
+                        exactEmailMatch,
+                        profileId,
+                        profile.getProfileType().getValue());
 
         PageProfileInvitationResponse response = new PageProfileInvitationResponse();
-        response.items(results.toList());
-        response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        if (KEYSET_PAGINATION.equals(pagination)) {
+            KeysetSlice<ProfileInvitationResponse> results =
+                    invitationService
+                            .getProfileInvitationsByFilters(filters, pageToken)
+                            .map(invitationMapper::profileInvitationToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results));
+        } else {
+            Slice<ProfileInvitationResponse> results =
+                    invitationService
+                            .getProfileInvitationsByFilters(filters, mode)
+                            .map(invitationMapper::profileInvitationToResponseModel);
+            response.items(results.getContent());
+            response.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(results, mode));
+        }
 
         return ResponseEntity.ok(response);
     }
@@ -711,11 +857,13 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> claimIndividualProfileInvitation(UUID invitationId) {
         return claimProfileInvitation(invitationId, ProfileType.INDIVIDUAL);
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> claimEmployerProfileInvitation(UUID invitationId) {
         return claimProfileInvitation(invitationId, ProfileType.EMPLOYER);
     }
@@ -798,12 +946,14 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> deleteIndividualProfileInvitation(
             UUID profileId, UUID invitationId) {
         return deleteInvitation(profileId, invitationId, ProfileType.INDIVIDUAL);
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> deleteEmployerProfileInvitation(UUID profileId, UUID invitationId) {
         return deleteInvitation(profileId, invitationId, ProfileType.EMPLOYER);
     }
@@ -840,12 +990,14 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> resendIndividualProfileInvitation(
             UUID profileId, UUID invitationId) {
         return resendInvitation(profileId, invitationId, ProfileType.INDIVIDUAL);
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> resendEmployerProfileInvitation(UUID profileId, UUID invitationId) {
         return resendInvitation(profileId, invitationId, ProfileType.EMPLOYER);
     }
@@ -1023,23 +1175,72 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
         return savedEmployerUserLink;
     }
 
+    /**
+     * Callers that may not list every profile only see the profiles they may view, restricted by
+     * the query Cerbos plans for them. Without a plan that can restrict the query, only callers
+     * that may list every profile may list them.
+     *
+     * @param profileClass profile type
+     * @param <T> profile type
+     * @return specification of the profiles the caller may see, or null if the caller may see all
+     * @throws ForbiddenException if the caller may not list profiles
+     */
+    private <T extends Profile> Specification<T> getListingSpecification(Class<T> profileClass) {
+        if (authorizationHandler.isAllowed(LIST_ACTION, profileClass)) {
+            return null;
+        }
+
+        final Optional<QueryPlanSpecification<T>> plan =
+                authorizationSpecifications.getSpecification(VIEW_ACTION, profileClass);
+        if (plan.isEmpty() || plan.get().isAlwaysDenied()) {
+            throw new ForbiddenException();
+        }
+        return plan.get();
+    }
+
+    private List<EmployerProfileResponseModel> toEmployerModels(List<EmployerProfile> profiles) {
+        return profiles.stream().map(employerMapper::employerToResponseModel).toList();
+    }
+
+    private List<IndividualProfileResponseModel> toIndividualModels(
+            List<IndividualProfile> profiles) {
+        return profiles.stream().map(individualMapper::individualToResponseModel).toList();
+    }
+
     private boolean isAllowedOnProfile(@NotNull String action, UUID profileId) {
         if (profileId != null) {
-            Optional<Profile> profileOpt =
-                    commonProfileService
-                            .getProfileById(profileId)
-                            .filter(p -> authorizationHandler.isAllowedForInstance(VIEW_ACTION, p));
-
-            if (profileOpt.isPresent()) {
-                Profile requestProfile = profileOpt.get();
-                return authorizationHandler.isAllowedForInstance(action, requestProfile);
-            } else {
-                return false;
-            }
+            return commonProfileService
+                    .getProfileById(profileId)
+                    .map(p -> multiActionAuthorization.getAllowedActions(p, VIEW_ACTION, action))
+                    .filter(allowed -> allowed.contains(VIEW_ACTION) && allowed.contains(action))
+                    .isPresent();
         }
         return false;
     }
 
+    /**
+     * Checks in one authorization call that the profile is visible to the caller and that the
+     * action is allowed on it.
+     *
+     * @param profile the profile being acted on
+     * @param action the Cerbos action to validate
+     * @param notFoundMessage message reported when the profile is not visible
+     *
+     * @throws NotFoundException if reader access is not granted.
+     * @throws ForbiddenException if the action is not allowed on the profile.
+     */
+    private void validateAccess(
+            @NotNull Profile profile, @NotNull String action, String notFoundMessage) {
+        final Set<String> allowed =
+                multiActionAuthorization.getAllowedActions(profile, VIEW_ACTION, action);
+        if (!allowed.contains(VIEW_ACTION)) {
+            throw new NotFoundException(notFoundMessage);
+        }
+        if (!allowed.contains(action)) {
+            throw new ForbiddenException("Forbidden action on the profile");
+        }
+    }
+
     /**
      * Validates access and gets the profile. Also throws exceptions if access is not granted or profile is not of expected type.
      * 
@@ -1058,12 +1259,8 @@ public class ProfilesApiDelegateImpl implements ProfilesApiDelegate {
         Profile profile =
                 commonProfileService
                         .getProfileById(profileId)
-                        .filter(p -> authorizationHandler.isAllowedForInstance(VIEW_ACTION, p))
                         .orElseThrow(() -> new NotFoundException("Profile not found"));
-
-        if (!authorizationHandler.isAllowedForInstance(action, profile)) {
-            throw new ForbiddenException("Forbidden action on the profile");
-        }
+        validateAccess(profile, action, "Profile not found");
 
         if (profile.getProfileType() != profileType) {
             throw new ProvidedDataException(
@@ -1,18 +1,29 @@
 package io.nuvalence.user.management.api.service.controller;
 
 import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationSpecifications;
+import io.nuvalence.user.management.api.service.cerbos.BatchAuthorizationFilter;
+import io.nuvalence.user.management.api.service.cerbos.QueryPlanSpecification;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.generated.controllers.RolesApiDelegate;
 import io.nuvalence.user.management.api.service.generated.models.RoleDTO;
 import io.nuvalence.user.management.api.service.generated.models.RoleUpsertRequest;
+import io.nuvalence.user.management.api.service.generated.models.UserPageDTO;
+import io.nuvalence.user.management.api.service.mapper.PagingMetadataMapper;
 import io.nuvalence.user.management.api.service.mapper.RoleEntityMapper;
+import io.nuvalence.user.management.api.service.mapper.UserEntityMapper;
 import io.nuvalence.user.management.api.service.service.RoleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
@@ -28,6 +39,10 @@ public class RoleApiDelegateImpl implements RolesApiDelegate {
 
     private final RoleService roleService;
     private final AuthorizationHandler authorizationHandler;
+    private final BatchAuthorizationFilter batchAuthorizationFilter;
+    private final AuthorizationSpecifications authorizationSpecifications;
+    private final PagingMetadataMapper pagingMetadataMapper;
+    private final UserEntityMapper userMapper;
 
     @Override
     public Optional<NativeWebRequest> getRequest() {
@@ -50,8 +65,9 @@ public class RoleApiDelegateImpl implements RolesApiDelegate {
     @Override
     public ResponseEntity<List<RoleDTO>> getAllRoles(String resource) {
         List<RoleDTO> roles =
-                roleService.getAllRoles().stream()
-                        .filter(authorizationHandler.getAuthFilter("view", RoleEntity.class))
+                batchAuthorizationFilter
+                        .filterAllowed("view", RoleEntity.class, roleService.getAllRoles())
+                        .stream()
                         .map(RoleEntityMapper.INSTANCE::roleEntityToRoleDto)
                         .toList();
 
@@ -70,19 +86,48 @@ public class RoleApiDelegateImpl implements RolesApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<RoleDTO> getRoleById(UUID id) {
-        RoleEntity role =
-                roleService
-                        .getRole(id)
-                        .filter(
-                                roleEntity ->
-                                        authorizationHandler.isAllowedForInstance(
-                                                "view", roleEntity))
-                        .orElseThrow(
-                                () -> new ResourceNotFoundException("Role with ID not found."));
+        RoleEntity role = getVisibleRole(id);
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(RoleEntityMapper.INSTANCE.roleEntityToRoleDto(role));
     }
+
+    @Override
+    @Transactional
+    public ResponseEntity<UserPageDTO> getRoleMembers(
+            UUID id, Integer pageNumber, Integer pageSize) {
+        RoleEntity role = getVisibleRole(id);
+
+        // with a query plan the database only returns visible members, so pages and counts are
+        // exact, without one the loaded page is filtered as in the user listing
+        final Optional<QueryPlanSpecification<UserEntity>> authorizationSpecification =
+                authorizationSpecifications.getSpecification("view", UserEntity.class);
+        Page<UserEntity> members =
+                roleService.getRoleMembers(
+                        role.getId(),
+                        authorizationSpecification.orElse(null),
+                        PageRequest.of(pageNumber, pageSize, Sort.by("email", "id")));
+
+        final List<UserEntity> visibleMembers =
+                authorizationSpecification.isPresent()
+                        ? members.getContent()
+                        : batchAuthorizationFilter.filterAllowed(
+                                "view", UserEntity.class, members.getContent());
+
+        UserPageDTO userPageDTO = new UserPageDTO();
+        userPageDTO.setUsers(visibleMembers.stream().map(userMapper::entityToModel).toList());
+        userPageDTO.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(members));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(userPageDTO);
+    }
+
+    private RoleEntity getVisibleRole(UUID id) {
+        return roleService
+                .getRole(id)
+                .filter(roleEntity -> authorizationHandler.isAllowedForInstance("view", roleEntity))
+                .orElseThrow(() -> new ResourceNotFoundException("Role with ID not found."));
+    }
 }
@@ -1,6 +1,9 @@
 package io.nuvalence.user.management.api.service.controller;
 
 import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationSpecifications;
+import io.nuvalence.user.management.api.service.cerbos.BatchAuthorizationFilter;
+import io.nuvalence.user.management.api.service.cerbos.QueryPlanSpecification;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
@@ -9,9 +12,11 @@ import io.nuvalence.user.management.api.service.entity.UserPreferenceEntity;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.enums.SortOrder;
 import io.nuvalence.user.management.api.service.generated.controllers.UsersApiDelegate;
+import io.nuvalence.user.management.api.service.generated.models.PagingMetadata;
 import io.nuvalence.user.management.api.service.generated.models.UserCreationRequest;
 import io.nuvalence.user.management.api.service.generated.models.UserDTO;
 import io.nuvalence.user.management.api.service.generated.models.UserPageDTO;
@@ -21,6 +26,8 @@ import io.nuvalence.user.management.api.service.mapper.PagingMetadataMapper;
 import io.nuvalence.user.management.api.service.mapper.UserEntityMapper;
 import io.nuvalence.user.management.api.service.mapper.UserPreferenceEntityMapper;
 import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import io.nuvalence.user.management.api.service.models.KeysetPageRequest;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.service.CommonProfileLinkService;
 import io.nuvalence.user.management.api.service.service.IndividualProfileLinkService;
 import io.nuvalence.user.management.api.service.service.IndividualProfileService;
@@ -31,9 +38,9 @@ import io.nuvalence.user.management.api.service.service.UserService;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -43,6 +50,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -59,6 +67,7 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
 
     private static final String VIEW_AUTHORIZATION = "view";
     private static final String UPDATE_AUTHORIZATION = "update";
+    private static final String KEYSET_PAGINATION = "keyset";
 
     private static final String ACCESS_DENIED_UPDATE_EXCEPTION_MESSAGE =
             "You do not have permission to modify this resource.";
@@ -68,6 +77,10 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
 
     private final AuthorizationHandler authorizationHandler;
 
+    private final BatchAuthorizationFilter batchAuthorizationFilter;
+
+    private final AuthorizationSpecifications authorizationSpecifications;
+
     private final PagingMetadataMapper pagingMetadataMapper;
 
     private final UserPreferenceService userPreferenceService;
@@ -80,6 +93,7 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
     private final CommonProfileLinkService commonProfileLinkService;
 
     @Override
+    @Transactional
     public ResponseEntity<UserDTO> addUser(
             UserCreationRequest body, Boolean includeApplicationRoles, Boolean includeProfiles) {
         if (!authorizationHandler.isAllowed("create", UserEntity.class)) {
@@ -148,15 +162,11 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
             String userType,
             Boolean includeDeleted,
             Boolean includeApplicationRoles,
-            Boolean includeProfiles) {
-        final Pageable pageable =
-                PageRequest.of(
-                        pageNumber,
-                        pageSize,
-                        (SortOrder.DESC.toString().equals(sortBy))
-                                ? Sort.by(sortBy).descending()
-                                : Sort.by(sortBy).ascending());
-
+            Boolean includeProfiles,
+            String pagination,
+            String pageToken,
+            String countMode) {
+        final CountMode mode = CountMode.fromText(countMode);
         final UserSearchCriteria searchCriteria =
                 UserSearchCriteria.builder()
                         .email(email)
@@ -169,26 +179,67 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
                         .roleNames(roleNames)
                         .build();
 
-        final Page<UserEntity> userPage =
-                userService.getUsersBySearchCriteria(searchCriteria, pageable);
+        // with a query plan the database only returns visible users, so pages and counts are exact
+        final Optional<QueryPlanSpecification<UserEntity>> authorizationSpecification =
+                authorizationSpecifications.getSpecification(VIEW_AUTHORIZATION, UserEntity.class);
+        final Slice<UserEntity> userPage;
+        final PagingMetadata pagingMetadata;
+        if (KEYSET_PAGINATION.equals(pagination)) {
+            final KeysetSlice<UserEntity> userSlice =
+                    userService.getUsersBySearchCriteria(
+                            searchCriteria,
+                            authorizationSpecification.orElse(null),
+                            KeysetPageRequest.of(
+                                    sortBy,
+                                    sortOrder,
+                                    pageSize,
+                                    pageToken,
+                                    UserService.KEYSET_SORT_KEYS));
+            userPage = userSlice;
+            pagingMetadata = pagingMetadataMapper.toPagingMetadata(userSlice);
+        } else {
+            final Pageable pageable =
+                    PageRequest.of(
+                            pageNumber,
+                            pageSize,
+                            (SortOrder.DESC.toString().equals(sortBy))
+                                    ? Sort.by(sortBy).descending()
+                                    : Sort.by(sortBy).ascending());
+            userPage =
+                    userService.getUsersBySearchCriteria(
+                            searchCriteria,
+                            authorizationSpecification.orElse(null),
+                            pageable,
+                            mode);
+            pagingMetadata = pagingMetadataMapper.toPagingMetadata(userPage, mode);
+        }
+
+        final List<UserEntity> visibleUsers =
+                authorizationSpecification.isPresent()
+                        ? userPage.getContent()
+                        : batchAuthorizationFilter.filterAllowed(
+                                VIEW_AUTHORIZATION, UserEntity.class, userPage.getContent());
+
+        // app roles and links are loaded for the whole page at once rather than user by user
+        final List<UUID> userIds = visibleUsers.stream().map(UserEntity::getId).toList();
+        final Map<UUID, List<String>> appRoles =
+                getAppRolesIfIncluded(includeApplicationRoles, userIds);
+        final Map<UUID, List<AccessProfileDto>> links =
+                getLinksIfIncluded(includeProfiles, userIds);
 
         final List<UserDTO> users =
-                userPage.stream()
-                        .filter(
-                                authorizationHandler.getAuthFilter(
-                                        VIEW_AUTHORIZATION, UserEntity.class))
+                visibleUsers.stream()
                         .map(
                                 u ->
                                         userMapper.entityToModelWithAppRolesAndProfiles(
                                                 u,
-                                                getAppRolesIfIncluded(
-                                                        includeApplicationRoles, u.getId()),
-                                                getLinksIfIncluded(includeProfiles, u.getId())))
+                                                getForUser(appRoles, u.getId()),
+                                                getForUser(links, u.getId())))
                         .toList();
 
         final UserPageDTO userPageDTO = new UserPageDTO();
         userPageDTO.setUsers(users);
-        userPageDTO.setPagingMetadata(pagingMetadataMapper.toPagingMetadata(userPage));
+        userPageDTO.setPagingMetadata(pagingMetadata);
 
         return ResponseEntity.ok(userPageDTO);
     }
@@ -288,6 +339,7 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> addRoleToUser(UUID userId, UUID roleId) {
         UserEntity user =
                 userService
@@ -318,6 +370,7 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> deleteRoleFromUser(UUID userId, UUID roleId) {
         UserEntity user =
                 userService
@@ -360,4 +413,24 @@ class UsersApiDelegateImpl implements UsersApiDelegate {
                 .map(included -> commonProfileLinkService.getProfilesByUserId(userId))
                 .orElse(null);
     }
+
+    private Map<UUID, List<String>> getAppRolesIfIncluded(
+            Boolean includeApplicationRoles, List<UUID> userIds) {
+        return Optional.ofNullable(includeApplicationRoles)
+                .filter(Boolean::booleanValue)
+                .map(included -> userService.getAppRolesByUserIds(userIds))
+                .orElse(null);
+    }
+
+    private Map<UUID, List<AccessProfileDto>> getLinksIfIncluded(
+            Boolean includeProfiles, List<UUID> userIds) {
+        return Optional.ofNullable(includeProfiles)
+                .filter(Boolean::booleanValue)
+                .map(included -> commonProfileLinkService.getProfilesByUserIds(userIds))
+                .orElse(null);
+    }
+
+    private static <T> List<T> getForUser(Map<UUID, List<T>> valuesByUser, UUID userId) {
+        return valuesByUser == null ? null : valuesByUser.getOrDefault(userId, List.of());
+    }
 }
@@ -10,6 +10,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -30,6 +32,9 @@ import java.util.UUID;
 @Entity
 @AccessResource("application")
 @Table(name = "application")
+@NamedEntityGraph(
+        name = "application.permissions",
+        attributeNodes = {@NamedAttributeNode("permissions")})
 public class ApplicationEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -46,7 +51,7 @@ public class ApplicationEntity {
             name = "application_permission",
             joinColumns = @JoinColumn(name = "application_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "permission_id"))
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<PermissionEntity> permissions;
 
     public void addPermission(PermissionEntity permission) {
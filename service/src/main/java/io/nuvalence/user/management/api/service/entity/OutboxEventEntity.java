@@ -0,0 +1,67 @@
+package io.nuvalence.user.management.api.service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * An event written in the transaction that caused it, waiting to be published.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "event_outbox")
+public class OutboxEventEntity {
+
+    /**
+     * Order the events were written in, which events of the same business object are published in.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "ordering_key", nullable = false)
+    private UUID orderingKey;
+
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_timestamp", nullable = false)
+    private OffsetDateTime createdTimestamp;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_timestamp", nullable = false)
+    private OffsetDateTime nextAttemptTimestamp;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    /**
+     * When the event was given up on after its last attempt failed, null while it is retried.
+     */
+    @Column(name = "parked_timestamp")
+    private OffsetDateTime parkedTimestamp;
+}
@@ -37,7 +37,9 @@ public class PermissionEntity {
     @Column(name = "id", length = 36, insertable = false, updatable = false, nullable = false)
     private UUID id;
 
-    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.DETACH})
+    @ManyToOne(
+            fetch = FetchType.LAZY,
+            cascade = {CascadeType.PERSIST, CascadeType.DETACH})
     @JoinColumn(name = "application_id", referencedColumnName = "id")
     private ApplicationEntity application;
 
@@ -64,7 +66,7 @@ public class PermissionEntity {
     @Column(name = "active", nullable = true)
     private boolean active;
 
-    @OneToMany(fetch = FetchType.EAGER)
+    @OneToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "role_permission",
             joinColumns = @JoinColumn(name = "permission_id", referencedColumnName = "id"),
@@ -16,6 +16,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -37,6 +39,9 @@ import java.util.UUID;
 @Entity
 @AccessResource("role")
 @Table(name = "role")
+@NamedEntityGraph(
+        name = "role.permissions",
+        attributeNodes = {@NamedAttributeNode("permissions")})
 public class RoleEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -49,12 +54,16 @@ public class RoleEntity {
     @Column(name = "description", length = 255, nullable = false, unique = false)
     private String description;
 
+    /**
+     * Members of the role. Never fetched with the role, as a role can have any number of users;
+     * page through them with {@code RoleService#getRoleMembers} instead.
+     */
     @JoinTable(
             name = "user_role",
             joinColumns = @JoinColumn(name = "role_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "user_id"))
     @OneToMany(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             cascade = {CascadeType.PERSIST, CascadeType.DETACH})
     private List<UserEntity> users;
 
@@ -63,11 +72,11 @@ public class RoleEntity {
             joinColumns = @JoinColumn(name = "role_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "permission_id"))
     @OneToMany(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             cascade = {CascadeType.PERSIST, CascadeType.DETACH})
     private List<PermissionEntity> permissions;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "default_role", joinColumns = @JoinColumn(name = "role_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "user_type")
@@ -89,6 +98,6 @@ public class RoleEntity {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(id, name, description, users, permissions);
+        return Objects.hashCode(id, name, description);
     }
 }
@@ -2,18 +2,42 @@ package io.nuvalence.user.management.api.service.entity;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.nuvalence.auth.access.cerbos.AccessResourceTranslator;
-import io.nuvalence.user.management.api.service.mapper.UserEntityMapper;
+import io.nuvalence.user.management.api.service.cerbos.AccessResources;
+import io.nuvalence.user.management.api.service.cerbos.CerbosPolicyAttributes;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * User Translator Class.
+ *
+ * <p>Users are sent to Cerbos as the attributes the user policies read, not as full user models,
+ * so a check doesn't map roles, preferences and profiles it never looks at.</p>
  */
 @Component
 public class UserAccessResourceTranslator
         implements AccessResourceTranslator, ApplicationContextAware {
+    static final String KIND = AccessResources.getKind(UserEntity.class);
+
+    /**
+     * User attributes policies may read, with the same names and values as in the user model.
+     */
+    static final Map<String, Function<UserEntity, Object>> ATTRIBUTES =
+            Map.of(
+                    "id", user -> toString(user.getId()),
+                    "externalId", UserEntity::getExternalId,
+                    "identityProvider", UserEntity::getIdentityProvider,
+                    "userType", user -> toString(user.getUserType()),
+                    "email", UserEntity::getEmail,
+                    "firstName", UserEntity::getFirstName,
+                    "lastName", UserEntity::getLastName,
+                    "deleted", UserEntity::getDeleted);
+
     private static ApplicationContext applicationContext;
 
     @Override
@@ -31,10 +55,16 @@ public class UserAccessResourceTranslator
     @Override
     public Object translate(Object resource) {
         if (resource instanceof UserEntity userEntity) {
-            final UserEntityMapper mapper = applicationContext.getBean(UserEntityMapper.class);
-            return mapper.entityToModel(userEntity);
+            return applicationContext
+                    .getBean(CerbosPolicyAttributes.class)
+                    .getProjection(KIND, ATTRIBUTES)
+                    .project(userEntity);
         }
 
         return resource;
     }
+
+    private static String toString(Object value) {
+        return Objects.toString(value, null);
+    }
 }
@@ -3,6 +3,7 @@ package io.nuvalence.user.management.api.service.entity.profile;
 import io.nuvalence.auth.access.AccessResource;
 import io.nuvalence.user.management.api.service.entity.UpdateTrackedEntity;
 import io.nuvalence.user.management.api.service.entity.UpdateTrackedEntityEventListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -17,11 +18,15 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -33,6 +38,9 @@ import java.util.UUID;
 @Setter
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employer-profile")
+@DynamicUpdate
 @AllArgsConstructor
 @NoArgsConstructor
 @AccessResource("employer_profile")
@@ -51,6 +59,7 @@ public class EmployerProfile implements Profile, UpdateTrackedEntity {
     private String legalName;
 
     @ElementCollection(targetClass = String.class, fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employer-profile-other-names")
     @CollectionTable(
             name = "employer_profile_other_names",
             joinColumns = @JoinColumn(name = "employer_profile_id"))
@@ -81,6 +90,7 @@ public class EmployerProfile implements Profile, UpdateTrackedEntity {
             orphanRemoval = true,
             cascade = {CascadeType.ALL},
             fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employer-profile-locations")
     private List<Address> locations;
 
     @Column(name = "created_by", length = 36, nullable = false)
@@ -95,6 +105,12 @@ public class EmployerProfile implements Profile, UpdateTrackedEntity {
     @Column(name = "last_updated_timestamp", nullable = false)
     private OffsetDateTime lastUpdatedTimestamp;
 
+    // the profiles are cached per instance, an update made from a stale copy fails instead of
+    // overwriting a newer change
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
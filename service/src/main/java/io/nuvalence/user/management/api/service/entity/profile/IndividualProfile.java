@@ -4,6 +4,7 @@ import com.google.common.base.Objects;
 import io.nuvalence.auth.access.AccessResource;
 import io.nuvalence.user.management.api.service.entity.UpdateTrackedEntity;
 import io.nuvalence.user.management.api.service.entity.UpdateTrackedEntityEventListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,11 +15,15 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -29,6 +34,9 @@ import java.util.stream.Stream;
 @Setter
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "individual-profile")
+@DynamicUpdate
 @AllArgsConstructor
 @NoArgsConstructor
 @AccessResource("individual_profile")
@@ -84,6 +92,12 @@ public class IndividualProfile implements Profile, UpdateTrackedEntity {
     @Column(name = "last_updated_timestamp", nullable = false)
     private OffsetDateTime lastUpdatedTimestamp;
 
+    // the profiles are cached per instance, an update made from a stale copy fails instead of
+    // overwriting a newer change
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
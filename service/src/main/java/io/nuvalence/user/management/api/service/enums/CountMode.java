@@ -0,0 +1,51 @@
+package io.nuvalence.user.management.api.service.enums;
+
+/**
+ * How the total count of a paged response is obtained.
+ */
+public enum CountMode {
+    /**
+     * Counts the matching rows with a second query on every page.
+     */
+    EXACT("exact"),
+    /**
+     * Reuses a recent count of the same search, counting again only once it is stale.
+     */
+    ESTIMATED("estimated"),
+    /**
+     * Doesn't count; only whether a next page exists is reported.
+     */
+    NONE("none");
+
+    private final String value;
+
+    CountMode(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * Converts between strings and CountMode enum.
+     *
+     * @param text the text representation of the enum, exact if null
+     * @return an enum value
+     * @throws IllegalArgumentException if text is not a valid count mode
+     */
+    public static CountMode fromText(String text) {
+        if (text == null) {
+            return EXACT;
+        }
+
+        for (CountMode mode : CountMode.values()) {
+            if (mode.value.equalsIgnoreCase(text)) {
+                return mode;
+            }
+        }
+
+        throw new IllegalArgumentException("Unexpected count mode '" + text + "'");
+    }
+}
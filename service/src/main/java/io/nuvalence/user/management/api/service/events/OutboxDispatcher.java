@@ -0,0 +1,327 @@
+package io.nuvalence.user.management.api.service.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.spring.pubsub.core.publisher.PubSubPublisherTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.nuvalence.events.event.Event;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.entity.OutboxEventEntity;
+import io.nuvalence.user.management.api.service.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the events written to the outbox, oldest first, in batches. An outbox entry may hold
+ * several events, such as the audit events of a transaction.
+ *
+ * <p>The events are handed to the Pub/Sub publisher without waiting for each other, and the
+ * publisher is then flushed, so it sends them in as few requests as its batching settings allow
+ * instead of one request per event. Each round publishes the oldest entry of every business object
+ * in the batch, and the next round the following entries of those whose entry went out.</p>
+ *
+ * <p>An event that can't be published is retried after a backoff that doubles with each attempt
+ * up to a maximum, and only the events of an entry that weren't published are kept for the retry.
+ * Until they are published, the later entries of the same business object are held back, so that
+ * each business object's entries arrive in the order they were written. The events are locked
+ * while a batch is published, so instances polling the same outbox take turns. An entry is deleted
+ * in the transaction that published it, so it may be published again if that transaction fails to
+ * commit.</p>
+ *
+ * <p>An event whose last allowed attempt fails is parked: it stays in the outbox with its last
+ * error for an operator to look into, but is no longer retried and no longer holds back the later
+ * events of its business object. Clearing its parked_timestamp and attempts queues it again.</p>
+ *
+ * <p>Publishes an events.outbox.published counter of events and an events.outbox.failures counter
+ * of failed attempts, both tagged by event type, events.outbox.lag, the age of the oldest entry
+ * still to be published, and events.outbox.parked, the number of parked entries.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        value = "events.outbox.dispatcher.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class OutboxDispatcher {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+    private static final int MAX_ERROR_LENGTH = 1024;
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final PubSubPublisherTemplate publisherTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration publishTimeout;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+
+    /**
+     * Creates the dispatcher and registers its lag and parked gauges.
+     *
+     * @param outboxEventRepository outbox the events are read from
+     * @param publisherTemplate Pub/Sub publisher the events are published with
+     * @param meterRegistry registry the metrics are published to
+     * @param batchSize maximum number of entries published per poll
+     * @param initialBackoff delay before the first retry of an event
+     * @param maxBackoff maximum delay between retries of an event
+     * @param maxAttempts number of failed attempts after which an event is parked
+     * @param publishTimeout how long a round waits for Pub/Sub to acknowledge its events
+     */
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            PubSubPublisherTemplate publisherTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${events.outbox.dispatcher.batch-size:100}") int batchSize,
+            @Value("${events.outbox.dispatcher.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${events.outbox.dispatcher.max-backoff:5m}") Duration maxBackoff,
+            @Value("${events.outbox.dispatcher.max-attempts:20}") int maxAttempts,
+            @Value("${events.outbox.dispatcher.publish-timeout:30s}") Duration publishTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisherTemplate = publisherTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.publishTimeout = publishTimeout;
+
+        TimeGauge.builder("events.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest event waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("events.outbox.parked", parked, AtomicLong::get)
+                .description("Outbox entries given up on after their last attempt failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the events that are due, deleting those that were published and scheduling the
+     * retry of those that weren't, or parking them once they are out of attempts.
+     */
+    @Scheduled(fixedDelayString = "${events.outbox.dispatcher.poll-interval-ms:1000}")
+    @Transactional
+    public void dispatch() {
+        final OffsetDateTime now = OffsetDateTime.now();
+        final Map<UUID, Deque<OutboxEventEntity>> pending = new LinkedHashMap<>();
+        for (OutboxEventEntity outboxEvent :
+                outboxEventRepository.findDue(now, PageRequest.of(0, batchSize))) {
+            pending.computeIfAbsent(outboxEvent.getOrderingKey(), key -> new ArrayDeque<>())
+                    .add(outboxEvent);
+        }
+
+        while (!pending.isEmpty()) {
+            final List<Publication> round =
+                    pending.values().stream().map(entries -> publish(entries.peek())).toList();
+            await(round);
+
+            for (Publication publication : round) {
+                final UUID orderingKey = publication.outboxEvent().getOrderingKey();
+                if (settle(publication, now)) {
+                    pending.get(orderingKey).poll();
+                    if (pending.get(orderingKey).isEmpty()) {
+                        pending.remove(orderingKey);
+                    }
+                } else {
+                    pending.remove(orderingKey);
+                }
+            }
+        }
+
+        outboxEventRepository.flush();
+        lagMillis.set(
+                outboxEventRepository
+                        .findFirstByParkedTimestampIsNullOrderByIdAsc()
+                        .map(
+                                oldest ->
+                                        Duration.between(oldest.getCreatedTimestamp(), now)
+                                                .toMillis())
+                        .orElse(0L));
+        parked.set(outboxEventRepository.countByParkedTimestampIsNotNull());
+    }
+
+    private Publication publish(OutboxEventEntity outboxEvent) {
+        final List<JsonNode> events = new ArrayList<>();
+        final List<Event> converted = new ArrayList<>();
+        try {
+            final Class<? extends Event> eventType =
+                    Class.forName(outboxEvent.getEventType()).asSubclass(Event.class);
+            final JsonNode payload = MAPPER.readTree(outboxEvent.getPayload());
+            if (payload.isArray()) {
+                payload.forEach(events::add);
+            } else {
+                events.add(payload);
+            }
+            for (JsonNode event : events) {
+                converted.add(MAPPER.treeToValue(event, eventType));
+            }
+        } catch (Exception e) {
+            // nothing of the entry is published until it can be read
+            return new Publication(outboxEvent, List.of(), List.of(), e);
+        }
+
+        final List<CompletableFuture<String>> results = new ArrayList<>();
+        for (Event event : converted) {
+            try {
+                results.add(publisherTemplate.publish(outboxEvent.getTopic(), event));
+            } catch (RuntimeException e) {
+                results.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return new Publication(outboxEvent, events, results, null);
+    }
+
+    private void await(List<Publication> round) {
+        round.stream()
+                .filter(publication -> !publication.results().isEmpty())
+                .map(publication -> publication.outboxEvent().getTopic())
+                .distinct()
+                .forEach(
+                        topic ->
+                                publisherTemplate
+                                        .getPublisherFactory()
+                                        .createPublisher(topic)
+                                        .publishAllOutstanding());
+
+        final CompletableFuture<?>[] results =
+                round.stream()
+                        .flatMap(publication -> publication.results().stream())
+                        .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(results)
+                    .get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // the outcome of each event is looked at when its entry is settled
+        }
+    }
+
+    /**
+     * Deletes a published entry, or keeps the events of it that weren't published for a retry.
+     *
+     * @return whether the later entries of the business object may be published
+     */
+    private boolean settle(Publication publication, OffsetDateTime now) {
+        final OutboxEventEntity outboxEvent = publication.outboxEvent();
+        final List<JsonNode> unpublished = new ArrayList<>();
+        Throwable error = publication.error();
+        for (int i = 0; i < publication.results().size(); i++) {
+            final Throwable failure = failureOf(publication.results().get(i));
+            if (failure == null) {
+                counter("events.outbox.published", outboxEvent).increment();
+            } else {
+                unpublished.add(publication.events().get(i));
+                error = error == null ? failure : error;
+            }
+        }
+
+        if (error == null) {
+            outboxEventRepository.delete(outboxEvent);
+            return true;
+        }
+
+        if (!unpublished.isEmpty()) {
+            // the events that went out aren't published again by the retry
+            outboxEvent.setPayload(MAPPER.createArrayNode().addAll(unpublished).toString());
+        }
+        counter("events.outbox.failures", outboxEvent).increment();
+        if (outboxEvent.getAttempts() + 1 >= maxAttempts) {
+            park(outboxEvent, now, error);
+            return true;
+        }
+        scheduleRetry(outboxEvent, now, error);
+        return false;
+    }
+
+    private Throwable failureOf(CompletableFuture<String> result) {
+        if (!result.isDone()) {
+            return new TimeoutException("Not acknowledged within " + publishTimeout);
+        }
+        try {
+            result.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e.getCause() == null ? e : e.getCause();
+        }
+    }
+
+    private void scheduleRetry(OutboxEventEntity outboxEvent, OffsetDateTime now, Throwable e) {
+        final int attempts = outboxEvent.getAttempts() + 1;
+        final Duration backoff =
+                initialBackoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_DOUBLINGS));
+
+        outboxEvent.setAttempts(attempts);
+        outboxEvent.setNextAttemptTimestamp(
+                now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff));
+        outboxEvent.setLastError(StringUtils.abbreviate(String.valueOf(e), MAX_ERROR_LENGTH));
+
+        log.warn(
+                "Could not publish outbox event {} of {} to {}, attempt {}",
+                outboxEvent.getId(),
+                outboxEvent.getOrderingKey(),
+                outboxEvent.getTopic(),
+                attempts,
+                e);
+    }
+
+    private void park(OutboxEventEntity outboxEvent, OffsetDateTime now, Throwable e) {
+        outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+        outboxEvent.setParkedTimestamp(now);
+        outboxEvent.setLastError(StringUtils.abbreviate(String.valueOf(e), MAX_ERROR_LENGTH));
+
+        log.error(
+                "Parked outbox event {} of {} to {} after {} failed attempts",
+                outboxEvent.getId(),
+                outboxEvent.getOrderingKey(),
+                outboxEvent.getTopic(),
+                outboxEvent.getAttempts(),
+                e);
+    }
+
+    private Counter counter(String name, OutboxEventEntity outboxEvent) {
+        return meterRegistry.counter(
+                name, "type", StringUtils.substringAfterLast(outboxEvent.getEventType(), "."));
+    }
+
+    /**
+     * Events of an outbox entry handed to the publisher, with the result of each.
+     *
+     * @param outboxEvent outbox entry
+     * @param events events of the entry as they are stored
+     * @param results results of publishing each event
+     * @param error why the entry couldn't be published at all, or null
+     */
+    private record Publication(
+            OutboxEventEntity outboxEvent,
+            List<JsonNode> events,
+            List<CompletableFuture<String>> results,
+            Exception error) {}
+}
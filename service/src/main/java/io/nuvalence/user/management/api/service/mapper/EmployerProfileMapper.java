@@ -1,10 +1,14 @@
 package io.nuvalence.user.management.api.service.mapper;
 
+import io.nuvalence.user.management.api.service.entity.profile.Address;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
+import io.nuvalence.user.management.api.service.generated.models.AddressModel;
 import io.nuvalence.user.management.api.service.generated.models.EmployerProfileCreateModel;
 import io.nuvalence.user.management.api.service.generated.models.EmployerProfileResponseModel;
 import io.nuvalence.user.management.api.service.generated.models.EmployerProfileUpdateModel;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.factory.Mappers;
 
 @Mapper(componentModel = "spring")
@@ -16,4 +20,40 @@ public interface EmployerProfileMapper {
     EmployerProfile updateModelToEmployer(EmployerProfileUpdateModel updateModel);
 
     EmployerProfile createModelToEmployer(EmployerProfileCreateModel createModel);
+
+    EmployerProfileUpdateModel employerToUpdateModel(EmployerProfile employer);
+
+    /**
+     * Copies the fields of an update model onto an employer profile, leaving its other names,
+     * mailing address and locations for the caller to update in place.
+     *
+     * @param updateModel update model
+     * @param employer employer profile to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "otherNames", ignore = true)
+    @Mapping(target = "mailingAddress", ignore = true)
+    @Mapping(target = "locations", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "createdTimestamp", ignore = true)
+    @Mapping(target = "lastUpdatedBy", ignore = true)
+    @Mapping(target = "lastUpdatedTimestamp", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEmployer(
+            EmployerProfileUpdateModel updateModel, @MappingTarget EmployerProfile employer);
+
+    Address addressModelToAddress(AddressModel addressModel);
+
+    /**
+     * Copies the fields of an address model onto an address.
+     *
+     * @param addressModel address model
+     * @param address address to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "employerForMailing", ignore = true)
+    @Mapping(target = "employerForLocations", ignore = true)
+    @Mapping(target = "individualForMailing", ignore = true)
+    @Mapping(target = "individualForAddress", ignore = true)
+    void updateAddress(AddressModel addressModel, @MappingTarget Address address);
 }
@@ -1,10 +1,14 @@
 package io.nuvalence.user.management.api.service.mapper;
 
+import io.nuvalence.user.management.api.service.entity.profile.Address;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
+import io.nuvalence.user.management.api.service.generated.models.AddressModel;
 import io.nuvalence.user.management.api.service.generated.models.IndividualProfileCreateModel;
 import io.nuvalence.user.management.api.service.generated.models.IndividualProfileResponseModel;
 import io.nuvalence.user.management.api.service.generated.models.IndividualProfileUpdateModel;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "spring")
 public interface IndividualProfileMapper {
@@ -13,4 +17,39 @@ public interface IndividualProfileMapper {
     IndividualProfileResponseModel individualToResponseModel(IndividualProfile individual);
 
     IndividualProfile updateModelToIndividual(IndividualProfileUpdateModel updateModel);
+
+    IndividualProfileUpdateModel individualToUpdateModel(IndividualProfile individual);
+
+    /**
+     * Copies the fields of an update model onto an individual profile, leaving its addresses for
+     * the caller to update in place.
+     *
+     * @param updateModel update model
+     * @param individual individual profile to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "mailingAddress", ignore = true)
+    @Mapping(target = "primaryAddress", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "createdTimestamp", ignore = true)
+    @Mapping(target = "lastUpdatedBy", ignore = true)
+    @Mapping(target = "lastUpdatedTimestamp", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateIndividual(
+            IndividualProfileUpdateModel updateModel, @MappingTarget IndividualProfile individual);
+
+    Address addressModelToAddress(AddressModel addressModel);
+
+    /**
+     * Copies the fields of an address model onto an address.
+     *
+     * @param addressModel address model
+     * @param address address to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "employerForMailing", ignore = true)
+    @Mapping(target = "employerForLocations", ignore = true)
+    @Mapping(target = "individualForMailing", ignore = true)
+    @Mapping(target = "individualForAddress", ignore = true)
+    void updateAddress(AddressModel addressModel, @MappingTarget Address address);
 }
@@ -1,11 +1,14 @@
 package io.nuvalence.user.management.api.service.mapper;
 
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.generated.models.PagingMetadata;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMapAdapter;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -52,9 +55,61 @@ public class PagingMetadataMapper {
                 .pageNumber(page.getNumber())
                 .pageSize(page.getSize())
                 .totalCount(page.getTotalElements())
+                .countMode(PagingMetadata.CountModeEnum.EXACT)
                 .nextPage(nextPage);
     }
 
+    /**
+     * Converts a page counted the given way to api paging metadata. The total count is only set
+     * if the page was counted.
+     *
+     * @param slice page object, or a slice without a total count if the count mode is none
+     * @param countMode how the page was counted
+     * @param <T> page item type
+     * @return paging metadata
+     */
+    public <T> PagingMetadata toPagingMetadata(Slice<T> slice, CountMode countMode) {
+        var nextPageUri = buildNextPageUri(slice.nextPageable());
+        var nextPage = nextPageUri == null ? null : nextPageUri.toString();
+        var metadata =
+                new PagingMetadata()
+                        .pageNumber(slice.getNumber())
+                        .pageSize(slice.getSize())
+                        .countMode(PagingMetadata.CountModeEnum.fromValue(countMode.toString()))
+                        .nextPage(nextPage);
+        if (countMode != CountMode.NONE && slice instanceof Page<T> page) {
+            metadata.totalCount(page.getTotalElements());
+        }
+        return metadata;
+    }
+
+    /**
+     * Converts a slice read with a continuation token to api paging metadata. The next page link
+     * carries the slice's continuation token in the {@code pageToken} query parameter; no total
+     * count is reported.
+     *
+     * @param slice slice of items
+     * @param <T> slice item type
+     * @return paging metadata
+     */
+    public <T> PagingMetadata toPagingMetadata(KeysetSlice<T> slice) {
+        String nextPage = null;
+        if (slice.hasNext()) {
+            nextPage =
+                    currentRequestUri()
+                            .replaceQueryParam("pageToken", slice.getNextPageToken())
+                            .build()
+                            .toUri()
+                            .toString();
+        }
+
+        return new PagingMetadata()
+                .pageSize(slice.getSize())
+                .countMode(PagingMetadata.CountModeEnum.NONE)
+                .nextPage(nextPage)
+                .nextPageToken(slice.getNextPageToken());
+    }
+
     /**
      * Builds the next page uri.
      *
@@ -63,18 +118,7 @@ public class PagingMetadataMapper {
      */
     private URI buildNextPageUri(Pageable nextPage) {
         if (nextPage.isPaged()) {
-            var request = requestSupplier.get();
-
-            var queryParams =
-                    request.getParameterMap().entrySet().stream()
-                            .collect(
-                                    Collectors.toMap(
-                                            Map.Entry::getKey, e -> Arrays.asList(e.getValue())));
-
-            return UriComponentsBuilder.fromUriString(request.getRequestURI())
-                    .host(request.getServerName())
-                    .scheme(request.getScheme())
-                    .queryParams(new MultiValueMapAdapter<>(queryParams))
+            return currentRequestUri()
                     .replaceQueryParam("pageNumber", nextPage.getPageNumber())
                     .build()
                     .toUri();
@@ -82,4 +126,19 @@ public class PagingMetadataMapper {
             return null;
         }
     }
+
+    private UriComponentsBuilder currentRequestUri() {
+        var request = requestSupplier.get();
+
+        var queryParams =
+                request.getParameterMap().entrySet().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        Map.Entry::getKey, e -> Arrays.asList(e.getValue())));
+
+        return UriComponentsBuilder.fromUriString(request.getRequestURI())
+                .host(request.getServerName())
+                .scheme(request.getScheme())
+                .queryParams(new MultiValueMapAdapter<>(queryParams));
+    }
 }
@@ -6,6 +6,9 @@ import lombok.Setter;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * Class with basic sort attributes for filters.
  */
@@ -39,4 +42,33 @@ abstract class BaseFilters {
 
         return PageRequest.of(pageNumber, pageSize, sort);
     }
+
+    /**
+     * Identifies the rows the filters match, whatever the page and sort, so that estimated
+     * counts of the same search can be reused.
+     *
+     * @return values of the filters
+     */
+    public abstract List<Object> getCountKey();
+
+    /**
+     * Generates a keyset pagination request for lookups that use specifications pattern.
+     *
+     * @param pageToken continuation token of the previous page, or null for the first page
+     * @return keyset page request
+     * @throws IllegalArgumentException if the sort key has no index to seek on
+     */
+    public KeysetPageRequest getKeysetPageRequest(String pageToken) {
+        return KeysetPageRequest.of(sortBy, sortOrder, pageSize, pageToken, getKeysetSortKeys());
+    }
+
+    /**
+     * Sort keys that keyset pagination may seek on. Each must be backed by an index that ends
+     * with the id, after any columns the filters always match by equality.
+     *
+     * @return sort keys
+     */
+    protected Set<String> getKeysetSortKeys() {
+        return Set.of("createdTimestamp");
+    }
 }
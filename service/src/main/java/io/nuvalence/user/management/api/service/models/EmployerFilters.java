@@ -1,6 +1,7 @@
 package io.nuvalence.user.management.api.service.models;
 
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
+import io.nuvalence.user.management.api.service.util.LikePatternUtility;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -12,7 +13,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
-import java.util.Locale;
+import java.util.Arrays;
+import java.util.List;
 
 @Getter
 public class EmployerFilters extends BaseFilters {
@@ -40,15 +42,19 @@ public class EmployerFilters extends BaseFilters {
         this.industry = industry;
     }
 
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(fein, name, type, industry);
+    }
+
     public Specification<EmployerProfile> getEmployerProfileSpecification() {
         return (root, query, criteriaBuilder) -> {
             var predicates = new ArrayList<>();
 
             if (StringUtils.isNotBlank(this.name)) {
                 predicates.add(
-                        criteriaBuilder.like(
-                                criteriaBuilder.lower(root.get("legalName")),
-                                "%" + this.name.toLowerCase(Locale.ROOT) + "%"));
+                        LikePatternUtility.contains(
+                                criteriaBuilder, root.get("legalName"), this.name));
 
                 Subquery<String> otherNamesSubquery = query.subquery(String.class);
                 Root<EmployerProfile> subqueryRoot = otherNamesSubquery.correlate(root);
@@ -56,9 +62,7 @@ public class EmployerFilters extends BaseFilters {
                         subqueryRoot.join("otherNames", JoinType.LEFT);
                 otherNamesSubquery.select(otherNamesJoin);
                 otherNamesSubquery.where(
-                        criteriaBuilder.like(
-                                criteriaBuilder.lower(otherNamesJoin),
-                                "%" + this.name.toLowerCase(Locale.ROOT) + "%"));
+                        LikePatternUtility.contains(criteriaBuilder, otherNamesJoin, this.name));
                 predicates.add(criteriaBuilder.exists(otherNamesSubquery));
             }
 
@@ -72,9 +76,8 @@ public class EmployerFilters extends BaseFilters {
 
             if (StringUtils.isNotBlank(this.industry)) {
                 predicates.add(
-                        criteriaBuilder.like(
-                                criteriaBuilder.lower(root.get("industry")),
-                                "%" + this.industry.toLowerCase(Locale.ROOT) + "%"));
+                        LikePatternUtility.contains(
+                                criteriaBuilder, root.get("industry"), this.industry));
             }
 
             return !predicates.isEmpty()
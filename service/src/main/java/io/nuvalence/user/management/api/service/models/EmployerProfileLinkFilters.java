@@ -1,35 +1,57 @@
 package io.nuvalence.user.management.api.service.models;
 
+import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
 import io.nuvalence.user.management.api.service.util.UserUtility;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import lombok.Builder;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 @Getter
 public class EmployerProfileLinkFilters extends BaseFilters {
     private final UUID profileId;
-    private final List<UUID> userIds;
+    private final UUID userId;
+    private final String name;
+    private final String email;
 
+    @SuppressWarnings("java:S107")
     @Builder
     public EmployerProfileLinkFilters(
             UUID profileId,
-            List<UUID> userIds,
+            UUID userId,
+            String name,
+            String email,
             String sortBy,
             String sortOrder,
             Integer pageNumber,
             Integer pageSize) {
         super(sortBy, sortOrder, pageNumber, pageSize);
         this.profileId = profileId;
-        this.userIds = userIds;
+        this.userId = userId;
+        this.name = name;
+        this.email = email;
     }
 
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(profileId, userId, name, email);
+    }
+
+    /**
+     * Matches the links of the profile, to the user if one is given, or else to the users whose
+     * name or email contains the search terms.
+     *
+     * @return specification of the links
+     */
     public Specification<EmployerProfileLink> getEmployerUserLinkSpecification() {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -38,8 +60,21 @@ public class EmployerProfileLinkFilters extends BaseFilters {
                 predicates.add(
                         criteriaBuilder.equal(root.get("profile").get("id"), this.profileId));
             }
-            if (userIds != null) {
-                predicates.add(root.get("user").get("id").in(userIds));
+
+            if (userId != null) {
+                predicates.add(criteriaBuilder.equal(root.get("user").get("id"), this.userId));
+            } else if (StringUtils.isNotBlank(name) || StringUtils.isNotBlank(email)) {
+                Join<EmployerProfileLink, UserEntity> user = root.join("user");
+                List<Predicate> userMatches = new ArrayList<>();
+                if (StringUtils.isNotBlank(name)) {
+                    userMatches.add(LinkedUserPredicates.nameContains(criteriaBuilder, user, name));
+                }
+                if (StringUtils.isNotBlank(email)) {
+                    userMatches.add(
+                            LinkedUserPredicates.emailContains(criteriaBuilder, user, email));
+                }
+                predicates.add(LinkedUserPredicates.notDeleted(criteriaBuilder, user));
+                predicates.add(criteriaBuilder.or(userMatches.toArray(new Predicate[0])));
             }
 
             if (UserUtility.getAuthenticatedUserType().equals("public")) {
@@ -9,6 +9,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Filters for individual profiles.
@@ -39,6 +41,11 @@ public class IndividualFilters extends BaseFilters {
         this.userService = userService;
     }
 
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(ssn, email, name);
+    }
+
     public Specification<IndividualProfile> getIndividualProfileSpecification() {
         return (root, query, criteriaBuilder) -> {
             var predicates = new ArrayList<>();
@@ -3,17 +3,16 @@ package io.nuvalence.user.management.api.service.models;
 import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
-import io.nuvalence.user.management.api.service.service.UserService;
 import io.nuvalence.user.management.api.service.util.UserUtility;
-import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
 import lombok.Builder;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,7 +22,6 @@ public class IndividualProfileLinksFilters extends BaseFilters {
     private final String email;
     private final String name;
     private final UUID profileId;
-    private final UserService userService;
 
     @SuppressWarnings("java:S107")
     @Builder
@@ -35,24 +33,35 @@ public class IndividualProfileLinksFilters extends BaseFilters {
             UUID userId,
             String email,
             String name,
-            UUID profileId,
-            UserService userService) {
+            UUID profileId) {
         super(sortBy, sortOrder, pageNumber, pageSize);
         this.userId = userId;
         this.name = name;
         this.email = email;
         this.profileId = profileId;
-        this.userService = userService;
+    }
+
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(userId, email, name, profileId);
     }
 
     public Specification<IndividualProfileLink> getIndividualLinksSpecification() {
         return (root, query, criteriaBuilder) -> {
             var predicates = new ArrayList<>();
 
-            if (StringUtils.isNotBlank(this.name)) {
-                List<UserEntity> users =
-                        userService.findByNameContainingIgnoreCaseAndDeletedFalse(this.name);
-                userIsPresent(root, criteriaBuilder, predicates, users);
+            if (StringUtils.isNotBlank(this.name) || StringUtils.isNotBlank(this.email)) {
+                Join<IndividualProfileLink, UserEntity> user = root.join("user");
+                predicates.add(LinkedUserPredicates.notDeleted(criteriaBuilder, user));
+                if (StringUtils.isNotBlank(this.name)) {
+                    predicates.add(
+                            LinkedUserPredicates.nameContains(criteriaBuilder, user, this.name));
+                }
+                if (StringUtils.isNotBlank(this.email)) {
+                    predicates.add(
+                            LinkedUserPredicates.emailContains(
+                                    criteriaBuilder, user, this.email));
+                }
             }
 
             if (this.userId != null) {
@@ -64,12 +73,6 @@ public class IndividualProfileLinksFilters extends BaseFilters {
                         criteriaBuilder.equal(root.join("profile").get("id"), this.profileId));
             }
 
-            if (StringUtils.isNotBlank(this.email)) {
-                List<UserEntity> users =
-                        userService.findByEmailContainingIgnoreCaseAndDeletedFalse(this.email);
-                userIsPresent(root, criteriaBuilder, predicates, users);
-            }
-
             if (UserUtility.getAuthenticatedUserType().equals("public")) {
                 predicates.add(
                         criteriaBuilder.notEqual(
@@ -82,18 +85,4 @@ public class IndividualProfileLinksFilters extends BaseFilters {
                     : null;
         };
     }
-
-    private void userIsPresent(
-            Root<IndividualProfileLink> root,
-            CriteriaBuilder criteriaBuilder,
-            ArrayList<Object> predicates,
-            List<UserEntity> users) {
-        if (!users.isEmpty()) {
-            List<UUID> userIds = new ArrayList<>();
-            users.forEach(userDTO -> userIds.add(userDTO.getId()));
-            predicates.add(criteriaBuilder.in(root.get("user").get("id")).value(userIds));
-        } else {
-            predicates.add(criteriaBuilder.disjunction());
-        }
-    }
 }
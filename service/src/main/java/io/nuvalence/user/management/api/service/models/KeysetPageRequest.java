@@ -0,0 +1,196 @@
+package io.nuvalence.user.management.api.service.models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Getter;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Request for a keyset (seek) page: the rows that follow the row a continuation token points at,
+ * ordered by a single sort key and then by id.
+ *
+ * <p>Unlike page numbers this never makes the database skip rows or count them, so every page
+ * costs the same however deep it is, as long as the sort key is backed by an index. Callers list
+ * the sort keys they have such indexes for; other keys are rejected.</p>
+ */
+@Getter
+public final class KeysetPageRequest {
+    private static final String ID = "id";
+    private static final ObjectMapper TOKEN_MAPPER =
+            JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final int pageSize;
+    private final JsonNode afterKey;
+    private final UUID afterId;
+
+    private KeysetPageRequest(
+            String sortBy,
+            Sort.Direction direction,
+            int pageSize,
+            JsonNode afterKey,
+            UUID afterId) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.pageSize = pageSize;
+        this.afterKey = afterKey;
+        this.afterId = afterId;
+    }
+
+    /**
+     * Creates a keyset page request.
+     *
+     * @param sortBy sort key
+     * @param sortOrder ASC or DESC, ascending if null
+     * @param pageSize maximum number of rows in the page
+     * @param pageToken continuation token of the previous page, or null for the first page
+     * @param sortKeys sort keys that are backed by an index
+     * @return page request
+     * @throws IllegalArgumentException if the sort key isn't allowed or the token doesn't belong
+     *     to this sort
+     */
+    public static KeysetPageRequest of(
+            String sortBy,
+            String sortOrder,
+            int pageSize,
+            String pageToken,
+            Set<String> sortKeys) {
+        if (!sortKeys.contains(sortBy)) {
+            throw new IllegalArgumentException(
+                    "Keyset pagination can only sort by one of " + sortKeys + ".");
+        }
+
+        final Sort.Direction direction =
+                "DESC".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (pageToken == null || pageToken.isBlank()) {
+            return new KeysetPageRequest(sortBy, direction, pageSize, null, null);
+        }
+
+        final JsonNode token = decode(pageToken);
+        if (!sortBy.equals(token.path("sortBy").asText())
+                || !direction.name().equals(token.path("sortOrder").asText())) {
+            throw new IllegalArgumentException(
+                    "The page token was issued for a different sortBy or sortOrder.");
+        }
+
+        try {
+            return new KeysetPageRequest(
+                    sortBy,
+                    direction,
+                    pageSize,
+                    token.path("key"),
+                    UUID.fromString(token.path(ID).asText()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token.", e);
+        }
+    }
+
+    /**
+     * Returns the order of the page: the sort key, then the id to break ties.
+     *
+     * @return sort
+     */
+    public Sort getSort() {
+        final Sort sort = Sort.by(direction, sortBy);
+        return ID.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Returns a specification that only matches rows after the continuation token's row.
+     *
+     * @param <T> entity type
+     * @return specification, or null for the first page
+     */
+    public <T> Specification<T> getAfterSpecification() {
+        if (afterId == null) {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> {
+            final Path<UUID> id = root.get(ID);
+            final Predicate afterIdPredicate =
+                    direction.isAscending()
+                            ? criteriaBuilder.greaterThan(id, afterId)
+                            : criteriaBuilder.lessThan(id, afterId);
+            if (ID.equals(sortBy)) {
+                return afterIdPredicate;
+            }
+
+            final Path<Comparable<Object>> key = root.get(sortBy);
+            final Comparable<Object> value = toKeyValue(key);
+            return criteriaBuilder.or(
+                    direction.isAscending()
+                            ? criteriaBuilder.greaterThan(key, value)
+                            : criteriaBuilder.lessThan(key, value),
+                    criteriaBuilder.and(criteriaBuilder.equal(key, value), afterIdPredicate));
+        };
+    }
+
+    /**
+     * Builds the continuation token that points at a row.
+     *
+     * @param row last row of a page
+     * @return opaque continuation token
+     */
+    public String nextPageToken(Object row) {
+        final BeanWrapperImpl wrapper = new BeanWrapperImpl(row);
+        final ObjectNode token = TOKEN_MAPPER.createObjectNode();
+        token.put("sortBy", sortBy);
+        token.put("sortOrder", direction.name());
+        token.set("key", TOKEN_MAPPER.valueToTree(wrapper.getPropertyValue(sortBy)));
+        token.put(ID, String.valueOf(wrapper.getPropertyValue(ID)));
+
+        try {
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(TOKEN_MAPPER.writeValueAsBytes(token));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write page token.", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> toKeyValue(Expression<?> key) {
+        try {
+            return (Comparable<Object>) TOKEN_MAPPER.treeToValue(afterKey, key.getJavaType());
+        } catch (JsonProcessingException | ClassCastException e) {
+            throw new IllegalArgumentException("Invalid page token.", e);
+        }
+    }
+
+    private static JsonNode decode(String pageToken) {
+        final JsonNode token;
+        try {
+            token =
+                    TOKEN_MAPPER.readTree(
+                            new String(
+                                    Base64.getUrlDecoder().decode(pageToken),
+                                    StandardCharsets.UTF_8));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token.", e);
+        }
+
+        if (token == null || !token.isObject()) {
+            throw new IllegalArgumentException("Invalid page token.");
+        }
+        return token;
+    }
+}
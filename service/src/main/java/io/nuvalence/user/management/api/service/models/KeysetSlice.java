@@ -0,0 +1,39 @@
+package io.nuvalence.user.management.api.service.models;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slice read with a {@link KeysetPageRequest}, carrying the continuation token of the next slice.
+ *
+ * @param <T> item type
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class KeysetSlice<T> extends SliceImpl<T> {
+    private static final long serialVersionUID = 4790263508146025361L;
+
+    private final String nextPageToken;
+
+    /**
+     * Creates a slice.
+     *
+     * @param content items of the slice
+     * @param pageable size and sort of the slice
+     * @param nextPageToken continuation token of the next slice, or null if this is the last one
+     */
+    public KeysetSlice(List<T> content, Pageable pageable, String nextPageToken) {
+        super(content, pageable, nextPageToken != null);
+        this.nextPageToken = nextPageToken;
+    }
+
+    @Override
+    public <U> KeysetSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new KeysetSlice<>(getConvertedContent(converter), getPageable(), nextPageToken);
+    }
+}
@@ -0,0 +1,57 @@
+package io.nuvalence.user.management.api.service.models;
+
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.util.LikePatternUtility;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Predicates on the user of a profile link, applied in the same query that pages the links.
+ */
+final class LinkedUserPredicates {
+
+    private LinkedUserPredicates() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Matches users that aren't deleted.
+     *
+     * @param criteriaBuilder criteria builder
+     * @param user joined user
+     * @return predicate
+     */
+    static Predicate notDeleted(CriteriaBuilder criteriaBuilder, From<?, UserEntity> user) {
+        return criteriaBuilder.isFalse(user.get("deleted"));
+    }
+
+    /**
+     * Matches users whose first, middle or last name contains a term, ignoring case.
+     *
+     * @param criteriaBuilder criteria builder
+     * @param user joined user
+     * @param name search term
+     * @return predicate
+     */
+    static Predicate nameContains(
+            CriteriaBuilder criteriaBuilder, From<?, UserEntity> user, String name) {
+        return criteriaBuilder.or(
+                LikePatternUtility.contains(criteriaBuilder, user.get("firstName"), name),
+                LikePatternUtility.contains(criteriaBuilder, user.get("middleName"), name),
+                LikePatternUtility.contains(criteriaBuilder, user.get("lastName"), name));
+    }
+
+    /**
+     * Matches users whose email contains a term, ignoring case.
+     *
+     * @param criteriaBuilder criteria builder
+     * @param user joined user
+     * @param email search term
+     * @return predicate
+     */
+    static Predicate emailContains(
+            CriteriaBuilder criteriaBuilder, From<?, UserEntity> user, String email) {
+        return LikePatternUtility.contains(criteriaBuilder, user.get("email"), email);
+    }
+}
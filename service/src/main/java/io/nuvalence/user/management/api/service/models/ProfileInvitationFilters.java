@@ -3,6 +3,7 @@ package io.nuvalence.user.management.api.service.models;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
+import io.nuvalence.user.management.api.service.util.LikePatternUtility;
 import jakarta.persistence.criteria.Predicate;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,7 +11,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
-import java.util.Locale;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -42,6 +44,11 @@ public class ProfileInvitationFilters extends BaseFilters {
         this.profileId = profileId;
     }
 
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(accessLevel, email, exactEmailMatch, type, profileId);
+    }
+
     public Specification<ProfileInvitation> getProfileInvitationSpecification() {
         return (root, query, criteriaBuilder) -> {
             var predicates = new ArrayList<>();
@@ -59,9 +66,7 @@ public class ProfileInvitationFilters extends BaseFilters {
 
             if (StringUtils.isNotBlank(this.email) && Boolean.FALSE.equals(this.exactEmailMatch)) {
                 predicates.add(
-                        criteriaBuilder.like(
-                                criteriaBuilder.lower(root.get("email")),
-                                email.toLowerCase(Locale.ROOT) + "%"));
+                        LikePatternUtility.startsWith(criteriaBuilder, root.get("email"), email));
             }
 
             if (StringUtils.isNotBlank(String.valueOf(this.profileId))) {
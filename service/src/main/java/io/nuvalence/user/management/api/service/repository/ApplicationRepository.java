@@ -1,6 +1,7 @@
 package io.nuvalence.user.management.api.service.repository;
 
 import io.nuvalence.user.management.api.service.entity.ApplicationEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,7 @@ import java.util.UUID;
  */
 @Repository
 public interface ApplicationRepository extends JpaRepository<ApplicationEntity, UUID> {
-    @Query(value = "SELECT * FROM application WHERE name = :name", nativeQuery = true)
+    @EntityGraph(value = "application.permissions")
+    @Query("SELECT a FROM ApplicationEntity a WHERE a.name = :name")
     Optional<ApplicationEntity> getApplicationByName(@Param("name") String name);
 }
@@ -0,0 +1,65 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import io.nuvalence.user.management.api.service.models.KeysetPageRequest;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Runs specification queries a keyset page at a time. Each page is one statement, limited to one
+ * row more than the page size to tell whether another page follows, and never counted.
+ */
+@Repository
+@RequiredArgsConstructor
+public class KeysetQueryExecutor {
+    private final EntityManager entityManager;
+
+    /**
+     * Reads the page of entities matching a specification that follows the page request's
+     * continuation token.
+     *
+     * @param domainClass entity type
+     * @param specification filters, may be null
+     * @param page keyset page request
+     * @param <T> entity type
+     * @return slice of entities with the continuation token of the next slice
+     */
+    public <T> KeysetSlice<T> findAll(
+            Class<T> domainClass, Specification<T> specification, KeysetPageRequest page) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = criteriaBuilder.createQuery(domainClass);
+        final Root<T> root = query.from(domainClass);
+
+        final Predicate predicate =
+                Specification.where(specification)
+                        .and(page.<T>getAfterSpecification())
+                        .toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(page.getSort(), root, criteriaBuilder));
+
+        final List<T> rows =
+                entityManager
+                        .createQuery(query)
+                        .setMaxResults(page.getPageSize() + 1)
+                        .getResultList();
+
+        final boolean hasNext = rows.size() > page.getPageSize();
+        final List<T> content = hasNext ? rows.subList(0, page.getPageSize()) : rows;
+        return new KeysetSlice<>(
+                content,
+                PageRequest.ofSize(page.getPageSize()).withSort(page.getSort()),
+                hasNext ? page.nextPageToken(content.get(content.size() - 1)) : null);
+    }
+}
@@ -0,0 +1,39 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import io.nuvalence.user.management.api.service.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Locks the oldest events that are due, leaving out those of business objects whose earlier
+     * events are still backing off so that they aren't published out of order. Parked events are
+     * neither due nor hold back later ones.
+     *
+     * @param now current time
+     * @param pageable batch size
+     * @return events in the order they were written
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "SELECT o FROM OutboxEventEntity o WHERE o.nextAttemptTimestamp <= :now"
+                    + " AND o.parkedTimestamp IS NULL"
+                    + " AND NOT EXISTS (SELECT p FROM OutboxEventEntity p"
+                    + " WHERE p.orderingKey = o.orderingKey AND p.id < o.id"
+                    + " AND p.nextAttemptTimestamp > :now AND p.parkedTimestamp IS NULL)"
+                    + " ORDER BY o.id")
+    List<OutboxEventEntity> findDue(@Param("now") OffsetDateTime now, Pageable pageable);
+
+    Optional<OutboxEventEntity> findFirstByParkedTimestampIsNullOrderByIdAsc();
+
+    long countByParkedTimestampIsNotNull();
+}
@@ -0,0 +1,162 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.nuvalence.user.management.api.service.enums.CountMode;
+import io.nuvalence.user.management.api.service.util.UserUtility;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs specification queries a page number at a time, obtaining the total count the way the
+ * caller asks for.
+ *
+ * <p>An exact count is a second query over the same joins as the page itself, which for
+ * searches like users by role costs as much as reading the page. Estimated counts are taken from
+ * a cache of recent exact counts of the same search, so paging through a result set counts it
+ * once per max age. Without a count, one row more than the page size is read to tell whether
+ * another page follows.</p>
+ */
+@Repository
+public class PageQueryExecutor {
+    static final String CACHE_NAME = "pageTotalCounts";
+
+    private final EntityManager entityManager;
+    private final Cache<List<Object>, Long> totalCounts;
+
+    /**
+     * Creates the executor and binds the statistics of its count cache to the meter registry.
+     *
+     * @param entityManager entity manager the queries run on
+     * @param maxAge how long a count may be reused as an estimate
+     * @param maxSize maximum number of searches whose counts are kept
+     * @param meterRegistry registry the cache statistics are published to
+     */
+    public PageQueryExecutor(
+            EntityManager entityManager,
+            @Value("${paging.estimated-count.max-age:1m}") Duration maxAge,
+            @Value("${paging.estimated-count.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        this.totalCounts =
+                Caffeine.newBuilder()
+                        .expireAfterWrite(maxAge)
+                        .maximumSize(maxSize)
+                        .recordStats()
+                        .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, totalCounts, CACHE_NAME);
+    }
+
+    /**
+     * Reads a page of the entities matching a specification.
+     *
+     * @param domainClass entity type
+     * @param specification filters, may be null
+     * @param pageable page number, size and sort
+     * @param countMode how the total count is obtained
+     * @param countKey identifies the search, whatever the page and sort, for estimated counts
+     * @param <T> entity type
+     * @return a {@link org.springframework.data.domain.Page} with the total count, or a slice
+     *     that only knows whether a next page exists if the count mode is none
+     */
+    public <T> Slice<T> findAll(
+            Class<T> domainClass,
+            Specification<T> specification,
+            Pageable pageable,
+            CountMode countMode,
+            List<?> countKey) {
+        final TypedQuery<T> query = createQuery(domainClass, specification, pageable);
+        if (countMode == CountMode.NONE) {
+            final List<T> rows = query.setMaxResults(pageable.getPageSize() + 1).getResultList();
+            final boolean hasNext = rows.size() > pageable.getPageSize();
+            return new SliceImpl<>(
+                    hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+        }
+
+        final List<T> rows = query.setMaxResults(pageable.getPageSize()).getResultList();
+        final LongSupplier count = () -> count(domainClass, specification);
+        if (countMode == CountMode.EXACT) {
+            return PageableExecutionUtils.getPage(rows, pageable, count);
+        }
+
+        // authorization may narrow a search to what the caller can see, so counts aren't shared
+        final List<Object> key = new ArrayList<>();
+        key.add(domainClass);
+        key.add(UserUtility.getCurrentApplicationUserId().orElse(null));
+        key.addAll(countKey);
+        return PageableExecutionUtils.getPage(
+                rows, pageable, () -> totalCounts.get(key, k -> count.getAsLong()));
+    }
+
+    private <T> TypedQuery<T> createQuery(
+            Class<T> domainClass, Specification<T> specification, Pageable pageable) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = criteriaBuilder.createQuery(domainClass);
+        final Root<T> root = query.from(domainClass);
+
+        final Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        return entityManager.createQuery(query).setFirstResult((int) pageable.getOffset());
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> specification) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        final Root<T> root = query.from(domainClass);
+
+        final Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(
+                query.isDistinct()
+                        ? criteriaBuilder.countDistinct(root)
+                        : criteriaBuilder.count(root));
+        query.orderBy(Collections.emptyList());
+
+        // a specification that groups yields one count per group
+        long total = 0;
+        for (Long groupCount : entityManager.createQuery(query).getResultList()) {
+            total += groupCount == null ? 0 : groupCount;
+        }
+        return total;
+    }
+
+    private static <T> Predicate toPredicate(
+            Specification<T> specification,
+            Root<T> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder criteriaBuilder) {
+        return specification == null
+                ? null
+                : specification.toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,64 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import io.nuvalence.user.management.api.service.entity.profile.ProfileLink;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read only queries spanning individual and employer profile links.
+ */
+public interface ProfileLinkRepository extends Repository<ProfileLink<?>, UUID> {
+
+    /**
+     * Lists the profiles a user is linked to, without loading the links, users or profiles.
+     *
+     * @param userId id of the user
+     * @return one row per profile link
+     */
+    @Query(
+            value =
+                    "SELECT COALESCE(individual_profile_id, employer_profile_id) AS id,"
+                            + " profile_type AS type, profile_access_level AS level"
+                            + " FROM profile_link WHERE user_id = :userId",
+            nativeQuery = true)
+    List<AccessProfileRow> findAccessProfilesByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Lists the profiles each of the given users is linked to, in one query.
+     *
+     * @param userIds ids of the users
+     * @return one row per profile link
+     */
+    @Query(
+            value =
+                    "SELECT user_id AS userId,"
+                            + " COALESCE(individual_profile_id, employer_profile_id) AS id,"
+                            + " profile_type AS type, profile_access_level AS level"
+                            + " FROM profile_link WHERE user_id IN (:userIds)",
+            nativeQuery = true)
+    List<UserAccessProfileRow> findAccessProfilesByUserIds(
+            @Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Projection of a profile link to the columns needed for authorization.
+     */
+    interface AccessProfileRow {
+        UUID getId();
+
+        String getType();
+
+        String getLevel();
+    }
+
+    /**
+     * Projection of a profile link that also tells which user it belongs to.
+     */
+    interface UserAccessProfileRow extends AccessProfileRow {
+        UUID getUserId();
+    }
+}
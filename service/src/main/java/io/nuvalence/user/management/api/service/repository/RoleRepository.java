@@ -2,10 +2,13 @@ package io.nuvalence.user.management.api.service.repository;
 
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
 import io.nuvalence.user.management.api.service.enums.UserType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,9 +20,68 @@ import java.util.UUID;
 @Repository
 public interface RoleRepository extends JpaRepository<RoleEntity, UUID> {
 
+    @EntityGraph(value = "role.permissions")
+    @Query("select r from RoleEntity r")
+    List<RoleEntity> findAllWithPermissions();
+
+    @EntityGraph(value = "role.permissions")
+    @Query("select r from RoleEntity r where r.id = :id")
+    Optional<RoleEntity> findByIdWithPermissions(@Param("id") UUID id);
+
     @Query("select r from RoleEntity r where r.name = ?1")
     Optional<RoleEntity> findByName(String name);
 
     @Query("SELECT r FROM RoleEntity r WHERE :userType MEMBER OF r.defaultUserTypes")
     List<RoleEntity> findAllByUserType(@Param("userType") UserType userType);
+
+    /**
+     * Counts the users assigned to a role from the {@code user_role} table alone.
+     *
+     * @param roleId id of the role
+     * @return number of members
+     */
+    @Query(value = "SELECT COUNT(*) FROM user_role WHERE role_id = :roleId", nativeQuery = true)
+    long countMembersByRoleId(@Param("roleId") UUID roleId);
+
+    /**
+     * Lists every role and active application role pair granted through role_permission.
+     *
+     * @return one row per role and active permission
+     */
+    @Query(
+            value =
+                    "SELECT rp.role_id AS roleId, p.application_role AS applicationRole"
+                            + " FROM role_permission rp"
+                            + " JOIN permission p ON p.id = rp.permission_id"
+                            + " WHERE p.active = true",
+            nativeQuery = true)
+    List<RoleApplicationRoleRow> findActiveApplicationRoles();
+
+    /**
+     * Reads the version of the role permissions, which every change to roles or permissions
+     * raises.
+     *
+     * @return role permission version
+     */
+    @Query(value = "SELECT version FROM role_permission_version WHERE id = 1", nativeQuery = true)
+    long findRolePermissionVersion();
+
+    /**
+     * Raises the version of the role permissions, in the transaction that changes them.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "UPDATE role_permission_version SET version = version + 1 WHERE id = 1",
+            nativeQuery = true)
+    void incrementRolePermissionVersion();
+
+    /**
+     * Projection of an active application role granted by a role.
+     */
+    interface RoleApplicationRoleRow {
+        UUID getRoleId();
+
+        String getApplicationRole();
+    }
 }
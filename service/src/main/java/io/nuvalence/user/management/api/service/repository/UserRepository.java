@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,17 +30,82 @@ public interface UserRepository
     @Query("SELECT u FROM UserEntity u")
     Page<UserEntity> findAll(Pageable pageable);
 
-    @Query("SELECT p FROM PublicUser u JOIN u.individualProfile p WHERE u.id = :userId")
-    Optional<IndividualProfile> findProfileByUserId(@Param("userId") UUID userId);
+    @Query("SELECT u FROM UserEntity u JOIN u.roles r WHERE r.id = :roleId")
+    List<UserEntity> findByRoleId(@Param("roleId") UUID roleId, Pageable pageable);
+
+    /**
+     * Users that are not deleted and hold an active application role through any of their roles.
+     * The semi-join is index backed all the way: permission by its unique application_role,
+     * role_permission by its (permission_id, role_id) primary key and user_role by its
+     * (role_id, user_id) unique constraint.
+     */
+    String APPLICATION_ROLE_HOLDERS =
+            "SELECT u.* FROM user_table u WHERE u.deleted = false AND u.id IN ("
+                    + "SELECT ur.user_id FROM permission p"
+                    + " JOIN role_permission rp ON rp.permission_id = p.id"
+                    + " JOIN user_role ur ON ur.role_id = rp.role_id"
+                    + " WHERE p.application_role = :applicationRole AND p.active = true)";
 
+    /**
+     * Lists the first users holding an application role, by id.
+     *
+     * @param applicationRole application role
+     * @param limit maximum number of users
+     * @return users ordered by id
+     */
     @Query(
-            "SELECT u FROM UserEntity u WHERE LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))"
-                    + " AND u.deleted = false")
-    List<UserEntity> findByEmailContainingIgnoreCaseAndDeletedFalse(@Param("email") String email);
+            value = APPLICATION_ROLE_HOLDERS + " ORDER BY u.id LIMIT :limit",
+            nativeQuery = true)
+    List<UserEntity> findByApplicationRole(
+            @Param("applicationRole") String applicationRole, @Param("limit") int limit);
+
+    /**
+     * Lists the users holding an application role that come after the given id, by id.
+     *
+     * @param applicationRole application role
+     * @param after id of the last user already read
+     * @param limit maximum number of users
+     * @return users ordered by id
+     */
+    @Query(
+            value = APPLICATION_ROLE_HOLDERS + " AND u.id > :after ORDER BY u.id LIMIT :limit",
+            nativeQuery = true)
+    List<UserEntity> findByApplicationRoleAfter(
+            @Param("applicationRole") String applicationRole,
+            @Param("after") UUID after,
+            @Param("limit") int limit);
+
+    /**
+     * Lists the ids of the roles assigned to a user, from the {@code user_role} table alone.
+     *
+     * @param userId id of the user
+     * @return role ids
+     */
+    @Query(value = "SELECT role_id FROM user_role WHERE user_id = :userId", nativeQuery = true)
+    List<UUID> findRoleIdsByUserId(@Param("userId") UUID userId);
 
+    /**
+     * Lists the ids of the roles assigned to each of the given users, in one query.
+     *
+     * @param userIds ids of the users
+     * @return one row per user and role
+     */
     @Query(
-            "SELECT u FROM UserEntity u WHERE (LOWER(u.firstName) LIKE LOWER(CONCAT('%', :name,"
-                + " '%')) OR LOWER(u.middleName) LIKE LOWER(CONCAT('%', :name, '%')) OR"
-                + " LOWER(u.lastName) LIKE LOWER(CONCAT('%', :name, '%'))) AND u.deleted = false")
-    List<UserEntity> findByNameContainingIgnoreCaseAndDeletedFalse(@Param("name") String name);
+            value =
+                    "SELECT user_id AS userId, role_id AS roleId FROM user_role"
+                            + " WHERE user_id IN (:userIds)",
+            nativeQuery = true)
+    List<UserRoleRow> findRoleIdsByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT p FROM PublicUser u JOIN u.individualProfile p WHERE u.id = :userId")
+    Optional<IndividualProfile> findProfileByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Projection of a role assigned to a user.
+     */
+    interface UserRoleRow {
+        UUID getUserId();
+
+        UUID getRoleId();
+    }
 }
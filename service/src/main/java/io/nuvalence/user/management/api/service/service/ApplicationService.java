@@ -23,6 +23,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ApplicationService {
     private final ApplicationRepository applicationRepository;
+    private final RolePermissionEngine rolePermissionEngine;
 
     /**
      * Returns a list of all applications.
@@ -98,5 +99,6 @@ public class ApplicationService {
         }
 
         applicationRepository.save(application);
+        rolePermissionEngine.invalidate();
     }
 }
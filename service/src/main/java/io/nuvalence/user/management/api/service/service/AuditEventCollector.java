@@ -0,0 +1,76 @@
+package io.nuvalence.user.management.api.service.service;
+
+import io.nuvalence.events.event.AuditEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects the audit events raised during a transaction and adds them to the outbox just before
+ * it commits, as one entry per business object holding its events in the order they were raised.
+ * A request that updates a profile, its links and their access levels thus writes and publishes
+ * its audit events together instead of one at a time.
+ *
+ * <p>Events raised outside of a transaction are added to the outbox right away.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditEventCollector {
+    private final OutboxService outboxService;
+
+    /**
+     * Collects an audit event.
+     *
+     * @param event audit event
+     * @param topic fully qualified name of the topic to publish to
+     * @param businessObjectId id of the business object the event is about
+     */
+    public void collect(AuditEvent event, String topic, UUID businessObjectId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxService.enqueue(event, topic, businessObjectId);
+            return;
+        }
+
+        currentBatch()
+                .events
+                .computeIfAbsent(new Key(topic, businessObjectId), key -> new ArrayList<>())
+                .add(event);
+    }
+
+    private Batch currentBatch() {
+        for (TransactionSynchronization synchronization :
+                TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Batch batch && batch.isCollectedBy(this)) {
+                return batch;
+            }
+        }
+
+        final Batch batch = new Batch();
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch;
+    }
+
+    private record Key(String topic, UUID businessObjectId) {}
+
+    private final class Batch implements TransactionSynchronization {
+        private final Map<Key, List<AuditEvent>> events = new LinkedHashMap<>();
+
+        boolean isCollectedBy(AuditEventCollector collector) {
+            return AuditEventCollector.this == collector;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            events.forEach(
+                    (key, batch) ->
+                            outboxService.enqueueAll(batch, key.topic(), key.businessObjectId()));
+        }
+    }
+}
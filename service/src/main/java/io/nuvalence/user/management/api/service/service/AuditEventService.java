@@ -2,7 +2,6 @@ package io.nuvalence.user.management.api.service.service;
 
 import io.nuvalence.events.brokerclient.config.PublisherProperties;
 import io.nuvalence.events.event.AuditEvent;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.user.management.api.service.config.exception.UnexpectedException;
 import io.nuvalence.user.management.api.service.events.EventFactory;
 import io.nuvalence.user.management.api.service.events.PublisherTopic;
@@ -23,7 +22,7 @@ import javax.annotation.PostConstruct;
 @RequiredArgsConstructor
 public class AuditEventService {
 
-    private final EventGateway eventGateway;
+    private final AuditEventCollector auditEventCollector;
     private final PublisherProperties publisherProperties;
     private final RequestContextTimestamp requestContextTimestamp;
 
@@ -46,7 +45,9 @@ public class AuditEventService {
     }
 
     /**
-     * Post state change events to audit service.
+     * Post state change events to audit service, through the outbox so that the event is only
+     * sent if the caller's transaction commits, together with the other audit events raised in
+     * that transaction.
      * @param auditEvent object containing specifics of the audit evet.
      * @return Result audit event id.
      */
@@ -61,7 +62,8 @@ public class AuditEventService {
                         auditEvent.getBusinessObjectType());
         event.getMetadata().setTimestamp(requestContextTimestamp.getCurrentTimestamp());
 
-        eventGateway.publishEvent(event, this.fullyQualifiedTopicName);
+        auditEventCollector.collect(
+                event, this.fullyQualifiedTopicName, auditEvent.getBusinessObjectId());
 
         return event.getMetadata().getId();
     }
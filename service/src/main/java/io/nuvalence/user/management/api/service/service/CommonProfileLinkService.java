@@ -1,11 +1,17 @@
 package io.nuvalence.user.management.api.service.service;
 
+import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import io.nuvalence.user.management.api.service.repository.ProfileLinkRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -14,6 +20,7 @@ public class CommonProfileLinkService {
 
     private final IndividualProfileLinkService individualProfileLinkService;
     private final EmployerProfileLinkService employerProfileLinkService;
+    private final ProfileLinkRepository profileLinkRepository;
 
     public List<AccessProfileDto> getProfilesByUserId(UUID userId) {
         List<AccessProfileDto> profiles = new ArrayList<>();
@@ -37,4 +44,33 @@ public class CommonProfileLinkService {
                                                 .build()));
         return profiles;
     }
+
+    /**
+     * Lists the individual and employer profiles each of the given users is linked to, with a
+     * single query for all of them.
+     *
+     * @param userIds ids of the users
+     * @return profiles by user id; users without links are left out
+     */
+    public Map<UUID, List<AccessProfileDto>> getProfilesByUserIds(Collection<UUID> userIds) {
+        Map<UUID, List<AccessProfileDto>> profiles = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return profiles;
+        }
+
+        profileLinkRepository
+                .findAccessProfilesByUserIds(userIds)
+                .forEach(
+                        row ->
+                                profiles.computeIfAbsent(row.getUserId(), id -> new ArrayList<>())
+                                        .add(
+                                                AccessProfileDto.builder()
+                                                        .id(row.getId())
+                                                        .type(ProfileType.fromValue(row.getType()))
+                                                        .level(
+                                                                ProfileAccessLevel.valueOf(
+                                                                        row.getLevel()))
+                                                        .build()));
+        return profiles;
+    }
 }
@@ -1,11 +1,17 @@
 package io.nuvalence.user.management.api.service.service;
 
+import io.nuvalence.user.management.api.service.cerbos.AccessProfileCache;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.models.EmployerProfileLinkFilters;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.repository.EmployerProfileLinkRepository;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,26 +23,52 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EmployerProfileLinkService {
     private final EmployerProfileLinkRepository repository;
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+    private final AccessProfileCache accessProfileCache;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final PageQueryExecutor pageQueryExecutor;
 
     public Optional<EmployerProfileLink> getEmployerUserLink(UUID profileId, UUID userId) {
         return repository.findByProfileIdAndUserId(profileId, userId);
     }
 
     public EmployerProfileLink saveEmployerUserLink(EmployerProfileLink employerUserLink) {
-        return repository.save(employerUserLink);
+        final EmployerProfileLink saved = repository.save(employerUserLink);
+        invalidateAuthorizationDecisions(employerUserLink);
+        return saved;
     }
 
-    public void deleteEmployerUserLink(UUID id) {
-        repository.deleteById(id);
+    public void deleteEmployerUserLink(EmployerProfileLink employerUserLink) {
+        repository.delete(employerUserLink);
+        invalidateAuthorizationDecisions(employerUserLink);
     }
 
-    public Page<EmployerProfileLink> getEmployerUserLinks(
-            final EmployerProfileLinkFilters filters) {
-        return repository.findAll(
-                filters.getEmployerUserLinkSpecification(), filters.getPageRequest());
+    public KeysetSlice<EmployerProfileLink> getEmployerUserLinks(
+            final EmployerProfileLinkFilters filters, final String pageToken) {
+        return keysetQueryExecutor.findAll(
+                EmployerProfileLink.class,
+                filters.getEmployerUserLinkSpecification(),
+                filters.getKeysetPageRequest(pageToken));
+    }
+
+    public Slice<EmployerProfileLink> getEmployerUserLinks(
+            final EmployerProfileLinkFilters filters, final CountMode countMode) {
+        return pageQueryExecutor.findAll(
+                EmployerProfileLink.class,
+                filters.getEmployerUserLinkSpecification(),
+                filters.getPageRequest(),
+                countMode,
+                filters.getCountKey());
     }
 
     public List<EmployerProfileLink> getEmployerLinksByUserId(UUID userId) {
         return repository.findByUserId(userId);
     }
+
+    private void invalidateAuthorizationDecisions(EmployerProfileLink link) {
+        if (link.getUser() != null) {
+            authorizationDecisionCache.invalidatePrincipal(link.getUser().getId());
+            accessProfileCache.evict(link.getUser().getId());
+        }
+    }
 }
@@ -1,22 +1,39 @@
 package io.nuvalence.user.management.api.service.service;
 
 import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
 import io.nuvalence.user.management.api.service.entity.profile.Address;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
+import io.nuvalence.user.management.api.service.generated.models.AddressModel;
+import io.nuvalence.user.management.api.service.generated.models.EmployerProfileUpdateModel;
+import io.nuvalence.user.management.api.service.mapper.EmployerProfileMapper;
 import io.nuvalence.user.management.api.service.models.EmployerFilters;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileCreatedAuditEventDto;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileUserAddedAuditEventDto;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileUserRemovedAuditEventDto;
 import io.nuvalence.user.management.api.service.repository.EmployerProfileRepository;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
+import io.nuvalence.user.management.api.service.util.JsonMergePatcher;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,10 +46,54 @@ import java.util.UUID;
 public class EmployerProfileService {
     private final EmployerProfileRepository repository;
     private final AuditEventService auditEventService;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final EmployerProfileMapper mapper;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final EntityManager entityManager;
 
-    public Page<EmployerProfile> getEmployersByFilters(final EmployerFilters filters) {
-        return repository.findAll(
-                filters.getEmployerProfileSpecification(), filters.getPageRequest());
+    /**
+     * Gets the keyset page of employer profiles matching the filters and an authorization
+     * specification that follows a continuation token.
+     *
+     * @param filters search filters
+     * @param authorizationSpecification specification of the profiles the caller may see, or null
+     *     if the caller may see all of them
+     * @param pageToken continuation token of the previous page, or null for the first page
+     * @return slice of employer profiles
+     */
+    public KeysetSlice<EmployerProfile> getEmployersByFilters(
+            final EmployerFilters filters,
+            final Specification<EmployerProfile> authorizationSpecification,
+            final String pageToken) {
+        return keysetQueryExecutor.findAll(
+                EmployerProfile.class,
+                Specification.where(filters.getEmployerProfileSpecification())
+                        .and(authorizationSpecification),
+                filters.getKeysetPageRequest(pageToken));
+    }
+
+    /**
+     * Gets a page of employer profiles matching the filters and an authorization specification,
+     * counted the way the caller asks for.
+     *
+     * @param filters search filters
+     * @param authorizationSpecification specification of the profiles the caller may see, or null
+     *     if the caller may see all of them
+     * @param countMode how the total count is obtained
+     * @return page of employer profiles, or a slice without a total count if the mode is none
+     */
+    public Slice<EmployerProfile> getEmployersByFilters(
+            final EmployerFilters filters,
+            final Specification<EmployerProfile> authorizationSpecification,
+            final CountMode countMode) {
+        return pageQueryExecutor.findAll(
+                EmployerProfile.class,
+                Specification.where(filters.getEmployerProfileSpecification())
+                        .and(authorizationSpecification),
+                filters.getPageRequest(),
+                countMode,
+                filters.getCountKey());
     }
 
     /**
@@ -50,7 +111,24 @@ public class EmployerProfileService {
     }
 
     /**
-     * Saves a single employer profile.
+     * Gets an employer profile by ID to update it. The profile, and everything else the transaction
+     * reads from then on, is read from the database instead of the second-level cache, which is
+     * kept per instance and may hold a copy older than another instance's last change.
+     *
+     * @param id the ID of the employer profile to get
+     * @return the employer profile
+     */
+    public Optional<EmployerProfile> getEmployerForUpdate(final UUID id) {
+        entityManager.setProperty(
+                AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+        entityManager.setProperty(
+                AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.REFRESH);
+        return getEmployerById(id);
+    }
+
+    /**
+     * Saves a single employer profile, flushing it so that the changes are recorded for the audit
+     * events raised in the caller's transaction.
      *
      * @param employer the employer profile to save
      * @return the saved employer profile
@@ -66,7 +144,84 @@ public class EmployerProfileService {
             }
         }
 
-        return repository.save(employer);
+        return repository.saveAndFlush(employer);
+    }
+
+    /**
+     * Applies a JSON merge patch to an employer profile and flushes it. Only the columns the patch
+     * changes are updated, and the other names, mailing address and locations are updated in place
+     * instead of being deleted and inserted again.
+     *
+     * @param id the ID of the employer profile to patch
+     * @param patch JSON merge patch of an employer profile update model
+     * @return the patched employer profile, or empty if there is none with this ID
+     * @throws ProvidedDataException if the patched employer profile isn't valid
+     */
+    public Optional<EmployerProfile> patchEmployer(
+            final UUID id, final Map<String, Object> patch) {
+        return getEmployerForUpdate(id)
+                .map(
+                        employer -> {
+                            final EmployerProfileUpdateModel updateModel =
+                                    jsonMergePatcher.apply(
+                                            mapper.employerToUpdateModel(employer),
+                                            patch,
+                                            EmployerProfileUpdateModel.class);
+
+                            mapper.updateEmployer(updateModel, employer);
+                            patchOtherNames(employer, updateModel.getOtherNames());
+
+                            final Address mailingAddress =
+                                    patchAddress(
+                                            employer.getMailingAddress(),
+                                            updateModel.getMailingAddress());
+                            if (mailingAddress != null) {
+                                mailingAddress.setEmployerForMailing(employer);
+                            }
+                            employer.setMailingAddress(mailingAddress);
+
+                            patchLocations(employer, updateModel.getLocations());
+                            repository.flush();
+                            return employer;
+                        });
+    }
+
+    private void patchOtherNames(final EmployerProfile employer, final List<String> otherNames) {
+        final List<String> patched = otherNames == null ? List.of() : otherNames;
+        // a bag equals only itself, its elements are compared instead
+        if (!new ArrayList<>(employer.getOtherNames()).equals(patched)) {
+            employer.getOtherNames().clear();
+            employer.getOtherNames().addAll(patched);
+        }
+    }
+
+    private void patchLocations(final EmployerProfile employer, final List<AddressModel> patched) {
+        final List<AddressModel> locations = patched == null ? List.of() : patched;
+        final List<Address> current = employer.getLocations();
+        for (int i = 0; i < locations.size(); i++) {
+            if (i < current.size()) {
+                mapper.updateAddress(locations.get(i), current.get(i));
+            } else {
+                final Address location = mapper.addressModelToAddress(locations.get(i));
+                location.setEmployerForLocations(employer);
+                current.add(location);
+            }
+        }
+        while (current.size() > locations.size()) {
+            current.remove(current.size() - 1);
+        }
+    }
+
+    private Address patchAddress(final Address address, final AddressModel addressModel) {
+        if (addressModel == null) {
+            return null;
+        }
+        if (address == null) {
+            return mapper.addressModelToAddress(addressModel);
+        }
+
+        mapper.updateAddress(addressModel, address);
+        return address;
     }
 
     /**
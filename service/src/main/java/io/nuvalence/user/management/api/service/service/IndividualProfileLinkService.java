@@ -1,11 +1,17 @@
 package io.nuvalence.user.management.api.service.service;
 
+import io.nuvalence.user.management.api.service.cerbos.AccessProfileCache;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.models.IndividualProfileLinksFilters;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.repository.IndividualProfileLinkRepository;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,10 +24,16 @@ import java.util.UUID;
 public class IndividualProfileLinkService {
     private final IndividualProfileService individualService;
     private final IndividualProfileLinkRepository repository;
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+    private final AccessProfileCache accessProfileCache;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final PageQueryExecutor pageQueryExecutor;
 
     public IndividualProfileLink saveIndividualUserLink(
             final IndividualProfileLink individualUserLink) {
-        return repository.save(individualUserLink);
+        final IndividualProfileLink saved = repository.save(individualUserLink);
+        invalidateAuthorizationDecisions(individualUserLink);
+        return saved;
     }
 
     public Optional<IndividualProfileLink> getIndividualUserLinkByProfileAndUserId(
@@ -35,15 +47,35 @@ public class IndividualProfileLinkService {
 
     public void deleteIndividualUserLink(IndividualProfileLink individualUserLink) {
         repository.delete(individualUserLink);
+        invalidateAuthorizationDecisions(individualUserLink);
     }
 
-    public Page<IndividualProfileLink> getIndividualLinksByFilters(
-            final IndividualProfileLinksFilters filters) {
-        return repository.findAll(
-                filters.getIndividualLinksSpecification(), filters.getPageRequest());
+    public KeysetSlice<IndividualProfileLink> getIndividualLinksByFilters(
+            final IndividualProfileLinksFilters filters, final String pageToken) {
+        return keysetQueryExecutor.findAll(
+                IndividualProfileLink.class,
+                filters.getIndividualLinksSpecification(),
+                filters.getKeysetPageRequest(pageToken));
+    }
+
+    public Slice<IndividualProfileLink> getIndividualLinksByFilters(
+            final IndividualProfileLinksFilters filters, final CountMode countMode) {
+        return pageQueryExecutor.findAll(
+                IndividualProfileLink.class,
+                filters.getIndividualLinksSpecification(),
+                filters.getPageRequest(),
+                countMode,
+                filters.getCountKey());
     }
 
     public List<IndividualProfileLink> getIndividualLinksByUserId(UUID userId) {
         return repository.findByUserId(userId);
     }
+
+    private void invalidateAuthorizationDecisions(IndividualProfileLink link) {
+        if (link.getUser() != null) {
+            authorizationDecisionCache.invalidatePrincipal(link.getUser().getId());
+            accessProfileCache.evict(link.getUser().getId());
+        }
+    }
 }
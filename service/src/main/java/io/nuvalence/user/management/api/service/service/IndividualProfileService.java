@@ -1,22 +1,38 @@
 package io.nuvalence.user.management.api.service.service;
 
 import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
+import io.nuvalence.user.management.api.service.entity.profile.Address;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
+import io.nuvalence.user.management.api.service.generated.models.AddressModel;
+import io.nuvalence.user.management.api.service.generated.models.IndividualProfileUpdateModel;
+import io.nuvalence.user.management.api.service.mapper.IndividualProfileMapper;
 import io.nuvalence.user.management.api.service.models.IndividualFilters;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileCreatedAuditEventDto;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileUserAddedAuditEventDto;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileUserRemovedAuditEventDto;
 import io.nuvalence.user.management.api.service.repository.IndividualProfileRepository;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
+import io.nuvalence.user.management.api.service.util.JsonMergePatcher;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +48,11 @@ public class IndividualProfileService {
             "An error has occurred when recording a creation audit event for an";
     private final IndividualProfileRepository repository;
     private final AuditEventService auditEventService;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final IndividualProfileMapper mapper;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final EntityManager entityManager;
 
     public IndividualProfile saveIndividual(final IndividualProfile individual) {
         if (individual.getMailingAddress() != null) {
@@ -41,7 +62,64 @@ public class IndividualProfileService {
         if (individual.getPrimaryAddress() != null) {
             individual.getPrimaryAddress().setIndividualForAddress(individual);
         }
-        return repository.save(individual);
+        return repository.saveAndFlush(individual);
+    }
+
+    /**
+     * Applies a JSON merge patch to an individual profile and flushes it. Only the columns the
+     * patch changes are updated, and the addresses are updated in place instead of being deleted
+     * and inserted again.
+     *
+     * @param id the ID of the individual profile to patch
+     * @param patch JSON merge patch of an individual profile update model
+     * @return the patched individual profile, or empty if there is none with this ID
+     * @throws ProvidedDataException if the patched individual profile isn't valid
+     */
+    public Optional<IndividualProfile> patchIndividual(
+            final UUID id, final Map<String, Object> patch) {
+        return getIndividualForUpdate(id)
+                .map(
+                        individual -> {
+                            final IndividualProfileUpdateModel updateModel =
+                                    jsonMergePatcher.apply(
+                                            mapper.individualToUpdateModel(individual),
+                                            patch,
+                                            IndividualProfileUpdateModel.class);
+
+                            mapper.updateIndividual(updateModel, individual);
+
+                            final Address mailingAddress =
+                                    patchAddress(
+                                            individual.getMailingAddress(),
+                                            updateModel.getMailingAddress());
+                            if (mailingAddress != null) {
+                                mailingAddress.setIndividualForMailing(individual);
+                            }
+                            individual.setMailingAddress(mailingAddress);
+
+                            final Address primaryAddress =
+                                    patchAddress(
+                                            individual.getPrimaryAddress(),
+                                            updateModel.getPrimaryAddress());
+                            if (primaryAddress != null) {
+                                primaryAddress.setIndividualForAddress(individual);
+                            }
+                            individual.setPrimaryAddress(primaryAddress);
+                            repository.flush();
+                            return individual;
+                        });
+    }
+
+    private Address patchAddress(final Address address, final AddressModel addressModel) {
+        if (addressModel == null) {
+            return null;
+        }
+        if (address == null) {
+            return mapper.addressModelToAddress(addressModel);
+        }
+
+        mapper.updateAddress(addressModel, address);
+        return address;
     }
 
     /**
@@ -58,9 +136,64 @@ public class IndividualProfileService {
         return repository.findById(id);
     }
 
-    public Page<IndividualProfile> getIndividualsByFilters(final IndividualFilters filters) {
-        return repository.findAll(
-                filters.getIndividualProfileSpecification(), filters.getPageRequest());
+    /**
+     * Gets an individual profile by ID to update it. The profile, and everything else the
+     * transaction reads from then on, is read from the database instead of the second-level cache,
+     * which is kept per instance and may hold a copy older than another instance's last change.
+     *
+     * @param id the ID of the individual profile to get
+     * @return the individual profile
+     */
+    public Optional<IndividualProfile> getIndividualForUpdate(final UUID id) {
+        entityManager.setProperty(
+                AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+        entityManager.setProperty(
+                AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.REFRESH);
+        return getIndividualById(id);
+    }
+
+    /**
+     * Gets the keyset page of individual profiles matching the filters and an authorization
+     * specification that follows a continuation token.
+     *
+     * @param filters search filters
+     * @param authorizationSpecification specification of the profiles the caller may see, or null
+     *     if the caller may see all of them
+     * @param pageToken continuation token of the previous page, or null for the first page
+     * @return slice of individual profiles
+     */
+    public KeysetSlice<IndividualProfile> getIndividualsByFilters(
+            final IndividualFilters filters,
+            final Specification<IndividualProfile> authorizationSpecification,
+            final String pageToken) {
+        return keysetQueryExecutor.findAll(
+                IndividualProfile.class,
+                Specification.where(filters.getIndividualProfileSpecification())
+                        .and(authorizationSpecification),
+                filters.getKeysetPageRequest(pageToken));
+    }
+
+    /**
+     * Gets a page of individual profiles matching the filters and an authorization
+     * specification, counted the way the caller asks for.
+     *
+     * @param filters search filters
+     * @param authorizationSpecification specification of the profiles the caller may see, or null
+     *     if the caller may see all of them
+     * @param countMode how the total count is obtained
+     * @return page of individual profiles, or a slice without a total count if the mode is none
+     */
+    public Slice<IndividualProfile> getIndividualsByFilters(
+            final IndividualFilters filters,
+            final Specification<IndividualProfile> authorizationSpecification,
+            final CountMode countMode) {
+        return pageQueryExecutor.findAll(
+                IndividualProfile.class,
+                Specification.where(filters.getIndividualProfileSpecification())
+                        .and(authorizationSpecification),
+                filters.getPageRequest(),
+                countMode,
+                filters.getCountKey());
     }
 
     /**
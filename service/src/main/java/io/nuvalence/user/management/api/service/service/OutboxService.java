@@ -0,0 +1,80 @@
+package io.nuvalence.user.management.api.service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.events.event.Event;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.config.exception.UnexpectedException;
+import io.nuvalence.user.management.api.service.entity.OutboxEventEntity;
+import io.nuvalence.user.management.api.service.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes events to the outbox in the caller's transaction, so that they are published if and
+ * only if it commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Adds an event to the outbox.
+     *
+     * @param event event to publish
+     * @param topic fully qualified name of the topic to publish to
+     * @param orderingKey id of the business object the event is about; events with the same key
+     *     are published in the order they were added
+     */
+    @Transactional
+    public void enqueue(Event event, String topic, UUID orderingKey) {
+        enqueueAll(List.of(event), topic, orderingKey);
+    }
+
+    /**
+     * Adds events of the same type to the outbox as a single entry, published together in the
+     * order given.
+     *
+     * @param events events to publish
+     * @param topic fully qualified name of the topic to publish to
+     * @param orderingKey id of the business object the events are about; events with the same key
+     *     are published in the order they were added
+     * @throws IllegalArgumentException if there are no events or they aren't of the same type
+     */
+    @Transactional
+    public void enqueueAll(List<? extends Event> events, String topic, UUID orderingKey) {
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("No events to add to the outbox");
+        }
+        final Class<? extends Event> eventType = events.get(0).getClass();
+        if (events.stream().anyMatch(event -> event.getClass() != eventType)) {
+            throw new IllegalArgumentException("Events added together must be of the same type");
+        }
+
+        final String payload;
+        try {
+            payload = MAPPER.writeValueAsString(events);
+        } catch (JsonProcessingException e) {
+            throw new UnexpectedException("Could not serialize events " + eventType, e);
+        }
+
+        final OffsetDateTime now = OffsetDateTime.now();
+        outboxEventRepository.save(
+                OutboxEventEntity.builder()
+                        .topic(topic)
+                        .eventType(eventType.getName())
+                        .orderingKey(orderingKey)
+                        .payload(payload)
+                        .createdTimestamp(now)
+                        .nextAttemptTimestamp(now)
+                        .build());
+    }
+}
@@ -29,6 +29,8 @@ public class PermissionService {
 
     private final ApplicationService applicationService;
 
+    private final RolePermissionEngine rolePermissionEngine;
+
     /**
      * Adds a permission to the database.
      *
@@ -104,7 +106,9 @@ public class PermissionService {
             permissionEntity.setApplication(application);
         }
 
-        return permissionRepository.save(permissionEntity);
+        final PermissionEntity saved = permissionRepository.save(permissionEntity);
+        rolePermissionEngine.invalidate();
+        return saved;
     }
 
     /**
@@ -140,6 +144,7 @@ public class PermissionService {
                                                         + " ID."));
 
         permissionRepository.delete(permissionEntity);
+        rolePermissionEngine.invalidate();
     }
 
     /**
@@ -4,17 +4,21 @@ import io.nuvalence.auth.util.SecurityContextUtility;
 import io.nuvalence.user.management.api.service.config.exception.ConflictException;
 import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.models.ProfileInvitationFilters;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileInvitationAuditEventDTO;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
 import io.nuvalence.user.management.api.service.repository.ProfileInvitationRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
@@ -33,6 +37,8 @@ public class ProfileInvitationService {
     private final ProfileInvitationRepository repository;
     private final SendNotificationService sendNotificationService;
     private final AuditEventService auditEventService;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final PageQueryExecutor pageQueryExecutor;
 
     /**
      * Creates a profile invitation and sends a notification to the invitee.
@@ -88,10 +94,22 @@ public class ProfileInvitationService {
         }
     }
 
-    public Page<ProfileInvitation> getProfileInvitationsByFilters(
-            ProfileInvitationFilters filters) {
-        return repository.findAll(
-                filters.getProfileInvitationSpecification(), filters.getPageRequest());
+    public KeysetSlice<ProfileInvitation> getProfileInvitationsByFilters(
+            ProfileInvitationFilters filters, String pageToken) {
+        return keysetQueryExecutor.findAll(
+                ProfileInvitation.class,
+                filters.getProfileInvitationSpecification(),
+                filters.getKeysetPageRequest(pageToken));
+    }
+
+    public Slice<ProfileInvitation> getProfileInvitationsByFilters(
+            ProfileInvitationFilters filters, CountMode countMode) {
+        return pageQueryExecutor.findAll(
+                ProfileInvitation.class,
+                filters.getProfileInvitationSpecification(),
+                filters.getPageRequest(),
+                countMode,
+                filters.getCountKey());
     }
 
     public Optional<ProfileInvitation> getActiveInvitationForEmailAndId(
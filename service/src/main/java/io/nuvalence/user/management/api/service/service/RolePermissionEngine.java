@@ -0,0 +1,231 @@
+package io.nuvalence.user.management.api.service.service;
+
+import io.nuvalence.user.management.api.service.repository.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In memory resolution of roles to the active application roles they grant.
+ *
+ * <p>Every active application role gets a dense int id and every role becomes a {@code long[]}
+ * bitset of the application roles it grants, so the application roles of a user are the OR of
+ * the bitsets of its roles. The whole table is rebuilt and swapped in at once, on the first lookup
+ * after {@link #invalidate()} or once it is older than the configured max age.</p>
+ *
+ * <p>Changes made by other instances are noticed through the role permission version, which
+ * {@link #invalidate()} raises in the transaction making the change. A lookup reads it at most once
+ * per check interval, and rebuilds the table if it moved on since the build.</p>
+ */
+@Component
+@Slf4j
+public class RolePermissionEngine {
+    private final RoleRepository roleRepository;
+    private final long maxAgeNanos;
+    private final long checkIntervalNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private volatile long checkedAt;
+
+    /**
+     * Creates an engine, to be built on first use.
+     *
+     * @param roleRepository repository the role permissions are loaded from
+     * @param maxAge how long a build may be used before it is rebuilt
+     * @param checkInterval how long a build is used before its version is checked again
+     */
+    public RolePermissionEngine(
+            RoleRepository roleRepository,
+            @Value("${authorization.role-permissions.max-age:5m}") Duration maxAge,
+            @Value("${authorization.role-permissions.check-interval:1s}") Duration checkInterval) {
+        this.roleRepository = roleRepository;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.checkIntervalNanos = checkInterval.toNanos();
+    }
+
+    /**
+     * Returns the unique active application roles granted by any of the given roles, in
+     * alphabetical order.
+     *
+     * @param roleIds ids of the roles
+     * @return application roles, empty if none
+     */
+    public List<String> getApplicationRoles(Collection<UUID> roleIds) {
+        return current().resolve(roleIds);
+    }
+
+    /**
+     * Discards the current build, e.g. after roles or permissions changed, and raises the role
+     * permission version so other instances discard theirs once the change is committed. Inside a
+     * transaction the build is discarded again on completion, so a build that read the tables
+     * before the commit is not used afterwards.
+     */
+    public void invalidate() {
+        roleRepository.incrementRolePermissionVersion();
+        discard();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            discard();
+                        }
+                    });
+        }
+    }
+
+    private Snapshot current() {
+        final Snapshot current = snapshot;
+        if (isUsable(current) && !isDueForCheck()) {
+            return current;
+        }
+
+        synchronized (this) {
+            final Snapshot latest = snapshot;
+            if (isUsable(latest) && !isDueForCheck()) {
+                return latest;
+            }
+
+            // the version is read before the rows, so a change committed in between rebuilds again
+            final long buildGeneration = generation.get();
+            final long version = roleRepository.findRolePermissionVersion();
+            checkedAt = System.nanoTime();
+            if (isUsable(latest) && latest.version == version) {
+                return latest;
+            }
+
+            final Snapshot built =
+                    Snapshot.of(
+                            buildGeneration,
+                            version,
+                            System.nanoTime(),
+                            roleRepository.findActiveApplicationRoles());
+            snapshot = built;
+            log.debug(
+                    "Built role permissions for {} roles and {} application roles",
+                    built.roleCount(),
+                    built.applicationRoleCount());
+            return built;
+        }
+    }
+
+    private boolean isUsable(Snapshot candidate) {
+        return candidate != null
+                && candidate.generation == generation.get()
+                && System.nanoTime() - candidate.builtAt < maxAgeNanos;
+    }
+
+    private boolean isDueForCheck() {
+        return System.nanoTime() - checkedAt >= checkIntervalNanos;
+    }
+
+    private void discard() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Immutable build of the role to application role table.
+     */
+    static final class Snapshot {
+        private final long generation;
+        private final long version;
+        private final long builtAt;
+        private final String[] applicationRoles;
+        private final Map<UUID, long[]> roles;
+        private final int words;
+
+        private Snapshot(
+                long generation,
+                long version,
+                long builtAt,
+                String[] applicationRoles,
+                Map<UUID, long[]> roles,
+                int words) {
+            this.generation = generation;
+            this.version = version;
+            this.builtAt = builtAt;
+            this.applicationRoles = applicationRoles;
+            this.roles = roles;
+            this.words = words;
+        }
+
+        /**
+         * Builds the table from role and application role pairs. Ids are handed out in
+         * alphabetical order of the application roles, so lookups return them sorted.
+         *
+         * @param generation engine generation the rows were read in
+         * @param version role permission version read before the rows
+         * @param builtAt {@link System#nanoTime()} when the rows were read
+         * @param rows role and application role pairs
+         * @return built table
+         */
+        static Snapshot of(
+                long generation,
+                long version,
+                long builtAt,
+                List<RoleRepository.RoleApplicationRoleRow> rows) {
+            final Map<String, Integer> ids = new HashMap<>();
+            rows.stream()
+                    .map(RoleRepository.RoleApplicationRoleRow::getApplicationRole)
+                    .distinct()
+                    .sorted()
+                    .forEach(applicationRole -> ids.put(applicationRole, ids.size()));
+
+            final String[] applicationRoles = new String[ids.size()];
+            ids.forEach((applicationRole, id) -> applicationRoles[id] = applicationRole);
+
+            final int words = (applicationRoles.length + 63) >>> 6;
+            final Map<UUID, long[]> roles = new LinkedHashMap<>();
+            for (RoleRepository.RoleApplicationRoleRow row : rows) {
+                final int id = ids.get(row.getApplicationRole());
+                roles.computeIfAbsent(row.getRoleId(), roleId -> new long[words])[id >>> 6] |=
+                        1L << id;
+            }
+
+            return new Snapshot(generation, version, builtAt, applicationRoles, roles, words);
+        }
+
+        List<String> resolve(Collection<UUID> roleIds) {
+            final long[] granted = new long[words];
+            for (UUID roleId : roleIds) {
+                final long[] bits = roles.get(roleId);
+                if (bits != null) {
+                    for (int i = 0; i < words; i++) {
+                        granted[i] |= bits[i];
+                    }
+                }
+            }
+
+            final List<String> result = new ArrayList<>();
+            for (int i = 0; i < words; i++) {
+                long word = granted[i];
+                while (word != 0) {
+                    result.add(applicationRoles[(i << 6) + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+
+            return result;
+        }
+
+        int roleCount() {
+            return roles.size();
+        }
+
+        int applicationRoleCount() {
+            return applicationRoles.length;
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package io.nuvalence.user.management.api.service.service;
 
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
 import io.nuvalence.user.management.api.service.config.exception.BusinessLogicException;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.PermissionEntity;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.enums.UserType;
 import io.nuvalence.user.management.api.service.generated.models.RoleUpsertRequest;
 import io.nuvalence.user.management.api.service.repository.ApplicationRepository;
 import io.nuvalence.user.management.api.service.repository.PermissionRepository;
 import io.nuvalence.user.management.api.service.repository.RoleRepository;
+import io.nuvalence.user.management.api.service.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +43,9 @@ public class RoleService {
     private final RoleRepository roleRepository;
     private final ApplicationRepository applicationRepository;
     private final PermissionRepository permissionRepository;
+    private final UserRepository userRepository;
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+    private final RolePermissionEngine rolePermissionEngine;
 
     /**
      * Gets a role, if it exists.
@@ -44,7 +54,7 @@ public class RoleService {
      * @return role with ID.
      */
     public Optional<RoleEntity> getRole(UUID id) {
-        return roleRepository.findById(id);
+        return roleRepository.findByIdWithPermissions(id);
     }
 
     /**
@@ -57,6 +67,38 @@ public class RoleService {
         return roleRepository.findByName(name);
     }
 
+    /**
+     * Gets a page of the users assigned to a role that match an authorization specification,
+     * without loading its other members. The member count is only queried when the page doesn't
+     * already tell it.
+     *
+     * @param roleId Role ID.
+     * @param authorizationSpecification specification of the users the caller may see, or null if
+     *     the caller may see all of them
+     * @param pageable page to load.
+     * @return page of members.
+     */
+    public Page<UserEntity> getRoleMembers(
+            UUID roleId,
+            Specification<UserEntity> authorizationSpecification,
+            Pageable pageable) {
+        if (authorizationSpecification == null) {
+            return PageableExecutionUtils.getPage(
+                    userRepository.findByRoleId(roleId, pageable),
+                    pageable,
+                    () -> roleRepository.countMembersByRoleId(roleId));
+        }
+
+        return userRepository.findAll(
+                Specification.where(isMemberOf(roleId)).and(authorizationSpecification),
+                pageable);
+    }
+
+    private static Specification<UserEntity> isMemberOf(UUID roleId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.join("roles").get("id"), roleId);
+    }
+
     /**
      * Inserts or updates a Role based on if an ID is provided.
      *
@@ -97,7 +139,9 @@ public class RoleService {
         // Validate permissions
         newRole.setPermissions(validatePermissions(request.getPermissions()));
 
-        return roleRepository.save(newRole);
+        final RoleEntity saved = roleRepository.save(newRole);
+        rolePermissionEngine.invalidate();
+        return saved;
     }
 
     /**
@@ -119,7 +163,10 @@ public class RoleService {
         // Validate the permissions
         role.setPermissions(validatePermissions(request.getPermissions()));
 
-        return roleRepository.save(role);
+        final RoleEntity saved = roleRepository.save(role);
+        authorizationDecisionCache.invalidateAll();
+        rolePermissionEngine.invalidate();
+        return saved;
     }
 
     /**
@@ -128,7 +175,7 @@ public class RoleService {
      * @return a list of all the roles.
      */
     public List<RoleEntity> getAllRoles() {
-        return roleRepository.findAll();
+        return roleRepository.findAllWithPermissions();
     }
 
     /**
@@ -147,6 +194,8 @@ public class RoleService {
                                                 "There is no role that exists with this id."));
 
         roleRepository.delete(roleEntity);
+        authorizationDecisionCache.invalidateAll();
+        rolePermissionEngine.invalidate();
     }
 
     /**
@@ -4,7 +4,6 @@ import io.nuvalence.events.brokerclient.config.PublisherProperties;
 import io.nuvalence.events.event.DirectNotificationEvent;
 import io.nuvalence.events.event.Event;
 import io.nuvalence.events.event.dto.CommunicationMethod;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
 import io.nuvalence.user.management.api.service.events.EventFactory;
 import io.nuvalence.user.management.api.service.events.PublisherTopic;
@@ -16,6 +15,7 @@ import org.springframework.stereotype.Service;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Manages the communication with notification service.
@@ -25,7 +25,7 @@ import java.util.Optional;
 public class SendNotificationService {
 
     private final PublisherProperties publisherProperties;
-    private final EventGateway eventGateway;
+    private final OutboxService outboxService;
 
     private static final String PORTAL_URL_KEY = "portal-url";
 
@@ -38,7 +38,8 @@ public class SendNotificationService {
     private String employerProfileClaimUrl;
 
     /**
-     * Send a profile invitation direct email notification.
+     * Send a profile invitation direct email notification, through the outbox so that it is only
+     * sent if the caller's transaction commits.
 
      * @param profileInvitation Profile invitation.
      * @param profileDisplayName Profile display name.
@@ -67,10 +68,10 @@ public class SendNotificationService {
                         PROFILE_INVITATION_TEMPLATE_KEY,
                         properties);
 
-        sendNotification(notificationEvent);
+        sendNotification(notificationEvent, profileInvitation.getId());
     }
 
-    private void sendNotification(Event notificationEvent) {
+    private void sendNotification(Event notificationEvent, UUID orderingKey) {
         Optional<String> fullyQualifiedTopicNameOptional =
                 publisherProperties.getFullyQualifiedTopicName(
                         PublisherTopic.NOTIFICATION_REQUESTS.name());
@@ -81,6 +82,7 @@ public class SendNotificationService {
                             + PublisherTopic.NOTIFICATION_REQUESTS.name());
         }
 
-        eventGateway.publishEvent(notificationEvent, fullyQualifiedTopicNameOptional.get());
+        outboxService.enqueue(
+                notificationEvent, fullyQualifiedTopicNameOptional.get(), orderingKey);
     }
 }
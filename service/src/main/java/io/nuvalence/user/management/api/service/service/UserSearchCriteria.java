@@ -3,6 +3,7 @@ package io.nuvalence.user.management.api.service.service;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
 import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.enums.UserType;
+import io.nuvalence.user.management.api.service.util.LikePatternUtility;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
@@ -16,7 +17,6 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -57,27 +57,21 @@ public class UserSearchCriteria implements Specification<UserEntity> {
 
             if (Objects.equals(email, name)) {
                 Predicate startsWithEmail =
-                        criteriaBuilder.like(
-                                criteriaBuilder.lower(root.get("email")),
-                                name.toLowerCase(Locale.ROOT) + "%");
+                        LikePatternUtility.startsWith(criteriaBuilder, root.get("email"), name);
                 namePredicates.add(startsWithEmail);
             }
 
             Predicate startsWithFullName =
-                    criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("fullName")),
-                            name.toLowerCase(Locale.ROOT) + "%");
+                    LikePatternUtility.startsWith(criteriaBuilder, root.get("fullName"), name);
 
             Predicate startsWithFirstName =
-                    criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("firstName")),
-                            name.toLowerCase(Locale.ROOT) + "%");
+                    LikePatternUtility.startsWith(criteriaBuilder, root.get("firstName"), name);
 
             Predicate startsWithLastName =
-                    criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("lastName")),
-                            name.substring(name.lastIndexOf(" ") + 1).toLowerCase(Locale.ROOT)
-                                    + "%");
+                    LikePatternUtility.startsWith(
+                            criteriaBuilder,
+                            root.get("lastName"),
+                            name.substring(name.lastIndexOf(" ") + 1));
 
             namePredicates.addAll(
                     Arrays.asList(startsWithFullName, startsWithFirstName, startsWithLastName));
@@ -1,13 +1,18 @@
 package io.nuvalence.user.management.api.service.service;
 
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
 import io.nuvalence.user.management.api.service.config.exception.BusinessLogicException;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.AgencyUser;
-import io.nuvalence.user.management.api.service.entity.PermissionEntity;
 import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
 import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.generated.models.UserUpdateRequest;
+import io.nuvalence.user.management.api.service.models.KeysetPageRequest;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
 import io.nuvalence.user.management.api.service.repository.RoleRepository;
 import io.nuvalence.user.management.api.service.repository.UserRepository;
 import io.nuvalence.user.management.api.service.util.ExceptionInspectionUtility;
@@ -16,7 +21,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,12 +32,13 @@ import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service for User.
@@ -40,10 +49,21 @@ import java.util.UUID;
 @Slf4j
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class UserService {
+    /**
+     * User fields that keyset pagination may sort by.
+     */
+    public static final Set<String> KEYSET_SORT_KEYS = Set.of("createdAt", "id");
+
+    private static final String APPLICATION_ROLE_SORT_KEY = "id";
+
     private final Clock clock = Clock.systemDefaultZone();
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final RoleService roleService;
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+    private final RolePermissionEngine rolePermissionEngine;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final PageQueryExecutor pageQueryExecutor;
 
     /**
      * Creates a User Entity from a user model.
@@ -54,7 +74,10 @@ public class UserService {
     public UserEntity createUser(UserEntity user) {
         List<RoleEntity> defaultRoles = roleService.getDefaultRoles(user.getUserType().toString());
         user.setRoles(defaultRoles);
-        return saveUser(user);
+        final UserEntity savedUser = saveUser(user);
+        // a duplicate user is reported here rather than when the caller's transaction commits
+        userRepository.flush();
+        return savedUser;
     }
 
     /**
@@ -110,6 +133,7 @@ public class UserService {
 
         userEntity.getRoles().add(roleEntity);
         userRepository.save(userEntity);
+        authorizationDecisionCache.invalidatePrincipal(userId);
     }
 
     /**
@@ -146,6 +170,7 @@ public class UserService {
         }
 
         userRepository.save(userEntity);
+        authorizationDecisionCache.invalidatePrincipal(userId);
     }
 
     /**
@@ -167,9 +192,46 @@ public class UserService {
         return optionalUserEntity;
     }
 
-    public Page<UserEntity> getUsersBySearchCriteria(
-            UserSearchCriteria searchCriteria, Pageable pageable) {
-        return userRepository.findAll(searchCriteria, pageable);
+    /**
+     * Gets the keyset page of users matching the search criteria and an authorization
+     * specification that follows a continuation token.
+     *
+     * @param searchCriteria search criteria
+     * @param authorizationSpecification specification of the users the caller may see, or null if
+     *     the caller may see all of them
+     * @param page keyset page request, sorted by one of {@link #KEYSET_SORT_KEYS}
+     * @return slice of users
+     */
+    public KeysetSlice<UserEntity> getUsersBySearchCriteria(
+            UserSearchCriteria searchCriteria,
+            Specification<UserEntity> authorizationSpecification,
+            KeysetPageRequest page) {
+        return keysetQueryExecutor.findAll(
+                UserEntity.class, searchCriteria.and(authorizationSpecification), page);
+    }
+
+    /**
+     * Gets a page of users matching the search criteria and an authorization specification,
+     * counted the way the caller asks for.
+     *
+     * @param searchCriteria search criteria
+     * @param authorizationSpecification specification of the users the caller may see, or null if
+     *     the caller may see all of them
+     * @param pageable the pagination information (page number, size, and sort)
+     * @param countMode how the total count is obtained
+     * @return page of users, or a slice without a total count if the mode is none
+     */
+    public Slice<UserEntity> getUsersBySearchCriteria(
+            UserSearchCriteria searchCriteria,
+            Specification<UserEntity> authorizationSpecification,
+            Pageable pageable,
+            CountMode countMode) {
+        return pageQueryExecutor.findAll(
+                UserEntity.class,
+                searchCriteria.and(authorizationSpecification),
+                pageable,
+                countMode,
+                List.of(searchCriteria));
     }
 
     /**
@@ -246,64 +308,94 @@ public class UserService {
     public void addRoleToUser(UserEntity user, RoleEntity role) {
         user.getRoles().add(role);
         userRepository.save(user);
+        authorizationDecisionCache.invalidatePrincipal(user.getId());
     }
 
     public void deleteRoleFromUser(UserEntity user, RoleEntity role) {
         user.getRoles().remove(role);
         userRepository.save(user);
+        authorizationDecisionCache.invalidatePrincipal(user.getId());
     }
 
     /**
-     * Returns a list of unique application roles for a user.
+     * Returns a list of unique active application roles for a user, resolved from the user's role
+     * ids by the {@link RolePermissionEngine}.
      *
      * @param userId is the user's id.
      * @return a list of unique application roles or an empty list, but never null.
      */
     public @NotNull List<String> getAppRolesByUserId(UUID userId) {
-        // this method is needed here, because applicationRoles are in a deep nested relationship,
-        // and after getting users out of the transactional context of this service, that nested
-        // relationship is not available, not even with eager fetching combined with non-detaching.
-        Set<String> appRoles = new HashSet<>();
-        userRepository
-                .findById(userId)
-                .ifPresent(
-                        userEntity ->
-                                Optional.ofNullable(userEntity.getRoles())
-                                        .ifPresent(
-                                                roleEntities ->
-                                                        roleEntities.stream()
-                                                                .filter(Objects::nonNull)
-                                                                .map(RoleEntity::getPermissions)
-                                                                .filter(Objects::nonNull)
-                                                                .flatMap(Collection::stream)
-                                                                .filter(Objects::nonNull)
-                                                                .map(
-                                                                        PermissionEntity
-                                                                                ::getApplicationRole)
-                                                                .filter(Objects::nonNull)
-                                                                .forEach(appRoles::add)));
-
-        return new ArrayList<>(appRoles);
+        return rolePermissionEngine.getApplicationRoles(
+                userRepository.findRoleIdsByUserId(userId));
     }
 
     /**
-     * Returns a list of users given a partial email match.
+     * Returns the unique active application roles of each of the given users, reading their role
+     * ids in a single query.
      *
-     * @param email is the user's email.
-     * @return a list of users.
+     * @param userIds ids of the users.
+     * @return application roles by user id; users without application roles are left out.
      */
-    public List<UserEntity> findByEmailContainingIgnoreCaseAndDeletedFalse(String email) {
-        return userRepository.findByEmailContainingIgnoreCaseAndDeletedFalse(email);
+    public Map<UUID, List<String>> getAppRolesByUserIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<UUID, List<UUID>> roleIdsByUserId =
+                userRepository.findRoleIdsByUserIds(userIds).stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        UserRepository.UserRoleRow::getUserId,
+                                        Collectors.mapping(
+                                                UserRepository.UserRoleRow::getRoleId,
+                                                Collectors.toList())));
+
+        final Map<UUID, List<String>> appRolesByUserId = new HashMap<>();
+        roleIdsByUserId.forEach(
+                (userId, roleIds) -> {
+                    final List<String> appRoles = rolePermissionEngine.getApplicationRoles(roleIds);
+                    if (!appRoles.isEmpty()) {
+                        appRolesByUserId.put(userId, appRoles);
+                    }
+                });
+        return appRolesByUserId;
     }
 
     /**
-     * Returns a list of users given a partial name match.
+     * Returns a slice of the users holding an active application role, ordered by id and starting
+     * after the user the continuation token points at. One extra row is read to tell whether
+     * another slice follows, so no count query is needed.
      *
-     * @param name is the user's name.
-     * @return a list of users.
+     * @param applicationRole application role.
+     * @param pageToken continuation token of the previous slice, or null for the first slice.
+     * @param pageSize maximum number of users in the slice.
+     * @return slice of users.
+     * @throws IllegalArgumentException if the token wasn't issued by this listing.
      */
-    public List<UserEntity> findByNameContainingIgnoreCaseAndDeletedFalse(String name) {
-        return userRepository.findByNameContainingIgnoreCaseAndDeletedFalse(name);
+    public KeysetSlice<UserEntity> getUsersByApplicationRole(
+            String applicationRole, String pageToken, int pageSize) {
+        final KeysetPageRequest page =
+                KeysetPageRequest.of(
+                        APPLICATION_ROLE_SORT_KEY,
+                        "ASC",
+                        pageSize,
+                        pageToken,
+                        Set.of(APPLICATION_ROLE_SORT_KEY));
+        final List<UserEntity> users =
+                page.getAfterId() == null
+                        ? userRepository.findByApplicationRole(applicationRole, pageSize + 1)
+                        : userRepository.findByApplicationRoleAfter(
+                                applicationRole, page.getAfterId(), pageSize + 1);
+
+        if (users.size() <= pageSize) {
+            return new KeysetSlice<>(users, PageRequest.ofSize(pageSize), null);
+        }
+
+        final List<UserEntity> content = users.subList(0, pageSize);
+        return new KeysetSlice<>(
+                content,
+                PageRequest.ofSize(pageSize),
+                page.nextPageToken(content.get(pageSize - 1)));
     }
 
     private UserEntity saveUser(UserEntity userEntity) {
@@ -0,0 +1,86 @@
+package io.nuvalence.user.management.api.service.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies JSON merge patches (RFC 7396) to API models and validates the result, so that a patch
+ * can't leave out what the model requires.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonMergePatcher {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    private final Validator validator;
+
+    /**
+     * Applies a merge patch to a model.
+     *
+     * @param target model to patch, left unchanged
+     * @param patch merge patch
+     * @param type type of the model
+     * @param <T> type of the model
+     * @return patched copy of the model
+     * @throws ProvidedDataException if the patched model isn't valid
+     */
+    public <T> T apply(T target, Map<String, Object> patch, Class<T> type) {
+        final JsonNode patched = merge(MAPPER.valueToTree(target), MAPPER.valueToTree(patch));
+
+        final T result;
+        try {
+            result = MAPPER.treeToValue(patched, type);
+        } catch (JsonProcessingException e) {
+            throw new ProvidedDataException("Invalid merge patch: " + e.getOriginalMessage());
+        }
+
+        final Set<ConstraintViolation<T>> violations = validator.validate(result);
+        if (!violations.isEmpty()) {
+            throw new ProvidedDataException(
+                    violations.stream()
+                            .map(
+                                    violation ->
+                                            String.format(
+                                                    "'%s': %s",
+                                                    violation.getPropertyPath(),
+                                                    violation.getMessage()))
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+        }
+        return result;
+    }
+
+    static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        final ObjectNode result =
+                target != null && target.isObject()
+                        ? ((ObjectNode) target).deepCopy()
+                        : MAPPER.createObjectNode();
+        final Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
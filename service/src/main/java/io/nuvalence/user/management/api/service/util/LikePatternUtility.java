@@ -0,0 +1,86 @@
+package io.nuvalence.user.management.api.service.util;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.Locale;
+
+/**
+ * Utility for case-insensitive LIKE searches that the lower() indexes of the searched columns
+ * can serve.
+ *
+ * <p>Prefix searches are served by the text_pattern_ops btree indexes and substring searches by
+ * the pg_trgm GIN indexes. A trigram index can only narrow a search down by a whole trigram, so
+ * substring searches for terms of one or two characters still scan the table.</p>
+ */
+public class LikePatternUtility {
+    /**
+     * Escape character of the patterns built here.
+     */
+    public static final char ESCAPE_CHAR = '!';
+
+    // Private constructor to prevent instantiation
+    private LikePatternUtility() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Builds the lower-case pattern of values starting with a term.
+     *
+     * @param term search term, wildcards in it are matched literally
+     * @return LIKE pattern, or null if the term is null
+     */
+    public static String startsWithPattern(String term) {
+        return term == null ? null : escape(term.toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    /**
+     * Builds the lower-case pattern of values containing a term.
+     *
+     * @param term search term, wildcards in it are matched literally
+     * @return LIKE pattern, or null if the term is null
+     */
+    public static String containsPattern(String term) {
+        return term == null ? null : "%" + escape(term.toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    /**
+     * Matches values whose lower-case form starts with a term.
+     *
+     * @param criteriaBuilder criteria builder
+     * @param value searched value
+     * @param term search term
+     * @return predicate
+     */
+    public static Predicate startsWith(
+            CriteriaBuilder criteriaBuilder, Expression<String> value, String term) {
+        return criteriaBuilder.like(
+                criteriaBuilder.lower(value), startsWithPattern(term), ESCAPE_CHAR);
+    }
+
+    /**
+     * Matches values whose lower-case form contains a term.
+     *
+     * @param criteriaBuilder criteria builder
+     * @param value searched value
+     * @param term search term
+     * @return predicate
+     */
+    public static Predicate contains(
+            CriteriaBuilder criteriaBuilder, Expression<String> value, String term) {
+        return criteriaBuilder.like(
+                criteriaBuilder.lower(value), containsPattern(term), ESCAPE_CHAR);
+    }
+
+    private static String escape(String term) {
+        final StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (c == ESCAPE_CHAR || c == '%' || c == '_') {
+                escaped.append(ESCAPE_CHAR);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,205 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Compares the hot lookups on the query plan database with and without the indexes added for
+ * them.
+ *
+ * <p>The plan checks assert that each lookup uses its index and that the planner estimates it
+ * cheaper than without. They are deterministic for a given seed, so they run with the other query
+ * plan tests. The timing checks measure wall-clock time, which is too noisy to gate a build on,
+ * so they are tagged {@value #BENCHMARK} and only run by the queryPlanBenchmark task.</p>
+ *
+ * <p>The indexes are dropped in a transaction that is rolled back, so the database is left as it
+ * was found for the other query plan tests.</p>
+ */
+class HotLookupIndexBenchmarkTest {
+    static final String BENCHMARK = "benchmark";
+
+    private static final Logger LOG = LoggerFactory.getLogger(HotLookupIndexBenchmarkTest.class);
+    private static final int RUNS = 5;
+    private static final String LINKS_OF_USER_INDEX = "ix_profile_link_user_id";
+    private static final String PENDING_INVITATION_INDEX =
+            "ix_profile_invitation_email_profile_id_expires";
+    private static final String ACTIVE_USER_INDEX = "ix_user_table_email_active";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static Connection connection;
+    private static String userId;
+    private static String userEmail;
+    private static String invitationEmail;
+    private static String invitationProfileId;
+
+    @BeforeAll
+    static void sample() throws SQLException {
+        connection = QueryPlanDatabase.dataSource().getConnection();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet link =
+                    statement.executeQuery(
+                            "SELECT l.user_id, u.email FROM profile_link l"
+                                    + " JOIN user_table u ON u.id = l.user_id"
+                                    + " WHERE l.profile_type = 'employer' AND u.deleted = false"
+                                    + " ORDER BY u.external_id LIMIT 1")) {
+                link.next();
+                userId = link.getString(1);
+                userEmail = link.getString(2);
+            }
+            try (ResultSet invitation =
+                    statement.executeQuery(
+                            "SELECT email, profile_id FROM profile_invitation"
+                                    + " WHERE expires > now() LIMIT 1")) {
+                invitation.next();
+                invitationEmail = invitation.getString(1);
+                invitationProfileId = invitation.getString(2);
+            }
+        }
+    }
+
+    @AfterAll
+    static void rollback() throws SQLException {
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    void linksOfUser() throws Exception {
+        assertIndexIsCheaper(LINKS_OF_USER_INDEX, linksOfUserSql());
+    }
+
+    @Test
+    void pendingInvitationOfEmailToProfile() throws Exception {
+        assertIndexIsCheaper(PENDING_INVITATION_INDEX, pendingInvitationSql());
+    }
+
+    @Test
+    void activeUserByEmail() throws Exception {
+        assertIndexIsCheaper(ACTIVE_USER_INDEX, activeUserSql());
+    }
+
+    @Test
+    @Tag(BENCHMARK)
+    void linksOfUser_IsFasterWithIndex() throws Exception {
+        assertIndexIsFaster(LINKS_OF_USER_INDEX, linksOfUserSql());
+    }
+
+    @Test
+    @Tag(BENCHMARK)
+    void pendingInvitationOfEmailToProfile_IsFasterWithIndex() throws Exception {
+        assertIndexIsFaster(PENDING_INVITATION_INDEX, pendingInvitationSql());
+    }
+
+    @Test
+    @Tag(BENCHMARK)
+    void activeUserByEmail_IsFasterWithIndex() throws Exception {
+        assertIndexIsFaster(ACTIVE_USER_INDEX, activeUserSql());
+    }
+
+    private static String linksOfUserSql() {
+        return "SELECT * FROM profile_link WHERE user_id = '"
+                + userId
+                + "' AND profile_type = 'employer'";
+    }
+
+    private static String pendingInvitationSql() {
+        return "SELECT * FROM profile_invitation WHERE email = '"
+                + invitationEmail
+                + "' AND profile_id = '"
+                + invitationProfileId
+                + "' AND expires > now() LIMIT 1";
+    }
+
+    private static String activeUserSql() {
+        return "SELECT * FROM user_table WHERE email = '" + userEmail + "' AND deleted = false";
+    }
+
+    private static void assertIndexIsCheaper(String index, String sql) throws Exception {
+        final JsonNode indexed = explain("EXPLAIN (FORMAT JSON) " + sql);
+
+        final double unindexedCost;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SAVEPOINT unindexed");
+            statement.execute("DROP INDEX " + index);
+            unindexedCost = totalCost(explain("EXPLAIN (FORMAT JSON) " + sql));
+            statement.execute("ROLLBACK TO SAVEPOINT unindexed");
+        }
+
+        final double indexedCost = totalCost(indexed);
+        assertTrue(
+                indexed.toString().contains(index),
+                () -> index + " not in:\n" + indexed.toPrettyString());
+        assertTrue(
+                indexedCost < unindexedCost,
+                () -> index + " costs " + indexedCost + ", " + unindexedCost + " without");
+    }
+
+    private static void assertIndexIsFaster(String index, String sql) throws Exception {
+        final Plan indexed = fastestOf(sql);
+
+        final double unindexed;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SAVEPOINT unindexed");
+            statement.execute("DROP INDEX " + index);
+            unindexed = fastestOf(sql).executionTime();
+            statement.execute("ROLLBACK TO SAVEPOINT unindexed");
+        }
+
+        LOG.info(
+                "{}: {} ms with {}, {} ms without",
+                sql,
+                indexed.executionTime(),
+                index,
+                unindexed);
+        assertTrue(
+                indexed.executionTime() < unindexed,
+                () ->
+                        index
+                                + " took "
+                                + indexed.executionTime()
+                                + " ms, "
+                                + unindexed
+                                + " without");
+    }
+
+    private static Plan fastestOf(String sql) throws Exception {
+        Plan fastest = null;
+        for (int i = 0; i < RUNS; i++) {
+            final JsonNode root = explain("EXPLAIN (ANALYZE, FORMAT JSON) " + sql);
+            final Plan plan = new Plan(root.toString(), root.get("Execution Time").asDouble());
+            if (fastest == null || plan.executionTime() < fastest.executionTime()) {
+                fastest = plan;
+            }
+        }
+        return fastest;
+    }
+
+    private static JsonNode explain(String explainSql) throws Exception {
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(explainSql)) {
+            rows.next();
+            return MAPPER.readTree(rows.getString(1)).get(0);
+        }
+    }
+
+    private static double totalCost(JsonNode root) {
+        return root.get("Plan").get("Total Cost").asDouble();
+    }
+
+    private record Plan(String json, double executionTime) {}
+}
@@ -0,0 +1,117 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.user.management.api.service.util.LikePatternUtility;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Checks that the LIKE patterns the searches build can be served by the substring search indexes.
+ *
+ * <p>H2 has neither pg_trgm nor pattern ops indexes, so these tests run on the query plan
+ * database. Sequential scans are disabled so that the tables the seed leaves small still show
+ * which indexes apply.</p>
+ */
+class LikePatternIndexPlanTest {
+    private static Connection connection;
+
+    @BeforeAll
+    static void connect() throws SQLException {
+        connection = QueryPlanDatabase.dataSource().getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void emailContainsUsesTrigramIndex() throws SQLException {
+        assertPlanUses(
+                "ix_user_table_lower_email_trgm",
+                "SELECT id FROM user_table WHERE lower(email) LIKE "
+                        + literal(LikePatternUtility.containsPattern("springfield"))
+                        + " ESCAPE '!' AND deleted = false");
+    }
+
+    @Test
+    void nameContainsUsesTrigramIndexOfEachName() throws SQLException {
+        final String pattern = literal(LikePatternUtility.containsPattern("simpson"));
+        final String sql =
+                "SELECT id FROM user_table WHERE (lower(first_name) LIKE "
+                        + pattern
+                        + " ESCAPE '!' OR lower(middle_name) LIKE "
+                        + pattern
+                        + " ESCAPE '!' OR lower(last_name) LIKE "
+                        + pattern
+                        + " ESCAPE '!') AND deleted = false";
+
+        assertPlanUses("ix_user_table_lower_first_name_trgm", sql);
+        assertPlanUses("ix_user_table_lower_middle_name_trgm", sql);
+        assertPlanUses("ix_user_table_lower_last_name_trgm", sql);
+    }
+
+    @Test
+    void fullNamePrefixUsesPrefixIndex() throws SQLException {
+        assertPlanUses(
+                "ix_user_table_lower_full_name_prefix",
+                "SELECT id FROM user_table WHERE lower(full_name) LIKE "
+                        + literal(LikePatternUtility.startsWithPattern("Homer Sim"))
+                        + " ESCAPE '!'");
+    }
+
+    @Test
+    void invitationEmailPrefixUsesPrefixIndex() throws SQLException {
+        assertPlanUses(
+                "ix_profile_invitation_lower_email_prefix",
+                "SELECT id FROM profile_invitation WHERE lower(email) LIKE "
+                        + literal(LikePatternUtility.startsWithPattern("homer@"))
+                        + " ESCAPE '!'");
+    }
+
+    @Test
+    void employerNameContainsUsesTrigramIndexes() throws SQLException {
+        final String pattern = literal(LikePatternUtility.containsPattern("Power Plant"));
+
+        assertPlanUses(
+                "ix_employer_profile_lower_legal_name_trgm",
+                "SELECT id FROM employer_profile WHERE lower(legal_name) LIKE "
+                        + pattern
+                        + " ESCAPE '!'");
+        assertPlanUses(
+                "ix_employer_profile_other_names_lower_other_names_trgm",
+                "SELECT e.id FROM employer_profile e WHERE EXISTS (SELECT 1 FROM"
+                        + " employer_profile_other_names o WHERE o.employer_profile_id = e.id"
+                        + " AND lower(o.other_names) LIKE "
+                        + pattern
+                        + " ESCAPE '!')");
+    }
+
+    private static void assertPlanUses(String expected, String sql) throws SQLException {
+        final StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+
+        // an index scanned without a condition would only stand in for the disabled seq scan
+        assertTrue(plan.toString().contains("Index Cond"), () -> "No index condition in:\n" + plan);
+        assertTrue(plan.toString().contains(expected), () -> expected + " not in:\n" + plan);
+    }
+
+    private static String literal(String pattern) {
+        return "'" + pattern.replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,191 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.resource.ClassLoaderResourceAccessor;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * Embedded PostgreSQL shared by the query plan tests, migrated with the changelog and seeded with
+ * a synthetic dataset.
+ *
+ * <p>The dataset is sized by the queryPlan.rows system property, the number of users:</p>
+ * <ul>
+ *     <li>nine in ten users are public and have an individual profile linked to them</li>
+ *     <li>one in fifty users is deleted</li>
+ *     <li>there is an employer for every hundred users, and one in five public users is linked to
+ *     one of them</li>
+ *     <li>every user has one of ten common roles, and the first ten users also have a rare admin
+ *     role, each role granting an application role of its own</li>
+ *     <li>there is an invitation to an employer for every user</li>
+ * </ul>
+ */
+final class QueryPlanDatabase {
+    static final int ROWS = Integer.getInteger("queryPlan.rows", 100_000);
+    static final String ADMIN_ROLE = "qp-admin";
+    static final String ADMIN_APPLICATION_ROLE = "qp:admin";
+
+    private static EmbeddedPostgres postgres;
+
+    private QueryPlanDatabase() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Starts, migrates and seeds the database the first time it is asked for.
+     *
+     * @return data source of the seeded database
+     */
+    static synchronized DataSource dataSource() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+                try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+                    migrate(connection);
+                    seed(connection);
+                }
+            } catch (IOException | SQLException | LiquibaseException e) {
+                throw new IllegalStateException("Could not set up the query plan database", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(QueryPlanDatabase::stop));
+        }
+        return postgres.getPostgresDatabase();
+    }
+
+    private static void migrate(Connection connection) throws LiquibaseException {
+        new Liquibase(
+                        "db/liquibase-changelog.xml",
+                        new ClassLoaderResourceAccessor(),
+                        DatabaseFactory.getInstance()
+                                .findCorrectDatabaseImplementation(new JdbcConnection(connection)))
+                .update(new Contexts());
+    }
+
+    private static void seed(Connection connection) throws SQLException {
+        final int employers = Math.max(ROWS / 100, 1);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "INSERT INTO application (id, name) VALUES (gen_random_uuid(), 'query-plan')");
+            statement.execute(
+                    "INSERT INTO role (id, name, description)"
+                            + " SELECT gen_random_uuid(), 'qp-role-' || i, 'Role ' || i"
+                            + " FROM generate_series(0, 9) i"
+                            + " UNION ALL SELECT gen_random_uuid(), '"
+                            + ADMIN_ROLE
+                            + "', 'Admin'");
+            statement.execute(
+                    "INSERT INTO permission (id, name, application_id, permission_group, active,"
+                            + " application_role)"
+                            + " SELECT gen_random_uuid(), r.name, a.id, 'query-plan', true,"
+                            + " replace(r.name, 'qp-', 'qp:')"
+                            + " FROM role r, application a"
+                            + " WHERE r.name LIKE 'qp-%' AND a.name = 'query-plan'");
+            statement.execute(
+                    "INSERT INTO role_permission (role_id, permission_id)"
+                            + " SELECT r.id, p.id FROM role r JOIN permission p ON p.name = r.name"
+                            + " WHERE r.name LIKE 'qp-%'");
+
+            statement.execute(
+                    "INSERT INTO individual_profile (id, ssn, first_name, middle_name, last_name,"
+                            + " email, phone_number, created_by, last_updated_by,"
+                            + " created_timestamp, last_updated_timestamp)"
+                            + " SELECT gen_random_uuid(), lpad(i::text, 9, '0'), 'First' || i,"
+                            + " 'Middle' || i, 'Last' || i, 'user' || i || '@query.plan',"
+                            + " '555' || i, 'query-plan', 'query-plan',"
+                            + " now() - i * interval '1 minute', now() - i * interval '1 minute'"
+                            + " FROM generate_series(1, "
+                            + ROWS
+                            + ") i WHERE i % 10 <> 0");
+            statement.execute(
+                    "INSERT INTO user_table (id, external_id, email, first_name, middle_name,"
+                            + " last_name, identity_provider, user_type, deleted, deleted_on,"
+                            + " created_at, profile_id)"
+                            + " SELECT gen_random_uuid(), 'external-' || i,"
+                            + " 'user' || i || '@query.plan', 'First' || i, 'Middle' || i,"
+                            + " 'Last' || i, 'query-plan',"
+                            + " CASE WHEN i % 10 = 0 THEN 'agency' ELSE 'public' END,"
+                            + " i % 50 = 0, CASE WHEN i % 50 = 0 THEN now() END,"
+                            + " now() - i * interval '1 minute', p.id"
+                            + " FROM generate_series(1, "
+                            + ROWS
+                            + ") i"
+                            + " LEFT JOIN individual_profile p ON p.ssn = lpad(i::text, 9, '0')");
+            statement.execute(
+                    "INSERT INTO profile_link (id, user_id, profile_access_level, profile_type,"
+                            + " created_by, last_updated_by, created_timestamp,"
+                            + " last_updated_timestamp, individual_profile_id)"
+                            + " SELECT gen_random_uuid(), id, 'ADMIN', 'individual', 'query-plan',"
+                            + " 'query-plan', created_at, created_at, profile_id"
+                            + " FROM user_table WHERE profile_id IS NOT NULL");
+
+            statement.execute(
+                    "INSERT INTO employer_profile (id, fein, legal_name, business_type, industry,"
+                            + " summary_of_business, business_phone, created_by, last_updated_by,"
+                            + " created_timestamp, last_updated_timestamp)"
+                            + " SELECT gen_random_uuid(), lpad(i::text, 9, '0'), 'Employer ' || i,"
+                            + " 'LLC', 'Industry ' || (i % 20), 'Summary', '555' || i,"
+                            + " 'query-plan', 'query-plan', now() - i * interval '1 hour',"
+                            + " now() - i * interval '1 hour'"
+                            + " FROM generate_series(1, "
+                            + employers
+                            + ") i");
+            statement.execute(
+                    "WITH u AS (SELECT id, created_at,"
+                            + " row_number() OVER (ORDER BY external_id) AS n"
+                            + " FROM user_table WHERE user_type = 'public'),"
+                            + " e AS (SELECT id, row_number() OVER (ORDER BY fein) - 1 AS n"
+                            + " FROM employer_profile)"
+                            + " INSERT INTO profile_link (id, user_id, profile_access_level,"
+                            + " profile_type, created_by, last_updated_by, created_timestamp,"
+                            + " last_updated_timestamp, employer_profile_id)"
+                            + " SELECT gen_random_uuid(), u.id,"
+                            + " (ARRAY['ADMIN', 'WRITER', 'READER'])[u.n % 3 + 1], 'employer',"
+                            + " 'query-plan', 'query-plan', u.created_at, u.created_at, e.id"
+                            + " FROM u JOIN e ON e.n = u.n % "
+                            + employers
+                            + " WHERE u.n % 5 = 0");
+
+            statement.execute(
+                    "WITH u AS (SELECT id, row_number() OVER (ORDER BY external_id) AS n"
+                            + " FROM user_table)"
+                            + " INSERT INTO user_role (user_id, role_id)"
+                            + " SELECT u.id, r.id FROM u"
+                            + " JOIN role r ON r.name = 'qp-role-' || u.n % 10"
+                            + " UNION ALL SELECT u.id, r.id FROM u JOIN role r ON r.name = '"
+                            + ADMIN_ROLE
+                            + "' WHERE u.n <= 10");
+
+            statement.execute(
+                    "WITH e AS (SELECT id, row_number() OVER (ORDER BY fein) - 1 AS n"
+                            + " FROM employer_profile)"
+                            + " INSERT INTO profile_invitation (id, profile_id, profile_type,"
+                            + " profile_access_level, expires, claimed, email, created_timestamp)"
+                            + " SELECT gen_random_uuid(), e.id, 'EMPLOYER', 'ADMIN',"
+                            + " now() + (i % 30 - 15) * interval '1 day', i % 4 = 0,"
+                            + " 'invitee' || i || '@query.plan', now() - i * interval '1 minute'"
+                            + " FROM generate_series(1, "
+                            + ROWS
+                            + ") i JOIN e ON e.n = i % "
+                            + employers);
+
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static void stop() {
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not stop the query plan database", e);
+        }
+    }
+}
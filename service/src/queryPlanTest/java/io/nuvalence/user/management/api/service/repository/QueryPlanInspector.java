@@ -0,0 +1,134 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.user.management.api.service.repository.RecordingDataSource.Binding;
+import io.nuvalence.user.management.api.service.repository.RecordingDataSource.RecordedStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.sql.DataSource;
+
+/**
+ * Explains the queries a block of code runs and fails if any of them reads a large table by
+ * sequential scan or is estimated to cost more than the budget.
+ *
+ * <p>A table is large once it holds queryPlan.largeTableRows rows, and the budget is the total
+ * cost of a plan set by queryPlan.maxCost, in the planner's own units.</p>
+ */
+class QueryPlanInspector {
+    static final long LARGE_TABLE_ROWS = Long.getLong("queryPlan.largeTableRows", 10_000);
+    static final double MAX_COST =
+            Double.parseDouble(System.getProperty("queryPlan.maxCost", "10000"));
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final RecordingDataSource recordingDataSource;
+    private final DataSource dataSource;
+    private Set<String> largeTables;
+
+    QueryPlanInspector(RecordingDataSource recordingDataSource, DataSource dataSource) {
+        this.recordingDataSource = recordingDataSource;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Runs an action and checks the plans of the queries it ran.
+     *
+     * @param action action running one or more queries
+     * @throws AssertionError if the action ran no query or a plan breaks the rules
+     */
+    void assertPlans(Runnable action) {
+        final List<RecordedStatement> queries =
+                recordingDataSource.record(action).stream()
+                        .filter(statement -> isQuery(statement.sql()))
+                        .toList();
+        if (queries.isEmpty()) {
+            throw new AssertionError("No query was run");
+        }
+
+        final List<String> violations = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (RecordedStatement query : queries) {
+                final JsonNode plan = explain(connection, query).get("Plan");
+                final List<String> planViolations = new ArrayList<>();
+                collectSeqScans(connection, plan, planViolations);
+                final double cost = plan.get("Total Cost").asDouble();
+                if (cost > MAX_COST) {
+                    planViolations.add("costs " + cost + ", over the budget of " + MAX_COST);
+                }
+                if (!planViolations.isEmpty()) {
+                    violations.add(
+                            query.sql()
+                                    + "\n  "
+                                    + String.join("\n  ", planViolations)
+                                    + "\n"
+                                    + plan.toPrettyString());
+                }
+            }
+        } catch (SQLException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not explain the queries", e);
+        }
+
+        if (!violations.isEmpty()) {
+            throw new AssertionError(String.join("\n\n", violations));
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        final String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("with");
+    }
+
+    private static JsonNode explain(Connection connection, RecordedStatement query)
+            throws SQLException, JsonProcessingException {
+        try (PreparedStatement explain =
+                connection.prepareStatement("EXPLAIN (FORMAT JSON) " + query.sql())) {
+            for (Binding binding : query.bindings()) {
+                binding.applyTo(explain);
+            }
+            try (ResultSet rows = explain.executeQuery()) {
+                rows.next();
+                return MAPPER.readTree(rows.getString(1)).get(0);
+            }
+        }
+    }
+
+    private void collectSeqScans(Connection connection, JsonNode node, List<String> violations)
+            throws SQLException {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && largeTables(connection).contains(node.path("Relation Name").asText())) {
+            violations.add("scans " + node.path("Relation Name").asText() + " sequentially");
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(connection, child, violations);
+        }
+    }
+
+    private Set<String> largeTables(Connection connection) throws SQLException {
+        if (largeTables == null) {
+            largeTables = new HashSet<>();
+            try (PreparedStatement statement =
+                    connection.prepareStatement(
+                            "SELECT relname FROM pg_class WHERE relkind = 'r'"
+                                    + " AND relnamespace = 'public'::regnamespace"
+                                    + " AND reltuples >= ?")) {
+                statement.setLong(1, LARGE_TABLE_ROWS);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        largeTables.add(rows.getString(1));
+                    }
+                }
+            }
+        }
+        return largeTables;
+    }
+}
@@ -0,0 +1,39 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Configuration the query plan tests find instead of the generated application, so that they
+ * load the repositories alone on top of the seeded database.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(
+        basePackages = {
+            "io.nuvalence.user.management.api.service.entity",
+            "io.nuvalence.user.management.api.service.util.jpa"
+        })
+@Import({PageQueryExecutor.class, KeysetQueryExecutor.class})
+class QueryPlanTestConfiguration {
+
+    @Bean
+    RecordingDataSource dataSource() {
+        return new RecordingDataSource(QueryPlanDatabase.dataSource());
+    }
+
+    @Bean
+    QueryPlanInspector queryPlanInspector(RecordingDataSource dataSource) {
+        return new QueryPlanInspector(dataSource, QueryPlanDatabase.dataSource());
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
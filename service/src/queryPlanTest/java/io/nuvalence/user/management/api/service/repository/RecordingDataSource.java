@@ -0,0 +1,135 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+/**
+ * Data source that, while recording, keeps the SQL and parameters of every prepared statement
+ * executed on its connections so that the statements can be explained afterwards.
+ */
+class RecordingDataSource extends DelegatingDataSource {
+    private final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    RecordingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recordingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recordingConnection(super.getConnection(username, password));
+    }
+
+    /**
+     * Runs an action and returns the statements it executed.
+     *
+     * @param action action to record
+     * @return executed statements, in order
+     */
+    synchronized List<RecordedStatement> record(Runnable action) {
+        recorded.clear();
+        recording = true;
+        try {
+            action.run();
+        } finally {
+            recording = false;
+        }
+        return List.copyOf(recorded);
+    }
+
+    private Connection recordingConnection(Connection connection) {
+        return proxy(
+                Connection.class,
+                connection,
+                (method, result, args) ->
+                        method.getName().equals("prepareStatement")
+                                ? recordingStatement((PreparedStatement) result, (String) args[0])
+                                : result);
+    }
+
+    private PreparedStatement recordingStatement(PreparedStatement statement, String sql) {
+        final List<Binding> bindings = new ArrayList<>();
+        return proxy(
+                PreparedStatement.class,
+                statement,
+                (method, result, args) -> {
+                    if (method.getName().startsWith("set")
+                            && args != null
+                            && args.length > 1
+                            && method.getParameterTypes()[0] == int.class) {
+                        bindings.add(new Binding(method, args.clone()));
+                    } else if (method.getName().equals("clearParameters")) {
+                        bindings.clear();
+                    } else if (recording
+                            && method.getName().startsWith("execute")
+                            && (args == null || args.length == 0)) {
+                        recorded.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                    }
+                    return result;
+                });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, AfterInvocation afterInvocation) {
+        return type.cast(
+                Proxy.newProxyInstance(
+                        RecordingDataSource.class.getClassLoader(),
+                        new Class<?>[] {type},
+                        (proxy, method, args) -> {
+                            try {
+                                return afterInvocation.apply(
+                                        method, method.invoke(target, args), args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        }));
+    }
+
+    @FunctionalInterface
+    private interface AfterInvocation {
+        Object apply(Method method, Object result, Object[] args) throws SQLException;
+    }
+
+    /**
+     * Parameter set on a prepared statement, replayed by invoking the same setter.
+     *
+     * @param setter setter invoked
+     * @param args parameter index and value, and any further setter arguments
+     */
+    record Binding(Method setter, Object[] args) {
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getTargetException() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getTargetException());
+            }
+        }
+    }
+
+    /**
+     * Statement executed while recording.
+     *
+     * @param sql SQL of the statement
+     * @param bindings parameters it was executed with
+     */
+    record RecordedStatement(String sql, List<Binding> bindings) {}
+}
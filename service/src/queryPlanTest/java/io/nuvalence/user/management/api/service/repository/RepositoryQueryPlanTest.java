@@ -0,0 +1,180 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import io.nuvalence.user.management.api.service.enums.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Checks the plans of the queries declared on the repositories.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryQueryPlanTest {
+    @Autowired private QueryPlanInspector plans;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private RoleRepository roleRepository;
+    @Autowired private PermissionRepository permissionRepository;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private LanguageRepository languageRepository;
+    @Autowired private ProfileLinkRepository profileLinkRepository;
+    @Autowired private EmployerProfileLinkRepository employerProfileLinkRepository;
+    @Autowired private IndividualProfileLinkRepository individualProfileLinkRepository;
+    @Autowired private ProfileInvitationRepository profileInvitationRepository;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+
+    private UUID userId;
+    private UUID adminRoleId;
+    private UUID employerId;
+    private UUID individualId;
+
+    @BeforeEach
+    void sample() {
+        userId =
+                jdbcTemplate.queryForObject(
+                        "SELECT user_id FROM profile_link WHERE profile_type = 'employer' LIMIT 1",
+                        UUID.class);
+        employerId =
+                jdbcTemplate.queryForObject(
+                        "SELECT employer_profile_id FROM profile_link WHERE user_id = ?"
+                                + " AND employer_profile_id IS NOT NULL",
+                        UUID.class,
+                        userId);
+        individualId =
+                jdbcTemplate.queryForObject(
+                        "SELECT individual_profile_id FROM profile_link WHERE user_id = ?"
+                                + " AND individual_profile_id IS NOT NULL",
+                        UUID.class,
+                        userId);
+        adminRoleId =
+                jdbcTemplate.queryForObject(
+                        "SELECT id FROM role WHERE name = ?",
+                        UUID.class,
+                        QueryPlanDatabase.ADMIN_ROLE);
+    }
+
+    @Test
+    void userById() {
+        plans.assertPlans(() -> userRepository.findByIdLoaded(userId));
+    }
+
+    @Test
+    void individualProfileOfUser() {
+        plans.assertPlans(() -> userRepository.findProfileByUserId(userId));
+    }
+
+    @Test
+    void membersOfRole() {
+        plans.assertPlans(
+                () -> {
+                    userRepository.findByRoleId(adminRoleId, PageRequest.of(0, 20));
+                    roleRepository.countMembersByRoleId(adminRoleId);
+                });
+    }
+
+    @Test
+    void holdersOfApplicationRole() {
+        plans.assertPlans(
+                () -> {
+                    userRepository.findByApplicationRole(
+                            QueryPlanDatabase.ADMIN_APPLICATION_ROLE, 21);
+                    userRepository.findByApplicationRoleAfter(
+                            QueryPlanDatabase.ADMIN_APPLICATION_ROLE, userId, 21);
+                });
+    }
+
+    @Test
+    void rolesOfUsers() {
+        final List<UUID> userIds =
+                jdbcTemplate.queryForList("SELECT id FROM user_table LIMIT 50", UUID.class);
+
+        plans.assertPlans(
+                () -> {
+                    userRepository.findRoleIdsByUserId(userId);
+                    userRepository.findRoleIdsByUserIds(userIds);
+                });
+    }
+
+    @Test
+    void accessProfilesOfUsers() {
+        final List<UUID> userIds =
+                jdbcTemplate.queryForList("SELECT id FROM user_table LIMIT 50", UUID.class);
+
+        plans.assertPlans(
+                () -> {
+                    profileLinkRepository.findAccessProfilesByUserId(userId);
+                    profileLinkRepository.findAccessProfilesByUserIds(userIds);
+                });
+    }
+
+    @Test
+    void employerLinks() {
+        plans.assertPlans(
+                () -> {
+                    employerProfileLinkRepository.findByProfileIdAndUserId(employerId, userId);
+                    employerProfileLinkRepository.findByUserId(userId);
+                });
+    }
+
+    @Test
+    void individualLinks() {
+        plans.assertPlans(
+                () -> {
+                    individualProfileLinkRepository.findByProfileIdAndUserId(individualId, userId);
+                    individualProfileLinkRepository.findByUserId(userId);
+                });
+    }
+
+    @Test
+    void activeInvitationOfEmail() {
+        final String email =
+                jdbcTemplate.queryForObject(
+                        "SELECT email FROM profile_invitation WHERE profile_id = ? LIMIT 1",
+                        String.class,
+                        employerId);
+
+        plans.assertPlans(
+                () ->
+                        profileInvitationRepository.findFirstByEmailAndProfileIdAndExpiresAfter(
+                                email, employerId, OffsetDateTime.now()));
+    }
+
+    @Test
+    void rolesAndPermissions() {
+        plans.assertPlans(
+                () -> {
+                    roleRepository.findAllWithPermissions();
+                    roleRepository.findByIdWithPermissions(adminRoleId);
+                    roleRepository.findByName(QueryPlanDatabase.ADMIN_ROLE);
+                    roleRepository.findAllByUserType(UserType.PUBLIC);
+                    roleRepository.findActiveApplicationRoles();
+                    permissionRepository.findAllActive();
+                    permissionRepository.findByApplicationRole(
+                            QueryPlanDatabase.ADMIN_APPLICATION_ROLE);
+                    permissionRepository.findAllByApplicationRole(
+                            List.of(QueryPlanDatabase.ADMIN_APPLICATION_ROLE));
+                    applicationRepository.getApplicationByName("query-plan");
+                    languageRepository.findByLanguageStandardId("en");
+                });
+    }
+
+    @Test
+    void dueOutboxEvents() {
+        plans.assertPlans(
+                () -> {
+                    outboxEventRepository.findDue(OffsetDateTime.now(), PageRequest.of(0, 100));
+                    outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc();
+                    outboxEventRepository.countByParkedTimestampIsNotNull();
+                });
+    }
+}
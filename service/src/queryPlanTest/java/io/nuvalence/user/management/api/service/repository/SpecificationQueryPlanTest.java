@@ -0,0 +1,325 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
+import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
+import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
+import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
+import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
+import io.nuvalence.user.management.api.service.enums.CountMode;
+import io.nuvalence.user.management.api.service.models.EmployerFilters;
+import io.nuvalence.user.management.api.service.models.EmployerProfileLinkFilters;
+import io.nuvalence.user.management.api.service.models.IndividualFilters;
+import io.nuvalence.user.management.api.service.models.IndividualProfileLinksFilters;
+import io.nuvalence.user.management.api.service.models.KeysetPageRequest;
+import io.nuvalence.user.management.api.service.models.ProfileInvitationFilters;
+import io.nuvalence.user.management.api.service.service.UserSearchCriteria;
+import io.nuvalence.user.management.api.service.service.UserService;
+import io.nuvalence.user.management.api.service.util.UserUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Checks the plans of the searches built from filter specifications, run the way the services
+ * run them.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SpecificationQueryPlanTest {
+    private static final String SORT_BY = "createdTimestamp";
+
+    @Autowired private QueryPlanInspector plans;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PageQueryExecutor pageQueryExecutor;
+    @Autowired private KeysetQueryExecutor keysetQueryExecutor;
+
+    private MockedStatic<UserUtility> userUtility;
+    private Map<String, Object> user;
+    private Map<String, Object> individual;
+    private UUID userId;
+    private UUID employerId;
+    private UUID adminRoleId;
+
+    @BeforeEach
+    void sample() {
+        userUtility = Mockito.mockStatic(UserUtility.class);
+        userUtility.when(UserUtility::getAuthenticatedUserType).thenReturn("agency");
+
+        user =
+                jdbcTemplate.queryForMap(
+                        "SELECT u.id, u.email, u.external_id, u.identity_provider, u.first_name,"
+                                + " l.employer_profile_id"
+                                + " FROM user_table u JOIN profile_link l ON l.user_id = u.id"
+                                + " WHERE l.profile_type = 'employer' LIMIT 1");
+        userId = (UUID) user.get("id");
+        employerId = (UUID) user.get("employer_profile_id");
+        individual =
+                jdbcTemplate.queryForMap(
+                        "SELECT id, ssn, email, last_name FROM individual_profile LIMIT 1");
+        adminRoleId =
+                jdbcTemplate.queryForObject(
+                        "SELECT id FROM role WHERE name = ?",
+                        UUID.class,
+                        QueryPlanDatabase.ADMIN_ROLE);
+    }
+
+    @AfterEach
+    void close() {
+        userUtility.close();
+    }
+
+    @Test
+    void usersByEmail() {
+        assertUserPlans(UserSearchCriteria.builder().email((String) user.get("email")).build());
+    }
+
+    @Test
+    void usersByName() {
+        final String name = (String) user.get("first_name");
+        assertUserPlans(UserSearchCriteria.builder().name(name).build());
+        assertUserPlans(
+                UserSearchCriteria.builder()
+                        .email((String) user.get("email"))
+                        .name((String) user.get("email"))
+                        .build());
+    }
+
+    @Test
+    void usersByExternalId() {
+        assertUserPlans(
+                UserSearchCriteria.builder()
+                        .externalId((String) user.get("external_id"))
+                        .identityProvider((String) user.get("identity_provider"))
+                        .build());
+    }
+
+    @Test
+    void usersByRole() {
+        assertUserPlans(
+                UserSearchCriteria.builder().roleIds(List.of(adminRoleId.toString())).build());
+    }
+
+    @Test
+    void usersByType() {
+        final UserSearchCriteria criteria = UserSearchCriteria.builder().userType("public").build();
+
+        plans.assertPlans(
+                () -> {
+                    pageQueryExecutor.findAll(
+                            UserEntity.class,
+                            criteria,
+                            PageRequest.of(0, 20, Sort.by("createdAt")),
+                            CountMode.NONE,
+                            List.of(criteria));
+                    keysetQueryExecutor.findAll(
+                            UserEntity.class,
+                            criteria,
+                            KeysetPageRequest.of(
+                                    "createdAt", "ASC", 20, null, UserService.KEYSET_SORT_KEYS));
+                });
+    }
+
+    @Test
+    void employers() {
+        final String fein =
+                jdbcTemplate.queryForObject(
+                        "SELECT fein FROM employer_profile WHERE id = ?", String.class, employerId);
+
+        assertEmployerPlans(employerFilters().fein(fein).build());
+        assertEmployerPlans(employerFilters().name("Employer 1").build());
+    }
+
+    @Test
+    void individuals() {
+        assertIndividualPlans(individualFilters().ssn((String) individual.get("ssn")).build());
+        assertIndividualPlans(individualFilters().email((String) individual.get("email")).build());
+        assertIndividualPlans(
+                individualFilters().name((String) individual.get("last_name")).build());
+    }
+
+    @Test
+    void employerLinks() {
+        assertEmployerLinkPlans(employerLinkFilters().profileId(employerId).build());
+        assertEmployerLinkPlans(employerLinkFilters().userId(userId).build());
+        assertEmployerLinkPlans(
+                employerLinkFilters()
+                        .profileId(employerId)
+                        .name((String) user.get("first_name"))
+                        .email((String) user.get("first_name"))
+                        .build());
+    }
+
+    @Test
+    void individualLinks() {
+        final UUID individualId = (UUID) individual.get("id");
+
+        assertIndividualLinkPlans(individualLinkFilters().profileId(individualId).build());
+        assertIndividualLinkPlans(individualLinkFilters().userId(userId).build());
+        assertIndividualLinkPlans(
+                individualLinkFilters()
+                        .email((String) individual.get("email"))
+                        .profileId(individualId)
+                        .build());
+    }
+
+    @Test
+    void invitations() {
+        final String email =
+                jdbcTemplate.queryForObject(
+                        "SELECT email FROM profile_invitation WHERE profile_id = ? LIMIT 1",
+                        String.class,
+                        employerId);
+
+        assertInvitationPlans(invitationFilters().build());
+        assertInvitationPlans(invitationFilters().email(email).exactEmailMatch(true).build());
+        assertInvitationPlans(
+                invitationFilters().email("invitee1").exactEmailMatch(false).build());
+    }
+
+    private void assertUserPlans(UserSearchCriteria criteria) {
+        plans.assertPlans(
+                () ->
+                        pageQueryExecutor.findAll(
+                                UserEntity.class,
+                                criteria,
+                                PageRequest.of(0, 20, Sort.by("createdAt")),
+                                CountMode.EXACT,
+                                List.of(criteria)));
+    }
+
+    private void assertEmployerPlans(EmployerFilters filters) {
+        plans.assertPlans(
+                () -> {
+                    pageQueryExecutor.findAll(
+                            EmployerProfile.class,
+                            filters.getEmployerProfileSpecification(),
+                            filters.getPageRequest(),
+                            CountMode.EXACT,
+                            filters.getCountKey());
+                    keysetQueryExecutor.findAll(
+                            EmployerProfile.class,
+                            filters.getEmployerProfileSpecification(),
+                            filters.getKeysetPageRequest(null));
+                });
+    }
+
+    private void assertIndividualPlans(IndividualFilters filters) {
+        plans.assertPlans(
+                () -> {
+                    pageQueryExecutor.findAll(
+                            IndividualProfile.class,
+                            filters.getIndividualProfileSpecification(),
+                            filters.getPageRequest(),
+                            CountMode.EXACT,
+                            filters.getCountKey());
+                    keysetQueryExecutor.findAll(
+                            IndividualProfile.class,
+                            filters.getIndividualProfileSpecification(),
+                            filters.getKeysetPageRequest(null));
+                });
+    }
+
+    private void assertEmployerLinkPlans(EmployerProfileLinkFilters filters) {
+        plans.assertPlans(
+                () -> {
+                    pageQueryExecutor.findAll(
+                            EmployerProfileLink.class,
+                            filters.getEmployerUserLinkSpecification(),
+                            filters.getPageRequest(),
+                            CountMode.EXACT,
+                            filters.getCountKey());
+                    keysetQueryExecutor.findAll(
+                            EmployerProfileLink.class,
+                            filters.getEmployerUserLinkSpecification(),
+                            filters.getKeysetPageRequest(null));
+                });
+    }
+
+    private void assertIndividualLinkPlans(IndividualProfileLinksFilters filters) {
+        plans.assertPlans(
+                () -> {
+                    pageQueryExecutor.findAll(
+                            IndividualProfileLink.class,
+                            filters.getIndividualLinksSpecification(),
+                            filters.getPageRequest(),
+                            CountMode.EXACT,
+                            filters.getCountKey());
+                    keysetQueryExecutor.findAll(
+                            IndividualProfileLink.class,
+                            filters.getIndividualLinksSpecification(),
+                            filters.getKeysetPageRequest(null));
+                });
+    }
+
+    private void assertInvitationPlans(ProfileInvitationFilters filters) {
+        plans.assertPlans(
+                () -> {
+                    pageQueryExecutor.findAll(
+                            ProfileInvitation.class,
+                            filters.getProfileInvitationSpecification(),
+                            filters.getPageRequest(),
+                            CountMode.EXACT,
+                            filters.getCountKey());
+                    keysetQueryExecutor.findAll(
+                            ProfileInvitation.class,
+                            filters.getProfileInvitationSpecification(),
+                            filters.getKeysetPageRequest(null));
+                });
+    }
+
+    private static EmployerFilters.EmployerFiltersBuilder employerFilters() {
+        return EmployerFilters.builder()
+                .sortBy(SORT_BY)
+                .sortOrder("ASC")
+                .pageNumber(0)
+                .pageSize(20);
+    }
+
+    private static IndividualFilters.IndividualFiltersBuilder individualFilters() {
+        return IndividualFilters.builder()
+                .sortBy(SORT_BY)
+                .sortOrder("ASC")
+                .pageNumber(0)
+                .pageSize(20);
+    }
+
+    private static EmployerProfileLinkFilters.EmployerProfileLinkFiltersBuilder
+            employerLinkFilters() {
+        return EmployerProfileLinkFilters.builder()
+                .sortBy(SORT_BY)
+                .sortOrder("ASC")
+                .pageNumber(0)
+                .pageSize(20);
+    }
+
+    private static IndividualProfileLinksFilters.IndividualProfileLinksFiltersBuilder
+            individualLinkFilters() {
+        return IndividualProfileLinksFilters.builder()
+                .sortBy(SORT_BY)
+                .sortOrder("ASC")
+                .pageNumber(0)
+                .pageSize(20);
+    }
+
+    private ProfileInvitationFilters.ProfileInvitationFiltersBuilder invitationFilters() {
+        return ProfileInvitationFilters.builder()
+                .sortBy(SORT_BY)
+                .sortOrder("ASC")
+                .pageNumber(0)
+                .pageSize(20)
+                .profileId(employerId);
+    }
+}
@@ -4,6 +4,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.nuvalence.auth.util.SecurityContextUtility;
 import io.nuvalence.events.event.dto.StateChangeEventData;
 import io.nuvalence.user.management.api.service.audit.profile.EmployerProfileDataChangedAuditHandler;
 import io.nuvalence.user.management.api.service.entity.profile.Address;
@@ -11,12 +12,15 @@ import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.service.AuditEventService;
+import io.nuvalence.user.management.api.service.util.RequestContextTimestamp;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
@@ -37,7 +41,9 @@ class EmployerProfileDataChangedAuditHandlerTest {
         EmployerProfile employer = createEmployer();
 
         auditHandler.handlePreUpdateState(employer);
-        employer.setLegalName("New Name");
+        // the change Hibernate reports when the update is flushed
+        ProfileChangeRecording.current().recordOldValue(LEGAL_NAME, LEGAL_NAME);
+        ProfileChangeRecording.current().recordNewValue(LEGAL_NAME, "New Name");
         auditHandler.handlePostUpdateState(employer);
 
         String originatorId = "originatorId";
@@ -83,6 +89,29 @@ class EmployerProfileDataChangedAuditHandlerTest {
         auditHandler.publishAuditEvent(originatorId);
 
         verifyNoInteractions(auditEventService);
+        Assertions.assertNull(ProfileChangeRecording.current());
+    }
+
+    @Test
+    void test_execute_StopsRecordingWhenActionThrows() {
+        EmployerProfile employer = createEmployer();
+        AuditableAction<EmployerProfile> action =
+                AuditableAction.builder(EmployerProfile.class)
+                        .auditHandler(auditHandler)
+                        .action(
+                                subject -> {
+                                    throw new IllegalStateException("update failed");
+                                })
+                        .requestContextTimestamp(new RequestContextTimestamp())
+                        .build();
+
+        try (MockedStatic<SecurityContextUtility> mocked =
+                Mockito.mockStatic(SecurityContextUtility.class)) {
+            Assertions.assertThrows(IllegalStateException.class, () -> action.execute(employer));
+        }
+
+        verifyNoInteractions(auditEventService);
+        Assertions.assertNull(ProfileChangeRecording.current());
     }
 
     private EmployerProfile createEmployer() {
@@ -4,6 +4,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.nuvalence.auth.util.SecurityContextUtility;
 import io.nuvalence.events.event.dto.StateChangeEventData;
 import io.nuvalence.user.management.api.service.audit.profile.IndividualProfileDataChangedAuditHandler;
 import io.nuvalence.user.management.api.service.entity.profile.Address;
@@ -11,12 +12,15 @@ import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.service.AuditEventService;
+import io.nuvalence.user.management.api.service.util.RequestContextTimestamp;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashMap;
@@ -35,7 +39,9 @@ class IndividualProfileDataChangedAuditHandlerTest {
         IndividualProfile individual = createIndividual();
 
         auditHandler.handlePreUpdateState(individual);
-        individual.setSsn("New SSN");
+        // the change Hibernate reports when the update is flushed
+        ProfileChangeRecording.current().recordOldValue(SSN, SSN);
+        ProfileChangeRecording.current().recordNewValue(SSN, "New SSN");
         auditHandler.handlePostUpdateState(individual);
 
         String originatorId = "originatorId";
@@ -80,6 +86,29 @@ class IndividualProfileDataChangedAuditHandlerTest {
         auditHandler.publishAuditEvent(originatorId);
 
         verifyNoInteractions(auditEventService);
+        Assertions.assertNull(ProfileChangeRecording.current());
+    }
+
+    @Test
+    void test_execute_StopsRecordingWhenActionThrows() {
+        IndividualProfile individual = createIndividual();
+        AuditableAction<IndividualProfile> action =
+                AuditableAction.builder(IndividualProfile.class)
+                        .auditHandler(auditHandler)
+                        .action(
+                                subject -> {
+                                    throw new IllegalStateException("update failed");
+                                })
+                        .requestContextTimestamp(new RequestContextTimestamp())
+                        .build();
+
+        try (MockedStatic<SecurityContextUtility> mocked =
+                Mockito.mockStatic(SecurityContextUtility.class)) {
+            Assertions.assertThrows(IllegalStateException.class, () -> action.execute(individual));
+        }
+
+        verifyNoInteractions(auditEventService);
+        Assertions.assertNull(ProfileChangeRecording.current());
     }
 
     private IndividualProfile createIndividual() {
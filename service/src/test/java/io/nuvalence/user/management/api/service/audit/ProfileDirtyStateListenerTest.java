@@ -0,0 +1,185 @@
+package io.nuvalence.user.management.api.service.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.user.management.api.service.entity.profile.Address;
+import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileDirtyStateListenerTest {
+    private static final String[] ADDRESS_PROPERTY_NAMES = {
+        "address1", "address2", "city", "state", "postalCode", "country", "county", "id"
+    };
+
+    @Mock private EntityManagerFactory entityManagerFactory;
+
+    @Mock private EntityPersister persister;
+
+    @InjectMocks private ProfileDirtyStateListener listener;
+
+    private EmployerProfile employer;
+    private ProfileChangeRecording recording;
+
+    @BeforeEach
+    void setUp() {
+        employer =
+                EmployerProfile.builder()
+                        .id(UUID.randomUUID())
+                        .legalName("Old Name")
+                        .otherNames(new ArrayList<>())
+                        .locations(new ArrayList<>())
+                        .build();
+        recording = ProfileChangeRecording.start(EmployerProfile.class, employer.getId());
+    }
+
+    @AfterEach
+    void stopRecording() {
+        recording.stop();
+    }
+
+    @Test
+    void recordsOnlyTheDirtyAuditedPropertiesOfTheProfile() {
+        when(persister.getPropertyNames())
+                .thenReturn(new String[] {"fein", "legalName", "lastUpdatedBy"});
+        final PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getEntity()).thenReturn(employer);
+        when(event.getPersister()).thenReturn(persister);
+        when(event.getDirtyProperties()).thenReturn(new int[] {1, 2});
+        when(event.getOldState()).thenReturn(new Object[] {"fein", "Old Name", "someone"});
+        when(event.getState()).thenReturn(new Object[] {"fein", "New Name", "someone else"});
+
+        listener.onPostUpdate(event);
+
+        assertEquals(Map.of("legalName", "Old Name"), recording.getBefore());
+        assertEquals(Map.of("legalName", "New Name"), recording.getAfter());
+    }
+
+    @Test
+    void ignoresChangesToOtherProfiles() {
+        final EmployerProfile other = EmployerProfile.builder().id(UUID.randomUUID()).build();
+        when(persister.getPropertyNames()).thenReturn(new String[] {"legalName"});
+        final PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getEntity()).thenReturn(other);
+        when(event.getPersister()).thenReturn(persister);
+
+        listener.onPostUpdate(event);
+
+        assertTrue(recording.getBefore().isEmpty());
+        assertTrue(recording.getAfter().isEmpty());
+    }
+
+    @Test
+    void recordsOnlyTheValuesThatDifferWhenAnAddressIsReplaced() {
+        final Address replaced = address("Old City");
+        replaced.setEmployerForMailing(employer);
+        final Address replacement = address("New City");
+        replacement.setEmployerForMailing(employer);
+        when(persister.getPropertyNames()).thenReturn(ADDRESS_PROPERTY_NAMES);
+
+        // Hibernate inserts the replacement before it deletes the orphaned address
+        listener.onPostInsert(insertEvent(replacement));
+        listener.onPostDelete(deleteEvent(replaced));
+
+        assertEquals(Map.of("mailingAddress.city", "Old City"), recording.getBefore());
+        assertEquals(Map.of("mailingAddress.city", "New City"), recording.getAfter());
+    }
+
+    @Test
+    void recordsARemovedLocationUnderItsPreviousIndex() {
+        final PersistentBag<Address> locations = mock(PersistentBag.class);
+        final Address kept = address("Kept City");
+        final Address removed = address("Removed City");
+        removed.setEmployerForLocations(employer);
+        doReturn(new ArrayList<>(List.of(kept, removed))).when(locations).getStoredSnapshot();
+        employer.setLocations(locations);
+        when(persister.getPropertyNames()).thenReturn(ADDRESS_PROPERTY_NAMES);
+
+        listener.onPostDelete(deleteEvent(removed));
+
+        assertEquals("Removed City", recording.getBefore().get("locations[1].city"));
+        assertEquals(7, recording.getBefore().size());
+        assertTrue(recording.getAfter().isEmpty());
+    }
+
+    @Test
+    void recordsChangedOtherNamesByIndex() {
+        employer.setOtherNames(new ArrayList<>(List.of("First", "Third")));
+        final PersistentCollection<?> otherNames = mock(PersistentCollection.class);
+        when(otherNames.getRole()).thenReturn(EmployerProfile.class.getName() + ".otherNames");
+        doReturn(new ArrayList<>(List.of("First", "Second"))).when(otherNames).getStoredSnapshot();
+        final PostCollectionUpdateEvent event = mock(PostCollectionUpdateEvent.class);
+        when(event.getAffectedOwnerOrNull()).thenReturn(employer);
+        doReturn(otherNames).when(event).getCollection();
+
+        listener.onPostUpdateCollection(event);
+
+        assertEquals(Map.of("otherNames[1]", "Second"), recording.getBefore());
+        assertEquals(Map.of("otherNames[1]", "Third"), recording.getAfter());
+    }
+
+    private PostInsertEvent insertEvent(Address address) {
+        final PostInsertEvent event = mock(PostInsertEvent.class);
+        when(event.getEntity()).thenReturn(address);
+        when(event.getPersister()).thenReturn(persister);
+        when(event.getState()).thenReturn(state(address));
+        return event;
+    }
+
+    private PostDeleteEvent deleteEvent(Address address) {
+        final PostDeleteEvent event = mock(PostDeleteEvent.class);
+        when(event.getEntity()).thenReturn(address);
+        when(event.getPersister()).thenReturn(persister);
+        when(event.getDeletedState()).thenReturn(state(address));
+        return event;
+    }
+
+    private static Object[] state(Address address) {
+        return new Object[] {
+            address.getAddress1(),
+            address.getAddress2(),
+            address.getCity(),
+            address.getState(),
+            address.getPostalCode(),
+            address.getCountry(),
+            address.getCounty(),
+            address.getId()
+        };
+    }
+
+    private static Address address(String city) {
+        return Address.builder()
+                .id(UUID.randomUUID())
+                .address1("address1")
+                .address2("address2")
+                .city(city)
+                .state("state")
+                .postalCode("postalCode")
+                .country("country")
+                .county("county")
+                .build();
+    }
+}
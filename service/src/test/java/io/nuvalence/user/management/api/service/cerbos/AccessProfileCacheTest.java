@@ -0,0 +1,156 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.ProfileType;
+import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import io.nuvalence.user.management.api.service.repository.ProfileLinkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+class AccessProfileCacheTest {
+    private ProfileLinkRepository repository;
+    private MeterRegistry meterRegistry;
+    private AccessProfileCache cache;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(ProfileLinkRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AccessProfileCache(repository, Duration.ofMinutes(1), 10, meterRegistry);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getAccessProfiles_LoadsOncePerUser() {
+        UUID userId = UUID.randomUUID();
+        UUID individualId = UUID.randomUUID();
+        UUID employerId = UUID.randomUUID();
+        when(repository.findAccessProfilesByUserId(userId))
+                .thenReturn(
+                        List.of(
+                                row(individualId, "individual", "ADMIN"),
+                                row(employerId, "employer", "READER")));
+
+        List<AccessProfileDto> first = cache.getAccessProfiles(userId);
+        List<AccessProfileDto> second = cache.getAccessProfiles(userId);
+
+        assertEquals(
+                List.of(
+                        profile(individualId, ProfileType.INDIVIDUAL, ProfileAccessLevel.ADMIN),
+                        profile(employerId, ProfileType.EMPLOYER, ProfileAccessLevel.READER)),
+                first);
+        assertEquals(first, second);
+        // callers get their own copies, the cached entry can't be modified through them
+        assertNotSame(first.get(0), second.get(0));
+        verify(repository, times(1)).findAccessProfilesByUserId(userId);
+        assertEquals(1.0, cacheGets("hit"));
+    }
+
+    @Test
+    void getAccessProfiles_NoLinks() {
+        UUID userId = UUID.randomUUID();
+        when(repository.findAccessProfilesByUserId(userId)).thenReturn(List.of());
+
+        assertTrue(cache.getAccessProfiles(userId).isEmpty());
+        assertTrue(cache.getAccessProfiles(userId).isEmpty());
+        verify(repository, times(1)).findAccessProfilesByUserId(userId);
+    }
+
+    @Test
+    void evict_ReloadsAndBumpsVersion() {
+        UUID userId = UUID.randomUUID();
+        UUID profileId = UUID.randomUUID();
+        when(repository.findAccessProfilesByUserId(userId))
+                .thenReturn(List.of())
+                .thenReturn(List.of(row(profileId, "employer", "WRITER")));
+
+        assertTrue(cache.getAccessProfiles(userId).isEmpty());
+        cache.evict(userId);
+
+        assertEquals(1L, cache.getVersion(userId));
+        assertEquals(
+                List.of(profile(profileId, ProfileType.EMPLOYER, ProfileAccessLevel.WRITER)),
+                cache.getAccessProfiles(userId));
+        verify(repository, times(2)).findAccessProfilesByUserId(userId);
+    }
+
+    @Test
+    void evict_IgnoresNull() {
+        cache.evict(null);
+    }
+
+    @Test
+    void evict_AgainWhenTransactionCompletes() {
+        UUID userId = UUID.randomUUID();
+        when(repository.findAccessProfilesByUserId(userId)).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(userId);
+        // a concurrent request loads the links before the change is committed
+        cache.getAccessProfiles(userId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(
+                        synchronization ->
+                                synchronization.afterCompletion(
+                                        TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(2L, cache.getVersion(userId));
+        cache.getAccessProfiles(userId);
+        verify(repository, times(2)).findAccessProfilesByUserId(userId);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", AccessProfileCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static ProfileLinkRepository.AccessProfileRow row(UUID id, String type, String level) {
+        return new ProfileLinkRepository.AccessProfileRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getType() {
+                return type;
+            }
+
+            @Override
+            public String getLevel() {
+                return level;
+            }
+        };
+    }
+
+    private static AccessProfileDto profile(UUID id, ProfileType type, ProfileAccessLevel level) {
+        return AccessProfileDto.builder().id(id).type(type).level(level).build();
+    }
+}
@@ -0,0 +1,184 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+class AuthorizationDecisionCacheTest {
+    private MeterRegistry meterRegistry;
+    private AuthorizationDecisionCache cache;
+    private AtomicInteger evaluations;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AuthorizationDecisionCache(Duration.ofMinutes(1), 2, meterRegistry);
+        evaluations = new AtomicInteger();
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_EvaluatesOncePerKey() {
+        String principal = UUID.randomUUID().toString();
+        UUID resourceId = UUID.randomUUID();
+
+        assertTrue(check(principal, 1, "view", resourceId, 7, this::allow));
+        assertTrue(check(principal, 1, "view", resourceId, 7, this::allow));
+        assertEquals(1, evaluations.get());
+
+        // a different action, resource state or role set is a different question
+        assertTrue(check(principal, 1, "update", resourceId, 7, this::allow));
+        assertTrue(check(principal, 1, "view", resourceId, 8, this::allow));
+        assertTrue(check(principal, 2, "view", resourceId, 7, this::allow));
+        assertEquals(4, evaluations.get());
+
+        assertEquals(4, cacheGets("miss"));
+        assertEquals(1, cacheGets("hit"));
+    }
+
+    @Test
+    void get_BoundedBySize() {
+        String principal = UUID.randomUUID().toString();
+
+        for (int i = 0; i < 10; i++) {
+            check(principal, 1, "view", UUID.randomUUID(), 0, this::allow);
+        }
+
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    void getIfPresent_ReturnsPutDecision() {
+        AuthorizationDecisionCache.DecisionKey key =
+                cache.key("someone", 1, "view", "user", UUID.randomUUID(), 3);
+
+        assertNull(cache.getIfPresent(key));
+        cache.put(key, false);
+
+        assertFalse(cache.getIfPresent(key));
+        assertFalse(cache.get(key, this::allow));
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    void invalidatePrincipal_BumpsVersionAndDropsDecisions() {
+        UUID principal = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+
+        check(principal.toString(), 1, "view", null, 0, this::deny);
+        check(other.toString(), 1, "view", null, 0, this::deny);
+        assertEquals(0, cache.getPrincipalVersion(principal.toString()));
+
+        cache.invalidatePrincipal(principal);
+
+        assertEquals(1, cache.getPrincipalVersion(principal.toString()));
+        assertEquals(0, cache.getPrincipalVersion(other.toString()));
+        assertEquals(1, cache.size());
+
+        assertTrue(check(principal.toString(), 1, "view", null, 0, this::allow));
+        assertFalse(check(other.toString(), 1, "view", null, 0, this::allow));
+    }
+
+    @Test
+    void invalidatePrincipal_IgnoresNull() {
+        check("someone", 1, "view", null, 0, this::allow);
+
+        cache.invalidatePrincipal(null);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void invalidatePrincipal_AgainWhenTransactionCompletes() {
+        UUID principal = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidatePrincipal(principal);
+        // a concurrent request decides with the links read before the change is committed
+        check(principal.toString(), 1, "view", null, 0, this::allow);
+        completeTransaction();
+
+        assertEquals(2, cache.getPrincipalVersion(principal.toString()));
+        assertEquals(0, cache.size());
+        assertFalse(check(principal.toString(), 1, "view", null, 0, this::deny));
+    }
+
+    @Test
+    void invalidateAll_AgainWhenTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAll();
+        check("someone", 1, "view", null, 0, this::allow);
+        completeTransaction();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateAll() {
+        check("someone", 1, "view", null, 0, this::allow);
+        check("someone-else", 1, "view", null, 0, this::allow);
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+    }
+
+    private static void completeTransaction() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(
+                        synchronization ->
+                                synchronization.afterCompletion(
+                                        TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private boolean check(
+            String principal,
+            int roles,
+            String action,
+            Object resourceId,
+            int resourceHash,
+            BooleanSupplier decision) {
+        return cache.get(
+                cache.key(principal, roles, action, "role", resourceId, resourceHash), decision);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", AuthorizationDecisionCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private boolean allow() {
+        evaluations.incrementAndGet();
+        return true;
+    }
+
+    private boolean deny() {
+        evaluations.incrementAndGet();
+        return false;
+    }
+}
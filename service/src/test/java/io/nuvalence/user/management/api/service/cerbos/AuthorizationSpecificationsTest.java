@@ -0,0 +1,100 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesExpression;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilterKind;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesOperand;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class AuthorizationSpecificationsTest {
+
+    @Test
+    void getSpecification_TranslatesPlan() {
+        QueryPlanAuthorizationHandler handler = mock(QueryPlanAuthorizationHandler.class);
+        when(handler.canPlanResources()).thenReturn(true);
+        when(handler.planResources("view", UserEntity.class))
+                .thenReturn(
+                        PlanResourcesFilter.builder()
+                                .kind(PlanResourcesFilterKind.KIND_ALWAYS_ALLOWED)
+                                .build());
+
+        assertTrue(
+                new AuthorizationSpecifications(handler, true)
+                        .getSpecification("view", UserEntity.class)
+                        .isPresent());
+    }
+
+    @Test
+    void getSpecification_EmptyForUnsupportedPlan() {
+        QueryPlanAuthorizationHandler handler = mock(QueryPlanAuthorizationHandler.class);
+        PlanResourcesOperand unsupported =
+                PlanResourcesOperand.builder()
+                        .expression(
+                                PlanResourcesExpression.builder()
+                                        .operator("exists")
+                                        .operands(
+                                                List.of(
+                                                        PlanResourcesOperand.builder()
+                                                                .value(List.of())
+                                                                .build()))
+                                        .build())
+                        .build();
+        when(handler.canPlanResources()).thenReturn(true);
+        when(handler.planResources("view", UserEntity.class))
+                .thenReturn(
+                        PlanResourcesFilter.builder()
+                                .kind(PlanResourcesFilterKind.KIND_CONDITIONAL)
+                                .condition(unsupported)
+                                .build());
+
+        assertFalse(
+                new AuthorizationSpecifications(handler, true)
+                        .getSpecification("view", UserEntity.class)
+                        .isPresent());
+    }
+
+    @Test
+    void getSpecification_EmptyWhenDisabled() {
+        QueryPlanAuthorizationHandler handler = mock(QueryPlanAuthorizationHandler.class);
+
+        assertFalse(
+                new AuthorizationSpecifications(handler, false)
+                        .getSpecification("view", UserEntity.class)
+                        .isPresent());
+        verifyNoInteractions(handler);
+    }
+
+    @Test
+    void getSpecification_EmptyWithoutPlanningHandler() {
+        AuthorizationHandler handler = mock(AuthorizationHandler.class);
+
+        assertFalse(
+                new AuthorizationSpecifications(handler, true)
+                        .getSpecification("view", UserEntity.class)
+                        .isPresent());
+    }
+
+    @Test
+    void getSpecification_EmptyWhenHandlerCantPlan() {
+        QueryPlanAuthorizationHandler handler = mock(QueryPlanAuthorizationHandler.class);
+        when(handler.canPlanResources()).thenReturn(false);
+
+        assertFalse(
+                new AuthorizationSpecifications(handler, true)
+                        .getSpecification("view", UserEntity.class)
+                        .isPresent());
+        verify(handler, never()).planResources("view", UserEntity.class);
+    }
+}
@@ -0,0 +1,48 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+class BatchAuthorizationFilterTest {
+
+    @Test
+    void filterAllowed_UsesBatchHandler() {
+        BatchAuthorizationHandler handler = mock(BatchAuthorizationHandler.class);
+        List<RoleEntity> roles = List.of(role(), role());
+        when(handler.filterAllowed("view", RoleEntity.class, roles))
+                .thenReturn(List.of(roles.get(1)));
+
+        BatchAuthorizationFilter filter = new BatchAuthorizationFilter(handler);
+
+        assertEquals(List.of(roles.get(1)), filter.filterAllowed("view", RoleEntity.class, roles));
+    }
+
+    @Test
+    void filterAllowed_FallsBackToAuthFilter() {
+        AuthorizationHandler handler = mock(AuthorizationHandler.class);
+        RoleEntity allowed = role();
+        RoleEntity denied = role();
+        Predicate<RoleEntity> filter = element -> element == allowed;
+        when(handler.getAuthFilter("view", RoleEntity.class)).thenReturn(filter);
+
+        assertEquals(
+                List.of(allowed),
+                new BatchAuthorizationFilter(handler)
+                        .filterAllowed("view", RoleEntity.class, List.of(denied, allowed)));
+    }
+
+    private RoleEntity role() {
+        RoleEntity role = new RoleEntity();
+        role.setId(UUID.randomUUID());
+        return role;
+    }
+}
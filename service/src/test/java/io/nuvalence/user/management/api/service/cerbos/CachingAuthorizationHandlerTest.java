@@ -0,0 +1,260 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilterKind;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
+import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthorizationHandlerTest {
+    @Mock private AuthorizationHandler delegate;
+    @Mock private CerbosResourceAttributes resourceAttributes;
+
+    private MockedStatic<SecurityContextUtility> securityContext;
+    private AuthorizationDecisionCache cache;
+    private CachingAuthorizationHandler handler;
+
+    @BeforeEach
+    void setup() {
+        securityContext = Mockito.mockStatic(SecurityContextUtility.class);
+
+        cache =
+                new AuthorizationDecisionCache(
+                        Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+        handler = new CachingAuthorizationHandler(delegate, cache, resourceAttributes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityContext.close();
+    }
+
+    @Test
+    void isAllowed_CachedPerResourceType() {
+        authenticate();
+        when(delegate.isAllowed("view", RoleEntity.class)).thenReturn(true);
+        when(delegate.isAllowed("update", "role")).thenReturn(false);
+
+        assertTrue(handler.isAllowed("view", RoleEntity.class));
+        assertTrue(handler.isAllowed("view", RoleEntity.class));
+        assertFalse(handler.isAllowed("update", "role"));
+        assertFalse(handler.isAllowed("update", "role"));
+
+        verify(delegate, times(1)).isAllowed("view", RoleEntity.class);
+        verify(delegate, times(1)).isAllowed("update", "role");
+    }
+
+    @Test
+    void isAllowedForInstance_CachedPerResource() {
+        authenticate();
+        EmployerProfile first = EmployerProfile.builder().id(UUID.randomUUID()).build();
+        EmployerProfile second = EmployerProfile.builder().id(UUID.randomUUID()).build();
+        when(delegate.isAllowedForInstance("view", first)).thenReturn(true);
+        when(delegate.isAllowedForInstance("view", second)).thenReturn(false);
+
+        assertTrue(handler.isAllowedForInstance("view", first));
+        assertFalse(handler.isAllowedForInstance("view", second));
+        assertTrue(handler.isAllowedForInstance("view", first));
+
+        verify(delegate, times(1)).isAllowedForInstance("view", first);
+        verify(delegate, times(1)).isAllowedForInstance("view", second);
+    }
+
+    @Test
+    void isAllowedForInstance_KeyedByResourceAttributes() {
+        authenticate();
+        EmployerProfile profile = EmployerProfile.builder().id(UUID.randomUUID()).build();
+        when(resourceAttributes.getAttributes(profile))
+                .thenReturn(Map.of("id", "1", "type", "a"))
+                .thenReturn(Map.of("id", "1", "type", "a"))
+                .thenReturn(Map.of("id", "1", "type", "b"));
+        when(delegate.isAllowedForInstance("view", profile)).thenReturn(true);
+
+        assertTrue(handler.isAllowedForInstance("view", profile));
+        assertTrue(handler.isAllowedForInstance("view", profile));
+        // the attributes Cerbos would see changed, so the decision is asked again
+        assertTrue(handler.isAllowedForInstance("view", profile));
+
+        verify(delegate, times(2)).isAllowedForInstance("view", profile);
+    }
+
+    @Test
+    void isAllowedForInstance_NotCachedWithoutResourceId() {
+        authenticate();
+        EmployerProfileLink link = new EmployerProfileLink();
+        when(delegate.isAllowedForInstance("view", link)).thenReturn(true);
+
+        assertTrue(handler.isAllowedForInstance("view", link));
+        assertTrue(handler.isAllowedForInstance("view", link));
+
+        verify(delegate, times(2)).isAllowedForInstance("view", link);
+    }
+
+    @Test
+    void isAllowed_NotCachedWithoutPrincipal() {
+        securityContext.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(null);
+        when(delegate.isAllowed("view", RoleEntity.class)).thenReturn(true);
+
+        assertTrue(handler.isAllowed("view", RoleEntity.class));
+        assertTrue(handler.isAllowed("view", RoleEntity.class));
+
+        verify(delegate, times(2)).isAllowed("view", RoleEntity.class);
+    }
+
+    @Test
+    void getAuthFilter_CachesEachElement() {
+        authenticate();
+        RoleEntity role = new RoleEntity();
+        role.setId(UUID.randomUUID());
+        AtomicInteger evaluations = new AtomicInteger();
+        Predicate<RoleEntity> filter = element -> evaluations.incrementAndGet() > 0;
+        when(delegate.getAuthFilter("view", RoleEntity.class)).thenReturn(filter);
+
+        assertTrue(handler.getAuthFilter("view", RoleEntity.class).test(role));
+        assertTrue(handler.getAuthFilter("view", RoleEntity.class).test(role));
+
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void filterAllowed_OnlyAsksDelegateAboutMisses() {
+        authenticate();
+        BatchAuthorizationHandler batchDelegate = Mockito.mock(BatchAuthorizationHandler.class);
+        CachingAuthorizationHandler batchHandler =
+                new CachingAuthorizationHandler(batchDelegate, cache, resourceAttributes);
+        RoleEntity first = role();
+        RoleEntity second = role();
+        RoleEntity third = role();
+        when(batchDelegate.filterAllowed("view", RoleEntity.class, List.of(first, second)))
+                .thenReturn(List.of(second));
+        when(batchDelegate.filterAllowed("view", RoleEntity.class, List.of(third)))
+                .thenReturn(List.of(third));
+
+        assertEquals(
+                List.of(second),
+                batchHandler.filterAllowed("view", RoleEntity.class, List.of(first, second)));
+        assertEquals(
+                List.of(second, third),
+                batchHandler.filterAllowed(
+                        "view", RoleEntity.class, List.of(first, second, third)));
+
+        verify(batchDelegate, times(1))
+                .filterAllowed("view", RoleEntity.class, List.of(first, second));
+        verify(batchDelegate, times(1)).filterAllowed("view", RoleEntity.class, List.of(third));
+    }
+
+    @Test
+    void filterAllowed_FallsBackToDelegateFilter() {
+        authenticate();
+        RoleEntity allowed = role();
+        RoleEntity denied = role();
+        Predicate<RoleEntity> filter = element -> element == allowed;
+        when(delegate.getAuthFilter("view", RoleEntity.class)).thenReturn(filter);
+
+        assertEquals(
+                List.of(allowed),
+                handler.filterAllowed("view", RoleEntity.class, List.of(denied, allowed)));
+    }
+
+    @Test
+    void getAllowedActions_OnlyAsksDelegateAboutMisses() {
+        authenticate();
+        MultiActionAuthorizationHandler multiActionDelegate =
+                Mockito.mock(MultiActionAuthorizationHandler.class);
+        CachingAuthorizationHandler multiActionHandler =
+                new CachingAuthorizationHandler(multiActionDelegate, cache, resourceAttributes);
+        RoleEntity role = role();
+        when(multiActionDelegate.getAllowedActions(role, Set.of("view", "update")))
+                .thenReturn(Set.of("view"));
+        when(multiActionDelegate.getAllowedActions(role, Set.of("delete")))
+                .thenReturn(Set.of("delete"));
+
+        assertEquals(
+                Set.of("view"),
+                multiActionHandler.getAllowedActions(role, Set.of("view", "update")));
+        assertEquals(
+                Set.of("view", "delete"),
+                multiActionHandler.getAllowedActions(role, Set.of("view", "update", "delete")));
+
+        verify(multiActionDelegate, times(1)).getAllowedActions(role, Set.of("view", "update"));
+        verify(multiActionDelegate, times(1)).getAllowedActions(role, Set.of("delete"));
+    }
+
+    @Test
+    void getAllowedActions_FallsBackToInstanceChecks() {
+        authenticate();
+        RoleEntity role = role();
+        when(delegate.isAllowedForInstance("view", role)).thenReturn(true);
+        when(delegate.isAllowedForInstance("update", role)).thenReturn(false);
+
+        assertEquals(Set.of("view"), handler.getAllowedActions(role, Set.of("view", "update")));
+        assertTrue(handler.isAllowedForInstance("view", role));
+
+        verify(delegate, times(1)).isAllowedForInstance("view", role);
+    }
+
+    @Test
+    void planResources_PassedThrough() {
+        QueryPlanAuthorizationHandler planningDelegate =
+                Mockito.mock(QueryPlanAuthorizationHandler.class);
+        PlanResourcesFilter filter =
+                PlanResourcesFilter.builder()
+                        .kind(PlanResourcesFilterKind.KIND_ALWAYS_ALLOWED)
+                        .build();
+        when(planningDelegate.canPlanResources()).thenReturn(true);
+        when(planningDelegate.planResources("view", RoleEntity.class)).thenReturn(filter);
+
+        assertSame(
+                filter,
+                new CachingAuthorizationHandler(planningDelegate, cache, resourceAttributes)
+                        .planResources("view", RoleEntity.class));
+    }
+
+    @Test
+    void canPlanResources_FalseWithoutPlanningDelegate() {
+        assertFalse(handler.canPlanResources());
+        assertThrows(
+                IllegalStateException.class, () -> handler.planResources("view", RoleEntity.class));
+    }
+
+    private RoleEntity role() {
+        RoleEntity role = new RoleEntity();
+        role.setId(UUID.randomUUID());
+        return role;
+    }
+
+    private void authenticate() {
+        securityContext
+                .when(SecurityContextUtility::getAuthenticatedUserId)
+                .thenReturn(UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,113 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import dev.cerbos.sdk.CerbosBlockingClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class CerbosClientPoolTest {
+    private CerbosBlockingClient first;
+    private CerbosBlockingClient second;
+    private MeterRegistry meterRegistry;
+    private CerbosClientPool pool;
+
+    @BeforeEach
+    void setup() {
+        first = mock(CerbosBlockingClient.class);
+        second = mock(CerbosBlockingClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new CerbosClientPool(List.of(first, second), meterRegistry);
+    }
+
+    @Test
+    void acquire_RoundRobin() {
+        assertEquals(2, pool.size());
+        assertSame(first, pool.acquire().getClient());
+        assertSame(second, pool.acquire().getClient());
+        assertSame(first, pool.acquire().getClient());
+    }
+
+    @Test
+    void execute_RecordsSuccess() {
+        CerbosClientPool.PooledClient client = pool.acquire();
+
+        assertEquals(Boolean.TRUE, client.execute(() -> true));
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(CerbosClientPool.CHECK_METRIC)
+                        .tag("outcome", "success")
+                        .timer()
+                        .count());
+        assertEquals(0, meterRegistry.get(CerbosClientPool.IN_FLIGHT_METRIC).gauge().value());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(CerbosClientPool.LAST_CHECK_METRIC)
+                        .tag("channel", "0")
+                        .gauge()
+                        .value());
+    }
+
+    @Test
+    void execute_FailureRecordedForChannel() {
+        CerbosClientPool.PooledClient client = pool.acquire();
+
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        client.execute(
+                                () -> {
+                                    throw new IllegalStateException("unavailable");
+                                }));
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(CerbosClientPool.CHECK_METRIC)
+                        .tag("outcome", "error")
+                        .timer()
+                        .count());
+        assertEquals(0, meterRegistry.get(CerbosClientPool.IN_FLIGHT_METRIC).gauge().value());
+        assertEquals(
+                0,
+                meterRegistry
+                        .get(CerbosClientPool.LAST_CHECK_METRIC)
+                        .tag("channel", "0")
+                        .gauge()
+                        .value());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(CerbosClientPool.LAST_CHECK_METRIC)
+                        .tag("channel", "1")
+                        .gauge()
+                        .value());
+
+        client.execute(() -> true);
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(CerbosClientPool.LAST_CHECK_METRIC)
+                        .tag("channel", "0")
+                        .gauge()
+                        .value());
+    }
+
+    @Test
+    void constructor_RequiresClients() {
+        List<CerbosBlockingClient> clients = List.of();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CerbosClientPool(clients, meterRegistry));
+    }
+}
@@ -0,0 +1,68 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class CerbosHttpMetricsInterceptorTest {
+    private MeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        restTemplate =
+                new RestTemplateBuilder()
+                        .rootUri("http://cerbos")
+                        .additionalInterceptors(new CerbosHttpMetricsInterceptor(meterRegistry))
+                        .build();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void recordsSuccessfulRequestsByPath() {
+        server.expect(requestTo("http://cerbos/api/check"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        restTemplate.postForObject("/api/check", "{}", String.class);
+
+        assertEquals(1, count("/api/check", "success"));
+        assertEquals(
+                0,
+                meterRegistry.get(CerbosHttpMetricsInterceptor.IN_FLIGHT_METRIC).gauge().value());
+    }
+
+    @Test
+    void recordsFailedRequests() {
+        server.expect(requestTo("http://cerbos/api/plan/resources"))
+                .andRespond(withServerError());
+
+        assertThrows(
+                HttpServerErrorException.class,
+                () -> restTemplate.postForObject("/api/plan/resources", "{}", String.class));
+
+        assertEquals(1, count("/api/plan/resources", "error"));
+    }
+
+    private long count(String path, String outcome) {
+        return meterRegistry
+                .get(CerbosHttpMetricsInterceptor.HTTP_METRIC)
+                .tag("path", path)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,122 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+class CerbosPolicyAttributesTest {
+    private static final String DERIVED_ROLES =
+            """
+            apiVersion: api.cerbos.dev/v1
+            derivedRoles:
+              name: owner_roles
+              definitions:
+                - name: owner
+                  parentRoles: ["user"]
+                  condition:
+                    match:
+                      expr: request.resource.attr.ownerId == request.principal.id
+            """;
+    private static final String RESOURCE_POLICY =
+            """
+            apiVersion: api.cerbos.dev/v1
+            resourcePolicy:
+              version: "default"
+              resource: document
+              importDerivedRoles:
+                - owner_roles
+              rules:
+                - actions: ["view"]
+                  derivedRoles:
+                    - owner
+                  effect: EFFECT_ALLOW
+                - actions: ["update"]
+                  roles: ["editor"]
+                  condition:
+                    match:
+                      all:
+                        of:
+                          - expr: R.attr.status != "LOCKED"
+                          - expr: request.principal.attr.team == request.resource.attr.team
+                  effect: EFFECT_ALLOW
+            """;
+
+    @Test
+    void getAttributes_CollectsRulesAndImportedDerivedRoles() {
+        CerbosPolicyAttributes policyAttributes =
+                new CerbosPolicyAttributes(policy(RESOURCE_POLICY), policy(DERIVED_ROLES));
+
+        assertEquals(
+                Set.of("ownerId", "status", "team"), policyAttributes.getAttributes("document"));
+        assertTrue(policyAttributes.getAttributes("unknown").isEmpty());
+    }
+
+    @Test
+    void getAttributes_AcceptsSnakeCaseKeys() {
+        CerbosPolicyAttributes policyAttributes =
+                new CerbosPolicyAttributes(
+                        policy(RESOURCE_POLICY),
+                        policy(
+                                DERIVED_ROLES
+                                        .replace("derivedRoles:", "derived_roles:")
+                                        .replace("parentRoles:", "parent_roles:")));
+
+        assertEquals(
+                Set.of("ownerId", "status", "team"), policyAttributes.getAttributes("document"));
+    }
+
+    @Test
+    void getAttributes_BundledPolicies() {
+        CerbosPolicyAttributes policyAttributes = new CerbosPolicyAttributes();
+
+        assertEquals(Set.of("id"), policyAttributes.getAttributes("user"));
+        assertEquals(Set.of("id"), policyAttributes.getAttributes("individual_profile"));
+        assertEquals(Set.of("id"), policyAttributes.getAttributes("employer_profile"));
+        assertTrue(policyAttributes.getAttributes("role").isEmpty());
+    }
+
+    @Test
+    void getProjection_ReadsOnlyPolicyAttributes() {
+        CerbosPolicyAttributes policyAttributes =
+                new CerbosPolicyAttributes(policy(RESOURCE_POLICY), policy(DERIVED_ROLES));
+        Map<String, Function<Map<String, Object>, Object>> extractors =
+                Map.of(
+                        "ownerId", document -> document.get("owner"),
+                        "status", document -> document.get("status"),
+                        "team", document -> document.get("team"),
+                        "title", document -> document.get("title"));
+
+        ResourceProjection<Map<String, Object>> projection =
+                policyAttributes.getProjection("document", extractors);
+
+        assertEquals(
+                Map.of("ownerId", "user-1", "status", "DRAFT"),
+                projection.project(
+                        Map.of("owner", "user-1", "status", "DRAFT", "title", "Report")));
+        assertSame(projection, policyAttributes.getProjection("document", extractors));
+    }
+
+    @Test
+    void getProjection_RequiresExtractorForEveryPolicyAttribute() {
+        CerbosPolicyAttributes policyAttributes =
+                new CerbosPolicyAttributes(policy(RESOURCE_POLICY), policy(DERIVED_ROLES));
+        Map<String, Function<Object, Object>> extractors = Map.of("ownerId", document -> null);
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> policyAttributes.getProjection("document", extractors));
+    }
+
+    private static ByteArrayResource policy(String yaml) {
+        return new ByteArrayResource(yaml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.cerbos.AccessResourceTranslator;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.generated.models.UserDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class CerbosResourceAttributesTest {
+    @Mock private ApplicationContext applicationContext;
+    @Mock private ObjectProvider<AccessResourceTranslator> translatorProvider;
+    @Mock private AccessResourceTranslator translator;
+    @Mock private CerbosPolicyAttributes policyAttributes;
+
+    private CerbosResourceAttributes resourceAttributes;
+
+    @BeforeEach
+    void setup() {
+        resourceAttributes = new CerbosResourceAttributes(applicationContext, policyAttributes);
+        doReturn(translatorProvider).when(applicationContext).getBeanProvider(any(Class.class));
+    }
+
+    @Test
+    void getAttributes_SendsIdWithoutTranslator() {
+        UUID id = UUID.randomUUID();
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+
+        assertEquals(Map.of("id", id.toString()), resourceAttributes.getAttributes(role));
+    }
+
+    @Test
+    void getAttributes_SendsIdWhenTranslatorReturnsResource() {
+        UUID id = UUID.randomUUID();
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+        when(translatorProvider.getIfUnique()).thenReturn(translator);
+        when(translator.translate(role)).thenReturn(role);
+
+        assertEquals(Map.of("id", id.toString()), resourceAttributes.getAttributes(role));
+    }
+
+    @Test
+    void getAttributes_SendsTranslatedResource() {
+        UUID id = UUID.randomUUID();
+        PublicUser user = new PublicUser();
+        user.setId(id);
+        UserDTO translated = new UserDTO();
+        translated.setId(id);
+        translated.setEmail("user@example.com");
+        when(translatorProvider.getIfUnique()).thenReturn(translator);
+        when(translator.translate(user)).thenReturn(translated);
+
+        Map<String, Object> attributes = resourceAttributes.getAttributes(user);
+
+        assertEquals(id.toString(), attributes.get("id"));
+        assertEquals("user@example.com", attributes.get("email"));
+    }
+
+    @Test
+    void getAttributes_AddsAttributesReadByPolicies() {
+        UUID id = UUID.randomUUID();
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+        role.setName("admin");
+        when(policyAttributes.getAttributes("role")).thenReturn(Set.of("name", "unknown"));
+
+        assertEquals(
+                Map.of("id", id.toString(), "name", "admin"),
+                resourceAttributes.getAttributes(role));
+    }
+
+    @Test
+    void getAttributes_SendsTranslatedAttributesAsIs() {
+        PublicUser user = new PublicUser();
+        Map<String, Object> translated = Map.of("id", "user");
+        when(translatorProvider.getIfUnique()).thenReturn(translator);
+        when(translator.translate(user)).thenReturn(translated);
+
+        assertSame(translated, resourceAttributes.getAttributes(user));
+    }
+}
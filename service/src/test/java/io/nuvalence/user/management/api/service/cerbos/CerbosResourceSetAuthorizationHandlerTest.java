@@ -0,0 +1,260 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.access.cerbos.CerbosPrincipalAttributesProvider;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilterKind;
+import io.nuvalence.user.management.api.service.config.exception.UnexpectedException;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class CerbosResourceSetAuthorizationHandlerTest {
+    private static final String CHECK_URL = "http://cerbos/api/check";
+
+    @Mock private AuthorizationHandler delegate;
+    @Mock private CerbosPrincipalAttributesProvider principalAttributesProvider;
+    @Mock private CerbosResourceAttributes resourceAttributes;
+
+    private MockedStatic<SecurityContextUtility> securityContext;
+    private MockRestServiceServer server;
+    private CerbosResourceSetAuthorizationHandler handler;
+    private String userId;
+
+    @BeforeEach
+    void setup() {
+        RestTemplate restTemplate = new RestTemplateBuilder().rootUri("http://cerbos").build();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        handler =
+                new CerbosResourceSetAuthorizationHandler(
+                        delegate, restTemplate, principalAttributesProvider, resourceAttributes);
+
+        userId = UUID.randomUUID().toString();
+        securityContext = Mockito.mockStatic(SecurityContextUtility.class);
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                userId, null, List.of(new SimpleGrantedAuthority("um:admin"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityContext.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filterAllowed_ChecksAllResourcesInOneRequest() {
+        authenticate();
+        RoleEntity first = new RoleEntity();
+        RoleEntity second = new RoleEntity();
+        RoleEntity third = new RoleEntity();
+        when(resourceAttributes.getAttributes(any())).thenReturn(Map.of("id", "role"));
+        when(principalAttributesProvider.getAttributes(any())).thenReturn(Map.of());
+
+        server.expect(requestTo(CHECK_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.actions[0]").value("view"))
+                .andExpect(jsonPath("$.principal.id").value(userId))
+                .andExpect(jsonPath("$.principal.roles", Matchers.hasItems("um:admin", "admin")))
+                .andExpect(jsonPath("$.resource.kind").value("role"))
+                .andExpect(jsonPath("$.resource.instances.length()").value(3))
+                .andRespond(
+                        withSuccess(
+                                """
+                                {"resourceInstances": {
+                                  "0": {"actions": {"view": "EFFECT_DENY"}},
+                                  "1": {"actions": {"view": "EFFECT_ALLOW"}},
+                                  "2": {"actions": {"view": "EFFECT_ALLOW"}}
+                                }}
+                                """,
+                                MediaType.APPLICATION_JSON));
+
+        List<RoleEntity> allowed =
+                handler.filterAllowed("view", RoleEntity.class, List.of(first, second, third));
+
+        server.verify();
+        assertEquals(2, allowed.size());
+        assertSame(second, allowed.get(0));
+        assertSame(third, allowed.get(1));
+    }
+
+    @Test
+    void filterAllowed_TreatsMissingDecisionsAsDenied() {
+        authenticate();
+        when(resourceAttributes.getAttributes(any())).thenReturn(Map.of());
+        when(principalAttributesProvider.getAttributes(any())).thenReturn(Map.of());
+
+        server.expect(requestTo(CHECK_URL))
+                .andRespond(
+                        withSuccess(
+                                """
+                                {"resourceInstances": {
+                                  "0": {"actions": {"view": "EFFECT_NO_MATCH"}}
+                                }}
+                                """,
+                                MediaType.APPLICATION_JSON));
+
+        List<RoleEntity> roles = List.of(new RoleEntity(), new RoleEntity());
+
+        assertTrue(handler.filterAllowed("view", RoleEntity.class, roles).isEmpty());
+    }
+
+    @Test
+    void filterAllowed_ThrowsOnEmptyResponse() {
+        authenticate();
+        when(resourceAttributes.getAttributes(any())).thenReturn(Map.of());
+        when(principalAttributesProvider.getAttributes(any())).thenReturn(Map.of());
+        server.expect(requestTo(CHECK_URL))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        List<RoleEntity> roles = List.of(new RoleEntity());
+
+        assertThrows(
+                UnexpectedException.class,
+                () -> handler.filterAllowed("view", RoleEntity.class, roles));
+    }
+
+    @Test
+    void filterAllowed_SkipsCallForEmptyList() {
+        assertTrue(handler.filterAllowed("view", RoleEntity.class, List.of()).isEmpty());
+
+        server.verify();
+        verifyNoInteractions(resourceAttributes);
+    }
+
+    @Test
+    void getAllowedActions_ChecksAllActionsInOneRequest() {
+        authenticate();
+        when(resourceAttributes.getAttributes(any())).thenReturn(Map.of("id", "role"));
+        when(principalAttributesProvider.getAttributes(any())).thenReturn(Map.of());
+
+        server.expect(requestTo(CHECK_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.actions", Matchers.containsInAnyOrder("view", "update")))
+                .andExpect(jsonPath("$.resource.kind").value("role"))
+                .andExpect(jsonPath("$.resource.instances.length()").value(1))
+                .andRespond(
+                        withSuccess(
+                                """
+                                {"resourceInstances": {
+                                  "0": {"actions": {
+                                    "view": "EFFECT_ALLOW",
+                                    "update": "EFFECT_DENY"
+                                  }}
+                                }}
+                                """,
+                                MediaType.APPLICATION_JSON));
+
+        Set<String> allowed =
+                handler.getAllowedActions(new RoleEntity(), Set.of("view", "update"));
+
+        server.verify();
+        assertEquals(Set.of("view"), allowed);
+    }
+
+    @Test
+    void getAllowedActions_SkipsCallWithoutResource() {
+        assertTrue(handler.getAllowedActions(null, Set.of("view")).isEmpty());
+
+        server.verify();
+        verifyNoInteractions(resourceAttributes);
+    }
+
+    @Test
+    void planResources_ReturnsFilter() {
+        authenticate();
+        when(principalAttributesProvider.getAttributes(any())).thenReturn(Map.of());
+
+        server.expect(requestTo("http://cerbos/api/plan/resources"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.action").value("view"))
+                .andExpect(jsonPath("$.principal.id").value(userId))
+                .andExpect(jsonPath("$.resource.kind").value("role"))
+                .andRespond(
+                        withSuccess(
+                                """
+                                {"filter": {
+                                  "kind": "KIND_CONDITIONAL",
+                                  "condition": {"expression": {
+                                    "operator": "eq",
+                                    "operands": [
+                                      {"variable": "request.resource.attr.id"},
+                                      {"value": "role-id"}
+                                    ]
+                                  }}
+                                }}
+                                """,
+                                MediaType.APPLICATION_JSON));
+
+        PlanResourcesFilter filter = handler.planResources("view", RoleEntity.class);
+
+        server.verify();
+        assertEquals(PlanResourcesFilterKind.KIND_CONDITIONAL, filter.getKind());
+        assertEquals("eq", filter.getCondition().getExpression().getOperator());
+        assertEquals(
+                "role-id",
+                filter.getCondition().getExpression().getOperands().get(1).getValue());
+    }
+
+    @Test
+    void planResources_ThrowsWithoutFilter() {
+        authenticate();
+        when(principalAttributesProvider.getAttributes(any())).thenReturn(Map.of());
+        server.expect(requestTo("http://cerbos/api/plan/resources"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        assertThrows(
+                UnexpectedException.class, () -> handler.planResources("view", RoleEntity.class));
+    }
+
+    @Test
+    void singleChecks_GoToDelegate() {
+        RoleEntity role = new RoleEntity();
+        when(delegate.isAllowed("view", RoleEntity.class)).thenReturn(true);
+        when(delegate.isAllowed("view", "role")).thenReturn(true);
+        when(delegate.isAllowedForInstance("view", role)).thenReturn(true);
+
+        assertTrue(handler.isAllowed("view", RoleEntity.class));
+        assertTrue(handler.isAllowed("view", "role"));
+        assertTrue(handler.isAllowedForInstance("view", role));
+    }
+
+    private void authenticate() {
+        securityContext.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(userId);
+    }
+}
@@ -0,0 +1,119 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.cerbos.CerbosPrincipalAttributesProvider;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddedAuthorizationHandlerTest {
+    private static final EmbeddedPolicyEngine ENGINE = new EmbeddedPolicyEngine();
+
+    @Mock private CerbosPrincipalAttributesProvider principalAttributesProvider;
+    @Mock private CerbosResourceAttributes resourceAttributes;
+
+    private MockedStatic<SecurityContextUtility> securityContext;
+    private EmbeddedAuthorizationHandler handler;
+
+    @BeforeEach
+    void setup() {
+        handler =
+                new EmbeddedAuthorizationHandler(
+                        ENGINE, principalAttributesProvider, resourceAttributes);
+        securityContext = Mockito.mockStatic(SecurityContextUtility.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityContext.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void isAllowed_ChecksResourceKind() {
+        authenticate("admin-1", "um:admin");
+
+        assertTrue(handler.isAllowed("view", RoleEntity.class));
+        assertFalse(handler.isAllowed("register", "role"));
+    }
+
+    @Test
+    void isAllowedForInstance_UsesResourceAttributes() {
+        authenticate("user-1", "um:basic");
+        UserEntity self = new PublicUser();
+        UserEntity other = new PublicUser();
+        when(resourceAttributes.getAttributes(self)).thenReturn(Map.of("id", "user-1"));
+        when(resourceAttributes.getAttributes(other)).thenReturn(Map.of("id", "user-2"));
+
+        assertTrue(handler.isAllowedForInstance("update", self));
+        assertFalse(handler.isAllowedForInstance("update", other));
+        assertFalse(handler.getAuthFilter("view", UserEntity.class).test(other));
+    }
+
+    @Test
+    void getAllowedActions_DecidesAllActionsAtOnce() {
+        authenticate("user-1", "um:basic");
+        UserEntity self = new PublicUser();
+        when(resourceAttributes.getAttributes(self)).thenReturn(Map.of("id", "user-1"));
+
+        assertEquals(
+                Set.of("view", "update"),
+                handler.getAllowedActions(self, Set.of("view", "update", "delete")));
+    }
+
+    @Test
+    void filterAllowed_KeepsAllowedResourcesInOrder() {
+        authenticate("user-1", "um:basic");
+        UserEntity first = new PublicUser();
+        UserEntity second = new PublicUser();
+        UserEntity third = new PublicUser();
+        when(resourceAttributes.getAttributes(any()))
+                .thenReturn(Map.of("id", "user-1"), Map.of("id", "user-2"), Map.of("id", "user-1"));
+
+        assertEquals(
+                List.of(first, third),
+                handler.filterAllowed("view", UserEntity.class, List.of(first, second, third)));
+    }
+
+    @Test
+    void filterAllowed_DeniesWithoutAuthentication() {
+        assertTrue(
+                handler.filterAllowed("view", UserEntity.class, List.of(new PublicUser()))
+                        .isEmpty());
+        assertTrue(handler.getAllowedActions(new PublicUser(), Set.of("view")).isEmpty());
+        assertFalse(handler.isAllowed("view", "language"));
+        verifyNoInteractions(principalAttributesProvider, resourceAttributes);
+    }
+
+    private void authenticate(String userId, String role) {
+        securityContext.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(userId);
+        when(principalAttributesProvider.getAttributes(any())).thenReturn(Map.of());
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                userId, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+}
@@ -0,0 +1,210 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.user.management.api.service.cerbos.models.Principal;
+import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.ProfileType;
+import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+class EmbeddedPolicyEngineTest {
+    private static final String DERIVED_ROLES =
+            """
+            apiVersion: api.cerbos.dev/v1
+            derived_roles:
+              name: document_roles
+              definitions:
+                - name: owner
+                  parentRoles: ["user"]
+                  condition:
+                    match:
+                      expr: request.resource.attr.ownerId == request.principal.id
+                - name: collaborator
+                  parent_roles: ["user"]
+                  condition:
+                    match:
+                      expr: P.attr.documents.exists(d, d.id == R.id && d.level == "WRITER")
+            """;
+    private static final String RESOURCE_POLICY =
+            """
+            apiVersion: api.cerbos.dev/v1
+            resourcePolicy:
+              version: "default"
+              resource: document
+              importDerivedRoles:
+                - document_roles
+              rules:
+                - actions: ["view"]
+                  roles: ["*"]
+                  condition:
+                    match:
+                      none:
+                        of:
+                          - expr: R.attr.status == "DRAFT"
+                  effect: EFFECT_ALLOW
+                - actions: ["view", "update"]
+                  derivedRoles: ["owner", "collaborator"]
+                  effect: EFFECT_ALLOW
+                - actions: ["*"]
+                  roles: ["admin"]
+                  effect: EFFECT_ALLOW
+                - actions: ["update"]
+                  roles: ["*"]
+                  condition:
+                    match:
+                      all:
+                        of:
+                          - expr: R.attr.status == "LOCKED"
+                          - expr: '!("admin" in P.roles)'
+                  effect: EFFECT_DENY
+            """;
+
+    private final EmbeddedPolicyEngine engine =
+            new EmbeddedPolicyEngine(policy(RESOURCE_POLICY), policy(DERIVED_ROLES));
+
+    @Test
+    void getAllowedActions_GrantsByRole() {
+        Principal admin = principal("admin-1", Map.of(), "admin");
+
+        assertEquals(
+                Set.of("view", "update", "delete"),
+                engine.getAllowedActions(
+                        admin,
+                        "document",
+                        Map.of("id", "doc-1", "status", "LOCKED"),
+                        List.of("view", "update", "delete")));
+    }
+
+    @Test
+    void getAllowedActions_GrantsByDerivedRole() {
+        Principal owner = principal("user-1", Map.of(), "user");
+        Map<String, Object> draft = Map.of("id", "doc-1", "ownerId", "user-1", "status", "DRAFT");
+
+        assertEquals(
+                Set.of("view", "update"),
+                engine.getAllowedActions(
+                        owner, "document", draft, List.of("view", "update", "delete")));
+        assertTrue(
+                engine.getAllowedActions(
+                                principal("user-2", Map.of(), "user"),
+                                "document",
+                                draft,
+                                List.of("view", "update"))
+                        .isEmpty());
+    }
+
+    @Test
+    void getAllowedActions_ReadsPrincipalAttributesAsJson() {
+        UUID documentId = UUID.randomUUID();
+        Principal collaborator =
+                principal(
+                        "user-2",
+                        Map.of(
+                                "documents",
+                                List.of(
+                                        AccessProfileDto.builder()
+                                                .id(documentId)
+                                                .type(ProfileType.INDIVIDUAL)
+                                                .level(ProfileAccessLevel.WRITER)
+                                                .build())),
+                        "user");
+
+        assertTrue(
+                engine.isAllowed(
+                        collaborator,
+                        "document",
+                        Map.of("id", documentId, "status", "DRAFT"),
+                        "update"));
+        assertFalse(
+                engine.isAllowed(
+                        collaborator,
+                        "document",
+                        Map.of("id", UUID.randomUUID(), "status", "DRAFT"),
+                        "update"));
+    }
+
+    @Test
+    void getAllowedActions_DenyOverridesAllow() {
+        Principal owner = principal("user-1", Map.of(), "user");
+
+        assertEquals(
+                Set.of("view"),
+                engine.getAllowedActions(
+                        owner,
+                        "document",
+                        Map.of("id", "doc-1", "ownerId", "user-1", "status", "LOCKED"),
+                        List.of("view", "update")));
+    }
+
+    @Test
+    void getAllowedActions_DeniesKindsWithoutPolicy() {
+        assertTrue(
+                engine.getAllowedActions(
+                                principal("admin-1", Map.of(), "admin"),
+                                "folder",
+                                Map.of(),
+                                List.of("view"))
+                        .isEmpty());
+    }
+
+    @Test
+    void constructor_RejectsUnknownDerivedRoles() {
+        ByteArrayResource resourcePolicy = policy(RESOURCE_POLICY);
+
+        assertThrows(
+                IllegalArgumentException.class, () -> new EmbeddedPolicyEngine(resourcePolicy));
+    }
+
+    @Test
+    void constructor_RejectsUnsupportedConditions() {
+        ByteArrayResource resourcePolicy =
+                policy(
+                        """
+                        apiVersion: api.cerbos.dev/v1
+                        resourcePolicy:
+                          version: "default"
+                          resource: document
+                          rules:
+                            - actions: ["view"]
+                              roles: ["user"]
+                              condition:
+                                match:
+                                  expr: timestamp(R.attr.created) > now()
+                              effect: EFFECT_ALLOW
+                        """);
+
+        assertThrows(
+                IllegalArgumentException.class, () -> new EmbeddedPolicyEngine(resourcePolicy));
+    }
+
+    @Test
+    void constructor_CompilesBundledPolicies() {
+        EmbeddedPolicyEngine bundled = new EmbeddedPolicyEngine();
+
+        assertTrue(
+                bundled.isAllowed(
+                        principal("admin-1", Map.of(), "um:admin", "admin"),
+                        "role",
+                        Map.of(),
+                        "view"));
+    }
+
+    private static Principal principal(String id, Map<String, Object> attr, String... roles) {
+        return Principal.builder().id(id).roles(roles).attr(attr).build();
+    }
+
+    private static ByteArrayResource policy(String yaml) {
+        return new ByteArrayResource(yaml.getBytes(StandardCharsets.UTF_8));
+    }
+}
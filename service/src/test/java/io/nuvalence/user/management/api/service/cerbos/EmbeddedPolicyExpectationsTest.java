@@ -0,0 +1,75 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.user.management.api.service.cerbos.models.Effect;
+import io.nuvalence.user.management.api.service.cerbos.models.Principal;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks the embedded policy engine against the decisions expected of the bundled policies, kept
+ * in {@code cerbos/expected-decisions.json}. Each case holds a CheckResources principal and
+ * resource, and the effect expected for each action.
+ *
+ * <p>The expected effects were written by hand from the policies and the Cerbos evaluation rules,
+ * not recorded from a sidecar, so they show the engine does what the policies say as read, not
+ * that it agrees with Cerbos on every edge case. {@code cerbos/record-expected-decisions.sh}
+ * replaces them with the effects a sidecar running the bundled policies returns.</p>
+ */
+class EmbeddedPolicyExpectationsTest {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+    private static final EmbeddedPolicyEngine ENGINE = new EmbeddedPolicyEngine();
+
+    static Stream<Arguments> expectedDecisions() throws IOException {
+        try (InputStream inputStream =
+                new ClassPathResource("cerbos/expected-decisions.json").getInputStream()) {
+            final List<Map<String, Object>> decisions =
+                    MAPPER.readValue(inputStream, new TypeReference<>() {});
+            return decisions.stream()
+                    .map(decision -> Arguments.of(decision.get("description"), decision));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("expectedDecisions")
+    @SuppressWarnings("unchecked")
+    void getAllowedActions_MatchesExpected(String description, Map<String, Object> decision) {
+        Principal principal = MAPPER.convertValue(decision.get("principal"), Principal.class);
+        Map<String, Object> resource = (Map<String, Object>) decision.get("resource");
+        Map<String, Effect> expected =
+                MAPPER.convertValue(decision.get("actions"), new TypeReference<>() {});
+
+        Set<String> allowed =
+                ENGINE.getAllowedActions(
+                        principal,
+                        (String) resource.get("kind"),
+                        (Map<String, Object>) resource.get("attr"),
+                        expected.keySet());
+
+        Map<String, Effect> actual =
+                expected.keySet().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        action -> action,
+                                        action ->
+                                                allowed.contains(action)
+                                                        ? Effect.EFFECT_ALLOW
+                                                        : Effect.EFFECT_DENY));
+        assertEquals(new TreeMap<>(expected), new TreeMap<>(actual));
+    }
+}
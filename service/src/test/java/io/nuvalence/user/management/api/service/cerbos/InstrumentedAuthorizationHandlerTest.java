@@ -0,0 +1,73 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.cerbos.sdk.CerbosBlockingClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedAuthorizationHandlerTest {
+    @Mock private AuthorizationHandler delegate;
+
+    private MeterRegistry meterRegistry;
+    private CerbosClientPool pool;
+    private InstrumentedAuthorizationHandler handler;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        pool =
+                new CerbosClientPool(List.of(mock(CerbosBlockingClient.class)), meterRegistry);
+        handler = new InstrumentedAuthorizationHandler(delegate, pool.acquire());
+    }
+
+    @Test
+    void delegatesAndRecordsEveryCheck() {
+        RoleEntity role = new RoleEntity();
+        when(delegate.isAllowed("view", RoleEntity.class)).thenReturn(true);
+        when(delegate.isAllowed("view", "role")).thenReturn(false);
+        when(delegate.isAllowedForInstance("update", role)).thenReturn(true);
+
+        assertTrue(handler.isAllowed("view", RoleEntity.class));
+        assertFalse(handler.isAllowed("view", "role"));
+        assertTrue(handler.isAllowedForInstance("update", role));
+
+        assertEquals(3, successCount());
+    }
+
+    @Test
+    void getAuthFilter_RecordsEachElement() {
+        Predicate<RoleEntity> allowAll = element -> true;
+        when(delegate.getAuthFilter("view", RoleEntity.class)).thenReturn(allowAll);
+
+        Predicate<RoleEntity> filter = handler.getAuthFilter("view", RoleEntity.class);
+        assertEquals(0, successCount());
+
+        assertTrue(filter.test(new RoleEntity()));
+        assertTrue(filter.test(new RoleEntity()));
+        assertEquals(2, successCount());
+    }
+
+    private long successCount() {
+        return meterRegistry
+                .get(CerbosClientPool.CHECK_METRIC)
+                .tag("outcome", "success")
+                .timer()
+                .count();
+    }
+}
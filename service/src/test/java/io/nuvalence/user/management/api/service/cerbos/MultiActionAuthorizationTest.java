@@ -0,0 +1,43 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+class MultiActionAuthorizationTest {
+
+    @Test
+    void getAllowedActions_UsesMultiActionHandler() {
+        MultiActionAuthorizationHandler handler = mock(MultiActionAuthorizationHandler.class);
+        RoleEntity role = new RoleEntity();
+        when(handler.getAllowedActions(role, Set.of("view", "update")))
+                .thenReturn(Set.of("view"));
+
+        assertEquals(
+                Set.of("view"),
+                new MultiActionAuthorization(handler).getAllowedActions(role, "view", "update"));
+    }
+
+    @Test
+    void getAllowedActions_FallsBackToInstanceChecks() {
+        AuthorizationHandler handler = mock(AuthorizationHandler.class);
+        RoleEntity role = new RoleEntity();
+        when(handler.isAllowedForInstance("view", role)).thenReturn(true);
+        when(handler.isAllowedForInstance("update", role)).thenReturn(false);
+
+        assertEquals(
+                Set.of("view"),
+                new MultiActionAuthorization(handler)
+                        .getAllowedActions(role, "view", "update", "view"));
+        // duplicated actions are only checked once
+        verify(handler, times(1)).isAllowedForInstance("view", role);
+    }
+}
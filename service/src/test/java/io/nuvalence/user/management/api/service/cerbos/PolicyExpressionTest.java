@@ -0,0 +1,94 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+
+class PolicyExpressionTest {
+    private static final Map<String, Object> PRINCIPAL =
+            Map.of(
+                    "id", "user-1",
+                    "roles", List.of("basic", "um:basic"),
+                    "attr",
+                            Map.of(
+                                    "team", "blue",
+                                    "level", 3,
+                                    "accessProfiles",
+                                            List.of(
+                                                    Map.of("id", "p-1", "level", "READER"),
+                                                    Map.of("id", "p-2", "level", "ADMIN"))));
+    private static final Map<String, Object> REQUEST =
+            Map.of(
+                    "principal",
+                    PRINCIPAL,
+                    "resource",
+                    Map.of(
+                            "kind", "document",
+                            "id", "p-2",
+                            "attr", Map.of("id", "p-2", "owner", "user-1", "team", "blue")));
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "request.resource.attr.owner == request.principal.id",
+                "R.attr.team == P.attr.team",
+                "R.attr.owner != 'user-2'",
+                "P.attr.level >= 3 && P.attr.level < 4.5",
+                "-1 < P.attr.level",
+                "\"basic\" in P.roles && !(\"admin\" in P.roles)",
+                "R.attr.team in [\"red\", \"blue\"]",
+                "P.attr.accessProfiles.exists(x, x.id == R.attr.id && x.level == \"ADMIN\")",
+                "P.attr.accessProfiles.all(x, x.id.startsWith('p-'))",
+                "P.attr.accessProfiles.exists_one(x, x.level == 'READER')",
+                "size(P.attr.accessProfiles) == 2 && R.attr.owner.size() == 6",
+                "R.attr.owner.contains('-') && R.attr.owner.endsWith('1')",
+                "R.kind == 'document' && R.id == R.attr.id",
+                "false || true"
+            })
+    void test_True(String expression) {
+        assertTrue(PolicyExpression.compile(expression).test(REQUEST));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "R.attr.owner == 'user-2'",
+                "P.attr.accessProfiles.exists(x, x.id == R.attr.id && x.level == \"WRITER\")",
+                "R.attr.team == 3",
+                "R.attr.missing == 'value'",
+                "R.attr.owner < 3",
+                "R.attr.owner"
+            })
+    void test_False(String expression) {
+        assertFalse(PolicyExpression.compile(expression).test(REQUEST));
+    }
+
+    @Test
+    void test_LogicalOperatorsAbsorbErrors() {
+        assertTrue(PolicyExpression.compile("R.attr.missing == 1 || true").test(REQUEST));
+        assertFalse(PolicyExpression.compile("R.attr.missing == 1 && false").test(REQUEST));
+        assertFalse(PolicyExpression.compile("R.attr.missing == 1 || false").test(REQUEST));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "variables.owner == request.principal.id",
+                "R.attr.tags.map(x, x.name)",
+                "timestamp(R.attr.created) > now()",
+                "R.attr.owner == 'user-1' ? true : false",
+                "R.attr.owner ==",
+                "x.id == R.attr.id",
+                "'unterminated"
+            })
+    void compile_RejectsUnsupportedExpressions(String expression) {
+        assertThrows(IllegalArgumentException.class, () -> PolicyExpression.compile(expression));
+    }
+}
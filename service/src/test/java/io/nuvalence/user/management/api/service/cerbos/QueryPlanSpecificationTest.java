@@ -0,0 +1,315 @@
+package io.nuvalence.user.management.api.service.cerbos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesExpression;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilterKind;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesOperand;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.enums.CountMode;
+import io.nuvalence.user.management.api.service.enums.UserType;
+import io.nuvalence.user.management.api.service.repository.UserRepository;
+import io.nuvalence.user.management.api.service.service.UserSearchCriteria;
+import io.nuvalence.user.management.api.service.service.UserService;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Transactional
+class QueryPlanSpecificationTest {
+    private static final String ID = "request.resource.attr.id";
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @Autowired private UserRepository repository;
+    @Autowired private UserService userService;
+
+    private Pageable pageable;
+    private UserEntity homer;
+    private UserEntity lisa;
+    private UserEntity bart;
+
+    @BeforeEach
+    void setUp() {
+        pageable = PageRequest.of(0, 2, Sort.by("email").ascending());
+        homer = repository.save(createUser("homer@springfield.com", UserType.AGENCY));
+        lisa = repository.save(createUser("lisa@springfield.com", UserType.PUBLIC));
+        bart = repository.save(createUser("bart@springfield.com", UserType.PUBLIC));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void alwaysAllowed_MatchesEveryUser() {
+        Page<UserEntity> page = search(plan(PlanResourcesFilterKind.KIND_ALWAYS_ALLOWED, null));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+    }
+
+    @Test
+    void alwaysDenied_MatchesNoUser() {
+        QueryPlanSpecification<UserEntity> specification =
+                QueryPlanSpecification.of(
+                        plan(PlanResourcesFilterKind.KIND_ALWAYS_DENIED, null), UserEntity.class);
+
+        assertTrue(specification.isAlwaysDenied());
+        assertEquals(0, search(specification).getTotalElements());
+    }
+
+    @Test
+    void eq_MatchesOwnUserAndCountsExactly() {
+        Page<UserEntity> page =
+                search(conditional(expression("eq", variable(ID), value(lisa.getId().toString()))));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(lisa.getId(), page.getContent().get(0).getId());
+    }
+
+    @Test
+    void in_MatchesListedUsers() {
+        Page<UserEntity> page =
+                search(
+                        conditional(
+                                expression(
+                                        "in",
+                                        variable(ID),
+                                        value(
+                                                List.of(
+                                                        homer.getId().toString(),
+                                                        bart.getId().toString())))));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(bart.getId(), page.getContent().get(0).getId());
+        assertEquals(homer.getId(), page.getContent().get(1).getId());
+    }
+
+    @Test
+    void andOrNot_CombineWithEnumAttributes() {
+        PlanResourcesOperand publicUsers =
+                expression("eq", variable("request.resource.attr.userType"), value("public"));
+        PlanResourcesOperand notBart =
+                expression("not", expression("eq", variable(ID), value(bart.getId().toString())));
+        PlanResourcesOperand homerById =
+                expression("eq", value(homer.getId().toString()), variable(ID));
+
+        PlanResourcesOperand condition =
+                expression("or", expression("and", publicUsers, notBart), homerById);
+
+        Page<UserEntity> page = search(conditional(condition));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(homer.getId(), page.getContent().get(0).getId());
+        assertEquals(lisa.getId(), page.getContent().get(1).getId());
+    }
+
+    @Test
+    void isAndedWithSearchCriteria() {
+        UserSearchCriteria criteria = UserSearchCriteria.builder().email(homer.getEmail()).build();
+        QueryPlanSpecification<UserEntity> specification =
+                QueryPlanSpecification.of(
+                        conditional(expression("eq", variable(ID), value(lisa.getId().toString()))),
+                        UserEntity.class);
+
+        assertEquals(0, search(criteria, specification).getTotalElements());
+    }
+
+    @Test
+    void exists_UnrollsPrincipalAttributes() {
+        PlanResourcesOperand accessProfiles =
+                value(
+                        List.of(
+                                Map.of("id", lisa.getId().toString(), "level", "READER"),
+                                Map.of("id", bart.getId().toString(), "level", "WRITER")));
+        PlanResourcesOperand writable =
+                expression(
+                        "and",
+                        expression("eq", variable("x.id"), variable(ID)),
+                        expression("eq", variable("x.level"), value("WRITER")));
+
+        Page<UserEntity> page =
+                search(conditional(expression("exists", accessProfiles, lambda(writable, "x"))));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(bart.getId(), page.getContent().get(0).getId());
+    }
+
+    @Test
+    void all_UnrollsPrincipalAttributes() {
+        PlanResourcesOperand excluded = value(List.of(Map.of("id", lisa.getId().toString())));
+
+        Page<UserEntity> page =
+                search(
+                        conditional(
+                                expression(
+                                        "all",
+                                        excluded,
+                                        lambda(
+                                                expression("ne", variable("x.id"), variable(ID)),
+                                                "x"))));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(bart.getId(), page.getContent().get(0).getId());
+        assertEquals(homer.getId(), page.getContent().get(1).getId());
+    }
+
+    @Test
+    void exists_OverNoElementsDeniesEveryUser() {
+        QueryPlanSpecification<UserEntity> specification =
+                QueryPlanSpecification.of(
+                        conditional(
+                                expression(
+                                        "exists",
+                                        value(List.of()),
+                                        lambda(
+                                                expression("eq", variable("x.id"), variable(ID)),
+                                                "x"))),
+                        UserEntity.class);
+
+        assertTrue(specification.isAlwaysDenied());
+        assertEquals(0, search(specification).getTotalElements());
+    }
+
+    @Test
+    void of_RejectsExistsOverResourceAttributes() {
+        PlanResourcesFilter filter =
+                conditional(
+                        expression(
+                                "exists",
+                                variable("request.resource.attr.roles"),
+                                lambda(expression("eq", variable("x"), value("admin")), "x")));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QueryPlanSpecification.of(filter, UserEntity.class));
+    }
+
+    @Test
+    void of_RejectsUnsupportedOperator() {
+        PlanResourcesFilter filter =
+                conditional(
+                        expression(
+                                "startsWith",
+                                variable("request.resource.attr.email"),
+                                value("homer")));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QueryPlanSpecification.of(filter, UserEntity.class));
+    }
+
+    @Test
+    void of_RejectsUnknownAttribute() {
+        PlanResourcesFilter filter =
+                conditional(
+                        expression("eq", variable("request.resource.attr.unknown"), value("x")));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QueryPlanSpecification.of(filter, UserEntity.class));
+    }
+
+    @Test
+    void of_RejectsAttributeComparisons() {
+        PlanResourcesFilter filter =
+                conditional(
+                        expression("eq", variable(ID), variable("request.resource.attr.email")));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QueryPlanSpecification.of(filter, UserEntity.class));
+    }
+
+    @Test
+    void of_AcceptsConditionalPlans() {
+        QueryPlanSpecification<UserEntity> specification =
+                QueryPlanSpecification.of(
+                        conditional(expression("ne", variable(ID), value(null))), UserEntity.class);
+
+        assertFalse(specification.isAlwaysDenied());
+        assertEquals(3, search(specification).getTotalElements());
+    }
+
+    private Page<UserEntity> search(PlanResourcesFilter filter) {
+        return search(QueryPlanSpecification.of(filter, UserEntity.class));
+    }
+
+    private Page<UserEntity> search(QueryPlanSpecification<UserEntity> specification) {
+        return search(UserSearchCriteria.builder().build(), specification);
+    }
+
+    private Page<UserEntity> search(
+            UserSearchCriteria criteria, QueryPlanSpecification<UserEntity> specification) {
+        // counted exactly, the search always returns a page
+        return (Page<UserEntity>)
+                userService.getUsersBySearchCriteria(
+                        criteria, specification, pageable, CountMode.EXACT);
+    }
+
+    private static PlanResourcesFilter plan(
+            PlanResourcesFilterKind kind, PlanResourcesOperand condition) {
+        return PlanResourcesFilter.builder().kind(kind).condition(condition).build();
+    }
+
+    private static PlanResourcesFilter conditional(PlanResourcesOperand condition) {
+        return plan(PlanResourcesFilterKind.KIND_CONDITIONAL, condition);
+    }
+
+    private static PlanResourcesOperand expression(
+            String operator, PlanResourcesOperand... operands) {
+        return PlanResourcesOperand.builder()
+                .expression(
+                        PlanResourcesExpression.builder()
+                                .operator(operator)
+                                .operands(List.of(operands))
+                                .build())
+                .build();
+    }
+
+    private static PlanResourcesOperand lambda(PlanResourcesOperand body, String variable) {
+        return expression("lambda", body, variable(variable));
+    }
+
+    private static PlanResourcesOperand variable(String name) {
+        return PlanResourcesOperand.builder().variable(name).build();
+    }
+
+    private static PlanResourcesOperand value(Object value) {
+        return PlanResourcesOperand.builder().value(value).build();
+    }
+
+    private static UserEntity createUser(String email, UserType type) {
+        UserEntity user = new PublicUser();
+        user.setEmail(email);
+        user.setFirstName(email.substring(0, email.indexOf('@')));
+        user.setUserType(type);
+        user.setDeleted(false);
+        return user;
+    }
+}
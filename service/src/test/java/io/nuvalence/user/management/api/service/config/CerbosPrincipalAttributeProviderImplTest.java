@@ -3,21 +3,15 @@ package io.nuvalence.user.management.api.service.config;
 import static io.nuvalence.user.management.api.service.enums.ProfileType.EMPLOYER;
 import static io.nuvalence.user.management.api.service.enums.ProfileType.INDIVIDUAL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.auth.util.SecurityContextUtility;
-import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
-import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
-import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
-import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
+import io.nuvalence.user.management.api.service.cerbos.AccessProfileCache;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
 import io.nuvalence.user.management.api.service.models.AccessProfileDto;
-import io.nuvalence.user.management.api.service.service.EmployerProfileLinkService;
-import io.nuvalence.user.management.api.service.service.IndividualProfileLinkService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -33,54 +27,47 @@ import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
 class CerbosPrincipalAttributeProviderImplTest {
-    @Mock private IndividualProfileLinkService individualUserLinkService;
-    @Mock private EmployerProfileLinkService employerUserLinkService;
+    @Mock private AccessProfileCache accessProfileCache;
     @InjectMocks private CerbosPrincipalAttributeProviderImpl provider;
 
     @Test
     void getAttributesTest() {
         try (MockedStatic<SecurityContextUtility> mocked =
                 Mockito.mockStatic(SecurityContextUtility.class)) {
+            UUID userId = UUID.randomUUID();
             mocked.when(SecurityContextUtility::getAuthenticatedUserId)
-                    .thenReturn(UUID.randomUUID().toString());
+                    .thenReturn(userId.toString());
 
-            UUID individualId = UUID.randomUUID();
-            IndividualProfile individual = IndividualProfile.builder().id(individualId).build();
-            IndividualProfileLink individualUserLink =
-                    IndividualProfileLink.builder().profile(individual).build();
-            individualUserLink.setProfileAccessLevel(ProfileAccessLevel.ADMIN);
-            when(individualUserLinkService.getIndividualLinksByUserId(any()))
-                    .thenReturn(List.of(individualUserLink));
-
-            UUID employerId = UUID.randomUUID();
-            EmployerProfile employer = EmployerProfile.builder().id(employerId).build();
-            EmployerProfileLink employerUserLink =
-                    EmployerProfileLink.builder().profile(employer).build();
-            employerUserLink.setProfileAccessLevel(ProfileAccessLevel.READER);
-            when(employerUserLinkService.getEmployerLinksByUserId(any()))
-                    .thenReturn(List.of(employerUserLink));
+            List<AccessProfileDto> profiles =
+                    List.of(
+                            AccessProfileDto.builder()
+                                    .id(UUID.randomUUID())
+                                    .type(INDIVIDUAL)
+                                    .level(ProfileAccessLevel.ADMIN)
+                                    .build(),
+                            AccessProfileDto.builder()
+                                    .id(UUID.randomUUID())
+                                    .type(EMPLOYER)
+                                    .level(ProfileAccessLevel.READER)
+                                    .build());
+            when(accessProfileCache.getAccessProfiles(userId)).thenReturn(profiles);
 
             Map<String, Object> result = provider.getAttributes(mock(Authentication.class));
 
-            assertTrue(result.containsKey("accessProfiles"));
-            Object accessProfilesObject = result.get("accessProfiles");
-            assertNotNull(accessProfilesObject);
-            assertTrue(accessProfilesObject instanceof List);
-
-            List<?> accessProfiles = (List<?>) accessProfilesObject;
-            assertEquals(2, accessProfiles.size());
+            assertEquals(Map.of("accessProfiles", profiles), result);
+        }
+    }
 
-            accessProfiles.forEach(profile -> assertTrue(profile instanceof AccessProfileDto));
+    @Test
+    void getAttributes_NotAuthenticated() {
+        try (MockedStatic<SecurityContextUtility> mocked =
+                Mockito.mockStatic(SecurityContextUtility.class)) {
+            mocked.when(SecurityContextUtility::getAuthenticatedUserId).thenReturn(null);
 
-            assertEquals(INDIVIDUAL, ((AccessProfileDto) accessProfiles.get(0)).getType());
-            assertEquals(
-                    ProfileAccessLevel.ADMIN,
-                    ((AccessProfileDto) accessProfiles.get(0)).getLevel());
+            Map<String, Object> result = provider.getAttributes(mock(Authentication.class));
 
-            assertEquals(EMPLOYER, ((AccessProfileDto) accessProfiles.get(1)).getType());
-            assertEquals(
-                    ProfileAccessLevel.READER,
-                    ((AccessProfileDto) accessProfiles.get(1)).getLevel());
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(accessProfileCache);
         }
     }
 }
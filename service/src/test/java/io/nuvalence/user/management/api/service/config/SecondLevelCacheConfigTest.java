@@ -0,0 +1,142 @@
+package io.nuvalence.user.management.api.service.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+class SecondLevelCacheConfigTest {
+    private final SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner()
+                    .withUserConfiguration(SecondLevelCacheConfig.class)
+                    .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                    .withPropertyValues("persistence.second-level-cache.regions.address=50");
+
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void closeCacheManager() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @Test
+    void disablesTheCache() {
+        final SecondLevelCacheProperties properties = new SecondLevelCacheProperties();
+        properties.setEnabled(false);
+        final Map<String, Object> hibernateProperties = new HashMap<>();
+
+        config.secondLevelCacheCustomizer(properties, provider(null))
+                .customize(hibernateProperties);
+
+        assertEquals(Map.of(AvailableSettings.USE_SECOND_LEVEL_CACHE, false), hibernateProperties);
+    }
+
+    @Test
+    void createsTheConfiguredRegions() {
+        final SecondLevelCacheProperties properties = new SecondLevelCacheProperties();
+        properties.setTtl(Duration.ofSeconds(30));
+        properties.setRegions(Map.of("address", 50L, "employer-profile", 10L));
+        final Map<String, Object> hibernateProperties = new HashMap<>();
+        cacheManager = config.secondLevelCacheManager(properties, meterRegistry);
+
+        config.secondLevelCacheCustomizer(properties, provider(cacheManager))
+                .customize(hibernateProperties);
+
+        assertEquals("jcache", hibernateProperties.get(AvailableSettings.CACHE_REGION_FACTORY));
+        assertEquals("fail", hibernateProperties.get(ConfigSettings.MISSING_CACHE_STRATEGY));
+        assertSame(cacheManager, hibernateProperties.get(ConfigSettings.CACHE_MANAGER));
+
+        final CaffeineConfiguration<?, ?> address =
+                cacheManager.getCache("address").getConfiguration(CaffeineConfiguration.class);
+        assertEquals(OptionalLong.of(50), address.getMaximumSize());
+        assertEquals(
+                OptionalLong.of(Duration.ofSeconds(30).toNanos()), address.getExpireAfterWrite());
+        assertNull(cacheManager.getCache("individual-profile"));
+    }
+
+    @Test
+    void publishesTheStatisticsOfEachRegion() {
+        final SecondLevelCacheProperties properties = new SecondLevelCacheProperties();
+        properties.setRegions(Map.of("address", 50L));
+
+        cacheManager = SecondLevelCacheConfig.createCacheManager(properties, meterRegistry);
+        final Cache<Object, Object> address = cacheManager.getCache("address");
+        address.put("id", "address");
+        address.get("id");
+        address.get("other id");
+
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "address").meter());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tags("cache", "address", "result", "hit")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void givesEachContextItsOwnCacheManager() {
+        contextRunner.run(
+                first ->
+                        contextRunner.run(
+                                second -> {
+                                    final CacheManager firstManager =
+                                            first.getBean(CacheManager.class);
+                                    final CacheManager secondManager =
+                                            second.getBean(CacheManager.class);
+
+                                    assertNotSame(firstManager, secondManager);
+                                    assertNotNull(firstManager.getCache("address"));
+                                    assertNotNull(secondManager.getCache("address"));
+                                }));
+    }
+
+    @Test
+    void closesTheCacheManagerWithTheContext() {
+        final CacheManager[] contextCacheManager = new CacheManager[1];
+
+        contextRunner.run(context -> contextCacheManager[0] = context.getBean(CacheManager.class));
+
+        assertTrue(contextCacheManager[0].isClosed());
+    }
+
+    @Test
+    void createsNoCacheManagerWhenDisabled() {
+        contextRunner
+                .withPropertyValues("persistence.second-level-cache.enabled=false")
+                .run(context -> assertTrue(context.getBeansOfType(CacheManager.class).isEmpty()));
+    }
+
+    private static ObjectProvider<CacheManager> provider(CacheManager cacheManager) {
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (cacheManager != null) {
+            beanFactory.addBean("secondLevelCacheManager", cacheManager);
+        }
+        return beanFactory.getBeanProvider(CacheManager.class);
+    }
+}
@@ -1,5 +1,6 @@
 package io.nuvalence.user.management.api.service.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -12,9 +13,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.user.management.api.service.entity.PermissionEntity;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.generated.models.ApplicationRolesDTO;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.service.ApplicationService;
 import io.nuvalence.user.management.api.service.service.PermissionService;
+import io.nuvalence.user.management.api.service.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +27,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -30,6 +36,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -42,6 +49,8 @@ class ApplicationApiDelegateImplTest {
 
     @MockBean private ApplicationService applicationService;
 
+    @MockBean private UserService userService;
+
     @MockBean private AuthorizationHandler authorizationHandler;
 
     @BeforeEach
@@ -81,6 +90,49 @@ class ApplicationApiDelegateImplTest {
                 .andExpect(status().is(204));
     }
 
+    @Test
+    @WithMockUser
+    void getApplicationRoleUsers_LinksNextPageByToken() throws Exception {
+        UserEntity first = createUser("first@example.com");
+        UserEntity second = createUser("second@example.com");
+        when(userService.getUsersByApplicationRole("um:reader", null, 2))
+                .thenReturn(
+                        new KeysetSlice<>(
+                                List.of(first, second), PageRequest.ofSize(2), "next-token"));
+
+        mockMvc.perform(get("/api/v1/application/roles/um:reader/users?pageSize=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(2)))
+                .andExpect(jsonPath("$.users[0].email").value(first.getEmail()))
+                .andExpect(jsonPath("$.pagingMetadata.pageSize").value(2))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").doesNotExist())
+                .andExpect(jsonPath("$.pagingMetadata.nextPageToken").value("next-token"))
+                .andExpect(
+                        jsonPath("$.pagingMetadata.nextPage")
+                                .value(containsString("pageToken=next-token")));
+    }
+
+    @Test
+    @WithMockUser
+    void getApplicationRoleUsers_LastPage() throws Exception {
+        UserEntity user = createUser("last@example.com");
+        when(userService.getUsersByApplicationRole("um:reader", "previous-token", 50))
+                .thenReturn(new KeysetSlice<>(List.of(user), PageRequest.ofSize(50), null));
+
+        mockMvc.perform(get("/api/v1/application/roles/um:reader/users?pageToken=previous-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(1)))
+                .andExpect(jsonPath("$.pagingMetadata.nextPage").doesNotExist())
+                .andExpect(jsonPath("$.pagingMetadata.nextPageToken").doesNotExist());
+    }
+
+    private UserEntity createUser(String email) {
+        UserEntity user = new PublicUser();
+        user.setId(UUID.randomUUID());
+        user.setEmail(email);
+        return user;
+    }
+
     private List<PermissionEntity> createPermissions() {
         List<PermissionEntity> permissions = new ArrayList<>();
 
@@ -0,0 +1,146 @@
+package io.nuvalence.user.management.api.service.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.nuvalence.user.management.api.service.entity.ApplicationEntity;
+import io.nuvalence.user.management.api.service.entity.PermissionEntity;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.enums.UserType;
+import io.nuvalence.user.management.api.service.repository.ApplicationRepository;
+import io.nuvalence.user.management.api.service.repository.RoleRepository;
+import io.nuvalence.user.management.api.service.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Runs the catalog lookups through the real authorization handler chain, so resources are checked
+ * and mapped the way they are in production, with their lazy associations unloaded.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "cerbos.embedded.enabled=true")
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@WithMockUser(authorities = {"um:admin"})
+class CatalogAuthorizationTest {
+    private static final int PERMISSIONS = 3;
+
+    @Autowired private MockMvc mockMvc;
+
+    @Autowired private ApplicationRepository applicationRepository;
+
+    @Autowired private RoleRepository roleRepository;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private ApplicationEntity application;
+    private RoleEntity role;
+    private UserEntity user;
+
+    @BeforeEach
+    void setup() {
+        transactionTemplate.executeWithoutResult(status -> createCatalog());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteById(user.getId());
+        roleRepository.deleteById(role.getId());
+        applicationRepository.deleteById(application.getId());
+    }
+
+    @Test
+    void getRoleById_MapsPermissions() throws Exception {
+        mockMvc.perform(get("/api/v1/roles/" + role.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.permissions", hasSize(PERMISSIONS)));
+    }
+
+    @Test
+    void getPermissionById_IsFound() throws Exception {
+        PermissionEntity permission = application.getPermissions().get(0);
+
+        mockMvc.perform(get("/api/v1/permission/" + permission.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applicationRole").value(permission.getApplicationRole()));
+    }
+
+    @Test
+    void getApplicationById_IsFound() throws Exception {
+        mockMvc.perform(get("/api/v1/applications/" + application.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(application.getName()));
+    }
+
+    @Test
+    void addRoleToUser_AssignsRole() throws Exception {
+        mockMvc.perform(put("/api/v1/users/" + user.getId() + "/roles/" + role.getId()))
+                .andExpect(status().isNoContent());
+
+        assertTrue(
+                transactionTemplate.execute(
+                        status ->
+                                userRepository
+                                        .findByIdLoaded(user.getId())
+                                        .orElseThrow()
+                                        .getRoles()
+                                        .contains(role)));
+    }
+
+    private void createCatalog() {
+        application = new ApplicationEntity();
+        application.setName("authorization_test_application");
+        application.setDisplayName("Authorization Test Application");
+        application.setPermissions(new ArrayList<>());
+        for (int i = 0; i < PERMISSIONS; i++) {
+            PermissionEntity permission = new PermissionEntity();
+            permission.setApplication(application);
+            permission.setApplicationRole("at:role-" + i);
+            permission.setName("Authorization test role " + i);
+            permission.setDescription("Description");
+            permission.setGroup("Group");
+            permission.setActive(true);
+            application.addPermission(permission);
+        }
+        application = applicationRepository.save(application);
+
+        role = new RoleEntity();
+        role.setName("AUTHORIZATION_TEST_ROLE");
+        role.setDescription("Description");
+        role.setUsers(new ArrayList<>());
+        role.setPermissions(new ArrayList<>(application.getPermissions()));
+        role.setDefaultUserTypes(new HashSet<>());
+        role = roleRepository.save(role);
+
+        user = new PublicUser();
+        user.setEmail("authorization-test@example.com");
+        user.setFirstName("Authorization");
+        user.setUserType(UserType.PUBLIC);
+        user.setDeleted(false);
+        user.setRoles(new ArrayList<>());
+        user = userRepository.save(user);
+    }
+}
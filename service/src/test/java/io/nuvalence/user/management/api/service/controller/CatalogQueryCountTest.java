@@ -0,0 +1,202 @@
+package io.nuvalence.user.management.api.service.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.ApplicationEntity;
+import io.nuvalence.user.management.api.service.entity.PermissionEntity;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.generated.models.ApplicationRolesDTO;
+import io.nuvalence.user.management.api.service.generated.models.PermissionDTO;
+import io.nuvalence.user.management.api.service.repository.ApplicationRepository;
+import io.nuvalence.user.management.api.service.repository.RoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Locks in the number of SQL statements each catalog endpoint runs, whatever the size of the
+ * catalog.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener"
+                    + "=WARN"
+        })
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class CatalogQueryCountTest {
+    private static final int PERMISSIONS_PER_APPLICATION = 3;
+
+    @Autowired private MockMvc mockMvc;
+
+    @Autowired private ApplicationRepository applicationRepository;
+
+    @Autowired private RoleRepository roleRepository;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    private final List<ApplicationEntity> applications = new ArrayList<>();
+    private final List<RoleEntity> roles = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        when(authorizationHandler.isAllowed(any(), (Class<?>) any())).thenReturn(true);
+        when(authorizationHandler.isAllowed(any(), (String) any())).thenReturn(true);
+        when(authorizationHandler.isAllowedForInstance(any(), any())).thenReturn(true);
+        when(authorizationHandler.getAuthFilter(any(), any())).thenReturn(element -> true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        roleRepository.deleteAllById(roles.stream().map(RoleEntity::getId).toList());
+        applicationRepository.deleteAllById(
+                applications.stream().map(ApplicationEntity::getId).toList());
+        roles.clear();
+        applications.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getApplications_RunsOneStatement(int catalogSize) throws Exception {
+        createCatalog(catalogSize);
+
+        assertEquals(1, countStatements(get("/api/v1/applications")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getAllPermissions_RunsOneStatement(int catalogSize) throws Exception {
+        createCatalog(catalogSize);
+
+        assertEquals(1, countStatements(get("/api/v1/permission")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getActiveApplicationRoles_RunsOneStatement(int catalogSize) throws Exception {
+        createCatalog(catalogSize);
+
+        assertEquals(1, countStatements(get("/api/v1/application/roles")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getAllRoles_RunsOneStatement(int catalogSize) throws Exception {
+        createCatalog(catalogSize);
+
+        assertEquals(1, countStatements(get("/api/v1/roles")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getRoleById_RunsOneStatement(int catalogSize) throws Exception {
+        createCatalog(catalogSize);
+
+        assertEquals(1, countStatements(get("/api/v1/roles/" + roles.get(0).getId())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void updateApplicationRoles_RunsOneStatementWhenUnchanged(int catalogSize) throws Exception {
+        createCatalog(catalogSize);
+        ApplicationEntity application = applications.get(0);
+
+        ApplicationRolesDTO body =
+                new ApplicationRolesDTO()
+                        .name(application.getName())
+                        .roles(
+                                application.getPermissions().stream()
+                                        .map(this::toPermissionDto)
+                                        .toList());
+
+        assertEquals(
+                1,
+                countStatements(
+                        put("/api/v1/application/roles")
+                                .content(new ObjectMapper().writeValueAsString(body))
+                                .contentType(MediaType.APPLICATION_JSON)));
+    }
+
+    private long countStatements(MockHttpServletRequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private PermissionDTO toPermissionDto(PermissionEntity permission) {
+        return new PermissionDTO()
+                .name(permission.getName())
+                .description(permission.getDescription())
+                .group(permission.getGroup())
+                .applicationRole(permission.getApplicationRole());
+    }
+
+    private void createCatalog(int size) {
+        transactionTemplate.executeWithoutResult(status -> createCatalogEntries(size));
+    }
+
+    private void createCatalogEntries(int size) {
+        for (int i = 0; i < size; i++) {
+            ApplicationEntity application = new ApplicationEntity();
+            application.setName("query_count_application_" + i);
+            application.setDisplayName("Query Count Application " + i);
+            application.setPermissions(new ArrayList<>());
+
+            for (int j = 0; j < PERMISSIONS_PER_APPLICATION; j++) {
+                PermissionEntity permission = new PermissionEntity();
+                permission.setApplication(application);
+                permission.setApplicationRole("qc" + i + ":role-" + j);
+                permission.setName("Query count role " + i + "-" + j);
+                permission.setDescription("Description");
+                permission.setGroup("Group");
+                permission.setActive(true);
+                application.addPermission(permission);
+            }
+            applications.add(applicationRepository.save(application));
+
+            RoleEntity role = new RoleEntity();
+            role.setName("QUERY_COUNT_ROLE_" + i);
+            role.setDescription("Description");
+            role.setUsers(new ArrayList<>());
+            role.setPermissions(new ArrayList<>(applications.get(i).getPermissions()));
+            role.setDefaultUserTypes(new HashSet<>());
+            roles.add(roleRepository.save(role));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -56,4 +57,14 @@ class GlobalErrorHandlerTest {
         assertEquals(1, response.getBody().getMessages().size());
         assertEquals(expectedMessage, response.getBody().getMessages().get(0));
     }
+
+    @Test
+    void testHandleOptimisticLockingFailure_ReturnsConflict() {
+        ResponseEntity<GlobalErrorHandler.ErrorResponse> response =
+                globalErrorHandler.handleException(
+                        new OptimisticLockingFailureException("Row was updated"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(1, response.getBody().getMessages().size());
+    }
 }
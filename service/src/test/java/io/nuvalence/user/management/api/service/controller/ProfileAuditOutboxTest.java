@@ -0,0 +1,185 @@
+package io.nuvalence.user.management.api.service.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.entity.OutboxEventEntity;
+import io.nuvalence.user.management.api.service.repository.EmployerProfileRepository;
+import io.nuvalence.user.management.api.service.repository.OutboxEventRepository;
+import io.nuvalence.user.management.api.service.util.UserUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Runs profile requests through the real services and repositories, so the audit events they raise
+ * are written to the outbox by the transaction that changes the profile, one entry per profile.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@WithMockUser(authorities = {"um:admin"})
+class ProfileAuditOutboxTest {
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    @Autowired private MockMvc mockMvc;
+
+    @Autowired private EmployerProfileRepository employerProfileRepository;
+
+    @Autowired private OutboxEventRepository outboxEventRepository;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    private MockedStatic<UserUtility> userUtility;
+    private MockedStatic<SecurityContextUtility> securityContextUtility;
+    private UUID profileId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        final String userId = UUID.randomUUID().toString();
+        userUtility = Mockito.mockStatic(UserUtility.class, Mockito.CALLS_REAL_METHODS);
+        userUtility.when(UserUtility::getCurrentApplicationUserId).thenReturn(Optional.of(userId));
+        securityContextUtility = Mockito.mockStatic(SecurityContextUtility.class);
+        securityContextUtility
+                .when(SecurityContextUtility::getAuthenticatedUserId)
+                .thenReturn(userId);
+        when(authorizationHandler.isAllowed(anyString(), any(Class.class))).thenReturn(true);
+        when(authorizationHandler.isAllowedForInstance(anyString(), any())).thenReturn(true);
+
+        final String response =
+                mockMvc.perform(
+                                post("/api/v1/profiles/employers")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(employerJson()))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+        profileId = UUID.fromString(SpringConfig.getMapper().readTree(response).get("id").asText());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAll(outboxEntries());
+        employerProfileRepository.deleteById(profileId);
+        securityContextUtility.close();
+        userUtility.close();
+    }
+
+    @Test
+    void postEmployerProfile_WritesItsCreatedEventToTheOutbox() throws Exception {
+        final List<OutboxEventEntity> entries = outboxEntries();
+
+        assertEquals(1, entries.size());
+        assertEquals(1, events(entries.get(0)).size());
+    }
+
+    @Test
+    void patchEmployerProfile_WritesItsDataChangedEventToTheOutbox() throws Exception {
+        patchLegalName("legalName - patched");
+
+        final List<OutboxEventEntity> entries = outboxEntries();
+        assertEquals(2, entries.size());
+        final List<JsonNode> events = events(entries.get(1));
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).toString().contains("legalName - patched"));
+    }
+
+    @Test
+    void patchEmployerProfile_WritesTheEventsOfATransactionAsOneEntry() throws Exception {
+        // the requests join the transaction, as the requests of a larger change would
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    try {
+                        patchLegalName("legalName - first");
+                        patchLegalName("legalName - second");
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    // nothing is written before the transaction commits
+                    assertEquals(1, outboxEntries().size());
+                });
+
+        final List<OutboxEventEntity> entries = outboxEntries();
+        assertEquals(2, entries.size());
+        final List<JsonNode> events = events(entries.get(1));
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).toString().contains("legalName - first"));
+        assertTrue(events.get(1).toString().contains("legalName - second"));
+    }
+
+    private void patchLegalName(String legalName) throws Exception {
+        mockMvc.perform(
+                        patch("/api/v1/profiles/employers/" + profileId)
+                                .contentType(MERGE_PATCH_JSON)
+                                .content("{\"legalName\": \"" + legalName + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private List<OutboxEventEntity> outboxEntries() {
+        return outboxEventRepository.findAll().stream()
+                .filter(entry -> entry.getOrderingKey().equals(profileId))
+                .sorted((first, second) -> first.getId().compareTo(second.getId()))
+                .toList();
+    }
+
+    private static List<JsonNode> events(OutboxEventEntity entry) throws Exception {
+        final List<JsonNode> events = new ArrayList<>();
+        SpringConfig.getMapper().readTree(entry.getPayload()).forEach(events::add);
+        return events;
+    }
+
+    private static String employerJson() {
+        return """
+                {
+                  "fein": "fein",
+                  "legalName": "legalName",
+                  "otherNames": ["otherName"],
+                  "type": "LLC",
+                  "industry": "industry",
+                  "summaryOfBusiness": "summaryOfBusiness",
+                  "businessPhone": "businessPhone",
+                  "mailingAddress": {
+                    "address1": "address1",
+                    "address2": "address2",
+                    "city": "city",
+                    "state": "state",
+                    "postalCode": "postalCode",
+                    "country": "country",
+                    "county": "county"
+                  }
+                }
+                """;
+    }
+}
@@ -1,10 +1,12 @@
 package io.nuvalence.user.management.api.service.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -12,6 +14,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -24,8 +27,15 @@ import ch.qos.logback.core.Appender;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.auth.access.AuthorizationHandler;
 import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationSpecifications;
+import io.nuvalence.user.management.api.service.cerbos.QueryPlanSpecification;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesExpression;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilterKind;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesOperand;
 import io.nuvalence.user.management.api.service.config.SpringConfig;
 import io.nuvalence.user.management.api.service.config.exception.ConflictException;
+import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
 import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.profile.Address;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
@@ -34,6 +44,7 @@ import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.enums.UserType;
 import io.nuvalence.user.management.api.service.generated.models.AddressModel;
@@ -46,6 +57,7 @@ import io.nuvalence.user.management.api.service.generated.models.IndividualProfi
 import io.nuvalence.user.management.api.service.generated.models.ProfileInvitationRequestModel;
 import io.nuvalence.user.management.api.service.models.EmployerFilters;
 import io.nuvalence.user.management.api.service.models.EmployerProfileLinkFilters;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.models.ProfileInvitationFilters;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.repository.EmployerProfileRepository;
@@ -73,6 +85,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -85,6 +98,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -99,6 +113,8 @@ class ProfilesApiDelegateImplTest {
 
     @MockBean private AuthorizationHandler authorizationHandler;
 
+    @MockBean private AuthorizationSpecifications authorizationSpecifications;
+
     @MockBean private EmployerProfileRepository employerProfileRepository;
 
     @MockBean private EmployerProfileService employerProfileService;
@@ -123,6 +139,7 @@ class ProfilesApiDelegateImplTest {
 
     private final UUID userId = UUID.randomUUID();
     private static final String USER_EMAIL = "a@b.c";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
 
     @BeforeEach
     void setup() {
@@ -180,7 +197,8 @@ class ProfilesApiDelegateImplTest {
     void getEmployerProfiles() throws Exception {
         EmployerProfile employer = createEmployer();
         Page<EmployerProfile> employerPage = new PageImpl<>(Collections.singletonList(employer));
-        when(employerProfileService.getEmployersByFilters(any(EmployerFilters.class)))
+        when(employerProfileService.getEmployersByFilters(
+                        any(EmployerFilters.class), isNull(), eq(CountMode.EXACT)))
                 .thenReturn(employerPage);
 
         mockMvc.perform(get("/api/v1/profiles/employers"))
@@ -216,6 +234,71 @@ class ProfilesApiDelegateImplTest {
         mockMvc.perform(get("/api/v1/profiles/employers")).andExpect(status().isForbidden());
     }
 
+    @Test
+    void getEmployerProfiles_FilteredByQueryPlan() throws Exception {
+        EmployerProfile employer = createEmployer();
+        Page<EmployerProfile> employerPage = new PageImpl<>(Collections.singletonList(employer));
+        QueryPlanSpecification<EmployerProfile> specification =
+                QueryPlanSpecification.of(
+                        conditionalPlan(employer.getId()), EmployerProfile.class);
+        when(authorizationHandler.isAllowed("list", EmployerProfile.class)).thenReturn(false);
+        when(authorizationSpecifications.getSpecification("view", EmployerProfile.class))
+                .thenReturn(Optional.of(specification));
+        when(employerProfileService.getEmployersByFilters(
+                        any(EmployerFilters.class), eq(specification), eq(CountMode.EXACT)))
+                .thenReturn(employerPage);
+
+        mockMvc.perform(get("/api/v1/profiles/employers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(employer.getId().toString()))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").value(1));
+    }
+
+    @Test
+    void getEmployerProfiles_Keyset() throws Exception {
+        EmployerProfile employer = createEmployer();
+        QueryPlanSpecification<EmployerProfile> specification =
+                QueryPlanSpecification.of(
+                        conditionalPlan(employer.getId()), EmployerProfile.class);
+        when(authorizationHandler.isAllowed("list", EmployerProfile.class)).thenReturn(false);
+        when(authorizationSpecifications.getSpecification("view", EmployerProfile.class))
+                .thenReturn(Optional.of(specification));
+        when(employerProfileService.getEmployersByFilters(
+                        any(EmployerFilters.class), eq(specification), eq("previous-token")))
+                .thenReturn(
+                        new KeysetSlice<>(List.of(employer), PageRequest.ofSize(1), "next-token"));
+
+        mockMvc.perform(
+                        get("/api/v1/profiles/employers")
+                                .queryParam("pagination", "keyset")
+                                .queryParam("pageToken", "previous-token")
+                                .queryParam("pageSize", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(employer.getId().toString()))
+                .andExpect(jsonPath("$.pagingMetadata.nextPageToken").value("next-token"))
+                .andExpect(
+                        jsonPath("$.pagingMetadata.nextPage")
+                                .value(containsString("pageToken=next-token")))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").doesNotExist());
+    }
+
+    @Test
+    void getEmployerProfiles_ForbiddenWhenPlanDeniesAll() throws Exception {
+        when(authorizationHandler.isAllowed("list", EmployerProfile.class)).thenReturn(false);
+        when(authorizationSpecifications.getSpecification("view", EmployerProfile.class))
+                .thenReturn(
+                        Optional.of(
+                                QueryPlanSpecification.of(
+                                        PlanResourcesFilter.builder()
+                                                .kind(PlanResourcesFilterKind.KIND_ALWAYS_DENIED)
+                                                .build(),
+                                        EmployerProfile.class)));
+
+        mockMvc.perform(get("/api/v1/profiles/employers")).andExpect(status().isForbidden());
+    }
+
     @Test
     void postEmployerProfile() throws Exception {
         EmployerProfileCreateModel employer = employerProfileCreateModel();
@@ -279,8 +362,9 @@ class ProfilesApiDelegateImplTest {
                         .locations(List.of(createAddress()))
                         .build();
 
+        when(employerProfileService.getEmployerForUpdate(any(UUID.class)))
+                .thenReturn(Optional.of(createEmployer()));
         when(employerProfileService.getEmployerById(any(UUID.class)))
-                .thenReturn(Optional.of(createEmployer()))
                 .thenReturn(Optional.of(modifiedEmployer));
 
         when(employerProfileService.saveEmployer(any(EmployerProfile.class)))
@@ -324,7 +408,7 @@ class ProfilesApiDelegateImplTest {
 
         String requestBodyJson = objectMapper.writeValueAsString(employer);
 
-        when(employerProfileService.getEmployerById(profileId))
+        when(employerProfileService.getEmployerForUpdate(profileId))
                 .thenReturn(Optional.of(createEmployer()));
         when(authorizationHandler.isAllowedForInstance(eq("update"), any())).thenReturn(false);
 
@@ -370,6 +454,87 @@ class ProfilesApiDelegateImplTest {
                 .andExpect(content().string("{\"messages\":[\"Employer profile not found\"]}"));
     }
 
+    @Test
+    void patchEmployerProfile_Success() throws Exception {
+        EmployerProfile existingEmployer = createEmployer();
+        EmployerProfile patchedEmployer = createEmployer();
+        patchedEmployer.setId(existingEmployer.getId());
+        patchedEmployer.setLegalName("legalName - patched");
+
+        when(employerProfileService.getEmployerForUpdate(existingEmployer.getId()))
+                .thenReturn(Optional.of(existingEmployer));
+        when(employerProfileService.patchEmployer(eq(existingEmployer.getId()), any()))
+                .thenReturn(Optional.of(patchedEmployer));
+
+        try (MockedStatic<SecurityContextUtility> mock =
+                Mockito.mockStatic(SecurityContextUtility.class)) {
+
+            mock.when(SecurityContextUtility::getAuthenticatedUserId)
+                    .thenReturn(UUID.randomUUID().toString());
+
+            mockMvc.perform(
+                            patch("/api/v1/profiles/employers/" + existingEmployer.getId())
+                                    .contentType(MERGE_PATCH_JSON)
+                                    .content("{\"legalName\": \"legalName - patched\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.legalName").value("legalName - patched"))
+                    .andExpect(jsonPath("$.fein").value(existingEmployer.getFein()));
+        }
+
+        verify(employerProfileService)
+                .patchEmployer(
+                        existingEmployer.getId(), Map.of("legalName", "legalName - patched"));
+        // the patched profile is returned as is, without reading it again
+        verify(employerProfileService).getEmployerForUpdate(existingEmployer.getId());
+        verify(employerProfileService, never()).getEmployerById(any());
+        verify(employerProfileService, never()).saveEmployer(any());
+    }
+
+    @Test
+    void patchEmployerProfile_InvalidPatch() throws Exception {
+        EmployerProfile existingEmployer = createEmployer();
+
+        when(employerProfileService.getEmployerForUpdate(existingEmployer.getId()))
+                .thenReturn(Optional.of(existingEmployer));
+        when(employerProfileService.patchEmployer(eq(existingEmployer.getId()), any()))
+                .thenThrow(new ProvidedDataException("'legalName': must not be null"));
+
+        try (MockedStatic<SecurityContextUtility> mock =
+                Mockito.mockStatic(SecurityContextUtility.class)) {
+
+            mock.when(SecurityContextUtility::getAuthenticatedUserId)
+                    .thenReturn(UUID.randomUUID().toString());
+
+            mockMvc.perform(
+                            patch("/api/v1/profiles/employers/" + existingEmployer.getId())
+                                    .contentType(MERGE_PATCH_JSON)
+                                    .content("{\"legalName\": null}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(
+                            content()
+                                    .string(
+                                            "{\"messages\":[\"'legalName': must not be"
+                                                    + " null\"]}"));
+        }
+    }
+
+    @Test
+    void patchEmployerProfile_Forbidden() throws Exception {
+        UUID profileId = UUID.randomUUID();
+
+        when(employerProfileService.getEmployerForUpdate(profileId))
+                .thenReturn(Optional.of(createEmployer()));
+        when(authorizationHandler.isAllowedForInstance(eq("update"), any())).thenReturn(false);
+
+        mockMvc.perform(
+                        patch("/api/v1/profiles/employers/" + profileId)
+                                .contentType(MERGE_PATCH_JSON)
+                                .content("{\"legalName\": \"legalName - patched\"}"))
+                .andExpect(status().isForbidden());
+
+        verify(employerProfileService, never()).patchEmployer(any(), any());
+    }
+
     @Test
     void getIndividualProfile_Success() throws Exception {
         IndividualProfile individual = createIndividual();
@@ -453,8 +618,9 @@ class ProfilesApiDelegateImplTest {
                         .mailingAddress(createAddress())
                         .build();
 
+        when(individualProfileService.getIndividualForUpdate(any(UUID.class)))
+                .thenReturn(Optional.of(createIndividual()));
         when(individualProfileService.getIndividualById(any(UUID.class)))
-                .thenReturn(Optional.of(createIndividual()))
                 .thenReturn(Optional.of(modifiedIndividual));
 
         when(individualProfileRepository.save(any(IndividualProfile.class)))
@@ -484,6 +650,38 @@ class ProfilesApiDelegateImplTest {
         }
     }
 
+    @Test
+    void patchIndividualProfile_Success() throws Exception {
+        IndividualProfile existingIndividual = createIndividual();
+        IndividualProfile patchedIndividual = createIndividual();
+        patchedIndividual.setId(existingIndividual.getId());
+        patchedIndividual.setSsn("ssn - patched");
+
+        when(individualProfileService.getIndividualForUpdate(existingIndividual.getId()))
+                .thenReturn(Optional.of(existingIndividual));
+        when(individualProfileService.patchIndividual(eq(existingIndividual.getId()), any()))
+                .thenReturn(Optional.of(patchedIndividual));
+
+        try (MockedStatic<SecurityContextUtility> mock =
+                Mockito.mockStatic(SecurityContextUtility.class)) {
+
+            mock.when(SecurityContextUtility::getAuthenticatedUserId)
+                    .thenReturn(UUID.randomUUID().toString());
+
+            mockMvc.perform(
+                            patch("/api/v1/profiles/individuals/" + existingIndividual.getId())
+                                    .contentType(MERGE_PATCH_JSON)
+                                    .content("{\"ssn\": \"ssn - patched\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.ssn").value("ssn - patched"));
+        }
+
+        verify(individualProfileService)
+                .patchIndividual(existingIndividual.getId(), Map.of("ssn", "ssn - patched"));
+        verify(individualProfileService).getIndividualForUpdate(existingIndividual.getId());
+        verify(individualProfileService, never()).getIndividualById(any());
+    }
+
     @Test
     void updateIndividualProfile_NotFound() throws Exception {
         IndividualProfileUpdateModel individual = individualProfileUpdateModel();
@@ -526,7 +724,7 @@ class ProfilesApiDelegateImplTest {
 
         String requestBodyJson = objectMapper.writeValueAsString(individual);
 
-        when(individualProfileService.getIndividualById(profileId))
+        when(individualProfileService.getIndividualForUpdate(profileId))
                 .thenReturn(Optional.of(createIndividual()));
         when(authorizationHandler.isAllowedForInstance(eq("update"), any())).thenReturn(false);
 
@@ -543,7 +741,9 @@ class ProfilesApiDelegateImplTest {
         Page<IndividualProfile> individualPage =
                 new PageImpl<>(Collections.singletonList(individual));
 
-        when(individualProfileService.getIndividualsByFilters(any())).thenReturn(individualPage);
+        when(individualProfileService.getIndividualsByFilters(
+                        any(), isNull(), eq(CountMode.EXACT)))
+                .thenReturn(individualPage);
 
         mockMvc.perform(get("/api/v1/profiles/individuals"))
                 .andExpect(status().isOk())
@@ -560,6 +760,27 @@ class ProfilesApiDelegateImplTest {
                 .andExpect(jsonPath("$.pagingMetadata.pageNumber").value(0));
     }
 
+    @Test
+    void getIndividualProfiles_FilteredByQueryPlan() throws Exception {
+        IndividualProfile individual = createIndividual();
+        Page<IndividualProfile> individualPage =
+                new PageImpl<>(Collections.singletonList(individual));
+        QueryPlanSpecification<IndividualProfile> specification =
+                QueryPlanSpecification.of(
+                        conditionalPlan(individual.getId()), IndividualProfile.class);
+        when(authorizationHandler.isAllowed("list", IndividualProfile.class)).thenReturn(false);
+        when(authorizationSpecifications.getSpecification("view", IndividualProfile.class))
+                .thenReturn(Optional.of(specification));
+        when(individualProfileService.getIndividualsByFilters(
+                        any(), eq(specification), eq(CountMode.EXACT)))
+                .thenReturn(individualPage);
+
+        mockMvc.perform(get("/api/v1/profiles/individuals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(individual.getId().toString()));
+    }
+
     @Test
     void getIndividualProfilesUnAuthorized() throws Exception {
 
@@ -808,7 +1029,8 @@ class ProfilesApiDelegateImplTest {
         when(individualProfileRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(individualPage);
 
-        when(individualProfileLinkService.getIndividualLinksByFilters(any()))
+        when(individualProfileLinkService.getIndividualLinksByFilters(
+                        any(), eq(CountMode.EXACT)))
                 .thenReturn(individualPage);
 
         mockMvc.perform(
@@ -1087,12 +1309,10 @@ class ProfilesApiDelegateImplTest {
         employerUserLink.setProfile(employer);
         employerUserLink.setProfileAccessLevel(ProfileAccessLevel.fromValue("ADMIN"));
 
-        when(employerProfileLinkService.getEmployerUserLinks(any(EmployerProfileLinkFilters.class)))
+        when(employerProfileLinkService.getEmployerUserLinks(
+                        any(EmployerProfileLinkFilters.class), eq(CountMode.EXACT)))
                 .thenReturn(new PageImpl<>(Collections.singletonList(employerUserLink)));
 
-        when(userService.getUsersBySearchCriteria(any(), any()))
-                .thenReturn(new PageImpl<>(Collections.singletonList(user)));
-
         mockMvc.perform(
                         get(
                                 "/api/v1/profiles/employers/"
@@ -1107,6 +1327,17 @@ class ProfilesApiDelegateImplTest {
                 .andExpect(
                         jsonPath("$.items[0].profileAccessLevel")
                                 .value(ProfileAccessLevel.fromValue("ADMIN").toString()));
+
+        ArgumentCaptor<EmployerProfileLinkFilters> filtersCaptor =
+                ArgumentCaptor.forClass(EmployerProfileLinkFilters.class);
+        verify(employerProfileLinkService)
+                .getEmployerUserLinks(filtersCaptor.capture(), eq(CountMode.EXACT));
+        EmployerProfileLinkFilters filters = filtersCaptor.getValue();
+        assertEquals(profileId, filters.getProfileId());
+        assertEquals(name, filters.getName());
+        assertEquals(email, filters.getEmail());
+        verify(userService, never())
+                .getUsersBySearchCriteria(any(), any(), any(Pageable.class), any());
     }
 
     @Test
@@ -1211,7 +1442,8 @@ class ProfilesApiDelegateImplTest {
 
         when(commonProfileService.getProfileById(any()))
                 .thenReturn(Optional.of(new IndividualProfile()));
-        when(invitationService.getProfileInvitationsByFilters(captor.capture()))
+        when(invitationService.getProfileInvitationsByFilters(
+                        captor.capture(), eq(CountMode.EXACT)))
                 .thenReturn(new PageImpl<ProfileInvitation>(Collections.singletonList(invitation)));
 
         mockMvc.perform(
@@ -1919,4 +2151,21 @@ class ProfilesApiDelegateImplTest {
         individualProfileUpdateModel.setMailingAddress(createAddressModel());
         return individualProfileUpdateModel;
     }
+
+    private PlanResourcesFilter conditionalPlan(UUID profileId) {
+        PlanResourcesOperand attribute =
+                PlanResourcesOperand.builder().variable("request.resource.attr.id").build();
+        PlanResourcesOperand value =
+                PlanResourcesOperand.builder().value(profileId.toString()).build();
+        PlanResourcesExpression expression =
+                PlanResourcesExpression.builder()
+                        .operator("eq")
+                        .operands(List.of(attribute, value))
+                        .build();
+
+        return PlanResourcesFilter.builder()
+                .kind(PlanResourcesFilterKind.KIND_CONDITIONAL)
+                .condition(PlanResourcesOperand.builder().expression(expression).build())
+                .build();
+    }
 }
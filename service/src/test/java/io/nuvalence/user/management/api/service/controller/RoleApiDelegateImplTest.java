@@ -4,6 +4,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -11,7 +14,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationSpecifications;
+import io.nuvalence.user.management.api.service.cerbos.QueryPlanSpecification;
 import io.nuvalence.user.management.api.service.entity.PermissionEntity;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
 import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.generated.models.RoleDTO;
@@ -25,6 +31,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -47,6 +55,8 @@ class RoleApiDelegateImplTest {
 
     @MockBean private AuthorizationHandler authorizationHandler;
 
+    @MockBean private AuthorizationSpecifications authorizationSpecifications;
+
     @BeforeEach
     void setup() {
         when(authorizationHandler.isAllowed(any(), (Class<?>) any())).thenReturn(true);
@@ -152,6 +162,67 @@ class RoleApiDelegateImplTest {
                         jsonPath("$.permissions[0]").value(permissionEntity.getApplicationRole()));
     }
 
+    @Test
+    void getRoleMembers_Succeeds() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        RoleEntity roleEntity = createMockRoleEntity();
+        roleEntity.setId(uuid);
+        UserEntity user = new PublicUser();
+        user.setId(UUID.randomUUID());
+        user.setEmail("member@example.com");
+
+        when(roleService.getRole(uuid)).thenReturn(Optional.of(roleEntity));
+        when(roleService.getRoleMembers(eq(uuid), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(user), PageRequest.of(0, 1), 3));
+
+        mockMvc.perform(
+                        get("/api/v1/roles/" + uuid + "/users?pageNumber=0&pageSize=1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(1)))
+                .andExpect(jsonPath("$.users[0].email").value(user.getEmail()))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").value(3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getRoleMembers_RestrictedByQueryPlan() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        RoleEntity roleEntity = createMockRoleEntity();
+        roleEntity.setId(uuid);
+        UserEntity user = new PublicUser();
+        user.setId(UUID.randomUUID());
+        user.setEmail("member@example.com");
+        QueryPlanSpecification<UserEntity> specification = mock(QueryPlanSpecification.class);
+
+        when(roleService.getRole(uuid)).thenReturn(Optional.of(roleEntity));
+        when(authorizationSpecifications.getSpecification("view", UserEntity.class))
+                .thenReturn(Optional.of(specification));
+        when(roleService.getRoleMembers(eq(uuid), eq(specification), any()))
+                .thenReturn(new PageImpl<>(List.of(user), PageRequest.of(0, 1), 2));
+
+        // the members are returned and counted as the query found them, without checking each
+        mockMvc.perform(
+                        get("/api/v1/roles/" + uuid + "/users?pageNumber=0&pageSize=1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(1)))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").value(2));
+        verify(authorizationHandler, never()).getAuthFilter(any(), any());
+    }
+
+    @Test
+    void getRoleMembers_NotFound() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        when(roleService.getRole(uuid)).thenReturn(Optional.empty());
+
+        mockMvc.perform(
+                        get("/api/v1/roles/" + uuid + "/users")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
     private RoleDTO createMockRoleDto() {
         RoleDTO role = new RoleDTO();
         role.setName("ROLE_TO_TEST");
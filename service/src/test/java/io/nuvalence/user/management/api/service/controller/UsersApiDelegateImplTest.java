@@ -1,10 +1,12 @@
 package io.nuvalence.user.management.api.service.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -20,6 +22,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationSpecifications;
+import io.nuvalence.user.management.api.service.cerbos.QueryPlanSpecification;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilter;
+import io.nuvalence.user.management.api.service.cerbos.models.PlanResourcesFilterKind;
 import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
 import io.nuvalence.user.management.api.service.entity.UserEntity;
@@ -27,6 +33,7 @@ import io.nuvalence.user.management.api.service.entity.UserPreferenceEntity;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.enums.UserType;
 import io.nuvalence.user.management.api.service.generated.models.AddressModel;
@@ -36,6 +43,8 @@ import io.nuvalence.user.management.api.service.generated.models.UserPreferenceD
 import io.nuvalence.user.management.api.service.generated.models.UserUpdateRequest;
 import io.nuvalence.user.management.api.service.mapper.UserPreferenceEntityMapper;
 import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import io.nuvalence.user.management.api.service.models.KeysetPageRequest;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.repository.UserRepository;
 import io.nuvalence.user.management.api.service.service.CommonProfileLinkService;
 import io.nuvalence.user.management.api.service.service.IndividualProfileLinkService;
@@ -60,6 +69,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -97,6 +107,8 @@ class UsersApiDelegateImplTest {
 
     @MockBean private AuthorizationHandler authorizationHandler;
 
+    @MockBean private AuthorizationSpecifications authorizationSpecifications;
+
     @MockBean private CommonProfileLinkService commonProfileLinkService;
 
     private ObjectMapper objectMapper = new ObjectMapper();
@@ -787,7 +799,10 @@ class UsersApiDelegateImplTest {
         Page<UserEntity> userPage = new PageImpl<>(users);
 
         when(userService.getUsersBySearchCriteria(
-                        eq(UserSearchCriteria.builder().build()), any(Pageable.class)))
+                        eq(UserSearchCriteria.builder().build()),
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(get("/api/v1/users"))
@@ -795,6 +810,126 @@ class UsersApiDelegateImplTest {
                 .andExpect(jsonPath("$.length()").value(users.size()));
     }
 
+    @Test
+    @WithMockUser
+    void getUserList_AuthorizedByQueryPlan() throws Exception {
+        List<UserEntity> users = Arrays.asList(createMockUser(), createMockUser());
+        Page<UserEntity> userPage = new PageImpl<>(users);
+        QueryPlanSpecification<UserEntity> specification =
+                QueryPlanSpecification.of(
+                        PlanResourcesFilter.builder()
+                                .kind(PlanResourcesFilterKind.KIND_ALWAYS_ALLOWED)
+                                .build(),
+                        UserEntity.class);
+
+        when(authorizationSpecifications.getSpecification("view", UserEntity.class))
+                .thenReturn(Optional.of(specification));
+        when(userService.getUsersBySearchCriteria(
+                        eq(UserSearchCriteria.builder().build()),
+                        eq(specification),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
+                .thenReturn(userPage);
+        // the page is already authorized, so it must not be filtered again
+        when(authorizationHandler.getAuthFilter(any(), any())).thenReturn(element -> false);
+
+        mockMvc.perform(get("/api/v1/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(users.size()))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").value(users.size()));
+    }
+
+    @Test
+    @WithMockUser
+    void getUserList_Keyset() throws Exception {
+        List<UserEntity> users = Arrays.asList(createMockUser(), createMockUser());
+        ArgumentCaptor<KeysetPageRequest> pageCaptor =
+                ArgumentCaptor.forClass(KeysetPageRequest.class);
+
+        when(userService.getUsersBySearchCriteria(
+                        eq(UserSearchCriteria.builder().build()),
+                        isNull(),
+                        pageCaptor.capture()))
+                .thenReturn(new KeysetSlice<>(users, PageRequest.ofSize(2), "next-token"));
+
+        mockMvc.perform(
+                        get("/api/v1/users")
+                                .queryParam("pagination", "keyset")
+                                .queryParam("sortBy", "createdAt")
+                                .queryParam("sortOrder", "DESC")
+                                .queryParam("pageSize", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(users.size()))
+                .andExpect(jsonPath("$.pagingMetadata.nextPageToken").value("next-token"))
+                .andExpect(
+                        jsonPath("$.pagingMetadata.nextPage")
+                                .value(containsString("pageToken=next-token")))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").doesNotExist());
+
+        assertEquals("createdAt", pageCaptor.getValue().getSortBy());
+        assertEquals(2, pageCaptor.getValue().getPageSize());
+    }
+
+    @Test
+    @WithMockUser
+    void getUserList_KeysetRejectsUnindexedSort() throws Exception {
+        mockMvc.perform(
+                        get("/api/v1/users")
+                                .queryParam("pagination", "keyset")
+                                .queryParam("sortBy", "email"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void getUserList_CountModeNone() throws Exception {
+        List<UserEntity> users = Arrays.asList(createMockUser(), createMockUser());
+
+        when(userService.getUsersBySearchCriteria(
+                        eq(UserSearchCriteria.builder().build()),
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.NONE)))
+                .thenReturn(new SliceImpl<>(users, PageRequest.of(0, 2), true));
+
+        mockMvc.perform(
+                        get("/api/v1/users")
+                                .queryParam("countMode", "none")
+                                .queryParam("pageSize", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(users.size()))
+                .andExpect(jsonPath("$.pagingMetadata.countMode").value("none"))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").doesNotExist())
+                .andExpect(
+                        jsonPath("$.pagingMetadata.nextPage")
+                                .value(containsString("pageNumber=1")));
+    }
+
+    @Test
+    @WithMockUser
+    void getUserList_CountModeEstimated() throws Exception {
+        List<UserEntity> users = Arrays.asList(createMockUser(), createMockUser());
+
+        when(userService.getUsersBySearchCriteria(
+                        eq(UserSearchCriteria.builder().build()),
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.ESTIMATED)))
+                .thenReturn(new PageImpl<>(users, PageRequest.of(0, 2), 40));
+
+        mockMvc.perform(get("/api/v1/users").queryParam("countMode", "estimated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pagingMetadata.countMode").value("estimated"))
+                .andExpect(jsonPath("$.pagingMetadata.totalCount").value(40));
+    }
+
+    @Test
+    @WithMockUser
+    void getUserList_InvalidCountMode() throws Exception {
+        mockMvc.perform(get("/api/v1/users").queryParam("countMode", "approximate"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser
     void getUserList_IncludeProfiles() throws Exception {
@@ -804,7 +939,10 @@ class UsersApiDelegateImplTest {
         Page<UserEntity> userPage = new PageImpl<>(users);
 
         when(userService.getUsersBySearchCriteria(
-                        eq(UserSearchCriteria.builder().build()), any(Pageable.class)))
+                        eq(UserSearchCriteria.builder().build()),
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         AccessProfileDto accessProfileDto =
@@ -814,10 +952,13 @@ class UsersApiDelegateImplTest {
                         .id(UUID.randomUUID())
                         .build();
 
-        when(commonProfileLinkService.getProfilesByUserId(user1.getId()))
-                .thenReturn(Collections.singletonList(accessProfileDto));
-        when(commonProfileLinkService.getProfilesByUserId(user2.getId()))
-                .thenReturn(Collections.singletonList(accessProfileDto));
+        when(commonProfileLinkService.getProfilesByUserIds(List.of(user1.getId(), user2.getId())))
+                .thenReturn(
+                        Map.of(
+                                user1.getId(),
+                                Collections.singletonList(accessProfileDto),
+                                user2.getId(),
+                                Collections.singletonList(accessProfileDto)));
 
         mockMvc.perform(get("/api/v1/users").queryParam("includeProfiles", "true"))
                 .andExpect(status().isOk())
@@ -842,6 +983,28 @@ class UsersApiDelegateImplTest {
                 .andExpect(
                         jsonPath("$.users[1].profiles[0].accessLevel")
                                 .value(accessProfileDto.getLevel().toString()));
+
+        verify(commonProfileLinkService, never()).getProfilesByUserId(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getUserList_IncludeProfiles_EmptyForUsersWithoutLinks() throws Exception {
+        UserEntity user = createMockUser();
+        Page<UserEntity> userPage = new PageImpl<>(List.of(user));
+
+        when(userService.getUsersBySearchCriteria(
+                        eq(UserSearchCriteria.builder().build()),
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
+                .thenReturn(userPage);
+        when(commonProfileLinkService.getProfilesByUserIds(List.of(user.getId())))
+                .thenReturn(Map.of());
+
+        mockMvc.perform(get("/api/v1/users").queryParam("includeProfiles", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].profiles", hasSize(0)));
     }
 
     @Test
@@ -852,7 +1015,9 @@ class UsersApiDelegateImplTest {
         Page<UserEntity> userPage = new PageImpl<>(users);
         when(userService.getUsersBySearchCriteria(
                         eq(UserSearchCriteria.builder().email(user.getEmail()).build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(get("/api/v1/users").param("email", user.getEmail()))
@@ -869,7 +1034,9 @@ class UsersApiDelegateImplTest {
 
         when(userService.getUsersBySearchCriteria(
                         eq(UserSearchCriteria.builder().externalId(user.getExternalId()).build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(get("/api/v1/users").param("externalId", user.getExternalId()))
@@ -877,7 +1044,7 @@ class UsersApiDelegateImplTest {
                 .andExpect(jsonPath("$.users.length()").value(users.size()))
                 .andExpect(jsonPath("$.users[0].externalId").value(user.getExternalId()));
 
-        verify(userService, never()).getAppRolesByUserId(any());
+        verify(userService, never()).getAppRolesByUserIds(any());
     }
 
     @Test
@@ -889,11 +1056,13 @@ class UsersApiDelegateImplTest {
 
         when(userService.getUsersBySearchCriteria(
                         eq(UserSearchCriteria.builder().externalId(user.getExternalId()).build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
-        when(userService.getAppRolesByUserId(user.getId()))
-                .thenReturn(List.of("app-role-1", "app-role-2"));
+        when(userService.getAppRolesByUserIds(List.of(user.getId())))
+                .thenReturn(Map.of(user.getId(), List.of("app-role-1", "app-role-2")));
 
         mockMvc.perform(
                         get("/api/v1/users")
@@ -905,6 +1074,8 @@ class UsersApiDelegateImplTest {
                 .andExpect(jsonPath("$.users[0].applicationRoles.length()").value(2))
                 .andExpect(jsonPath("$.users[0].applicationRoles[0]").value("app-role-1"))
                 .andExpect(jsonPath("$.users[0].applicationRoles[1]").value("app-role-2"));
+
+        verify(userService, never()).getAppRolesByUserId(any());
     }
 
     @Test
@@ -922,7 +1093,9 @@ class UsersApiDelegateImplTest {
                                         .roleIds(
                                                 List.of(roleId.toString(), missedRoleId.toString()))
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(get("/api/v1/users").param("roleIds", roleId + "," + missedRoleId))
@@ -943,7 +1116,9 @@ class UsersApiDelegateImplTest {
                                         .email(user.getEmail())
                                         .externalId(user.getExternalId())
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(
@@ -971,7 +1146,9 @@ class UsersApiDelegateImplTest {
                                         .roleIds(
                                                 List.of(roleId.toString(), missedRoleId.toString()))
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(
@@ -996,7 +1173,9 @@ class UsersApiDelegateImplTest {
                                         .externalId(user.getExternalId())
                                         .roleIds(List.of(roleId.toString()))
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(
@@ -1024,7 +1203,9 @@ class UsersApiDelegateImplTest {
                                         .externalId(user.getExternalId())
                                         .roleIds(List.of(roleId1.toString(), roleId2.toString()))
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(
@@ -1054,7 +1235,10 @@ class UsersApiDelegateImplTest {
         Page<UserEntity> userPage = new PageImpl<>(users, userPageable, totalUsers);
 
         when(userService.getUsersBySearchCriteria(
-                        eq(UserSearchCriteria.builder().build()), any(Pageable.class)))
+                        eq(UserSearchCriteria.builder().build()),
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(
@@ -1129,7 +1313,9 @@ class UsersApiDelegateImplTest {
                                 UserSearchCriteria.builder()
                                         .roleNames(List.of(roleNameOne, roleNameTwo))
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(get("/api/v1/users").param("roleNames", roleNamesString))
@@ -1179,7 +1365,9 @@ class UsersApiDelegateImplTest {
                                         .externalId(userOne.getExternalId())
                                         .roleNames(List.of(roleNameOne, roleNameTwo))
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(
@@ -1233,7 +1421,9 @@ class UsersApiDelegateImplTest {
                                         .email(userOne.getEmail())
                                         .roleNames(List.of(roleNameOne, roleNameTwo))
                                         .build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(
@@ -1337,7 +1527,9 @@ class UsersApiDelegateImplTest {
 
         when(userService.getUsersBySearchCriteria(
                         eq(UserSearchCriteria.builder().includeDeleted(true).build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(get("/api/v1/users").param("includeDeleted", String.valueOf(true)))
@@ -1385,7 +1577,9 @@ class UsersApiDelegateImplTest {
 
         when(userService.getUsersBySearchCriteria(
                         eq(UserSearchCriteria.builder().includeDeleted(false).build()),
-                        any(Pageable.class)))
+                        isNull(),
+                        any(Pageable.class),
+                        eq(CountMode.EXACT)))
                 .thenReturn(userPage);
 
         mockMvc.perform(get("/api/v1/users").param("includeDeleted", String.valueOf(false)))
@@ -0,0 +1,38 @@
+package io.nuvalence.user.management.api.service.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.UUID;
+
+class RoleEntityTest {
+
+    @Test
+    void equalsAndHashCode_DoNotReadMembersOrPermissions() {
+        UUID id = UUID.randomUUID();
+        RoleEntity role = new RoleEntity(id, "ADMIN", "Admin", unreadable(), unreadable(), null);
+        RoleEntity same = new RoleEntity(id, "ADMIN", "Admin", List.of(), List.of(), null);
+
+        assertEquals(role, same);
+        assertEquals(role.hashCode(), same.hashCode());
+        assertNotEquals(role, new RoleEntity(id, "USER", "Admin", List.of(), List.of(), null));
+    }
+
+    private static <T> List<T> unreadable() {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                throw new IllegalStateException("Collection must not be read");
+            }
+
+            @Override
+            public int size() {
+                throw new IllegalStateException("Collection must not be read");
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package io.nuvalence.user.management.api.service.entity;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.user.management.api.service.cerbos.CerbosPolicyAttributes;
+import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Map;
+import java.util.UUID;
+
+class UserAccessResourceTranslatorTest {
+    private UserAccessResourceTranslator translator;
+
+    @BeforeEach
+    void setup() {
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBean(CerbosPolicyAttributes.class))
+                .thenReturn(new CerbosPolicyAttributes());
+        translator = new UserAccessResourceTranslator();
+        translator.setApplicationContext(applicationContext);
+    }
+
+    @Test
+    void translate_SendsOnlyAttributesReadByPolicies() {
+        UUID id = UUID.randomUUID();
+        PublicUser user = new PublicUser();
+        user.setId(id);
+        user.setExternalId("external");
+        user.setEmail("user@example.com");
+
+        assertEquals(Map.of("id", id.toString()), translator.translate(user));
+    }
+
+    @Test
+    void translate_LeavesOtherResources() {
+        IndividualProfile profile = IndividualProfile.builder().id(UUID.randomUUID()).build();
+
+        assertSame(profile, translator.translate(profile));
+    }
+
+    @Test
+    void attributes_CoverEveryUserAttributeReadByPolicies() {
+        CerbosPolicyAttributes policyAttributes = new CerbosPolicyAttributes();
+
+        // fails as soon as a policy reads a user attribute the translator doesn't provide
+        assertDoesNotThrow(
+                () ->
+                        policyAttributes.getProjection(
+                                UserAccessResourceTranslator.KIND,
+                                UserAccessResourceTranslator.ATTRIBUTES));
+    }
+}
@@ -0,0 +1,305 @@
+package io.nuvalence.user.management.api.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.spring.pubsub.core.publisher.PubSubPublisherTemplate;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.events.event.DirectNotificationEvent;
+import io.nuvalence.events.event.Event;
+import io.nuvalence.events.event.dto.CommunicationMethod;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.entity.OutboxEventEntity;
+import io.nuvalence.user.management.api.service.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+    private static final String TOPIC = "notification-topic";
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+
+    @Mock private PubSubPublisherTemplate publisherTemplate;
+
+    @Mock private PublisherFactory publisherFactory;
+
+    @Mock private Publisher publisher;
+
+    private MeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher =
+                new OutboxDispatcher(
+                        outboxEventRepository,
+                        publisherTemplate,
+                        meterRegistry,
+                        100,
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(10),
+                        MAX_ATTEMPTS,
+                        Duration.ofSeconds(5));
+        // not used by the tests that publish nothing
+        lenient().when(publisherTemplate.getPublisherFactory()).thenReturn(publisherFactory);
+        lenient().when(publisherFactory.createPublisher(TOPIC)).thenReturn(publisher);
+    }
+
+    @Test
+    void publishesAndDeletesDueEvents() throws Exception {
+        final OutboxEventEntity first = outboxEvent(1L, UUID.randomUUID(), "first@example.com");
+        final OutboxEventEntity second = outboxEvent(2L, UUID.randomUUID(), "second@example.com");
+        when(outboxEventRepository.findDue(any(), any())).thenReturn(List.of(first, second));
+        when(outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc())
+                .thenReturn(Optional.empty());
+        publishFailingTo();
+
+        dispatcher.dispatch();
+
+        verify(publisherTemplate).publish(eq(TOPIC), argThat(to("first@example.com")));
+        verify(publisherTemplate).publish(eq(TOPIC), argThat(to("second@example.com")));
+        // both go out in the same batch
+        verify(publisher).publishAllOutstanding();
+        verify(outboxEventRepository).delete(first);
+        verify(outboxEventRepository).delete(second);
+        assertEquals(2, publishedCount());
+    }
+
+    @Test
+    void publishesTheEntriesOfABusinessObjectInOrder() throws Exception {
+        final UUID key = UUID.randomUUID();
+        final OutboxEventEntity first = outboxEvent(1L, key, "first@example.com");
+        final OutboxEventEntity second = outboxEvent(2L, key, "second@example.com");
+        final OutboxEventEntity other = outboxEvent(3L, UUID.randomUUID(), "other@example.com");
+        when(outboxEventRepository.findDue(any(), any()))
+                .thenReturn(List.of(first, second, other));
+        when(outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc())
+                .thenReturn(Optional.empty());
+        publishFailingTo();
+
+        dispatcher.dispatch();
+
+        // the second entry of the business object waits until the first one went out
+        final InOrder inOrder = inOrder(publisherTemplate, publisher);
+        inOrder.verify(publisherTemplate).publish(eq(TOPIC), argThat(to("first@example.com")));
+        inOrder.verify(publisher).publishAllOutstanding();
+        inOrder.verify(publisherTemplate).publish(eq(TOPIC), argThat(to("second@example.com")));
+        inOrder.verify(publisher).publishAllOutstanding();
+        verify(publisherTemplate).publish(eq(TOPIC), argThat(to("other@example.com")));
+        verify(publisher, times(2)).publishAllOutstanding();
+        verify(outboxEventRepository).delete(first);
+        verify(outboxEventRepository).delete(second);
+        verify(outboxEventRepository).delete(other);
+        assertEquals(3, publishedCount());
+    }
+
+    @Test
+    void holdsBackLaterEventsOfAFailedBusinessObject() throws Exception {
+        final UUID failingKey = UUID.randomUUID();
+        final OutboxEventEntity failed = outboxEvent(1L, failingKey, "failed@example.com");
+        final OutboxEventEntity heldBack = outboxEvent(2L, failingKey, "held@example.com");
+        final OutboxEventEntity other = outboxEvent(3L, UUID.randomUUID(), "other@example.com");
+        when(outboxEventRepository.findDue(any(), any()))
+                .thenReturn(List.of(failed, heldBack, other));
+        when(outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc())
+                .thenReturn(Optional.of(failed));
+        publishFailingTo("failed@example.com");
+
+        dispatcher.dispatch();
+
+        verify(publisherTemplate, never()).publish(any(), argThat(to("held@example.com")));
+        verify(publisherTemplate).publish(eq(TOPIC), argThat(to("other@example.com")));
+        verify(outboxEventRepository, never()).delete(failed);
+        verify(outboxEventRepository, never()).delete(heldBack);
+        verify(outboxEventRepository).delete(other);
+
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getLastError().contains("unavailable"));
+        assertEquals(0, heldBack.getAttempts());
+        assertNull(heldBack.getLastError());
+        assertEquals(1, publishedCount());
+        assertEquals(1, meterRegistry.get("events.outbox.failures").counter().count());
+    }
+
+    @Test
+    void publishesEventsOfAnEntryTogetherAndKeepsThoseNotPublished() throws Exception {
+        final OutboxEventEntity entry =
+                outboxEvent(
+                        1L,
+                        UUID.randomUUID(),
+                        "first@example.com",
+                        "second@example.com",
+                        "third@example.com");
+        when(outboxEventRepository.findDue(any(), any())).thenReturn(List.of(entry));
+        when(outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc())
+                .thenReturn(Optional.of(entry));
+        publishFailingTo("second@example.com");
+
+        dispatcher.dispatch();
+
+        final InOrder inOrder = inOrder(publisherTemplate, publisher);
+        inOrder.verify(publisherTemplate).publish(eq(TOPIC), argThat(to("first@example.com")));
+        inOrder.verify(publisherTemplate).publish(eq(TOPIC), argThat(to("second@example.com")));
+        inOrder.verify(publisherTemplate).publish(eq(TOPIC), argThat(to("third@example.com")));
+        inOrder.verify(publisher).publishAllOutstanding();
+        verify(outboxEventRepository, never()).delete(entry);
+        assertEquals(2, publishedCount());
+
+        // the retry publishes only the event that failed
+        final List<String> remaining = new ArrayList<>();
+        SpringConfig.getMapper()
+                .readTree(entry.getPayload())
+                .forEach(event -> remaining.add(event.get("destination").asText()));
+        assertEquals(List.of("second@example.com"), remaining);
+    }
+
+    @Test
+    void backsOffExponentiallyUpToTheMaximum() throws Exception {
+        final OutboxEventEntity failing = outboxEvent(1L, UUID.randomUUID(), "failed@example.com");
+        when(outboxEventRepository.findDue(any(), any())).thenReturn(List.of(failing));
+        when(outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc())
+                .thenReturn(Optional.of(failing));
+        publishFailingTo("failed@example.com");
+
+        assertEquals(Duration.ofSeconds(1), backoffOfNextAttempt(failing));
+        assertEquals(Duration.ofSeconds(2), backoffOfNextAttempt(failing));
+        assertEquals(Duration.ofSeconds(4), backoffOfNextAttempt(failing));
+        assertEquals(Duration.ofSeconds(8), backoffOfNextAttempt(failing));
+        assertEquals(Duration.ofSeconds(10), backoffOfNextAttempt(failing));
+        assertEquals(Duration.ofSeconds(10), backoffOfNextAttempt(failing));
+        assertEquals(6, failing.getAttempts());
+    }
+
+    @Test
+    void parksAnEventOutOfAttemptsWithoutHoldingBackLaterEvents() throws Exception {
+        final UUID key = UUID.randomUUID();
+        final OutboxEventEntity failing = outboxEvent(1L, key, "failed@example.com");
+        failing.setAttempts(MAX_ATTEMPTS - 1);
+        final OutboxEventEntity later = outboxEvent(2L, key, "later@example.com");
+        when(outboxEventRepository.findDue(any(), any())).thenReturn(List.of(failing, later));
+        when(outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc())
+                .thenReturn(Optional.empty());
+        when(outboxEventRepository.countByParkedTimestampIsNotNull()).thenReturn(1L);
+        publishFailingTo("failed@example.com");
+
+        dispatcher.dispatch();
+
+        verify(publisherTemplate).publish(eq(TOPIC), argThat(to("later@example.com")));
+        verify(outboxEventRepository, never()).delete(failing);
+        verify(outboxEventRepository).delete(later);
+
+        assertEquals(MAX_ATTEMPTS, failing.getAttempts());
+        assertNotNull(failing.getParkedTimestamp());
+        assertTrue(failing.getLastError().contains("unavailable"));
+        assertEquals(1, meterRegistry.get("events.outbox.parked").gauge().value());
+        assertEquals(0, meterRegistry.get("events.outbox.lag").timeGauge().value());
+    }
+
+    @Test
+    void reportsTheAgeOfTheOldestEventAsLag() throws Exception {
+        final OutboxEventEntity oldest = outboxEvent(1L, UUID.randomUUID(), "old@example.com");
+        oldest.setCreatedTimestamp(OffsetDateTime.now().minusMinutes(2));
+        when(outboxEventRepository.findDue(any(), any())).thenReturn(List.of());
+        when(outboxEventRepository.findFirstByParkedTimestampIsNullOrderByIdAsc())
+                .thenReturn(Optional.of(oldest));
+
+        dispatcher.dispatch();
+
+        final double lag =
+                meterRegistry.get("events.outbox.lag").timeGauge().value(TimeUnit.SECONDS);
+        assertTrue(lag >= 120 && lag < 180, () -> "lag was " + lag);
+    }
+
+    private Duration backoffOfNextAttempt(OutboxEventEntity outboxEvent) {
+        final OffsetDateTime before = OffsetDateTime.now();
+        dispatcher.dispatch();
+        final Duration backoff = Duration.between(before, outboxEvent.getNextAttemptTimestamp());
+        return Duration.ofSeconds(Math.round(backoff.toMillis() / 1000.0));
+    }
+
+    private void publishFailingTo(String... destinations) {
+        // acknowledges every event except those to the given destinations
+        final Set<String> failing = Set.of(destinations);
+        // a stub of other arguments would be reported by strict stubbing, which the dispatcher
+        // would take for a failed publication
+        doAnswer(
+                        invocation -> {
+                            final DirectNotificationEvent event = invocation.getArgument(1);
+                            return failing.contains(event.getDestination())
+                                    ? CompletableFuture.failedFuture(
+                                            new IllegalStateException("unavailable"))
+                                    : CompletableFuture.completedFuture("message-id");
+                        })
+                .when(publisherTemplate)
+                .publish(any(), any(Event.class));
+    }
+
+    private double publishedCount() {
+        return meterRegistry.get("events.outbox.published").counter().count();
+    }
+
+    private static ArgumentMatcher<Event> to(String destination) {
+        return event ->
+                event instanceof DirectNotificationEvent notification
+                        && destination.equals(notification.getDestination());
+    }
+
+    private static OutboxEventEntity outboxEvent(
+            Long id, UUID orderingKey, String... destinations) throws Exception {
+        final List<DirectNotificationEvent> events =
+                Arrays.stream(destinations)
+                        .map(
+                                destination ->
+                                        EventFactory.createDirectNotificationEvent(
+                                                CommunicationMethod.EMAIL,
+                                                destination,
+                                                "Template",
+                                                Map.of()))
+                        .toList();
+
+        return OutboxEventEntity.builder()
+                .id(id)
+                .topic(TOPIC)
+                .eventType(DirectNotificationEvent.class.getName())
+                .orderingKey(orderingKey)
+                .payload(SpringConfig.getMapper().writeValueAsString(events))
+                .createdTimestamp(OffsetDateTime.now())
+                .nextAttemptTimestamp(OffsetDateTime.now())
+                .build();
+    }
+}
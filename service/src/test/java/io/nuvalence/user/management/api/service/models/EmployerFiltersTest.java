@@ -92,7 +92,7 @@ class EmployerFiltersTest {
         Predicate finalPredicate = mock(Predicate.class);
 
         when(root.<String>get("industry")).thenReturn(pathExpression);
-        when(criteriaBuilder.like(null, "%industry%")).thenReturn(firstPredicate);
+        when(criteriaBuilder.like(null, "%industry%", '!')).thenReturn(firstPredicate);
         when(criteriaBuilder.or(any())).thenReturn(finalPredicate);
 
         // Execute
@@ -115,7 +115,7 @@ class EmployerFiltersTest {
         Predicate finalPredicate = mock(Predicate.class);
 
         when(root.<String>get("legalName")).thenReturn(pathExpression);
-        when(criteriaBuilder.like(null, "%name%")).thenReturn(firstPredicate);
+        when(criteriaBuilder.like(null, "%name%", '!')).thenReturn(firstPredicate);
 
         Subquery<String> otherNamesSubquery = mock(Subquery.class);
         when(query.subquery(String.class)).thenReturn(otherNamesSubquery);
@@ -12,6 +12,7 @@ import io.nuvalence.user.management.api.service.util.UserUtility;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
@@ -46,7 +47,9 @@ class EmployerProfileLinksFiltersTest {
 
     @Test
     void testIndividualSpecificationWitProfileId() {
-        filters = new EmployerProfileLinkFilters(UUID.randomUUID(), null, null, null, null, null);
+        filters =
+                new EmployerProfileLinkFilters(
+                        UUID.randomUUID(), null, null, null, null, null, null, null);
         Predicate firstPredicate = mock(Predicate.class);
         Predicate finalPredicate = mock(Predicate.class);
 
@@ -76,17 +79,17 @@ class EmployerProfileLinksFiltersTest {
     }
 
     @Test
-    void testIndividualSpecificationWithListOfIds() {
+    void testIndividualSpecificationWithUserId() {
         filters =
                 new EmployerProfileLinkFilters(
-                        null, List.of(UUID.randomUUID()), null, null, null, null);
+                        null, UUID.randomUUID(), "name", null, null, null, null, null);
+        Predicate userPredicate = mock(Predicate.class);
         Predicate finalPredicate = mock(Predicate.class);
 
         Path<Object> path = mock(Path.class);
         when(root.get("user")).thenReturn(path);
-        when(path.get("id")).thenReturn(path);
-
-        CriteriaBuilder.In<Object> in = mock(CriteriaBuilder.In.class);
+        when(path.<String>get("id")).thenReturn(pathExpression);
+        when(criteriaBuilder.equal(pathExpression, filters.getUserId())).thenReturn(userPredicate);
         when(criteriaBuilder.and(any())).thenReturn(finalPredicate);
 
         // Execute
@@ -100,17 +103,57 @@ class EmployerProfileLinksFiltersTest {
             Predicate result = specification.toPredicate(root, query, criteriaBuilder);
 
             // Verify
-            Assertions.assertNotNull(specification);
-            Assertions.assertNotNull(result);
+            Assertions.assertEquals(finalPredicate, result);
+            verify(criteriaBuilder).and(predicateCaptor.capture());
+            Assertions.assertEquals(List.of(userPredicate), predicateCaptor.getAllValues());
+            verify(root, never()).join(any(String.class));
+        }
+    }
+
+    @Test
+    void testIndividualSpecificationWithNameOrEmail() {
+        filters =
+                new EmployerProfileLinkFilters(null, null, "Name", "Email", null, null, null, null);
+        Predicate notDeletedPredicate = mock(Predicate.class);
+        Predicate userMatchPredicate = mock(Predicate.class);
+        Predicate finalPredicate = mock(Predicate.class);
 
+        Join<Object, Object> user = mock(Join.class);
+        Path<Boolean> deleted = mock(Path.class);
+        Expression<String> lowerValue = mock(Expression.class);
+        when(root.join("user")).thenReturn(user);
+        when(user.<String>get(any(String.class))).thenReturn(pathExpression);
+        when(user.<Boolean>get("deleted")).thenReturn(deleted);
+        when(criteriaBuilder.isFalse(deleted)).thenReturn(notDeletedPredicate);
+        when(criteriaBuilder.lower(pathExpression)).thenReturn(lowerValue);
+        when(criteriaBuilder.or(any())).thenReturn(userMatchPredicate);
+        when(criteriaBuilder.and(any())).thenReturn(finalPredicate);
+
+        // Execute
+
+        try (MockedStatic<UserUtility> mock = Mockito.mockStatic(UserUtility.class)) {
+
+            mock.when(UserUtility::getAuthenticatedUserType).thenReturn("agency");
+            Specification<EmployerProfileLink> specification =
+                    filters.getEmployerUserLinkSpecification();
+
+            Predicate result = specification.toPredicate(root, query, criteriaBuilder);
+
+            // Verify
             Assertions.assertEquals(finalPredicate, result);
+            verify(criteriaBuilder, Mockito.times(3)).like(lowerValue, "%name%", '!');
+            verify(criteriaBuilder).like(lowerValue, "%email%", '!');
+            verify(criteriaBuilder).and(predicateCaptor.capture());
+            Assertions.assertEquals(
+                    List.of(notDeletedPredicate, userMatchPredicate),
+                    predicateCaptor.getAllValues());
         }
     }
 
     @Test
     void testIndividualSpecificationWithNullValues() {
         // Given
-        filters = new EmployerProfileLinkFilters(null, null, null, null, null, null);
+        filters = new EmployerProfileLinkFilters(null, null, null, null, null, null, null, null);
         try (MockedStatic<UserUtility> mock = Mockito.mockStatic(UserUtility.class)) {
 
             mock.when(UserUtility::getAuthenticatedUserType).thenReturn("public");
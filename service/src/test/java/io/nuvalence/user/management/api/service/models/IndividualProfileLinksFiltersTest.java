@@ -1,17 +1,14 @@
 package io.nuvalence.user.management.api.service.models;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.nuvalence.user.management.api.service.entity.PublicUser;
-import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
-import io.nuvalence.user.management.api.service.service.UserService;
 import io.nuvalence.user.management.api.service.util.UserUtility;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -32,7 +29,6 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.util.List;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,8 +44,6 @@ class IndividualProfileLinksFiltersTest {
 
     @Mock private CriteriaBuilder criteriaBuilder;
 
-    @Mock private UserService userService;
-
     @Captor private ArgumentCaptor<Predicate> predicateCaptor;
 
     @Test
@@ -57,7 +51,7 @@ class IndividualProfileLinksFiltersTest {
         // Given
         filters =
                 new IndividualProfileLinksFilters(
-                        null, null, null, null, UUID.randomUUID(), null, null, null, userService);
+                        null, null, null, null, UUID.randomUUID(), null, null, null);
         Predicate firstPredicate = mock(Predicate.class);
         Predicate finalPredicate = mock(Predicate.class);
 
@@ -90,7 +84,7 @@ class IndividualProfileLinksFiltersTest {
         // Given
         filters =
                 new IndividualProfileLinksFilters(
-                        null, null, null, null, null, null, null, UUID.randomUUID(), userService);
+                        null, null, null, null, null, null, null, UUID.randomUUID());
         Predicate firstPredicate = mock(Predicate.class);
         Predicate finalPredicate = mock(Predicate.class);
 
@@ -123,8 +117,7 @@ class IndividualProfileLinksFiltersTest {
     void testIndividualSpecificationWithNullValues() {
         // Given
         filters =
-                new IndividualProfileLinksFilters(
-                        null, null, null, null, null, null, null, null, userService);
+                new IndividualProfileLinksFilters(null, null, null, null, null, null, null, null);
 
         // Execute
 
@@ -145,24 +138,17 @@ class IndividualProfileLinksFiltersTest {
     void testIndividualSpecificationWithEmail() {
         filters =
                 new IndividualProfileLinksFilters(
-                        null, null, null, null, null, "email@email.com", null, null, userService);
-
-        List<UserEntity> userList = List.of(createUserEntity());
-        when(userService.findByEmailContainingIgnoreCaseAndDeletedFalse(any()))
-                .thenReturn(userList);
-
-        Path<Object> path = mock(Path.class);
-        when(root.get("user")).thenReturn(path);
-        when(path.<String>get("id")).thenReturn(pathExpression);
-
-        CriteriaBuilder.In<Object> in = mock(CriteriaBuilder.In.class);
-        when(criteriaBuilder.<Object>in(pathExpression)).thenReturn(in);
+                        null, null, null, null, null, "Email@Email.com", null, null);
 
-        CriteriaBuilder.In<Object> in2 = mock(CriteriaBuilder.In.class);
-        when(in.value(anyList())).thenReturn(in2);
+        Join<Object, Object> user = mock(Join.class);
+        when(root.join("user")).thenReturn(user);
+        when(user.<String>get("email")).thenReturn(pathExpression);
+        Expression<String> lowerEmail = mock(Expression.class);
+        when(criteriaBuilder.lower(pathExpression)).thenReturn(lowerEmail);
+        Predicate emailPredicate = mock(Predicate.class);
+        when(criteriaBuilder.like(lowerEmail, "%email@email.com%", '!')).thenReturn(emailPredicate);
 
         Predicate finalPredicate = mock(Predicate.class);
-
         when(criteriaBuilder.and(any())).thenReturn(finalPredicate);
 
         try (MockedStatic<UserUtility> mock = Mockito.mockStatic(UserUtility.class)) {
@@ -174,34 +160,28 @@ class IndividualProfileLinksFiltersTest {
 
             Predicate result = specification.toPredicate(root, query, criteriaBuilder);
 
-            Assertions.assertNotNull(specification);
-            Assertions.assertNotNull(result);
-
             Assertions.assertEquals(finalPredicate, result);
+            verify(criteriaBuilder).and(predicateCaptor.capture());
+            Assertions.assertTrue(predicateCaptor.getAllValues().contains(emailPredicate));
         }
     }
 
     @Test
     void testIndividualSpecificationWithName() {
         filters =
-                new IndividualProfileLinksFilters(
-                        null, null, null, null, null, null, "name", null, userService);
-
-        List<UserEntity> userList = List.of(createUserEntity());
-        when(userService.findByNameContainingIgnoreCaseAndDeletedFalse(any())).thenReturn(userList);
-
-        Path<Object> path = mock(Path.class);
-        when(root.get("user")).thenReturn(path);
-        when(path.<String>get("id")).thenReturn(pathExpression);
-
-        CriteriaBuilder.In<Object> in = mock(CriteriaBuilder.In.class);
-        when(criteriaBuilder.<Object>in(pathExpression)).thenReturn(in);
-
-        CriteriaBuilder.In<Object> in2 = mock(CriteriaBuilder.In.class);
-        when(in.value(anyList())).thenReturn(in2);
+                new IndividualProfileLinksFilters(null, null, null, null, null, null, "Name", null);
+
+        Join<Object, Object> user = mock(Join.class);
+        when(root.join("user")).thenReturn(user);
+        when(user.<String>get("firstName")).thenReturn(pathExpression);
+        when(user.<String>get("middleName")).thenReturn(pathExpression);
+        when(user.<String>get("lastName")).thenReturn(pathExpression);
+        Expression<String> lowerName = mock(Expression.class);
+        when(criteriaBuilder.lower(pathExpression)).thenReturn(lowerName);
+        Predicate namePredicate = mock(Predicate.class);
+        when(criteriaBuilder.or(any())).thenReturn(namePredicate);
 
         Predicate finalPredicate = mock(Predicate.class);
-
         when(criteriaBuilder.and(any())).thenReturn(finalPredicate);
 
         try (MockedStatic<UserUtility> mock = Mockito.mockStatic(UserUtility.class)) {
@@ -212,19 +192,10 @@ class IndividualProfileLinksFiltersTest {
 
             Predicate result = specification.toPredicate(root, query, criteriaBuilder);
 
-            Assertions.assertNotNull(specification);
-            Assertions.assertNotNull(result);
-
             Assertions.assertEquals(finalPredicate, result);
+            verify(criteriaBuilder, times(3)).like(lowerName, "%name%", '!');
+            verify(criteriaBuilder).and(predicateCaptor.capture());
+            Assertions.assertTrue(predicateCaptor.getAllValues().contains(namePredicate));
         }
     }
-
-    private UserEntity createUserEntity() {
-        PublicUser userEntity = new PublicUser();
-        userEntity.setId(UUID.randomUUID());
-        userEntity.setFirstName("John");
-        userEntity.setLastName("Doe");
-        userEntity.setEmail("TestEmail");
-        return userEntity;
-    }
 }
@@ -0,0 +1,90 @@
+package io.nuvalence.user.management.api.service.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+
+class KeysetPageRequestTest {
+    private static final Set<String> SORT_KEYS = Set.of("createdTimestamp", "id");
+
+    @Test
+    void of_RejectsSortKeysWithoutIndex() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetPageRequest.of("email", "ASC", 10, null, SORT_KEYS));
+    }
+
+    @Test
+    void of_FirstPageHasNoKey() {
+        KeysetPageRequest page =
+                KeysetPageRequest.of("createdTimestamp", "desc", 10, null, SORT_KEYS);
+
+        assertEquals(Sort.Direction.DESC, page.getDirection());
+        assertEquals(10, page.getPageSize());
+        assertNull(page.getAfterId());
+        assertNull(page.getAfterSpecification());
+    }
+
+    @Test
+    void getSort_BreaksTiesById() {
+        assertEquals(
+                Sort.by(Sort.Direction.ASC, "createdTimestamp", "id"),
+                KeysetPageRequest.of("createdTimestamp", null, 10, null, SORT_KEYS).getSort());
+        assertEquals(
+                Sort.by(Sort.Direction.DESC, "id"),
+                KeysetPageRequest.of("id", "DESC", 10, null, SORT_KEYS).getSort());
+    }
+
+    @Test
+    void nextPageToken_PointsAtRow() {
+        ProfileInvitation invitation = new ProfileInvitation();
+        invitation.setId(UUID.randomUUID());
+        invitation.setCreatedTimestamp(
+                OffsetDateTime.of(2023, 10, 1, 12, 30, 0, 0, ZoneOffset.UTC));
+        String token =
+                KeysetPageRequest.of("createdTimestamp", "ASC", 10, null, SORT_KEYS)
+                        .nextPageToken(invitation);
+
+        KeysetPageRequest next =
+                KeysetPageRequest.of("createdTimestamp", "ASC", 10, token, SORT_KEYS);
+
+        assertEquals(invitation.getId(), next.getAfterId());
+        assertEquals("2023-10-01T12:30:00Z", next.getAfterKey().asText());
+    }
+
+    @Test
+    void of_RejectsTokenOfAnotherSort() {
+        ProfileInvitation invitation = new ProfileInvitation();
+        invitation.setId(UUID.randomUUID());
+        invitation.setCreatedTimestamp(OffsetDateTime.now());
+        String token =
+                KeysetPageRequest.of("createdTimestamp", "ASC", 10, null, SORT_KEYS)
+                        .nextPageToken(invitation);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetPageRequest.of("createdTimestamp", "DESC", 10, token, SORT_KEYS));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetPageRequest.of("id", "ASC", 10, token, SORT_KEYS));
+    }
+
+    @Test
+    void of_RejectsMalformedTokens() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetPageRequest.of("id", "ASC", 10, "not a token", SORT_KEYS));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetPageRequest.of("id", "ASC", 10, "bm90IGpzb24", SORT_KEYS));
+    }
+}
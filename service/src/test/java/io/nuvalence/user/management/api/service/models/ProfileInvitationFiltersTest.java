@@ -1,6 +1,7 @@
 package io.nuvalence.user.management.api.service.models;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyChar;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -23,7 +24,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.util.Locale;
 import java.util.UUID;
 
 class ProfileInvitationFiltersTest {
@@ -107,7 +107,7 @@ class ProfileInvitationFiltersTest {
         Predicate firstPredicate = mock(Predicate.class);
         when(root.<String>get("email")).thenReturn(path);
         when(criteriaBuilder.lower(path)).thenReturn(lowerExpression);
-        when(criteriaBuilder.like(lowerExpression, "KEY".toLowerCase(Locale.ROOT) + "%"))
+        when(criteriaBuilder.like(lowerExpression, "test@test.com%", '!'))
                 .thenReturn(firstPredicate);
 
         Predicate finalPredicate = mock(Predicate.class);
@@ -187,7 +187,8 @@ class ProfileInvitationFiltersTest {
 
         // Verify
         Assertions.assertNull(result);
-        verify(criteriaBuilder, never()).like(any(Expression.class), any(String.class));
+        verify(criteriaBuilder, never())
+                .like(any(Expression.class), any(String.class), anyChar());
         verify(criteriaBuilder, atMost(2)).and();
     }
 }
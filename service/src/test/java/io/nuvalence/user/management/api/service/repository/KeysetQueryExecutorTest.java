@@ -0,0 +1,117 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.enums.UserType;
+import io.nuvalence.user.management.api.service.models.KeysetPageRequest;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
+import io.nuvalence.user.management.api.service.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Transactional
+class KeysetQueryExecutorTest {
+    private static final String IDENTITY_PROVIDER = "keyset-test";
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @Autowired private KeysetQueryExecutor executor;
+    @Autowired private UserRepository repository;
+    @Autowired private EntityManager entityManager;
+
+    private final Specification<UserEntity> testUsers =
+            (root, query, criteriaBuilder) ->
+                    criteriaBuilder.equal(root.get("identityProvider"), IDENTITY_PROVIDER);
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            UserEntity user = new PublicUser();
+            user.setEmail("user" + i + "@keyset.test");
+            user.setExternalId("keyset-" + i);
+            user.setIdentityProvider(IDENTITY_PROVIDER);
+            user.setUserType(UserType.PUBLIC);
+            user.setDeleted(false);
+            user.setRoles(new ArrayList<>());
+            repository.save(user);
+        }
+        repository.flush();
+        // tokens are built from the stored timestamps, as they are in a new request
+        entityManager.clear();
+    }
+
+    @Test
+    void findAll_PagesThroughAllRowsInOrder() {
+        assertPagesMatchSort("createdAt", "ASC");
+        assertPagesMatchSort("createdAt", "DESC");
+        assertPagesMatchSort("id", "ASC");
+        assertPagesMatchSort("id", "DESC");
+    }
+
+    @Test
+    void findAll_LastPageHasNoToken() {
+        KeysetSlice<UserEntity> slice =
+                executor.findAll(
+                        UserEntity.class,
+                        testUsers,
+                        KeysetPageRequest.of("id", "ASC", 5, null, UserService.KEYSET_SORT_KEYS));
+
+        assertEquals(5, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+        assertNull(slice.getNextPageToken());
+    }
+
+    private void assertPagesMatchSort(String sortBy, String sortOrder) {
+        KeysetPageRequest firstPage =
+                KeysetPageRequest.of(sortBy, sortOrder, 2, null, UserService.KEYSET_SORT_KEYS);
+        List<UUID> expected =
+                repository.findAll(testUsers, firstPage.getSort()).stream()
+                        .map(UserEntity::getId)
+                        .toList();
+
+        List<UUID> actual = new ArrayList<>();
+        String pageToken = null;
+        int pages = 0;
+        do {
+            KeysetSlice<UserEntity> slice =
+                    executor.findAll(
+                            UserEntity.class,
+                            testUsers,
+                            KeysetPageRequest.of(
+                                    sortBy,
+                                    sortOrder,
+                                    2,
+                                    pageToken,
+                                    UserService.KEYSET_SORT_KEYS));
+            assertTrue(slice.getNumberOfElements() <= 2);
+            slice.forEach(user -> actual.add(user.getId()));
+            pageToken = slice.getNextPageToken();
+            pages++;
+        } while (pageToken != null);
+
+        assertEquals(3, pages);
+        assertEquals(expected, actual);
+    }
+}
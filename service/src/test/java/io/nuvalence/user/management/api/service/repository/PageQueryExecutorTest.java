@@ -0,0 +1,129 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.enums.CountMode;
+import io.nuvalence.user.management.api.service.enums.UserType;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Transactional
+class PageQueryExecutorTest {
+    private static final String IDENTITY_PROVIDER = "page-count-test";
+
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @Autowired private PageQueryExecutor executor;
+    @Autowired private UserRepository repository;
+
+    private final Specification<UserEntity> testUsers =
+            (root, query, criteriaBuilder) ->
+                    criteriaBuilder.equal(root.get("identityProvider"), IDENTITY_PROVIDER);
+
+    private final Pageable firstPage = PageRequest.of(0, 2, Sort.by("createdAt", "id"));
+
+    // counts are cached for the lifetime of the executor, so each test counts its own search
+    private final List<Object> countKey = List.of(UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            saveUser(i);
+        }
+        repository.flush();
+    }
+
+    @Test
+    void findAll_ExactCountsEveryPage() {
+        Slice<UserEntity> page =
+                executor.findAll(UserEntity.class, testUsers, firstPage, CountMode.EXACT, countKey);
+
+        assertEquals(5, assertInstanceOf(Page.class, page).getTotalElements());
+        assertEquals(2, page.getNumberOfElements());
+
+        saveUser(5);
+        repository.flush();
+
+        page = executor.findAll(UserEntity.class, testUsers, firstPage, CountMode.EXACT, countKey);
+        assertEquals(6, assertInstanceOf(Page.class, page).getTotalElements());
+    }
+
+    @Test
+    void findAll_EstimatedReusesRecentCount() {
+        Slice<UserEntity> page =
+                executor.findAll(
+                        UserEntity.class, testUsers, firstPage, CountMode.ESTIMATED, countKey);
+        assertEquals(5, assertInstanceOf(Page.class, page).getTotalElements());
+
+        saveUser(5);
+        repository.flush();
+
+        page =
+                executor.findAll(
+                        UserEntity.class,
+                        testUsers,
+                        firstPage.next(),
+                        CountMode.ESTIMATED,
+                        countKey);
+        assertEquals(5, assertInstanceOf(Page.class, page).getTotalElements());
+        assertEquals(2, page.getNumberOfElements());
+    }
+
+    @Test
+    void findAll_NoneOnlyTellsWhetherNextPageExists() {
+        Slice<UserEntity> slice =
+                executor.findAll(UserEntity.class, testUsers, firstPage, CountMode.NONE, countKey);
+
+        assertFalse(slice instanceof Page);
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+
+        Slice<UserEntity> lastSlice =
+                executor.findAll(
+                        UserEntity.class,
+                        testUsers,
+                        PageRequest.of(2, 2, firstPage.getSort()),
+                        CountMode.NONE,
+                        countKey);
+
+        assertEquals(1, lastSlice.getNumberOfElements());
+        assertFalse(lastSlice.hasNext());
+    }
+
+    private void saveUser(int index) {
+        UserEntity user = new PublicUser();
+        user.setEmail("user" + index + "@page-count.test");
+        user.setExternalId("page-count-" + index);
+        user.setIdentityProvider(IDENTITY_PROVIDER);
+        user.setUserType(UserType.PUBLIC);
+        user.setDeleted(false);
+        user.setRoles(new ArrayList<>());
+        repository.save(user);
+    }
+}
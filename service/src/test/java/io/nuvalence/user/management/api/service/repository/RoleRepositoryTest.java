@@ -0,0 +1,88 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.ApplicationEntity;
+import io.nuvalence.user.management.api.service.entity.PermissionEntity;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Transactional
+class RoleRepositoryTest {
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @Autowired private RoleRepository repository;
+    @Autowired private ApplicationRepository applicationRepository;
+
+    @Test
+    void findActiveApplicationRoles_ListsActivePermissionsPerRole() {
+        ApplicationEntity application = new ApplicationEntity();
+        application.setName("role_app_roles_test");
+        application.setDisplayName("Role App Roles Test");
+        application.setPermissions(new ArrayList<>());
+        PermissionEntity reader = createPermission(application, "rart:reader", true);
+        PermissionEntity writer = createPermission(application, "rart:writer", true);
+        PermissionEntity retired = createPermission(application, "rart:retired", false);
+        applicationRepository.save(application);
+
+        RoleEntity readers = repository.save(createRole("RART_READERS", reader, retired));
+        RoleEntity writers = repository.save(createRole("RART_WRITERS", reader, writer));
+        RoleEntity retirees = repository.save(createRole("RART_RETIREES", retired));
+        repository.flush();
+
+        Set<UUID> roleIds = Set.of(readers.getId(), writers.getId(), retirees.getId());
+        Map<UUID, Set<String>> appRoles =
+                repository.findActiveApplicationRoles().stream()
+                        .filter(row -> roleIds.contains(row.getRoleId()))
+                        .collect(
+                                Collectors.groupingBy(
+                                        RoleRepository.RoleApplicationRoleRow::getRoleId,
+                                        Collectors.mapping(
+                                                RoleRepository.RoleApplicationRoleRow
+                                                        ::getApplicationRole,
+                                                Collectors.toSet())));
+
+        assertEquals(
+                Map.of(
+                        readers.getId(), Set.of("rart:reader"),
+                        writers.getId(), Set.of("rart:reader", "rart:writer")),
+                appRoles);
+    }
+
+    private static PermissionEntity createPermission(
+            ApplicationEntity application, String applicationRole, boolean active) {
+        PermissionEntity permission = new PermissionEntity();
+        permission.setApplication(application);
+        permission.setApplicationRole(applicationRole);
+        permission.setName(applicationRole);
+        permission.setActive(active);
+        application.addPermission(permission);
+        return permission;
+    }
+
+    private static RoleEntity createRole(String name, PermissionEntity... permissions) {
+        RoleEntity role = new RoleEntity();
+        role.setName(name);
+        role.setDescription(name);
+        role.setPermissions(new ArrayList<>(List.of(permissions)));
+        return role;
+    }
+}
@@ -0,0 +1,158 @@
+package io.nuvalence.user.management.api.service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nuvalence.auth.access.AuthorizationHandler;
+import io.nuvalence.user.management.api.service.entity.ApplicationEntity;
+import io.nuvalence.user.management.api.service.entity.PermissionEntity;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
+import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
+import io.nuvalence.user.management.api.service.enums.UserType;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Transactional
+class UserRepositoryTest {
+    @MockBean private AuthorizationHandler authorizationHandler;
+
+    @Autowired private UserRepository repository;
+    @Autowired private RoleRepository roleRepository;
+    @Autowired private ApplicationRepository applicationRepository;
+
+    private RoleEntity readers;
+    private RoleEntity writers;
+    private UserEntity homer;
+    private UserEntity lisa;
+    private UserEntity bart;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationEntity application = new ApplicationEntity();
+        application.setName("app_roles_test");
+        application.setDisplayName("App Roles Test");
+        application.setPermissions(new ArrayList<>());
+        PermissionEntity reader = createPermission(application, "art:reader", true);
+        PermissionEntity writer = createPermission(application, "art:writer", true);
+        PermissionEntity retired = createPermission(application, "art:retired", false);
+        applicationRepository.save(application);
+
+        readers = roleRepository.save(createRole("ART_READERS", reader, retired));
+        writers = roleRepository.save(createRole("ART_WRITERS", reader, writer));
+
+        homer = repository.save(createUser("homer@springfield.com", readers, writers));
+        lisa = repository.save(createUser("lisa@springfield.com", readers));
+        bart = repository.save(createUser("bart@springfield.com"));
+        UserEntity maggie = createUser("maggie@springfield.com", writers);
+        maggie.setDeleted(true);
+        repository.save(maggie);
+        repository.flush();
+    }
+
+    @Test
+    void findRoleIdsByUserId_ReturnsAssignedRoles() {
+        assertEquals(
+                Set.of(readers.getId(), writers.getId()),
+                new HashSet<>(repository.findRoleIdsByUserId(homer.getId())));
+        assertEquals(List.of(readers.getId()), repository.findRoleIdsByUserId(lisa.getId()));
+        assertTrue(repository.findRoleIdsByUserId(bart.getId()).isEmpty());
+    }
+
+    @Test
+    void findRoleIdsByUserIds_GroupsRolesByUser() {
+        Map<UUID, Set<UUID>> roleIds =
+                repository
+                        .findRoleIdsByUserIds(List.of(homer.getId(), lisa.getId(), bart.getId()))
+                        .stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        UserRepository.UserRoleRow::getUserId,
+                                        Collectors.mapping(
+                                                UserRepository.UserRoleRow::getRoleId,
+                                                Collectors.toSet())));
+
+        assertEquals(
+                Map.of(
+                        homer.getId(), Set.of(readers.getId(), writers.getId()),
+                        lisa.getId(), Set.of(readers.getId())),
+                roleIds);
+    }
+
+    @Test
+    void findByApplicationRole_PagesHoldersById() {
+        List<UserEntity> first = repository.findByApplicationRole("art:reader", 1);
+        assertEquals(1, first.size());
+        List<UserEntity> second =
+                repository.findByApplicationRoleAfter("art:reader", first.get(0).getId(), 1);
+        assertEquals(1, second.size());
+
+        assertEquals(
+                Set.of(homer.getId(), lisa.getId()),
+                Set.of(first.get(0).getId(), second.get(0).getId()));
+        assertTrue(
+                repository
+                        .findByApplicationRoleAfter("art:reader", second.get(0).getId(), 1)
+                        .isEmpty());
+    }
+
+    @Test
+    void findByApplicationRole_SkipsDeletedUsersAndInactivePermissions() {
+        assertEquals(
+                List.of(homer.getId()),
+                repository.findByApplicationRole("art:writer", 10).stream()
+                        .map(UserEntity::getId)
+                        .toList());
+        assertTrue(repository.findByApplicationRole("art:retired", 10).isEmpty());
+        assertTrue(repository.findByApplicationRole("art:unknown", 10).isEmpty());
+    }
+
+    private static PermissionEntity createPermission(
+            ApplicationEntity application, String applicationRole, boolean active) {
+        PermissionEntity permission = new PermissionEntity();
+        permission.setApplication(application);
+        permission.setApplicationRole(applicationRole);
+        permission.setName(applicationRole);
+        permission.setActive(active);
+        application.addPermission(permission);
+        return permission;
+    }
+
+    private static RoleEntity createRole(String name, PermissionEntity... permissions) {
+        RoleEntity role = new RoleEntity();
+        role.setName(name);
+        role.setDescription(name);
+        role.setPermissions(new ArrayList<>(List.of(permissions)));
+        return role;
+    }
+
+    private static UserEntity createUser(String email, RoleEntity... roles) {
+        UserEntity user = new PublicUser();
+        user.setEmail(email);
+        user.setFirstName(email.substring(0, email.indexOf('@')));
+        user.setExternalId(email);
+        user.setIdentityProvider("springfield");
+        user.setUserType(UserType.PUBLIC);
+        user.setDeleted(false);
+        user.setRoles(new ArrayList<>(List.of(roles)));
+        return user;
+    }
+}
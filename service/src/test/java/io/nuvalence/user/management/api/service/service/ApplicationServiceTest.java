@@ -37,6 +37,8 @@ public class ApplicationServiceTest {
 
     @Mock private ApplicationRepository applicationRepository;
 
+    @Mock private RolePermissionEngine rolePermissionEngine;
+
     @Captor private ArgumentCaptor<ApplicationEntity> captor;
 
     @InjectMocks private ApplicationService applicationService;
@@ -91,6 +93,7 @@ public class ApplicationServiceTest {
         applicationService.setApplicationRoles(application.getName(), permissions);
 
         verify(applicationRepository).save(captor.capture());
+        verify(rolePermissionEngine).invalidate();
 
         ApplicationEntity savedApp = captor.getValue();
         assertEquals(application.getName(), savedApp.getName());
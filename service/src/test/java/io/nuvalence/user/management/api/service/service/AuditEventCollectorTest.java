@@ -0,0 +1,78 @@
+package io.nuvalence.user.management.api.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.nuvalence.events.event.AuditEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEventCollectorTest {
+    private static final String TOPIC = "audit-topic";
+
+    @Mock private OutboxService outboxService;
+
+    @InjectMocks private AuditEventCollector collector;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void collectOutsideOfTransactionEnqueuesRightAway() {
+        final AuditEvent event = mock(AuditEvent.class);
+        final UUID profileId = UUID.randomUUID();
+
+        collector.collect(event, TOPIC, profileId);
+
+        verify(outboxService).enqueue(event, TOPIC, profileId);
+    }
+
+    @Test
+    void collectInTransactionEnqueuesOnceBeforeCommitPerBusinessObject() {
+        final UUID profileId = UUID.randomUUID();
+        final UUID userId = UUID.randomUUID();
+        final AuditEvent profileCreated = mock(AuditEvent.class);
+        final AuditEvent userAdded = mock(AuditEvent.class);
+        final AuditEvent profileChanged = mock(AuditEvent.class);
+        TransactionSynchronizationManager.initSynchronization();
+
+        collector.collect(profileCreated, TOPIC, profileId);
+        collector.collect(userAdded, TOPIC, userId);
+        collector.collect(profileChanged, TOPIC, profileId);
+
+        verify(outboxService, never()).enqueue(any(), anyString(), any());
+        verify(outboxService, never()).enqueueAll(anyList(), anyString(), any());
+
+        final List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        final InOrder inOrder = inOrder(outboxService);
+        inOrder.verify(outboxService)
+                .enqueueAll(List.of(profileCreated, profileChanged), TOPIC, profileId);
+        inOrder.verify(outboxService).enqueueAll(List.of(userAdded), TOPIC, userId);
+        inOrder.verifyNoMoreInteractions();
+        assertEquals(1, synchronizations.size());
+    }
+}
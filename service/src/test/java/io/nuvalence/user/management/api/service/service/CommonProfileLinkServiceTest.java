@@ -1,6 +1,9 @@
 package io.nuvalence.user.management.api.service.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
@@ -10,6 +13,7 @@ import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.models.AccessProfileDto;
+import io.nuvalence.user.management.api.service.repository.ProfileLinkRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +32,8 @@ class CommonProfileLinkServiceTest {
 
     @Mock private EmployerProfileLinkService employerProfileLinkService;
 
+    @Mock private ProfileLinkRepository profileLinkRepository;
+
     @InjectMocks private CommonProfileLinkService commonProfileLinkService;
 
     @Test
@@ -59,4 +66,52 @@ class CommonProfileLinkServiceTest {
         assertEquals(ProfileType.EMPLOYER, profiles.get(1).getType());
         assertEquals(employerLink.getProfile().getId(), profiles.get(1).getId());
     }
+
+    @Test
+    void testGetProfilesByUserIds() {
+        UUID user1 = UUID.randomUUID();
+        UUID user2 = UUID.randomUUID();
+        UUID individualProfile = UUID.randomUUID();
+        UUID employerProfile = UUID.randomUUID();
+        when(profileLinkRepository.findAccessProfilesByUserIds(List.of(user1, user2)))
+                .thenReturn(
+                        List.of(
+                                row(user1, individualProfile, "INDIVIDUAL", "ADMIN"),
+                                row(user1, employerProfile, "EMPLOYER", "READER"),
+                                row(user2, employerProfile, "EMPLOYER", "WRITER")));
+
+        Map<UUID, List<AccessProfileDto>> profiles =
+                commonProfileLinkService.getProfilesByUserIds(List.of(user1, user2));
+
+        assertEquals(
+                List.of(
+                        access(individualProfile, ProfileType.INDIVIDUAL, ProfileAccessLevel.ADMIN),
+                        access(employerProfile, ProfileType.EMPLOYER, ProfileAccessLevel.READER)),
+                profiles.get(user1));
+        assertEquals(
+                List.of(access(employerProfile, ProfileType.EMPLOYER, ProfileAccessLevel.WRITER)),
+                profiles.get(user2));
+    }
+
+    @Test
+    void testGetProfilesByUserIds_NoUsers() {
+        assertTrue(commonProfileLinkService.getProfilesByUserIds(List.of()).isEmpty());
+        verifyNoInteractions(profileLinkRepository);
+    }
+
+    private static ProfileLinkRepository.UserAccessProfileRow row(
+            UUID userId, UUID profileId, String type, String level) {
+        ProfileLinkRepository.UserAccessProfileRow row =
+                mock(ProfileLinkRepository.UserAccessProfileRow.class);
+        when(row.getUserId()).thenReturn(userId);
+        when(row.getId()).thenReturn(profileId);
+        when(row.getType()).thenReturn(type);
+        when(row.getLevel()).thenReturn(level);
+        return row;
+    }
+
+    private static AccessProfileDto access(
+            UUID profileId, ProfileType type, ProfileAccessLevel level) {
+        return AccessProfileDto.builder().id(profileId).type(type).level(level).build();
+    }
 }
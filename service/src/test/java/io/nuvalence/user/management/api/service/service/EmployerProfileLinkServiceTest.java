@@ -3,13 +3,19 @@ package io.nuvalence.user.management.api.service.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.nuvalence.user.management.api.service.cerbos.AccessProfileCache;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.models.EmployerProfileLinkFilters;
 import io.nuvalence.user.management.api.service.repository.EmployerProfileLinkRepository;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Collections;
@@ -29,13 +36,22 @@ import java.util.UUID;
 class EmployerProfileLinkServiceTest {
     @Mock private EmployerProfileLinkRepository repository;
 
+    @Mock private AuthorizationDecisionCache authorizationDecisionCache;
+    @Mock private AccessProfileCache accessProfileCache;
+    @Mock private PageQueryExecutor pageQueryExecutor;
+
     @InjectMocks private EmployerProfileLinkService service;
 
     @Test
     void saveEmployerUserLink() {
+        PublicUser user = new PublicUser();
+        user.setId(UUID.randomUUID());
         EmployerProfileLink link = new EmployerProfileLink();
+        link.setUser(user);
         service.saveEmployerUserLink(link);
         verify(repository, times(1)).save(link);
+        verify(authorizationDecisionCache).invalidatePrincipal(user.getId());
+        verify(accessProfileCache).evict(user.getId());
     }
 
     @Test
@@ -54,15 +70,21 @@ class EmployerProfileLinkServiceTest {
 
     @Test
     void deleteEmployerUserLink() {
-        UUID id = UUID.randomUUID();
-        service.deleteEmployerUserLink(id);
-        verify(repository, times(1)).deleteById(id);
+        PublicUser user = new PublicUser();
+        user.setId(UUID.randomUUID());
+        EmployerProfileLink link = new EmployerProfileLink();
+        link.setUser(user);
+        service.deleteEmployerUserLink(link);
+        verify(repository, times(1)).delete(link);
+        verify(authorizationDecisionCache).invalidatePrincipal(user.getId());
+        verify(accessProfileCache).evict(user.getId());
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void getEmployerUserLinks() {
         UUID profileId = UUID.randomUUID();
-        List<UUID> userIds = Collections.singletonList(UUID.randomUUID());
+        UUID userId = UUID.randomUUID();
         String sortBy = "createdTimestamp";
         String sortOrder = "ASC";
         Integer pageNumber = 0;
@@ -71,7 +93,7 @@ class EmployerProfileLinkServiceTest {
         EmployerProfileLinkFilters filters =
                 EmployerProfileLinkFilters.builder()
                         .profileId(profileId)
-                        .userIds(userIds)
+                        .userId(userId)
                         .sortBy(sortBy)
                         .sortOrder(sortOrder)
                         .pageNumber(pageNumber)
@@ -81,10 +103,15 @@ class EmployerProfileLinkServiceTest {
         EmployerProfileLink link = new EmployerProfileLink();
         Page<EmployerProfileLink> expectedPage = new PageImpl<>(Collections.singletonList(link));
 
-        when(repository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(pageQueryExecutor.findAll(
+                        eq(EmployerProfileLink.class),
+                        any(Specification.class),
+                        any(PageRequest.class),
+                        eq(CountMode.EXACT),
+                        any(List.class)))
                 .thenReturn(expectedPage);
 
-        Page<EmployerProfileLink> result = service.getEmployerUserLinks(filters);
+        Slice<EmployerProfileLink> result = service.getEmployerUserLinks(filters, CountMode.EXACT);
 
         assertEquals(expectedPage, result);
     }
@@ -2,26 +2,44 @@ package io.nuvalence.user.management.api.service.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
 import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.profile.Address;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfile;
 import io.nuvalence.user.management.api.service.entity.profile.EmployerProfileLink;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
+import io.nuvalence.user.management.api.service.mapper.EmployerProfileMapper;
 import io.nuvalence.user.management.api.service.models.EmployerFilters;
+import io.nuvalence.user.management.api.service.models.KeysetPageRequest;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileCreatedAuditEventDto;
 import io.nuvalence.user.management.api.service.repository.EmployerProfileRepository;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
+import io.nuvalence.user.management.api.service.util.JsonMergePatcher;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -30,10 +48,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,24 +65,42 @@ import java.util.UUID;
 public class EmployerProfileServiceTest {
     @Mock private EmployerProfileRepository repository;
     @Mock private AuditEventService employerAuditEventService;
+    @Mock private KeysetQueryExecutor keysetQueryExecutor;
+    @Mock private PageQueryExecutor pageQueryExecutor;
+    @Mock private EntityManager entityManager;
 
     private EmployerProfileService service;
 
     @BeforeEach
     public void setUp() {
-        service = new EmployerProfileService(repository, employerAuditEventService);
+        service =
+                new EmployerProfileService(
+                        repository,
+                        employerAuditEventService,
+                        keysetQueryExecutor,
+                        pageQueryExecutor,
+                        Mappers.getMapper(EmployerProfileMapper.class),
+                        new JsonMergePatcher(
+                                Validation.buildDefaultValidatorFactory().getValidator()),
+                        entityManager);
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void getEmployersByFilters() {
         EmployerProfile employer = EmployerProfile.builder().id(UUID.randomUUID()).build();
         Page<EmployerProfile> employerPageExpected =
                 new PageImpl<>(Collections.singletonList(employer));
 
-        when(repository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(pageQueryExecutor.findAll(
+                        eq(EmployerProfile.class),
+                        any(Specification.class),
+                        any(PageRequest.class),
+                        eq(CountMode.EXACT),
+                        any(List.class)))
                 .thenReturn(employerPageExpected);
 
-        Page<EmployerProfile> employerPageResult =
+        Slice<EmployerProfile> employerPageResult =
                 service.getEmployersByFilters(
                         EmployerFilters.builder()
                                 .sortBy("legalName")
@@ -69,11 +111,112 @@ public class EmployerProfileServiceTest {
                                 .name("name")
                                 .type("LLC")
                                 .industry("industry")
-                                .build());
+                                .build(),
+                        null,
+                        CountMode.EXACT);
 
         assertEquals(employerPageExpected, employerPageResult);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEmployersByFilters_WithAuthorizationSpecification() {
+        EmployerProfile employer = EmployerProfile.builder().id(UUID.randomUUID()).build();
+        Page<EmployerProfile> employerPageExpected =
+                new PageImpl<>(Collections.singletonList(employer));
+
+        when(pageQueryExecutor.findAll(
+                        eq(EmployerProfile.class),
+                        any(Specification.class),
+                        any(PageRequest.class),
+                        eq(CountMode.EXACT),
+                        any(List.class)))
+                .thenReturn(employerPageExpected);
+
+        Slice<EmployerProfile> employerPageResult =
+                service.getEmployersByFilters(
+                        EmployerFilters.builder()
+                                .sortBy("legalName")
+                                .sortOrder("ASC")
+                                .pageNumber(0)
+                                .pageSize(10)
+                                .build(),
+                        mock(Specification.class),
+                        CountMode.EXACT);
+
+        assertEquals(employerPageExpected, employerPageResult);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEmployersByFilters_WithPageToken() {
+        EmployerProfile employer = EmployerProfile.builder().id(UUID.randomUUID()).build();
+        KeysetSlice<EmployerProfile> expected =
+                new KeysetSlice<>(List.of(employer), PageRequest.ofSize(10), "token");
+        EmployerFilters filters =
+                EmployerFilters.builder()
+                        .sortBy("createdTimestamp")
+                        .sortOrder("DESC")
+                        .pageNumber(0)
+                        .pageSize(10)
+                        .build();
+        ArgumentCaptor<KeysetPageRequest> pageCaptor =
+                ArgumentCaptor.forClass(KeysetPageRequest.class);
+
+        when(keysetQueryExecutor.findAll(
+                        eq(EmployerProfile.class),
+                        any(Specification.class),
+                        pageCaptor.capture()))
+                .thenReturn(expected);
+
+        assertEquals(
+                expected,
+                service.getEmployersByFilters(
+                        filters, mock(Specification.class), (String) null));
+        assertEquals("createdTimestamp", pageCaptor.getValue().getSortBy());
+        assertEquals(10, pageCaptor.getValue().getPageSize());
+    }
+
+    @Test
+    void getEmployersByFilters_WithPageTokenRejectsUnindexedSort() {
+        EmployerFilters filters =
+                EmployerFilters.builder()
+                        .sortBy("legalName")
+                        .sortOrder("ASC")
+                        .pageNumber(0)
+                        .pageSize(10)
+                        .build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.getEmployersByFilters(filters, null, (String) null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEmployersByFilters_WithCountMode() {
+        EmployerFilters filters =
+                EmployerFilters.builder()
+                        .name("Acme")
+                        .sortBy("createdTimestamp")
+                        .sortOrder("ASC")
+                        .pageNumber(1)
+                        .pageSize(10)
+                        .build();
+        Slice<EmployerProfile> expected =
+                new SliceImpl<>(List.of(), filters.getPageRequest(), false);
+
+        when(pageQueryExecutor.findAll(
+                        eq(EmployerProfile.class),
+                        any(Specification.class),
+                        eq(filters.getPageRequest()),
+                        eq(CountMode.NONE),
+                        eq(Arrays.asList(null, "Acme", null, null))))
+                .thenReturn(expected);
+
+        assertEquals(expected, service.getEmployersByFilters(filters, null, CountMode.NONE));
+    }
+
     @Test
     void getEmployerById_Success() {
         EmployerProfile employer = EmployerProfile.builder().id(UUID.randomUUID()).build();
@@ -101,6 +244,20 @@ public class EmployerProfileServiceTest {
         assertTrue(employerResult.isEmpty());
     }
 
+    @Test
+    void getEmployerForUpdate_BypassesTheSecondLevelCache() {
+        EmployerProfile employer = EmployerProfile.builder().id(UUID.randomUUID()).build();
+        when(repository.findById(employer.getId())).thenReturn(Optional.of(employer));
+
+        Optional<EmployerProfile> employerResult = service.getEmployerForUpdate(employer.getId());
+
+        assertEquals(Optional.of(employer), employerResult);
+        verify(entityManager)
+                .setProperty("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS);
+        verify(entityManager)
+                .setProperty("jakarta.persistence.cache.storeMode", CacheStoreMode.REFRESH);
+    }
+
     @Test
     void saveEmployer() {
         EmployerProfile employer =
@@ -110,13 +267,94 @@ public class EmployerProfileServiceTest {
                         .locations(List.of(createAddress(), createAddress()))
                         .build();
 
-        when(repository.save(any(EmployerProfile.class))).thenReturn(employer);
+        when(repository.saveAndFlush(any(EmployerProfile.class))).thenReturn(employer);
 
         EmployerProfile employerResult = service.saveEmployer(employer);
 
         assertEquals(employer, employerResult);
     }
 
+    @Test
+    void patchEmployerUpdatesThePatchedFieldsInPlace() {
+        final Address mailingAddress = completeAddress("Mailing City");
+        final Address firstLocation = completeAddress("First City");
+        final Address secondLocation = completeAddress("Second City");
+        final List<String> otherNames = new ArrayList<>(List.of("Other Name"));
+        final EmployerProfile employer =
+                EmployerProfile.builder()
+                        .id(UUID.randomUUID())
+                        .fein("fein")
+                        .legalName("Legal Name")
+                        .otherNames(otherNames)
+                        .type("LLC")
+                        .industry("industry")
+                        .summaryOfBusiness("summaryOfBusiness")
+                        .businessPhone("businessPhone")
+                        .mailingAddress(mailingAddress)
+                        .locations(new ArrayList<>(List.of(firstLocation, secondLocation)))
+                        .build();
+        when(repository.findById(employer.getId())).thenReturn(Optional.of(employer));
+
+        final Map<String, Object> location = new HashMap<>(addressFields(firstLocation));
+        location.put("city", "New City");
+        final EmployerProfile patched =
+                service.patchEmployer(
+                                employer.getId(),
+                                Map.of("legalName", "New Name", "locations", List.of(location)))
+                        .orElseThrow();
+
+        assertSame(employer, patched);
+        assertEquals("New Name", patched.getLegalName());
+        assertEquals("fein", patched.getFein());
+        assertSame(otherNames, patched.getOtherNames());
+        assertEquals(List.of("Other Name"), patched.getOtherNames());
+        assertSame(mailingAddress, patched.getMailingAddress());
+        assertEquals("Mailing City", patched.getMailingAddress().getCity());
+        assertEquals(1, patched.getLocations().size());
+        assertSame(firstLocation, patched.getLocations().get(0));
+        assertEquals("New City", firstLocation.getCity());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void patchEmployerAddsLocationsForTheProfile() {
+        final EmployerProfile employer = completeEmployer();
+        when(repository.findById(employer.getId())).thenReturn(Optional.of(employer));
+
+        final EmployerProfile patched =
+                service.patchEmployer(
+                                employer.getId(),
+                                Map.of(
+                                        "locations",
+                                        List.of(addressFields(completeAddress("New City")))))
+                        .orElseThrow();
+
+        assertEquals(1, patched.getLocations().size());
+        assertEquals("New City", patched.getLocations().get(0).getCity());
+        assertSame(employer, patched.getLocations().get(0).getEmployerForLocations());
+    }
+
+    @Test
+    void patchEmployerRejectsRemovingARequiredField() {
+        final EmployerProfile employer = completeEmployer();
+        when(repository.findById(employer.getId())).thenReturn(Optional.of(employer));
+        final Map<String, Object> patch = new HashMap<>();
+        patch.put("legalName", null);
+
+        assertThrows(
+                ProvidedDataException.class,
+                () -> service.patchEmployer(employer.getId(), patch));
+        assertEquals("Legal Name", employer.getLegalName());
+    }
+
+    @Test
+    void patchEmployerOfAnUnknownProfile() {
+        final UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.empty());
+
+        assertTrue(service.patchEmployer(id, Map.of("legalName", "New Name")).isEmpty());
+    }
+
     @Test
     void postAuditEventForEmployerCreated() {
         EmployerProfile employer =
@@ -233,4 +471,42 @@ public class EmployerProfileServiceTest {
                 .postalCode("12345")
                 .build();
     }
+
+    private EmployerProfile completeEmployer() {
+        return EmployerProfile.builder()
+                .id(UUID.randomUUID())
+                .fein("fein")
+                .legalName("Legal Name")
+                .otherNames(new ArrayList<>())
+                .type("LLC")
+                .industry("industry")
+                .summaryOfBusiness("summaryOfBusiness")
+                .businessPhone("businessPhone")
+                .mailingAddress(completeAddress("Mailing City"))
+                .locations(new ArrayList<>())
+                .build();
+    }
+
+    private Address completeAddress(String city) {
+        return Address.builder()
+                .address1("123 Main St")
+                .address2("Suite 1")
+                .city(city)
+                .state("CA")
+                .postalCode("12345")
+                .country("US")
+                .county("Any County")
+                .build();
+    }
+
+    private Map<String, Object> addressFields(Address address) {
+        return Map.of(
+                "address1", address.getAddress1(),
+                "address2", address.getAddress2(),
+                "city", address.getCity(),
+                "state", address.getState(),
+                "postalCode", address.getPostalCode(),
+                "country", address.getCountry(),
+                "county", address.getCounty());
+    }
 }
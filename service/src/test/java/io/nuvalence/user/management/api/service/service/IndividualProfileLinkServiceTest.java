@@ -7,18 +7,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import io.nuvalence.user.management.api.service.cerbos.AccessProfileCache;
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.models.IndividualProfileLinksFilters;
 import io.nuvalence.user.management.api.service.repository.IndividualProfileLinkRepository;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -33,6 +38,12 @@ class IndividualProfileLinkServiceTest {
 
     @Mock private IndividualProfileService individualProfileService;
 
+    @Mock private AuthorizationDecisionCache authorizationDecisionCache;
+
+    @Mock private AccessProfileCache accessProfileCache;
+
+    @Mock private PageQueryExecutor pageQueryExecutor;
+
     @InjectMocks private IndividualProfileLinkService service;
 
     @Test
@@ -71,9 +82,14 @@ class IndividualProfileLinkServiceTest {
 
     @Test
     void testDeleteIndividualUserLink() {
+        PublicUser user = new PublicUser();
+        user.setId(UUID.randomUUID());
         IndividualProfileLink individualUserLink = new IndividualProfileLink();
+        individualUserLink.setUser(user);
         service.deleteIndividualUserLink(individualUserLink);
         Mockito.verify(repository).delete(individualUserLink);
+        Mockito.verify(authorizationDecisionCache).invalidatePrincipal(user.getId());
+        Mockito.verify(accessProfileCache).evict(user.getId());
     }
 
     @Test
@@ -99,10 +115,16 @@ class IndividualProfileLinkServiceTest {
                         );
 
         // Mock the behavior of your repository
-        when(repository.findAll(any(Specification.class), eq(pageRequest)))
+        when(pageQueryExecutor.findAll(
+                        eq(IndividualProfileLink.class),
+                        any(Specification.class),
+                        eq(pageRequest),
+                        eq(CountMode.EXACT),
+                        any(List.class)))
                 .thenReturn(new PageImpl<>(Collections.emptyList()));
         // When
-        Page<IndividualProfileLink> result = service.getIndividualLinksByFilters(filters);
+        Slice<IndividualProfileLink> result =
+                service.getIndividualLinksByFilters(filters, CountMode.EXACT);
 
         assertNotNull(result);
     }
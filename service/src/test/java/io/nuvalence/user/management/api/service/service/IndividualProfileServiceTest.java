@@ -3,8 +3,11 @@ package io.nuvalence.user.management.api.service.service;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -12,21 +15,30 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.auth.util.SecurityContextUtility;
+import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
 import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.entity.profile.Address;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfile;
 import io.nuvalence.user.management.api.service.entity.profile.IndividualProfileLink;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
+import io.nuvalence.user.management.api.service.mapper.IndividualProfileMapper;
 import io.nuvalence.user.management.api.service.models.IndividualFilters;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileCreatedAuditEventDto;
 import io.nuvalence.user.management.api.service.repository.IndividualProfileRepository;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
+import io.nuvalence.user.management.api.service.util.JsonMergePatcher;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -37,7 +49,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,12 +59,24 @@ import java.util.UUID;
 public class IndividualProfileServiceTest {
     @Mock private IndividualProfileRepository repository;
     @Mock private AuditEventService auditEventService;
+    @Mock private KeysetQueryExecutor keysetQueryExecutor;
+    @Mock private PageQueryExecutor pageQueryExecutor;
+    @Mock private EntityManager entityManager;
 
     private IndividualProfileService service;
 
     @BeforeEach
     public void setUp() {
-        service = new IndividualProfileService(repository, auditEventService);
+        service =
+                new IndividualProfileService(
+                        repository,
+                        auditEventService,
+                        keysetQueryExecutor,
+                        pageQueryExecutor,
+                        Mappers.getMapper(IndividualProfileMapper.class),
+                        new JsonMergePatcher(
+                                Validation.buildDefaultValidatorFactory().getValidator()),
+                        entityManager);
     }
 
     @Test
@@ -84,7 +110,7 @@ public class IndividualProfileServiceTest {
                         .mailingAddress(createAddress())
                         .build();
 
-        when(repository.save(any(IndividualProfile.class))).thenReturn(individual);
+        when(repository.saveAndFlush(any(IndividualProfile.class))).thenReturn(individual);
 
         IndividualProfile individualResult = service.saveIndividual(individual);
 
@@ -128,10 +154,16 @@ public class IndividualProfileServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void getIndividualsByFiltersTest() {
         IndividualFilters filters = mock(IndividualFilters.class);
 
-        when(repository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(pageQueryExecutor.findAll(
+                        eq(IndividualProfile.class),
+                        any(Specification.class),
+                        any(PageRequest.class),
+                        eq(CountMode.EXACT),
+                        any()))
                 .thenReturn(
                         new PageImpl<>(
                                 List.of(
@@ -142,12 +174,39 @@ public class IndividualProfileServiceTest {
 
         when(filters.getIndividualProfileSpecification()).thenReturn(mock(Specification.class));
         when(filters.getPageRequest()).thenReturn(PageRequest.of(0, 10));
-        Page<IndividualProfile> result = service.getIndividualsByFilters(filters);
+        Page<IndividualProfile> result =
+                (Page<IndividualProfile>)
+                        service.getIndividualsByFilters(filters, null, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(2, result.getTotalElements());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getIndividualsByFilters_WithAuthorizationSpecification() {
+        IndividualFilters filters = mock(IndividualFilters.class);
+        IndividualProfile individual = IndividualProfile.builder().id(UUID.randomUUID()).build();
+
+        when(pageQueryExecutor.findAll(
+                        eq(IndividualProfile.class),
+                        any(Specification.class),
+                        any(PageRequest.class),
+                        eq(CountMode.EXACT),
+                        any()))
+                .thenReturn(new PageImpl<>(List.of(individual)));
+        when(filters.getIndividualProfileSpecification()).thenReturn(mock(Specification.class));
+        when(filters.getPageRequest()).thenReturn(PageRequest.of(0, 10));
+
+        Page<IndividualProfile> result =
+                (Page<IndividualProfile>)
+                        service.getIndividualsByFilters(
+                                filters, mock(Specification.class), CountMode.EXACT);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(individual, result.getContent().get(0));
+    }
+
     @Test
     void postAuditEventForIndividualProfileCreated_Failure() {
         IndividualProfile individual = new IndividualProfile();
@@ -232,6 +291,47 @@ public class IndividualProfileServiceTest {
         verify(auditEventService, times(1)).sendAuditEvent(any(AuditEventRequestObjectDto.class));
     }
 
+    @Test
+    void patchIndividualUpdatesThePatchedFieldsInPlace() {
+        final IndividualProfile individual = completeIndividual();
+        final Address mailingAddress = individual.getMailingAddress();
+        final Address primaryAddress = individual.getPrimaryAddress();
+        when(repository.findById(individual.getId())).thenReturn(Optional.of(individual));
+
+        final IndividualProfile patched =
+                service.patchIndividual(
+                                individual.getId(),
+                                Map.of(
+                                        "email",
+                                        "new@example.com",
+                                        "mailingAddress",
+                                        Map.of("city", "New City")))
+                        .orElseThrow();
+
+        assertSame(individual, patched);
+        assertEquals("new@example.com", patched.getEmail());
+        assertEquals("First", patched.getFirstName());
+        assertSame(mailingAddress, patched.getMailingAddress());
+        assertEquals("New City", mailingAddress.getCity());
+        assertEquals("123 Main St", mailingAddress.getAddress1());
+        assertSame(primaryAddress, patched.getPrimaryAddress());
+        assertEquals("Primary City", primaryAddress.getCity());
+        verify(repository, times(0)).save(any());
+    }
+
+    @Test
+    void patchIndividualRejectsRemovingARequiredField() {
+        final IndividualProfile individual = completeIndividual();
+        when(repository.findById(individual.getId())).thenReturn(Optional.of(individual));
+        final Map<String, Object> patch = new HashMap<>();
+        patch.put("primaryAddress", null);
+
+        assertThrows(
+                ProvidedDataException.class,
+                () -> service.patchIndividual(individual.getId(), patch));
+        assertNotNull(individual.getPrimaryAddress());
+    }
+
     private IndividualProfileLink createMockIndividualProfileLink() {
         IndividualProfileLink link = new IndividualProfileLink();
         link.setId(UUID.randomUUID());
@@ -257,4 +357,29 @@ public class IndividualProfileServiceTest {
                 .postalCode("12345")
                 .build();
     }
+
+    private IndividualProfile completeIndividual() {
+        return IndividualProfile.builder()
+                .id(UUID.randomUUID())
+                .ssn("ssn")
+                .firstName("First")
+                .lastName("Last")
+                .email("first.last@example.com")
+                .phoneNumber("555-0100")
+                .mailingAddress(completeAddress("Mailing City"))
+                .primaryAddress(completeAddress("Primary City"))
+                .build();
+    }
+
+    private Address completeAddress(String city) {
+        return Address.builder()
+                .address1("123 Main St")
+                .address2("Suite 1")
+                .city(city)
+                .state("CA")
+                .postalCode("12345")
+                .country("US")
+                .county("Any County")
+                .build();
+    }
 }
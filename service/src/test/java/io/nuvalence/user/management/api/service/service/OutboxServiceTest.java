@@ -0,0 +1,108 @@
+package io.nuvalence.user.management.api.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.events.event.DirectNotificationEvent;
+import io.nuvalence.events.event.Event;
+import io.nuvalence.events.event.dto.CommunicationMethod;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.entity.OutboxEventEntity;
+import io.nuvalence.user.management.api.service.events.EventFactory;
+import io.nuvalence.user.management.api.service.events.model.ApplicationRoles;
+import io.nuvalence.user.management.api.service.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+
+    @Captor private ArgumentCaptor<OutboxEventEntity> captor;
+
+    @InjectMocks private OutboxService outboxService;
+
+    @Test
+    void enqueueSavesEventThatCanBeReadBack() throws Exception {
+        final UUID orderingKey = UUID.randomUUID();
+        final DirectNotificationEvent event =
+                EventFactory.createDirectNotificationEvent(
+                        CommunicationMethod.EMAIL,
+                        "test@example.com",
+                        "Template",
+                        Map.of("invitation-id", orderingKey.toString()));
+
+        outboxService.enqueue(event, "notification-topic", orderingKey);
+
+        verify(outboxEventRepository).save(captor.capture());
+        final OutboxEventEntity saved = captor.getValue();
+        assertEquals("notification-topic", saved.getTopic());
+        assertEquals(orderingKey, saved.getOrderingKey());
+        assertEquals(0, saved.getAttempts());
+        assertEquals(saved.getCreatedTimestamp(), saved.getNextAttemptTimestamp());
+
+        final List<DirectNotificationEvent> readBack = readBack(saved);
+        assertEquals(1, readBack.size());
+        assertEquals(event.getMetadata().getId(), readBack.get(0).getMetadata().getId());
+        assertEquals("test@example.com", readBack.get(0).getDestination());
+        assertEquals(event.getParameters(), readBack.get(0).getParameters());
+    }
+
+    @Test
+    void enqueueAllSavesEventsAsOneEntryInOrder() throws Exception {
+        final UUID orderingKey = UUID.randomUUID();
+        final DirectNotificationEvent first = event("first@example.com");
+        final DirectNotificationEvent second = event("second@example.com");
+
+        outboxService.enqueueAll(List.of(first, second), "notification-topic", orderingKey);
+
+        verify(outboxEventRepository).save(captor.capture());
+        final List<DirectNotificationEvent> readBack = readBack(captor.getValue());
+        assertEquals(
+                List.of(first.getMetadata().getId(), second.getMetadata().getId()),
+                readBack.stream().map(event -> event.getMetadata().getId()).toList());
+    }
+
+    @Test
+    void enqueueAllRejectsEventsOfDifferentTypes() {
+        final List<Event> events =
+                List.of(
+                        event("test@example.com"),
+                        EventFactory.createRoleReportingEvent(new ApplicationRoles()));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> outboxService.enqueueAll(events, "topic", UUID.randomUUID()));
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    private static DirectNotificationEvent event(String destination) {
+        return EventFactory.createDirectNotificationEvent(
+                CommunicationMethod.EMAIL, destination, "Template", Map.of());
+    }
+
+    private static List<DirectNotificationEvent> readBack(OutboxEventEntity saved)
+            throws Exception {
+        final ObjectMapper mapper = SpringConfig.getMapper();
+        return mapper.readValue(
+                saved.getPayload(),
+                mapper.getTypeFactory()
+                        .constructCollectionType(
+                                List.class,
+                                Class.forName(saved.getEventType())
+                                        .asSubclass(DirectNotificationEvent.class)));
+    }
+}
@@ -34,6 +34,8 @@ class PermissionServiceTest {
 
     @Mock private ApplicationService applicationService;
 
+    @Mock private RolePermissionEngine rolePermissionEngine;
+
     @Captor private ArgumentCaptor<PermissionEntity> permissionCaptor;
 
     @Captor private ArgumentCaptor<UUID> idCaptor;
@@ -110,6 +112,7 @@ class PermissionServiceTest {
         permissionService.updatePermission(UUID.randomUUID(), permissionModel);
 
         verify(permissionRepository).save(permissionCaptor.capture());
+        verify(rolePermissionEngine).invalidate();
 
         PermissionEntity savedPermission = permissionCaptor.getValue();
         assertTrue(savedPermission.getName().equalsIgnoreCase(permissionModel.getName()));
@@ -209,6 +212,7 @@ class PermissionServiceTest {
         permissionService.deletePermissionById(UUID.randomUUID());
 
         verify(permissionRepository).delete(permissionCaptor.capture());
+        verify(rolePermissionEngine).invalidate();
     }
 
     @Test
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,12 +17,15 @@ import io.nuvalence.user.management.api.service.config.exception.ConflictExcepti
 import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileAccessLevel;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
+import io.nuvalence.user.management.api.service.enums.CountMode;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import io.nuvalence.user.management.api.service.events.model.AuditEventRequestObjectDto;
 import io.nuvalence.user.management.api.service.models.ProfileInvitationFilters;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditActivityType;
 import io.nuvalence.user.management.api.service.models.auditevents.AuditEventBusinessObject;
 import io.nuvalence.user.management.api.service.models.auditevents.ProfileInvitationAuditEventDTO;
+import io.nuvalence.user.management.api.service.repository.KeysetQueryExecutor;
+import io.nuvalence.user.management.api.service.repository.PageQueryExecutor;
 import io.nuvalence.user.management.api.service.repository.ProfileInvitationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
@@ -50,6 +55,8 @@ class ProfileInvitationServiceTest {
     @Mock private ProfileInvitationRepository repository;
     @Mock private SendNotificationService sendNotificationService;
     @Mock private AuditEventService auditEventService;
+    @Mock private KeysetQueryExecutor keysetQueryExecutor;
+    @Mock private PageQueryExecutor pageQueryExecutor;
 
     private ProfileInvitationService service;
 
@@ -57,24 +64,33 @@ class ProfileInvitationServiceTest {
     void setUp() {
         service =
                 new ProfileInvitationService(
-                        repository, sendNotificationService, auditEventService);
+                        repository,
+                        sendNotificationService,
+                        auditEventService,
+                        keysetQueryExecutor,
+                        pageQueryExecutor);
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void getProfileInvitationsByFilters() {
         Page<ProfileInvitation> invitations = new PageImpl<>(List.of(new ProfileInvitation()));
-        when(repository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(pageQueryExecutor.findAll(
+                        eq(ProfileInvitation.class),
+                        any(Specification.class),
+                        any(PageRequest.class),
+                        eq(CountMode.EXACT),
+                        any(List.class)))
                 .thenReturn(invitations);
 
         final ProfileInvitationFilters profileInvitationFilters =
                 new ProfileInvitationFilters(
                         "createdTimestamp", "ASC", 0, 2, null, null, null, null, null);
 
-        Page<ProfileInvitation> result =
-                service.getProfileInvitationsByFilters(profileInvitationFilters);
+        Slice<ProfileInvitation> result =
+                service.getProfileInvitationsByFilters(profileInvitationFilters, CountMode.EXACT);
 
         assertEquals(invitations, result);
-        verify(repository).findAll(any(Specification.class), any(PageRequest.class));
     }
 
     @Test
@@ -0,0 +1,188 @@
+package io.nuvalence.user.management.api.service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.nuvalence.user.management.api.service.repository.RoleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class RolePermissionEngineTest {
+    private final UUID admin = UUID.randomUUID();
+    private final UUID reader = UUID.randomUUID();
+
+    private RoleRepository repository;
+    private RolePermissionEngine engine;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(RoleRepository.class);
+        engine = new RolePermissionEngine(repository, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getApplicationRoles_MergesRolesInOrder() {
+        when(repository.findActiveApplicationRoles())
+                .thenReturn(
+                        List.of(
+                                row(admin, "um:writer"),
+                                row(admin, "um:admin"),
+                                row(reader, "um:reader"),
+                                row(reader, "um:writer")));
+
+        assertEquals(
+                List.of("um:admin", "um:reader", "um:writer"),
+                engine.getApplicationRoles(List.of(admin, reader)));
+        assertEquals(
+                List.of("um:reader", "um:writer"), engine.getApplicationRoles(List.of(reader)));
+    }
+
+    @Test
+    void getApplicationRoles_IgnoresUnknownRoles() {
+        when(repository.findActiveApplicationRoles()).thenReturn(List.of(row(admin, "um:admin")));
+
+        assertTrue(engine.getApplicationRoles(List.of(reader)).isEmpty());
+        assertTrue(engine.getApplicationRoles(List.of()).isEmpty());
+        assertEquals(
+                List.of("um:admin"), engine.getApplicationRoles(List.of(reader, admin, admin)));
+    }
+
+    @Test
+    void getApplicationRoles_SpansSeveralWords() {
+        final List<RoleRepository.RoleApplicationRoleRow> rows = new ArrayList<>();
+        final List<String> all = new ArrayList<>();
+        final List<String> odd = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            final String applicationRole = String.format("app:role-%03d", i);
+            rows.add(row(i % 2 == 0 ? admin : reader, applicationRole));
+            all.add(applicationRole);
+            if (i % 2 == 1) {
+                odd.add(applicationRole);
+            }
+        }
+        when(repository.findActiveApplicationRoles()).thenReturn(rows);
+
+        assertEquals(all, engine.getApplicationRoles(List.of(admin, reader)));
+        assertEquals(odd, engine.getApplicationRoles(List.of(reader)));
+    }
+
+    @Test
+    void getApplicationRoles_LoadsOnce() {
+        when(repository.findActiveApplicationRoles()).thenReturn(List.of(row(admin, "um:admin")));
+
+        engine.getApplicationRoles(List.of(admin));
+        engine.getApplicationRoles(List.of(reader));
+
+        verify(repository, times(1)).findActiveApplicationRoles();
+    }
+
+    @Test
+    void getApplicationRoles_ReloadsWhenExpired() {
+        engine = new RolePermissionEngine(repository, Duration.ZERO, Duration.ofMinutes(1));
+        when(repository.findActiveApplicationRoles()).thenReturn(List.of(row(admin, "um:admin")));
+
+        engine.getApplicationRoles(List.of(admin));
+        engine.getApplicationRoles(List.of(admin));
+
+        verify(repository, times(2)).findActiveApplicationRoles();
+    }
+
+    @Test
+    void getApplicationRoles_ReloadsWhenVersionChanges() {
+        engine = new RolePermissionEngine(repository, Duration.ofMinutes(1), Duration.ZERO);
+        when(repository.findRolePermissionVersion()).thenReturn(1L).thenReturn(1L).thenReturn(2L);
+        when(repository.findActiveApplicationRoles())
+                .thenReturn(List.of(row(admin, "um:admin")))
+                .thenReturn(List.of());
+
+        assertEquals(List.of("um:admin"), engine.getApplicationRoles(List.of(admin)));
+        assertEquals(List.of("um:admin"), engine.getApplicationRoles(List.of(admin)));
+        // another instance revoked the permission
+        assertTrue(engine.getApplicationRoles(List.of(admin)).isEmpty());
+
+        verify(repository, times(3)).findRolePermissionVersion();
+        verify(repository, times(2)).findActiveApplicationRoles();
+    }
+
+    @Test
+    void getApplicationRoles_ChecksVersionOncePerInterval() {
+        when(repository.findActiveApplicationRoles()).thenReturn(List.of(row(admin, "um:admin")));
+
+        engine.getApplicationRoles(List.of(admin));
+        engine.getApplicationRoles(List.of(admin));
+
+        verify(repository, times(1)).findRolePermissionVersion();
+    }
+
+    @Test
+    void invalidate_RaisesVersion() {
+        engine.invalidate();
+
+        verify(repository).incrementRolePermissionVersion();
+    }
+
+    @Test
+    void invalidate_Reloads() {
+        when(repository.findActiveApplicationRoles())
+                .thenReturn(List.of(row(admin, "um:admin")))
+                .thenReturn(List.of(row(admin, "um:admin"), row(admin, "um:reader")));
+
+        assertEquals(List.of("um:admin"), engine.getApplicationRoles(List.of(admin)));
+        engine.invalidate();
+
+        assertEquals(
+                List.of("um:admin", "um:reader"), engine.getApplicationRoles(List.of(admin)));
+        verify(repository, times(2)).findActiveApplicationRoles();
+    }
+
+    @Test
+    void invalidate_AgainWhenTransactionCompletes() {
+        when(repository.findActiveApplicationRoles()).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        engine.invalidate();
+        // a concurrent request builds the table before the change is committed
+        engine.getApplicationRoles(List.of(admin));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(
+                        synchronization ->
+                                synchronization.afterCompletion(
+                                        TransactionSynchronization.STATUS_COMMITTED));
+
+        engine.getApplicationRoles(List.of(admin));
+        verify(repository, times(2)).findActiveApplicationRoles();
+    }
+
+    private static RoleRepository.RoleApplicationRoleRow row(UUID roleId, String applicationRole) {
+        return new RoleRepository.RoleApplicationRoleRow() {
+            @Override
+            public UUID getRoleId() {
+                return roleId;
+            }
+
+            @Override
+            public String getApplicationRole() {
+                return applicationRole;
+            }
+        };
+    }
+}
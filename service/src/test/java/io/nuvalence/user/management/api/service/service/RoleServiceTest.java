@@ -5,19 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
 import io.nuvalence.user.management.api.service.config.exception.BusinessLogicException;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.ApplicationEntity;
 import io.nuvalence.user.management.api.service.entity.PermissionEntity;
+import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
+import io.nuvalence.user.management.api.service.entity.UserEntity;
 import io.nuvalence.user.management.api.service.enums.UserType;
 import io.nuvalence.user.management.api.service.generated.models.RoleUpsertRequest;
 import io.nuvalence.user.management.api.service.repository.PermissionRepository;
 import io.nuvalence.user.management.api.service.repository.RoleRepository;
+import io.nuvalence.user.management.api.service.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
@@ -26,6 +33,10 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -42,6 +53,12 @@ class RoleServiceTest {
 
     @Mock private PermissionRepository permissionRepository;
 
+    @Mock private UserRepository userRepository;
+
+    @Mock private AuthorizationDecisionCache authorizationDecisionCache;
+
+    @Mock private RolePermissionEngine rolePermissionEngine;
+
     @InjectMocks private RoleService roleService;
 
     @Captor private ArgumentCaptor<RoleEntity> roleCaptor;
@@ -63,6 +80,7 @@ class RoleServiceTest {
         roleService.upsertRole(roleCreationRequest);
 
         verify(roleRepository).save(roleCaptor.capture());
+        verify(rolePermissionEngine).invalidate();
         RoleEntity roleCaptured = roleCaptor.getValue();
 
         assertEquals(roleCreationRequest.getName(), roleCaptured.getName());
@@ -108,6 +126,7 @@ class RoleServiceTest {
         roleService.upsertRole(roleUpdateRequest);
 
         verify(roleRepository).save(roleCaptor.capture());
+        verify(rolePermissionEngine).invalidate();
         RoleEntity updatedRole = roleCaptor.getValue();
 
         assertNotNull(updatedRole);
@@ -161,6 +180,8 @@ class RoleServiceTest {
         roleService.deleteRoleById(role.getId(), "default_resource");
 
         verify(roleRepository).delete(role);
+        verify(authorizationDecisionCache).invalidateAll();
+        verify(rolePermissionEngine).invalidate();
     }
 
     @Test
@@ -223,6 +244,68 @@ class RoleServiceTest {
         verify(roleRepository, times(2)).save(any(RoleEntity.class));
     }
 
+    @Test
+    void getRole_LoadsPermissionsWithRole() {
+        RoleEntity role = createRoleEntity();
+        when(roleRepository.findByIdWithPermissions(role.getId())).thenReturn(Optional.of(role));
+
+        assertEquals(Optional.of(role), roleService.getRole(role.getId()));
+    }
+
+    @Test
+    void getAllRoles_LoadsPermissionsWithRoles() {
+        List<RoleEntity> roles = List.of(createRoleEntity());
+        when(roleRepository.findAllWithPermissions()).thenReturn(roles);
+
+        assertEquals(roles, roleService.getAllRoles());
+    }
+
+    // Role member tests
+    @Test
+    void getRoleMembers_SkipsCountForShortFirstPage() {
+        UUID roleId = UUID.fromString(testUuid);
+        PageRequest pageable = PageRequest.of(0, 10);
+        List<UserEntity> users = List.of(new PublicUser(), new PublicUser());
+        when(userRepository.findByRoleId(roleId, pageable)).thenReturn(users);
+
+        Page<UserEntity> members = roleService.getRoleMembers(roleId, null, pageable);
+
+        assertEquals(users, members.getContent());
+        assertEquals(2, members.getTotalElements());
+        verify(roleRepository, never()).countMembersByRoleId(any());
+    }
+
+    @Test
+    void getRoleMembers_CountsMembersForFullPage() {
+        UUID roleId = UUID.fromString(testUuid);
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(userRepository.findByRoleId(roleId, pageable))
+                .thenReturn(List.of(new PublicUser(), new PublicUser()));
+        when(roleRepository.countMembersByRoleId(roleId)).thenReturn(5L);
+
+        Page<UserEntity> members = roleService.getRoleMembers(roleId, null, pageable);
+
+        assertEquals(5, members.getTotalElements());
+        assertEquals(3, members.getTotalPages());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getRoleMembers_RestrictsQueryAndCountBySpecification() {
+        UUID roleId = UUID.fromString(testUuid);
+        PageRequest pageable = PageRequest.of(0, 2);
+        Specification<UserEntity> authorizationSpecification = mock(Specification.class);
+        Page<UserEntity> page = new PageImpl<>(List.of(new PublicUser()), pageable, 1);
+        when(userRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+
+        Page<UserEntity> members =
+                roleService.getRoleMembers(roleId, authorizationSpecification, pageable);
+
+        assertEquals(page, members);
+        verify(userRepository, never()).findByRoleId(any(), any());
+        verify(roleRepository, never()).countMembersByRoleId(any());
+    }
+
     private void assertThrowsWithMessage(Executable executable) {
         Throwable thrownException =
                 assertThrows(
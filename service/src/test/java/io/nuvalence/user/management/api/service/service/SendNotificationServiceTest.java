@@ -8,7 +8,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.nuvalence.events.brokerclient.config.PublisherProperties;
-import io.nuvalence.events.event.service.EventGateway;
 import io.nuvalence.user.management.api.service.entity.profile.ProfileInvitation;
 import io.nuvalence.user.management.api.service.enums.ProfileType;
 import jakarta.ws.rs.NotFoundException;
@@ -25,7 +24,7 @@ class SendNotificationServiceTest {
 
     @Mock private PublisherProperties publisherProperties;
 
-    @Mock private EventGateway eventGateway;
+    @Mock private OutboxService outboxService;
 
     @InjectMocks private SendNotificationService sendNotificationService;
 
@@ -35,7 +34,7 @@ class SendNotificationServiceTest {
     }
 
     @Test
-    void sendDirectNotification_shouldPublishEvent() {
+    void sendDirectNotification_shouldEnqueueEvent() {
 
         ProfileInvitation profileInvitation = new ProfileInvitation();
         profileInvitation.setId(UUID.randomUUID());
@@ -48,7 +47,8 @@ class SendNotificationServiceTest {
         sendNotificationService.sendProfileInvitationEmailNotification(
                 profileInvitation, "Test User");
 
-        verify(eventGateway, times(1)).publishEvent(any(), eq("notification-topic"));
+        verify(outboxService, times(1))
+                .enqueue(any(), eq("notification-topic"), eq(profileInvitation.getId()));
     }
 
     @Test
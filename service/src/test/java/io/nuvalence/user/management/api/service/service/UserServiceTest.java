@@ -10,14 +10,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.nuvalence.user.management.api.service.cerbos.AuthorizationDecisionCache;
 import io.nuvalence.user.management.api.service.config.exception.BusinessLogicException;
 import io.nuvalence.user.management.api.service.config.exception.ResourceNotFoundException;
 import io.nuvalence.user.management.api.service.entity.AgencyUser;
-import io.nuvalence.user.management.api.service.entity.PermissionEntity;
 import io.nuvalence.user.management.api.service.entity.PublicUser;
 import io.nuvalence.user.management.api.service.entity.RoleEntity;
 import io.nuvalence.user.management.api.service.entity.UserEntity;
@@ -26,6 +29,7 @@ import io.nuvalence.user.management.api.service.enums.UserType;
 import io.nuvalence.user.management.api.service.generated.models.RoleDTO;
 import io.nuvalence.user.management.api.service.generated.models.UserRoleDTO;
 import io.nuvalence.user.management.api.service.generated.models.UserUpdateRequest;
+import io.nuvalence.user.management.api.service.models.KeysetSlice;
 import io.nuvalence.user.management.api.service.repository.RoleRepository;
 import io.nuvalence.user.management.api.service.repository.UserRepository;
 import org.hibernate.exception.ConstraintViolationException;
@@ -41,13 +45,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -63,6 +68,10 @@ class UserServiceTest {
 
     @Mock private RoleService roleService;
 
+    @Mock private AuthorizationDecisionCache authorizationDecisionCache;
+
+    @Mock private RolePermissionEngine rolePermissionEngine;
+
     @Captor private ArgumentCaptor<UserEntity> userCaptor;
 
     // Constants
@@ -289,6 +298,7 @@ class UserServiceTest {
 
         userService.assignRoleToUser(userRole.getUserId(), userRole.getRoleId());
 
+        verify(authorizationDecisionCache).invalidatePrincipal(userRole.getUserId());
         verify(userRepository).save(userCaptor.capture());
         UserEntity capturedUser = userCaptor.getValue();
         assertEquals(1, capturedUser.getRoles().size());
@@ -642,6 +652,7 @@ class UserServiceTest {
         assertEquals(role, user.getRoles().get(0));
 
         verify(userRepository, times(1)).save(user);
+        verify(authorizationDecisionCache).invalidatePrincipal(user.getId());
     }
 
     @Test
@@ -656,96 +667,90 @@ class UserServiceTest {
 
         assertEquals(0, user.getRoles().size());
         verify(userRepository, times(1)).save(user);
+        verify(authorizationDecisionCache).invalidatePrincipal(user.getId());
     }
 
     @Test
     void testGetAppRolesByUserId() {
-
         UserEntity user = createUserEntity();
-        RoleEntity role1 = createRoleEntity();
-        RoleEntity role2 = createRoleEntity();
-        PermissionEntity permission1 = createPermissionEntity("AA");
-        PermissionEntity permission2 = createPermissionEntity("bb");
-        PermissionEntity permission3 = createPermissionEntity("AA");
-        PermissionEntity permission4 = createPermissionEntity("cc");
-        role1.setPermissions(Arrays.asList(permission1, permission2, null));
-        role2.setPermissions(Arrays.asList(permission3, permission4, null));
-        user.setRoles(Arrays.asList(role1, role2, null));
-
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        List<UUID> roleIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(userRepository.findRoleIdsByUserId(user.getId())).thenReturn(roleIds);
+        when(rolePermissionEngine.getApplicationRoles(roleIds))
+                .thenReturn(List.of("AA", "bb", "cc"));
 
         // act
         List<String> appRoles = userService.getAppRolesByUserId(user.getId());
 
         // verify
-        assertEquals(3, appRoles.size());
-        assertTrue(appRoles.contains("AA"));
-        assertTrue(appRoles.contains("bb"));
-        assertTrue(appRoles.contains("cc"));
-
-        verify(userRepository).findById(user.getId());
+        assertEquals(List.of("AA", "bb", "cc"), appRoles);
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
-    void findByEmailContainingIgnoreCaseAndDeletedFalse_returnsMatchingUsers() {
-        // Given
-        String email = "test@domain.com";
-        List<UserEntity> expectedUsers = List.of(createUserEntity());
-        when(userRepository.findByEmailContainingIgnoreCaseAndDeletedFalse(email))
-                .thenReturn(expectedUsers);
-
-        // When
-        List<UserEntity> resultUsers =
-                userService.findByEmailContainingIgnoreCaseAndDeletedFalse(email);
+    void testGetAppRolesByUserIds() {
+        UUID user1 = UUID.randomUUID();
+        UUID user2 = UUID.randomUUID();
+        UUID user3 = UUID.randomUUID();
+        UUID admin = UUID.randomUUID();
+        UUID reader = UUID.randomUUID();
+        UUID retired = UUID.randomUUID();
+        when(userRepository.findRoleIdsByUserIds(List.of(user1, user2, user3)))
+                .thenReturn(
+                        List.of(
+                                roleRow(user1, admin),
+                                roleRow(user1, reader),
+                                roleRow(user2, reader),
+                                roleRow(user3, retired)));
+        when(rolePermissionEngine.getApplicationRoles(List.of(admin, reader)))
+                .thenReturn(List.of("AA", "bb"));
+        when(rolePermissionEngine.getApplicationRoles(List.of(reader))).thenReturn(List.of("AA"));
+        when(rolePermissionEngine.getApplicationRoles(List.of(retired))).thenReturn(List.of());
 
-        // Then
-        assertNotNull(resultUsers);
-        assertFalse(resultUsers.isEmpty());
-        assertEquals(expectedUsers.size(), resultUsers.size());
-        assertEquals(expectedUsers.get(0).getEmail(), resultUsers.get(0).getEmail());
+        Map<UUID, List<String>> appRoles =
+                userService.getAppRolesByUserIds(List.of(user1, user2, user3));
 
-        verify(userRepository).findByEmailContainingIgnoreCaseAndDeletedFalse(email);
+        assertEquals(Map.of(user1, List.of("AA", "bb"), user2, List.of("AA")), appRoles);
     }
 
     @Test
-    void findByNameContainingIgnoreCaseAndDeletedFalse_returnsMatchingUsers() {
-        // Given
-        List<UserEntity> expectedUsers = List.of(createUserEntity());
-        when(userRepository.findByNameContainingIgnoreCaseAndDeletedFalse(
-                        expectedUsers.get(0).getFirstName()))
-                .thenReturn(expectedUsers);
+    void testGetAppRolesByUserIds_NoUsers() {
+        assertTrue(userService.getAppRolesByUserIds(List.of()).isEmpty());
+        verifyNoInteractions(userRepository, rolePermissionEngine);
+    }
 
-        // When
-        List<UserEntity> resultUsers =
-                userService.findByNameContainingIgnoreCaseAndDeletedFalse(
-                        expectedUsers.get(0).getFirstName());
+    @Test
+    void getUsersByApplicationRole_ReadsOneExtraUserToDetectNextSlice() {
+        List<UserEntity> users = List.of(new PublicUser(), new PublicUser(), new PublicUser());
+        when(userRepository.findByApplicationRole("um:reader", 3)).thenReturn(users);
 
-        // Then
-        assertNotNull(resultUsers);
-        assertFalse(resultUsers.isEmpty());
-        assertEquals(expectedUsers.size(), resultUsers.size());
-        assertTrue(
-                resultUsers.get(0).getFirstName().contains(expectedUsers.get(0).getFirstName())
-                        || resultUsers
-                                .get(0)
-                                .getLastName()
-                                .contains(expectedUsers.get(0).getFirstName()));
+        Slice<UserEntity> slice = userService.getUsersByApplicationRole("um:reader", null, 2);
 
-        verify(userRepository)
-                .findByNameContainingIgnoreCaseAndDeletedFalse(expectedUsers.get(0).getFirstName());
+        assertEquals(users.subList(0, 2), slice.getContent());
+        assertEquals(2, slice.getSize());
+        assertTrue(slice.hasNext());
     }
 
-    // Helper methods
+    @Test
+    void getUsersByApplicationRole_StartsAfterGivenUser() {
+        UUID after = UUID.randomUUID();
+        List<UserEntity> users = List.of(new PublicUser());
+        when(userRepository.findByApplicationRoleAfter("um:reader", after, 3)).thenReturn(users);
 
-    private PermissionEntity createPermissionEntity(String applicationRole) {
+        Slice<UserEntity> slice = userService.getUsersByApplicationRole("um:reader", after, 2);
 
-        PermissionEntity permission = new PermissionEntity();
-        permission.setId(UUID.randomUUID());
-        permission.setApplicationRole(applicationRole);
+        assertEquals(users, slice.getContent());
+        assertFalse(slice.hasNext());
+    }
 
-        return permission;
+    private UserRepository.UserRoleRow roleRow(UUID userId, UUID roleId) {
+        UserRepository.UserRoleRow row = mock(UserRepository.UserRoleRow.class);
+        when(row.getUserId()).thenReturn(userId);
+        when(row.getRoleId()).thenReturn(roleId);
+        return row;
     }
 
+    // Helper methods
+
     private RoleDTO createRoleDto() {
         RoleDTO role = new RoleDTO();
         role.setId(UUID.fromString("af102616-4207-4850-adc4-0bf91058a261"));
@@ -777,6 +782,39 @@ class UserServiceTest {
         return userEntity;
     }
 
+    @Test
+    void getUsersByApplicationRole_ContinuesAfterTokenUser() {
+        UserEntity first = createUserEntity();
+        UserEntity second = createUserEntity();
+        second.setId(UUID.randomUUID());
+        when(userRepository.findByApplicationRole("um:reader", 2))
+                .thenReturn(List.of(first, second));
+
+        KeysetSlice<UserEntity> firstSlice =
+                userService.getUsersByApplicationRole("um:reader", null, 1);
+
+        assertEquals(List.of(first), firstSlice.getContent());
+        assertNotNull(firstSlice.getNextPageToken());
+
+        when(userRepository.findByApplicationRoleAfter("um:reader", first.getId(), 2))
+                .thenReturn(List.of(second));
+
+        KeysetSlice<UserEntity> lastSlice =
+                userService.getUsersByApplicationRole(
+                        "um:reader", firstSlice.getNextPageToken(), 1);
+
+        assertEquals(List.of(second), lastSlice.getContent());
+        assertNull(lastSlice.getNextPageToken());
+    }
+
+    @Test
+    void getUsersByApplicationRole_RejectsForeignToken() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> userService.getUsersByApplicationRole("um:reader", "not a token", 1));
+        verifyNoInteractions(userRepository);
+    }
+
     private UserRoleDTO createUserRoleDto() {
         UserRoleDTO userRoleDto = new UserRoleDTO();
         userRoleDto.setRoleId(createRoleDto().getId());
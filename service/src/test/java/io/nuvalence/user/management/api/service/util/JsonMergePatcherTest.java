@@ -0,0 +1,80 @@
+package io.nuvalence.user.management.api.service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.user.management.api.service.config.SpringConfig;
+import io.nuvalence.user.management.api.service.config.exception.ProvidedDataException;
+import io.nuvalence.user.management.api.service.generated.models.AddressModel;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class JsonMergePatcherTest {
+    private static final ObjectMapper MAPPER = SpringConfig.getMapper();
+
+    private final JsonMergePatcher patcher =
+            new JsonMergePatcher(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void merge_FollowsRfc7396() throws Exception {
+        final String original =
+                "{\"a\": \"b\", \"c\": {\"d\": \"e\", \"f\": \"g\"}, \"h\": [1, 2]}";
+        final JsonNode target = MAPPER.readTree(original);
+        final JsonNode patch =
+                MAPPER.readTree("{\"a\": \"z\", \"c\": {\"f\": null}, \"h\": [3], \"i\": 4}");
+
+        assertEquals(
+                MAPPER.readTree("{\"a\": \"z\", \"c\": {\"d\": \"e\"}, \"h\": [3], \"i\": 4}"),
+                JsonMergePatcher.merge(target, patch));
+        assertEquals(MAPPER.readTree(original), target);
+    }
+
+    @Test
+    void apply_ChangesOnlyThePatchedFields() {
+        final AddressModel address = address();
+
+        final AddressModel patched =
+                patcher.apply(address, Map.of("city", "New City"), AddressModel.class);
+
+        assertEquals("New City", patched.getCity());
+        assertEquals(address.getAddress1(), patched.getAddress1());
+        assertEquals("city", address.getCity());
+    }
+
+    @Test
+    void apply_RejectsAResultThatIsNotValid() {
+        final Map<String, Object> patch = new HashMap<>();
+        patch.put("city", null);
+
+        final ProvidedDataException exception =
+                assertThrows(
+                        ProvidedDataException.class,
+                        () -> patcher.apply(address(), patch, AddressModel.class));
+        assertTrue(exception.getMessage().startsWith("'city': "), exception.getMessage());
+    }
+
+    @Test
+    void apply_RejectsValuesOfTheWrongType() {
+        assertThrows(
+                ProvidedDataException.class,
+                () -> patcher.apply(address(), Map.of("city", Map.of()), AddressModel.class));
+    }
+
+    private static AddressModel address() {
+        final AddressModel address = new AddressModel();
+        address.setAddress1("address1");
+        address.setAddress2("address2");
+        address.setCity("city");
+        address.setState("state");
+        address.setPostalCode("postalCode");
+        address.setCountry("country");
+        address.setCounty("county");
+        return address;
+    }
+}
@@ -0,0 +1,33 @@
+package io.nuvalence.user.management.api.service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class LikePatternUtilityTest {
+
+    @Test
+    void startsWithPattern_LowerCasesAndAppendsWildcard() {
+        assertEquals("jane doe%", LikePatternUtility.startsWithPattern("Jane Doe"));
+        assertNull(LikePatternUtility.startsWithPattern(null));
+    }
+
+    @Test
+    void containsPattern_LowerCasesAndWrapsTerm() {
+        assertEquals("%doe%", LikePatternUtility.containsPattern("DOE"));
+        assertNull(LikePatternUtility.containsPattern(null));
+    }
+
+    @Test
+    void containsPattern_MatchesShortTermsAnywhere() {
+        assertEquals("%li%", LikePatternUtility.containsPattern("Li"));
+        assertEquals("%%", LikePatternUtility.containsPattern(""));
+    }
+
+    @Test
+    void patterns_EscapeWildcards() {
+        assertEquals("%first!_last!%!!%", LikePatternUtility.containsPattern("first_last%!"));
+        assertEquals("a!_%", LikePatternUtility.startsWithPattern("A_"));
+    }
+}
@@ -0,0 +1,60 @@
+#!/bin/bash
+# Records the effects a Cerbos sidecar running the bundled policies returns for every case in
+# expected-decisions.json, and writes them back into the fixture in place of the expected ones.
+# Needs docker, curl and jq. Run it from anywhere; review the diff of the fixture afterwards.
+set -euo pipefail
+
+script_dir="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+policies_dir="$(cd "${script_dir}/../../../../../helm/user-management/cerbos-policies" && pwd)"
+fixture="${script_dir}/expected-decisions.json"
+cerbos_image="${CERBOS_IMAGE:-ghcr.io/cerbos/cerbos:0.24.0}"
+cerbos_port="${CERBOS_PORT:-3592}"
+cerbos_url="http://localhost:${cerbos_port}"
+
+config_dir="$(mktemp -d)"
+cat > "${config_dir}/config.yaml" <<EOF
+server:
+  httpListenAddr: ":3592"
+storage:
+  driver: disk
+  disk:
+    directory: /policies
+    watchForChanges: false
+EOF
+
+container_id="$(docker run --rm --detach \
+    --publish "${cerbos_port}:3592" \
+    --volume "${config_dir}:/config:ro" \
+    --volume "${policies_dir}:/policies:ro" \
+    "${cerbos_image}" server --config=/config/config.yaml)"
+trap 'docker stop "${container_id}" > /dev/null; rm -rf "${config_dir}"' EXIT
+
+for _ in $(seq 1 30); do
+    if curl --silent --fail "${cerbos_url}/_cerbos/health" > /dev/null; then
+        break
+    fi
+    sleep 1
+done
+curl --silent --fail "${cerbos_url}/_cerbos/health" > /dev/null
+
+recorded="$(jq '.' "${fixture}")"
+cases="$(jq 'length' "${fixture}")"
+for ((i = 0; i < cases; i++)); do
+    request="$(jq --argjson i "${i}" '.[$i] | {
+        requestId: .description,
+        principal: .principal,
+        resources: [{
+            actions: (.actions | keys),
+            resource: (.resource + {id: (.resource.attr.id // "resource")})
+        }]
+    }' "${fixture}")"
+    actions="$(curl --silent --fail \
+        --header "Content-Type: application/json" \
+        --data "${request}" \
+        "${cerbos_url}/api/check/resources" | jq '.results[0].actions')"
+    recorded="$(jq --argjson i "${i}" --argjson actions "${actions}" \
+        '.[$i].actions = $actions' <<< "${recorded}")"
+done
+
+echo "${recorded}" > "${fixture}"
+echo "Recorded ${cases} cases from ${cerbos_image} into ${fixture}"